@@ -0,0 +1,88 @@
+package Monopoly.bench;
+
+import Monopoly.adapters.bot.BotDecisionAdapter;
+import Monopoly.core.event.GameEvent;
+import Monopoly.core.event.InteractiveEvent;
+import Monopoly.core.service.TurnService;
+import Monopoly.simulation.BotGameFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 实现功能【基准测试：机器人决策端口下 {@code SimpleTurnService.advanceTurn} 及整条交互事件链的单回合耗时】。
+ * <p>
+ * 对局结束或达到回合上限后，以同一种子序列中的下一个种子开新局，因此每次运行推进的回合序列完全相同。
+ * <p>
+ *
+ * @author
+ * @date 2025-11-13
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AdvanceTurnBenchmark {
+
+    /**
+     * 单局回合上限，与无界面驱动器的默认值一致。
+     */
+    private static final int MAX_TURNS = 2000;
+    private static final int INITIAL_MONEY = 8000;
+
+    @Param({"JSON", "LEGACY"})
+    public BoardSetup board;
+
+    @Param({"2", "4", "6"})
+    public int players;
+
+    @Param({"42"})
+    public long seed;
+
+    private BotGameFactory factory;
+    private BotDecisionAdapter decisionPort;
+    private SplittableRandom seeds;
+    private TurnService turnService;
+    private int turns;
+
+    @Setup
+    public void setUp() throws IOException {
+        factory = board.newFactory();
+        decisionPort = new BotDecisionAdapter();
+        seeds = new SplittableRandom(seed);
+        newGame();
+    }
+
+    @Benchmark
+    public void advanceTurn(Blackhole blackhole) {
+        if (turnService.isGameOver() || turns >= MAX_TURNS) {
+            newGame();
+        }
+        GameEvent current = turnService.advanceTurn();
+        turns++;
+        while (current != null) {
+            blackhole.consume(current);
+            current = current instanceof InteractiveEvent interactive ? interactive.interact() : null;
+        }
+    }
+
+    private void newGame() {
+        turnService = factory.newGame(players, INITIAL_MONEY, decisionPort, seeds.split()).getTurnService();
+        turns = 0;
+    }
+}
@@ -0,0 +1,79 @@
+package Monopoly.bench;
+
+import Monopoly.config.ConfigLoader;
+import Monopoly.core.repo.CardRepository;
+import Monopoly.core.repo.TileRepository;
+import Monopoly.core.repo.json.JsonCardRepository;
+import Monopoly.core.repo.json.JsonTileRepository;
+import Monopoly.core.repo.legacy.LegacyCardRepository;
+import Monopoly.core.repo.legacy.LegacyTileRepository;
+import Monopoly.simulation.BotGameFactory;
+
+import java.io.IOException;
+
+/**
+ * 实现功能【基准测试使用的地图配置：resources/config 下的 JSON 地图与 legacy 包中的静态地图】。
+ * <p>
+ * 枚举名即 JMH {@code @Param} 的取值（如 {@code -p board=LEGACY}）。
+ * <p>
+ *
+ * @author
+ * @date 2025-11-13
+ */
+public enum BoardSetup {
+
+    /**
+     * resources/config 下的 JSON 配置。
+     */
+    JSON {
+        @Override
+        public TileRepository loadTiles() throws IOException {
+            return new JsonTileRepository(new ConfigLoader());
+        }
+
+        @Override
+        public CardRepository loadCards() throws IOException {
+            return new JsonCardRepository(new ConfigLoader());
+        }
+    },
+    /**
+     * legacy 包中的静态地图与卡牌数据。
+     */
+    LEGACY {
+        @Override
+        public TileRepository loadTiles() {
+            return new LegacyTileRepository();
+        }
+
+        @Override
+        public CardRepository loadCards() {
+            return new LegacyCardRepository();
+        }
+    };
+
+    /**
+     * 加载地块仓库。
+     *
+     * @return 地块仓库
+     * @throws IOException 配置读取失败时抛出
+     */
+    public abstract TileRepository loadTiles() throws IOException;
+
+    /**
+     * 加载卡牌仓库。
+     *
+     * @return 卡牌仓库
+     * @throws IOException 配置读取失败时抛出
+     */
+    public abstract CardRepository loadCards() throws IOException;
+
+    /**
+     * 构建共享该地图的机器人对局工厂。
+     *
+     * @return 对局工厂
+     * @throws IOException 配置读取失败时抛出
+     */
+    public BotGameFactory newFactory() throws IOException {
+        return new BotGameFactory(loadTiles(), loadCards());
+    }
+}
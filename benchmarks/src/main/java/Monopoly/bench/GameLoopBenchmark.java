@@ -0,0 +1,123 @@
+package Monopoly.bench;
+
+import Monopoly.adapters.bot.BotDecisionAdapter;
+import Monopoly.adapters.headless.DiscardOutputAdapter;
+import Monopoly.app.GameApp;
+import Monopoly.core.message.GameMessage;
+import Monopoly.core.ports.DecisionPort;
+import Monopoly.core.ports.OutputPort;
+import Monopoly.simulation.BotGameFactory;
+import Monopoly.simulation.GameResult;
+import Monopoly.simulation.HeadlessGameRunner;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 实现功能【基准测试：{@link GameApp#start()} 事件主循环跑完一整局机器人对局的耗时】。
+ * <p>
+ * {@code GameApp} 没有回合上限，因此启动时先用无界面驱动器筛出一组能在上限内结束的固定种子，
+ * 每次调用按顺序取下一个种子开局。输出端 DISCARD 从不渲染消息文本，RENDER 读取每条消息的正文，
+ * 两者之差即文本渲染的开销。
+ * <p>
+ *
+ * @author
+ * @date 2025-11-13
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class GameLoopBenchmark {
+
+    private static final int INITIAL_MONEY = 8000;
+    private static final int SEED_COUNT = 16;
+    private static final int MAX_SEED_ATTEMPTS = 1000;
+
+    /**
+     * 输出端类型。
+     */
+    public enum Output { DISCARD, RENDER }
+
+    @Param({"JSON", "LEGACY"})
+    public BoardSetup board;
+
+    @Param({"2", "4"})
+    public int players;
+
+    @Param({"42"})
+    public long seed;
+
+    @Param({"DISCARD", "RENDER"})
+    public Output output;
+
+    private BotGameFactory factory;
+    private DecisionPort decisionPort;
+    private long[] seeds;
+    private int nextSeed;
+    private RenderingOutput renderingOutput;
+    private GameApp app;
+
+    @Setup(Level.Trial)
+    public void setUpTrial() throws IOException {
+        factory = board.newFactory();
+        decisionPort = new BotDecisionAdapter();
+        renderingOutput = new RenderingOutput();
+        seeds = new long[SEED_COUNT];
+        HeadlessGameRunner runner = new HeadlessGameRunner();
+        SplittableRandom candidates = new SplittableRandom(seed);
+        int found = 0;
+        for (int attempt = 0; attempt < MAX_SEED_ATTEMPTS && found < SEED_COUNT; attempt++) {
+            long candidate = candidates.nextLong();
+            GameResult result = runner.run(factory.newGame(players, INITIAL_MONEY, decisionPort, new SplittableRandom(candidate)));
+            if (result.isFinished()) {
+                seeds[found++] = candidate;
+            }
+        }
+        if (found < SEED_COUNT) {
+            throw new IllegalStateException("找不到足够的可在回合上限内结束的种子：" + found + "/" + SEED_COUNT);
+        }
+    }
+
+    @Setup(Level.Invocation)
+    public void setUpGame() {
+        long gameSeed = seeds[nextSeed];
+        nextSeed = (nextSeed + 1) % seeds.length;
+        OutputPort port = output == Output.RENDER ? renderingOutput : new DiscardOutputAdapter();
+        app = new GameApp(factory.newGame(players, INITIAL_MONEY, decisionPort, new SplittableRandom(gameSeed)).getTurnService(), port);
+    }
+
+    @Benchmark
+    public long playGame() {
+        app.start();
+        return renderingOutput.characters;
+    }
+
+    /**
+     * 读取每条消息正文的输出端，累计字符数以防被优化掉。
+     */
+    private static final class RenderingOutput implements OutputPort {
+
+        private long characters;
+
+        @Override
+        public void publish(GameMessage message) {
+            characters += message.getContent().length();
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package Monopoly.bench;
+
+import Monopoly.config.BoardConfig;
+import Monopoly.config.ConfigLoader;
+import Monopoly.config.CountryConfig;
+import Monopoly.core.repo.json.JsonCardRepository;
+import Monopoly.core.repo.json.JsonTileRepository;
+import Monopoly.core.repo.indexed.IndexedTileRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 实现功能【基准测试：JSON 配置的类型化解析与地块、卡牌仓库的构建耗时】。
+ * <p>
+ * {@code parse...} 不经缓存重新解析（{@link ConfigLoader#parseBoard()} 含并行解析与跨文件校验）；
+ * {@code load...} 基于已缓存的棋盘配置构建仓库，含卡牌效果编译。
+ * <p>
+ *
+ * @author
+ * @date 2025-11-13
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RepositoryLoadBenchmark {
+
+    private ConfigLoader loader;
+
+    @Setup
+    public void setUp() {
+        loader = new ConfigLoader();
+    }
+
+    @Benchmark
+    public JsonTileRepository loadTilesShared() throws IOException {
+        return new JsonTileRepository(loader);
+    }
+
+    @Benchmark
+    public JsonCardRepository loadCardsShared() throws IOException {
+        return new JsonCardRepository(loader);
+    }
+
+    @Benchmark
+    public BoardConfig parseBoard() throws IOException {
+        return loader.parseBoard();
+    }
+
+    @Benchmark
+    public List<CountryConfig> parseCountries() throws IOException {
+        return loader.loadCountries();
+    }
+
+    @Benchmark
+    public IndexedTileRepository loadAndIndexTiles() throws IOException {
+        return IndexedTileRepository.copyOf(new JsonTileRepository(loader));
+    }
+}
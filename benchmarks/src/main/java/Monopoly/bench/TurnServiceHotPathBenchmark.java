@@ -0,0 +1,128 @@
+package Monopoly.bench;
+
+import Monopoly.adapters.bot.BotDecisionAdapter;
+import Monopoly.core.domain.entity.player.Player;
+import Monopoly.core.event.GameEvent;
+import Monopoly.core.event.InteractiveEvent;
+import Monopoly.core.service.ForkableTurnService;
+import Monopoly.simulation.HeadlessGame;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.util.Comparator;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 实现功能【基准测试：中盘局面下回合服务的热点——净资产估值、局面复制，以及在副本上推进一回合（含过路费、垄断判断、
+ * 卡牌效果执行）与渲染回合摘要】。
+ * <p>
+ * 只通过 {@link ForkableTurnService} 的公开接口访问引擎。启动时用固定种子让资金充足的机器人先对局若干回合，
+ * 得到地产大多已被购买、部分已建房的中盘局面；各基准从该局面复制副本后推进，原局面保持不变，
+ * 副本的骰子由同一种子序列依次给出，因此每次运行取样的回合序列完全相同。
+ * <p>
+ *
+ * @author
+ * @date 2025-11-13
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TurnServiceHotPathBenchmark {
+
+    /**
+     * 资金足够多，保证预热对局与副本推进都不会触发破产。
+     */
+    private static final int INITIAL_MONEY = 1_000_000_000;
+
+    @Param({"JSON", "LEGACY"})
+    public BoardSetup board;
+
+    @Param({"2", "4", "6"})
+    public int players;
+
+    @Param({"42"})
+    public long seed;
+
+    @Param({"300"})
+    public int warmupTurns;
+
+    private ForkableTurnService service;
+    private BotDecisionAdapter decisionPort;
+    private int[] seatIds;
+    private SplittableRandom forkSeeds;
+    private int cursor;
+
+    @Setup
+    public void setUp() throws IOException {
+        decisionPort = new BotDecisionAdapter();
+        HeadlessGame game = board.newFactory()
+                .newGame(players, INITIAL_MONEY, decisionPort, new SplittableRandom(seed));
+        service = (ForkableTurnService) game.getTurnService();
+        for (int i = 0; i < warmupTurns && !service.isGameOver(); i++) {
+            play(service.advanceTurn(), null, false);
+        }
+        if (service.isGameOver()) {
+            throw new IllegalStateException("预热期间对局已结束，请减少 warmupTurns。");
+        }
+        List<Player> active = service.getActivePlayers().stream()
+                .sorted(Comparator.comparingInt(Player::getId))
+                .toList();
+        seatIds = active.stream().mapToInt(Player::getId).toArray();
+        forkSeeds = new SplittableRandom(seed);
+    }
+
+    @Benchmark
+    public int netWorth() {
+        return service.getNetWorth(seatIds[next(seatIds.length)]);
+    }
+
+    @Benchmark
+    public ForkableTurnService fork() {
+        return service.fork(forkSeeds.split(), decisionPort);
+    }
+
+    @Benchmark
+    public void forkAndAdvance(Blackhole blackhole) {
+        ForkableTurnService copy = service.fork(forkSeeds.split(), decisionPort);
+        play(copy.advanceTurn(), blackhole, false);
+    }
+
+    @Benchmark
+    public void forkAdvanceAndRender(Blackhole blackhole) {
+        ForkableTurnService copy = service.fork(forkSeeds.split(), decisionPort);
+        play(copy.advanceTurn(), blackhole, true);
+    }
+
+    private static void play(GameEvent current, Blackhole blackhole, boolean render) {
+        while (current != null) {
+            if (blackhole != null) {
+                blackhole.consume(render ? current.toString() : current);
+            }
+            current = current instanceof InteractiveEvent interactive ? interactive.interact() : null;
+        }
+    }
+
+    private int next(int bound) {
+        cursor++;
+        if (cursor == Integer.MAX_VALUE) {
+            cursor = 0;
+        }
+        return cursor % bound;
+    }
+}
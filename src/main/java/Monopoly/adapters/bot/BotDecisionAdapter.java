@@ -0,0 +1,57 @@
+package Monopoly.adapters.bot;
+
+import Monopoly.core.ports.DecisionPort;
+import Monopoly.core.ports.DecisionRequest;
+
+import java.util.Objects;
+
+/**
+ * 实现功能【由机器人策略即时作答的决策端口，用于无控制台的自动对局】。
+ * <p>
+ * 结构化决策交给 {@link BotStrategy}；“按回车继续”等文本请求立即返回空串，
+ * 无结构的整数请求一律返回 0（放弃）。
+ * <p>
+ *
+ * @author
+ * @date 2025-11-13
+ */
+public class BotDecisionAdapter implements DecisionPort {
+
+    private final BotStrategy strategy;
+
+    /**
+     * 使用默认阈值策略构造。
+     */
+    public BotDecisionAdapter() {
+        this(new ThresholdBotStrategy());
+    }
+
+    /**
+     * 构造函数。
+     *
+     * @param strategy 机器人策略
+     */
+    public BotDecisionAdapter(BotStrategy strategy) {
+        this.strategy = Objects.requireNonNull(strategy, "机器人策略不能为空。");
+    }
+
+    @Override
+    public int requestInt(String prompt) {
+        return 0;
+    }
+
+    @Override
+    public String requestLine(String prompt) {
+        return "";
+    }
+
+    @Override
+    public int requestDecision(DecisionRequest request) {
+        return switch (request.getType()) {
+            case PURCHASE -> strategy.shouldPurchase(request) ? 1 : 0;
+            case BUILD -> strategy.shouldBuild(request) ? request.getChoices()[0] : 0;
+            case MORTGAGE, MORTGAGE_FOR_PURCHASE, MORTGAGE_FOR_PAYMENT -> strategy.chooseMortgage(request);
+            case REDEEM, REDEEM_CHOICE -> strategy.chooseRedeem(request);
+        };
+    }
+}
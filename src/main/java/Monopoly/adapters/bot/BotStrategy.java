@@ -0,0 +1,47 @@
+package Monopoly.adapters.bot;
+
+import Monopoly.core.ports.DecisionRequest;
+
+/**
+ * 实现功能【机器人决策策略：分别给出购买、建造、抵押与赎回四类决策的答案】。
+ * <p>
+ * 各方法返回值与控制台输入含义一致：选择某一项时返回 {@link DecisionRequest#getChoices()} 中的值，放弃时返回 0。
+ * <p>
+ *
+ * @author
+ * @date 2025-11-13
+ */
+public interface BotStrategy {
+
+    /**
+     * 是否购买当前地块。
+     *
+     * @param request 购买请求
+     * @return 购买返回 true
+     */
+    boolean shouldPurchase(DecisionRequest request);
+
+    /**
+     * 是否在当前国家上建造（房屋或旅馆由请求中的唯一选项决定）。
+     *
+     * @param request 建造请求
+     * @return 建造返回 true
+     */
+    boolean shouldBuild(DecisionRequest request);
+
+    /**
+     * 选择要抵押的地块。
+     *
+     * @param request 抵押请求（单块确认或列表选择）
+     * @return 选项值，0 表示不抵押（支付场景下即破产）
+     */
+    int chooseMortgage(DecisionRequest request);
+
+    /**
+     * 选择要赎回的地块。
+     *
+     * @param request 赎回请求（单块确认或列表选择）
+     * @return 选项值，0 表示不赎回
+     */
+    int chooseRedeem(DecisionRequest request);
+}
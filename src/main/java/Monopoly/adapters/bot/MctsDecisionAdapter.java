@@ -0,0 +1,276 @@
+package Monopoly.adapters.bot;
+
+import Monopoly.core.domain.entity.player.Player;
+import Monopoly.core.event.GameEvent;
+import Monopoly.core.event.InteractiveEvent;
+import Monopoly.core.ports.DecisionPort;
+import Monopoly.core.ports.DecisionRequest;
+import Monopoly.core.ports.ForkingDecisionPort;
+import Monopoly.core.service.ForkableTurnService;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 实现功能【蒙特卡洛前瞻搜索机器人：对每个结构化决策的候选答案做随机模拟，选出平均收益最高的答案】。
+ * <p>
+ * 搜索只在根节点展开，每个候选答案一个臂。每次模拟先派生当前局面，在派生对局中直接执行该候选答案，
+ * 再由快速的阈值策略代替所有玩家向前推进若干回合，以决策玩家在在役玩家净资产中的占比作为收益
+ * （出局为 0，胜出为 1）。各答案成轮地以相同种子模拟，零头预算按 UCB1 分配。
+ * 多线程时采用根并行：各线程独立搜索，最后合并各臂的模拟次数与收益，选择平均收益最高的答案。
+ * <p>
+ * 当前决策所在事件链的后续步骤（如抵押后的支付）不在派生对局中重放，模拟从下一位玩家的回合开始。
+ * 未绑定对局时所有请求交给回退策略。
+ * <p>
+ *
+ * @author
+ * @date 2025-11-13
+ */
+public class MctsDecisionAdapter implements ForkingDecisionPort, AutoCloseable {
+
+    private final MctsSettings settings;
+    /**
+     * 模拟中所有玩家共用的快速策略，也是未绑定对局时的回退策略。
+     */
+    private final BotDecisionAdapter rolloutPolicy;
+    private final ExecutorService pool;
+    private ForkableTurnService game;
+    private long decisionCount;
+
+    /**
+     * 使用默认参数与默认阈值策略构造。
+     */
+    public MctsDecisionAdapter() {
+        this(MctsSettings.defaults(), new ThresholdBotStrategy());
+    }
+
+    /**
+     * 构造函数。
+     *
+     * @param settings 搜索参数
+     * @param rolloutStrategy 模拟中使用的快速策略（须无状态，可被多线程共享）
+     */
+    public MctsDecisionAdapter(MctsSettings settings, BotStrategy rolloutStrategy) {
+        this.settings = Objects.requireNonNull(settings, "搜索参数不能为空。");
+        this.rolloutPolicy = new BotDecisionAdapter(rolloutStrategy);
+        if (settings.threads() > 1) {
+            AtomicInteger index = new AtomicInteger();
+            this.pool = Executors.newFixedThreadPool(settings.threads(), runnable -> {
+                Thread thread = new Thread(runnable, "monopoly-mcts-" + index.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+        } else {
+            this.pool = null;
+        }
+    }
+
+    @Override
+    public void attach(ForkableTurnService game) {
+        this.game = Objects.requireNonNull(game, "对局不能为空。");
+    }
+
+    @Override
+    public int requestInt(String prompt) {
+        return rolloutPolicy.requestInt(prompt);
+    }
+
+    @Override
+    public String requestLine(String prompt) {
+        return rolloutPolicy.requestLine(prompt);
+    }
+
+    @Override
+    public int requestDecision(DecisionRequest request) {
+        int[] candidates = candidates(request);
+        if (game == null || candidates.length == 1) {
+            return game == null ? rolloutPolicy.requestDecision(request) : candidates[0];
+        }
+        SplittableRandom random = new SplittableRandom(settings.seed() ^ (0x9E3779B97F4A7C15L * ++decisionCount));
+        // 先在对局线程上派生一份根局面，各搜索线程只从这份私有副本继续派生
+        ForkableTurnService root = game.fork(random.split(), rolloutPolicy);
+        long deadline = settings.timeBudget().isZero() ? Long.MAX_VALUE : System.nanoTime() + settings.timeBudget().toNanos();
+        int workers = settings.threads();
+        int[][] visits = new int[workers][];
+        double[][] rewards = new double[workers][];
+        if (pool == null) {
+            Arms arms = search(root, request, candidates, settings.iterations(), deadline, random.split());
+            visits[0] = arms.visits;
+            rewards[0] = arms.rewards;
+        } else {
+            List<Future<Arms>> futures = new ArrayList<>(workers);
+            for (int w = 0; w < workers; w++) {
+                int budget = settings.iterations() / workers + (w < settings.iterations() % workers ? 1 : 0);
+                SplittableRandom workerRandom = random.split();
+                futures.add(pool.submit(() -> search(root, request, candidates, budget, deadline, workerRandom)));
+            }
+            try {
+                for (int w = 0; w < workers; w++) {
+                    Arms arms = futures.get(w).get();
+                    visits[w] = arms.visits;
+                    rewards[w] = arms.rewards;
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                futures.forEach(future -> future.cancel(true));
+                return rolloutPolicy.requestDecision(request);
+            } catch (ExecutionException e) {
+                throw new IllegalStateException("前瞻模拟失败: " + e.getCause().getMessage(), e.getCause());
+            }
+        }
+        return candidates[best(visits, rewards, candidates.length)];
+    }
+
+    /**
+     * 停止搜索线程。
+     */
+    @Override
+    public void close() {
+        if (pool != null) {
+            pool.shutdownNow();
+        }
+    }
+
+    /**
+     * 单线程搜索。
+     * <p>
+     * 按轮进行：每轮抽一个模拟种子，先让每个候选答案都以该种子各模拟一次（公共随机数，
+     * 使各答案面对相同的骰子与卡牌，比较时方差大幅降低），剩余预算再按 UCB1 分配。
+     */
+    private Arms search(ForkableTurnService root, DecisionRequest request, int[] candidates,
+                        int budget, long deadline, SplittableRandom random) {
+        Arms arms = new Arms(candidates.length);
+        int playerId = request.getPlayer().getId();
+        int used = 0;
+        while (used < budget) {
+            if (used > 0 && deadline != Long.MAX_VALUE && System.nanoTime() >= deadline) {
+                break;
+            }
+            long seed = random.nextLong();
+            if (used + candidates.length <= budget) {
+                for (int arm = 0; arm < candidates.length; arm++) {
+                    arms.add(arm, simulate(root, request, candidates[arm], playerId, seed));
+                }
+                used += candidates.length;
+            } else {
+                int arm = arms.select(used, settings.exploration());
+                arms.add(arm, simulate(root, request, candidates[arm], playerId, seed));
+                used++;
+            }
+        }
+        return arms;
+    }
+
+    private double simulate(ForkableTurnService root, DecisionRequest request, int choice, int playerId, long seed) {
+        ForkableTurnService fork = root.fork(new SplittableRandom(seed), rolloutPolicy);
+        fork.applyDecision(request, choice);
+        return rollout(fork, playerId);
+    }
+
+    /**
+     * 由快速策略向前推进若干回合，返回决策玩家的收益。
+     */
+    private double rollout(ForkableTurnService fork, int playerId) {
+        for (int turn = 0; turn < settings.horizonTurns() && !fork.isGameOver(); turn++) {
+            GameEvent current = fork.advanceTurn();
+            while (current instanceof InteractiveEvent interactive) {
+                current = interactive.interact();
+            }
+        }
+        int own = fork.getNetWorth(playerId);
+        if (own <= 0) {
+            return 0.0;
+        }
+        if (fork.isGameOver()) {
+            return 1.0;
+        }
+        long total = 0;
+        for (Player player : fork.getActivePlayers()) {
+            total += Math.max(0, fork.getNetWorth(player.getId()));
+        }
+        return total == 0 ? 0.0 : (double) own / total;
+    }
+
+    /**
+     * 候选答案：0（放弃）加上请求中全部有效选项。
+     */
+    private static int[] candidates(DecisionRequest request) {
+        int[] choices = request.getChoices();
+        int[] candidates = new int[choices.length + 1];
+        int count = 1;
+        for (int choice : choices) {
+            if (choice > 0) {
+                candidates[count++] = choice;
+            }
+        }
+        return count == candidates.length ? candidates : Arrays.copyOf(candidates, count);
+    }
+
+    /**
+     * 合并各线程结果：选择平均收益最高的臂，平均收益相同时取模拟次数较多者（通常即放弃，保持现状）。
+     */
+    private static int best(int[][] visits, double[][] rewards, int armCount) {
+        int best = 0;
+        long bestVisits = -1;
+        double bestMean = -1.0;
+        for (int arm = 0; arm < armCount; arm++) {
+            long n = 0;
+            double sum = 0.0;
+            for (int w = 0; w < visits.length; w++) {
+                n += visits[w][arm];
+                sum += rewards[w][arm];
+            }
+            double mean = n == 0 ? 0.0 : sum / n;
+            if (mean > bestMean || (mean == bestMean && n > bestVisits)) {
+                best = arm;
+                bestVisits = n;
+                bestMean = mean;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * 根节点各臂的模拟次数与累计收益。
+     */
+    private static final class Arms {
+
+        private final int[] visits;
+        private final double[] rewards;
+
+        private Arms(int count) {
+            this.visits = new int[count];
+            this.rewards = new double[count];
+        }
+
+        private int select(int total, double exploration) {
+            int best = 0;
+            double bestScore = Double.NEGATIVE_INFINITY;
+            double logTotal = Math.log(Math.max(1, total));
+            for (int arm = 0; arm < visits.length; arm++) {
+                if (visits[arm] == 0) {
+                    return arm;
+                }
+                double score = rewards[arm] / visits[arm] + exploration * Math.sqrt(logTotal / visits[arm]);
+                if (score > bestScore) {
+                    best = arm;
+                    bestScore = score;
+                }
+            }
+            return best;
+        }
+
+        private void add(int arm, double reward) {
+            visits[arm]++;
+            rewards[arm] += reward;
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package Monopoly.adapters.bot;
+
+import java.time.Duration;
+import java.util.Objects;
+
+/**
+ * 实现功能【前瞻搜索机器人的搜索预算与参数】。
+ * <p>
+ * 每次决策在 {@code iterations} 次模拟或 {@code timeBudget} 时间内先到者为止；只给次数预算（时间预算为 0）时，
+ * 同一种子下的决策完全可复现。
+ * <p>
+ *
+ * @param threads 并行模拟的线程数，1 表示在对局线程上直接模拟
+ * @param iterations 每次决策的模拟总次数上限
+ * @param timeBudget 每次决策的时间上限，{@link Duration#ZERO} 表示不限时
+ * @param horizonTurns 每次模拟向前推进的回合数
+ * @param exploration UCB1 探索系数
+ * @param seed 搜索随机种子
+ * @author
+ * @date 2025-11-13
+ */
+public record MctsSettings(int threads, int iterations, Duration timeBudget, int horizonTurns, double exploration, long seed) {
+
+    /**
+     * 参数校验。
+     */
+    public MctsSettings {
+        if (threads <= 0) {
+            throw new IllegalArgumentException("线程数必须大于 0。");
+        }
+        if (iterations <= 0) {
+            throw new IllegalArgumentException("模拟次数必须大于 0。");
+        }
+        Objects.requireNonNull(timeBudget, "时间预算不能为空。");
+        if (timeBudget.isNegative()) {
+            throw new IllegalArgumentException("时间预算不能为负数。");
+        }
+        if (horizonTurns <= 0) {
+            throw new IllegalArgumentException("模拟回合数必须大于 0。");
+        }
+        if (exploration < 0) {
+            throw new IllegalArgumentException("探索系数不能为负数。");
+        }
+    }
+
+    /**
+     * 默认参数：全部 CPU 核、4096 次模拟或 100 毫秒、每次向前 48 回合。
+     *
+     * @return 默认参数
+     */
+    public static MctsSettings defaults() {
+        return new MctsSettings(Runtime.getRuntime().availableProcessors(), 4096, Duration.ofMillis(100), 48, Math.sqrt(2), 42L);
+    }
+
+    /**
+     * 只按模拟次数限定预算（结果可复现）。
+     *
+     * @param threads 线程数
+     * @param iterations 模拟总次数
+     * @param seed 搜索随机种子
+     * @return 参数
+     */
+    public static MctsSettings ofIterations(int threads, int iterations, long seed) {
+        MctsSettings d = defaults();
+        return new MctsSettings(threads, iterations, Duration.ZERO, d.horizonTurns(), d.exploration(), seed);
+    }
+}
@@ -0,0 +1,90 @@
+package Monopoly.adapters.bot;
+
+import Monopoly.core.ports.DecisionRequest;
+import Monopoly.core.ports.DecisionType;
+
+/**
+ * 实现功能【基于现金保留额的简单机器人策略】。
+ * <p>
+ * 购买、建造与赎回只要操作后现金不低于保留额就执行；只在需要支付时抵押，
+ * 且优先抵押刚好能补足差额的最低价值地块，避免多余地块失去收益。
+ * <p>
+ *
+ * @author
+ * @date 2025-11-13
+ */
+public class ThresholdBotStrategy implements BotStrategy {
+
+    /**
+     * 默认现金保留额。
+     */
+    public static final int DEFAULT_CASH_RESERVE = 1000;
+
+    /**
+     * 执行花钱操作后至少要保留的现金。
+     */
+    private final int cashReserve;
+
+    /**
+     * 使用默认保留额构造策略。
+     */
+    public ThresholdBotStrategy() {
+        this(DEFAULT_CASH_RESERVE);
+    }
+
+    /**
+     * 构造函数。
+     *
+     * @param cashReserve 现金保留额，不能为负数
+     */
+    public ThresholdBotStrategy(int cashReserve) {
+        if (cashReserve < 0) {
+            throw new IllegalArgumentException("现金保留额不能为负数。");
+        }
+        this.cashReserve = cashReserve;
+    }
+
+    @Override
+    public boolean shouldPurchase(DecisionRequest request) {
+        return request.getPlayer().getMoney() - request.getAmount() >= cashReserve;
+    }
+
+    @Override
+    public boolean shouldBuild(DecisionRequest request) {
+        return request.getOptionCount() > 0 && request.getChoices()[0] > 0
+                && request.getPlayer().getMoney() - request.getValues()[0] >= cashReserve;
+    }
+
+    @Override
+    public int chooseMortgage(DecisionRequest request) {
+        if (request.getType() != DecisionType.MORTGAGE_FOR_PAYMENT || request.getOptionCount() == 0) {
+            return 0;
+        }
+        int shortage = request.getAmount() - request.getPlayer().getMoney();
+        int best = -1;
+        int largest = 0;
+        int[] values = request.getValues();
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] >= shortage && (best < 0 || values[i] < values[best])) {
+                best = i;
+            }
+            if (values[i] > values[largest]) {
+                largest = i;
+            }
+        }
+        return request.getChoices()[best >= 0 ? best : largest];
+    }
+
+    @Override
+    public int chooseRedeem(DecisionRequest request) {
+        int money = request.getPlayer().getMoney();
+        int best = -1;
+        int[] values = request.getValues();
+        for (int i = 0; i < values.length; i++) {
+            if (money - values[i] >= cashReserve && (best < 0 || values[i] < values[best])) {
+                best = i;
+            }
+        }
+        return best >= 0 ? request.getChoices()[best] : 0;
+    }
+}
@@ -0,0 +1,77 @@
+package Monopoly.adapters.bus;
+
+import Monopoly.core.event.GameEvent;
+import Monopoly.core.message.GameMessage;
+
+/**
+ * 实现功能【订阅者读到的一条总线事件：消息类型、已渲染的正文、来源事件与序号】。
+ * <p>
+ * 每个订阅者复用同一个实例承载所有事件（不分配对象），处理方法返回后内容即被下一条事件覆盖；
+ * 需要保留时调用 {@link #toMessage()} 复制一份。
+ * <p>
+ *
+ * @author
+ * @date 2025-11-13
+ */
+public final class BusEvent {
+
+    private long sequence;
+    private String type;
+    private String content;
+    private GameEvent source;
+
+    BusEvent() {
+    }
+
+    void set(long sequence, String type, String content, GameEvent source) {
+        this.sequence = sequence;
+        this.type = type;
+        this.content = content;
+        this.source = source;
+    }
+
+    /**
+     * 事件在总线上的序号，从 0 开始连续递增。
+     *
+     * @return 序号
+     */
+    public long getSequence() {
+        return sequence;
+    }
+
+    /**
+     * 消息类型。
+     *
+     * @return 类型
+     */
+    public String getType() {
+        return type;
+    }
+
+    /**
+     * 发布时渲染好的消息正文。
+     *
+     * @return 正文
+     */
+    public String getContent() {
+        return content;
+    }
+
+    /**
+     * 来源领域事件，可能为 null。
+     *
+     * @return 来源事件
+     */
+    public GameEvent getSource() {
+        return source;
+    }
+
+    /**
+     * 复制为独立的输出消息。
+     *
+     * @return 输出消息
+     */
+    public GameMessage toMessage() {
+        return new GameMessage(type, content, source);
+    }
+}
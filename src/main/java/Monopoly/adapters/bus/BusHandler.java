@@ -0,0 +1,74 @@
+package Monopoly.adapters.bus;
+
+import Monopoly.core.ports.OutputPort;
+
+import java.io.Flushable;
+import java.io.IOException;
+import java.util.Objects;
+
+/**
+ * 实现功能【事件总线订阅者的处理回调，在该订阅者自己的线程上按序号顺序调用】。
+ * <p>
+ * 订阅者每次取出一批连续事件，批内最后一条的 {@code endOfBatch} 为 true，便于按批写出或提交。
+ * 回调抛出的异常只计入该订阅者的失败数，不影响其他订阅者与引擎线程。
+ * <p>
+ *
+ * @author
+ * @date 2025-11-13
+ */
+@FunctionalInterface
+public interface BusHandler {
+
+    /**
+     * 处理一条事件。
+     *
+     * @param event 事件（实例被复用，不要在回调之外保留）
+     * @param endOfBatch 是否为本批最后一条
+     * @throws Exception 处理失败时抛出
+     */
+    void onEvent(BusEvent event, boolean endOfBatch) throws Exception;
+
+    /**
+     * 订阅者落后超过缓冲区容量、部分事件已被覆盖时调用（仅 {@link Monopoly.adapters.output.OverflowPolicy#DROP_OLDEST}）。
+     *
+     * @param count 跳过的事件数
+     */
+    default void onMissed(long count) {
+    }
+
+    /**
+     * 订阅结束（总线关闭或取消订阅）后在订阅者线程上调用一次。
+     */
+    default void onClose() {
+    }
+
+    /**
+     * 把输出端口包装为订阅者：逐条转交，若端口实现了 {@link Flushable} 则每批 flush 一次。
+     *
+     * @param port 输出端口（控制台、日志文件、计数器等）
+     * @return 订阅回调
+     */
+    static BusHandler forOutputPort(OutputPort port) {
+        Objects.requireNonNull(port, "输出端口不能为空。");
+        return new BusHandler() {
+            @Override
+            public void onEvent(BusEvent event, boolean endOfBatch) throws IOException {
+                port.publish(event.toMessage());
+                if (endOfBatch && port instanceof Flushable flushable) {
+                    flushable.flush();
+                }
+            }
+
+            @Override
+            public void onClose() {
+                if (port instanceof Flushable flushable) {
+                    try {
+                        flushable.flush();
+                    } catch (IOException ignored) {
+                        // 订阅已结束，无法再上报
+                    }
+                }
+            }
+        };
+    }
+}
@@ -0,0 +1,339 @@
+package Monopoly.adapters.bus;
+
+import Monopoly.adapters.output.OverflowPolicy;
+import Monopoly.core.event.GameEvent;
+import Monopoly.core.message.GameMessage;
+import Monopoly.core.ports.OutputPort;
+
+import java.io.Flushable;
+import java.lang.invoke.VarHandle;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 实现功能【单生产者、多订阅者的事件总线：引擎线程把消息写入预分配的环形槽位，各订阅者在自己的线程上按序号追赶】。
+ * <p>
+ * 发布只做三件事：渲染正文（正文依赖发布时刻的状态，只渲染一次，与订阅者数量无关）、写入槽位、推进游标；
+ * 不加锁。订阅者先自旋、再让出 CPU 等待游标，仍无新事件时挂起，直到下一次发布把它唤醒；
+ * 发布者只读一次挂起计数，没有订阅者挂起时不做任何唤醒，因此连续发布时增加订阅者不会增加引擎线程的延迟，
+ * 而长时间空闲（如等待玩家输入）时订阅者线程不占用 CPU。
+ * 每个订阅者维护自己的已处理序号，按批读取可用区间，批大小有上限。
+ * <p>
+ * 订阅者的溢出策略：
+ * <ul>
+ *     <li>{@link OverflowPolicy#BLOCK}：生产者绕环一圈追上该订阅者时等待，订阅者一条不漏（日志、回放）</li>
+ *     <li>{@link OverflowPolicy#DROP_OLDEST}：不拖慢生产者，落后超过容量时跳到最旧的可用事件并报告跳过数（观战、指标）</li>
+ * </ul>
+ * 只允许一个线程调用 {@link #publish(GameMessage)}。
+ * <p>
+ *
+ * @author
+ * @date 2025-11-13
+ */
+public final class EventBus implements OutputPort, Flushable, AutoCloseable {
+
+    /**
+     * 默认缓冲区容量（向上取整为 2 的幂）。
+     */
+    public static final int DEFAULT_CAPACITY = 4096;
+    /**
+     * 默认单批最大条数。
+     */
+    public static final int DEFAULT_BATCH_SIZE = 256;
+    /**
+     * 订阅者连续空闲多少次（自旋与让出阶段）后挂起等待唤醒。
+     */
+    static final int PARK_AFTER_IDLE = 200;
+
+    /**
+     * 环形槽位。字段由生产者写入，订阅者以序号前后两次校验（seqlock）确认读到的是完整且未被覆盖的内容。
+     */
+    static final class Slot {
+        volatile long sequence = -1;
+        String type;
+        String content;
+        GameEvent source;
+    }
+
+    private final Slot[] slots;
+    private final int mask;
+    /**
+     * 已发布的最大序号。
+     */
+    private volatile long cursor = -1;
+    /**
+     * 下一条要发布的序号，只由生产者线程读写。
+     */
+    private long nextSequence;
+    /**
+     * 上次计算的最慢阻塞型订阅者序号，只由生产者线程读写。
+     */
+    private long cachedGate = -1;
+    /**
+     * 生产者需要等待的阻塞型订阅者（写时复制）。
+     */
+    private volatile Subscription[] gating = new Subscription[0];
+    private final List<Subscription> subscriptions = new CopyOnWriteArrayList<>();
+    /**
+     * 当前挂起等待新事件的订阅者数。
+     */
+    private final AtomicInteger parkedCount = new AtomicInteger();
+    private volatile boolean closed;
+
+    /**
+     * 使用默认容量。
+     */
+    public EventBus() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * 构造函数，预分配全部槽位。
+     *
+     * @param capacity 缓冲区容量，向上取整为 2 的幂
+     */
+    public EventBus(int capacity) {
+        if (capacity <= 0 || capacity > (1 << 30)) {
+            throw new IllegalArgumentException("缓冲区容量必须在 1 ~ 2^30 之间。");
+        }
+        int size = Integer.highestOneBit(capacity);
+        if (size < capacity) {
+            size <<= 1;
+        }
+        this.slots = new Slot[size];
+        for (int i = 0; i < size; i++) {
+            slots[i] = new Slot();
+        }
+        this.mask = size - 1;
+    }
+
+    /**
+     * 添加订阅者，从下一条发布的事件开始接收，并启动其专属线程。
+     *
+     * @param name 订阅者名称（用作线程名）
+     * @param handler 处理回调
+     * @param policy 溢出策略，只支持 BLOCK 与 DROP_OLDEST
+     * @param maxBatch 单批最大条数
+     * @return 订阅
+     */
+    public Subscription subscribe(String name, BusHandler handler, OverflowPolicy policy, int maxBatch) {
+        Objects.requireNonNull(name, "订阅者名称不能为空。");
+        Objects.requireNonNull(handler, "处理回调不能为空。");
+        Objects.requireNonNull(policy, "溢出策略不能为空。");
+        if (policy == OverflowPolicy.SAMPLE) {
+            throw new IllegalArgumentException("事件总线不支持抽样策略。");
+        }
+        if (maxBatch <= 0) {
+            throw new IllegalArgumentException("批大小必须大于 0。");
+        }
+        if (closed) {
+            throw new IllegalStateException("事件总线已关闭。");
+        }
+        Subscription subscription = new Subscription(this, name, handler, policy, maxBatch, cursor);
+        synchronized (this) {
+            subscriptions.add(subscription);
+            if (policy == OverflowPolicy.BLOCK) {
+                Subscription[] next = Arrays.copyOf(gating, gating.length + 1);
+                next[next.length - 1] = subscription;
+                gating = next;
+            }
+        }
+        subscription.start();
+        return subscription;
+    }
+
+    /**
+     * 以默认批大小、阻塞策略添加订阅者。
+     *
+     * @param name 订阅者名称
+     * @param handler 处理回调
+     * @return 订阅
+     */
+    public Subscription subscribe(String name, BusHandler handler) {
+        return subscribe(name, handler, OverflowPolicy.BLOCK, DEFAULT_BATCH_SIZE);
+    }
+
+    @Override
+    public void publish(GameMessage message) {
+        if (message == null) {
+            return;
+        }
+        if (closed) {
+            throw new IllegalStateException("事件总线已关闭。");
+        }
+        long sequence = nextSequence++;
+        long wrapPoint = sequence - slots.length;
+        if (wrapPoint > cachedGate) {
+            cachedGate = awaitGate(wrapPoint, sequence - 1);
+        }
+        String content = message.getContent();
+        Slot slot = slots[(int) sequence & mask];
+        // 先把槽位标记为写入中，再写字段，最后发布序号
+        slot.sequence = -2 - sequence;
+        VarHandle.storeStoreFence();
+        slot.type = message.getType();
+        slot.content = content;
+        slot.source = message.getSourceEvent();
+        slot.sequence = sequence;
+        cursor = sequence;
+        // 订阅者先登记挂起再复查游标，这里先推进游标再读计数，两侧都是 volatile 访问，不会漏掉唤醒
+        if (parkedCount.get() > 0) {
+            wakeAll();
+        }
+    }
+
+    /**
+     * 阻塞直到所有订阅者处理完此前发布的全部事件（例如在提示玩家输入之前调用）。
+     */
+    @Override
+    public void flush() {
+        long target = cursor;
+        int idle = 0;
+        for (Subscription subscription : subscriptions) {
+            while (subscription.getSequence() < target && subscription.isRunning()) {
+                idle = idle(idle);
+            }
+        }
+    }
+
+    /**
+     * 停止接收新事件，等待各订阅者处理完剩余事件后结束其线程。
+     */
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        wakeAll();
+        for (Subscription subscription : subscriptions) {
+            subscription.join(TimeUnit.SECONDS.toMillis(30));
+        }
+    }
+
+    /**
+     * 已发布的最大序号，尚未发布时为 -1。
+     *
+     * @return 游标
+     */
+    public long getCursor() {
+        return cursor;
+    }
+
+    /**
+     * 槽位数。
+     *
+     * @return 容量
+     */
+    public int getCapacity() {
+        return slots.length;
+    }
+
+    /**
+     * 当前全部订阅。
+     *
+     * @return 订阅列表（只读快照）
+     */
+    public List<Subscription> getSubscriptions() {
+        return List.copyOf(subscriptions);
+    }
+
+    boolean isClosed() {
+        return closed;
+    }
+
+    /**
+     * 把指定序号的事件读到视图中。
+     *
+     * @return 读到完整内容返回 true；该槽位已被更新的事件覆盖（订阅者落后超过容量）时返回 false
+     */
+    boolean read(long sequence, BusEvent view) {
+        Slot slot = slots[(int) sequence & mask];
+        if (slot.sequence != sequence) {
+            return false;
+        }
+        String type = slot.type;
+        String content = slot.content;
+        GameEvent source = slot.source;
+        VarHandle.loadLoadFence();
+        if (slot.sequence != sequence) {
+            return false;
+        }
+        view.set(sequence, type, content, source);
+        return true;
+    }
+
+    /**
+     * 订阅者挂起直到序号 {@code awaited} 已发布、总线关闭或订阅取消；挂起前登记并复查，避免错过唤醒。
+     *
+     * @param awaited 等待的下一条序号
+     * @param subscription 挂起的订阅
+     */
+    void parkUntilPublished(long awaited, Subscription subscription) {
+        parkedCount.incrementAndGet();
+        try {
+            subscription.setParked(true);
+            while (cursor < awaited && !closed && !subscription.isCancelled()) {
+                LockSupport.park(this);
+            }
+        } finally {
+            subscription.setParked(false);
+            parkedCount.decrementAndGet();
+        }
+    }
+
+    private void wakeAll() {
+        for (Subscription subscription : subscriptions) {
+            subscription.wake();
+        }
+    }
+
+    /**
+     * 订阅结束时从列表中移除。
+     */
+    synchronized void remove(Subscription subscription) {
+        subscriptions.remove(subscription);
+        if (subscription.getPolicy() == OverflowPolicy.BLOCK) {
+            gating = Arrays.stream(gating).filter(s -> s != subscription).toArray(Subscription[]::new);
+        }
+    }
+
+    private long awaitGate(long wrapPoint, long published) {
+        int idle = 0;
+        while (true) {
+            long min = published;
+            for (Subscription subscription : gating) {
+                if (subscription.isRunning()) {
+                    min = Math.min(min, subscription.getSequence());
+                }
+            }
+            if (wrapPoint <= min) {
+                return min;
+            }
+            idle = idle(idle);
+        }
+    }
+
+    /**
+     * 短暂等待的策略（订阅者挂起前的空转、生产者等待阻塞型订阅者、flush）：先自旋，再让出 CPU，
+     * 最后短暂休眠，休眠时间随空闲次数增长到 1 毫秒。
+     *
+     * @param idle 已连续空闲的次数
+     * @return 新的空闲次数
+     */
+    static int idle(int idle) {
+        if (idle < 100) {
+            Thread.onSpinWait();
+        } else if (idle < 200) {
+            Thread.yield();
+        } else {
+            LockSupport.parkNanos(idle < 1000 ? 50_000L : 1_000_000L);
+        }
+        return idle + 1;
+    }
+}
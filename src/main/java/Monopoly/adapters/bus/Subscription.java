@@ -0,0 +1,196 @@
+package Monopoly.adapters.bus;
+
+import Monopoly.adapters.output.OverflowPolicy;
+
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 实现功能【事件总线上的一个订阅者：专属线程、已处理序号与统计】。
+ * <p>
+ * 订阅者线程每轮取出 {@code (已处理序号, 游标]} 中至多一批事件依次回调，整批处理完才推进已处理序号，
+ * 阻塞型订阅者的序号同时决定生产者何时可以复用槽位。
+ * <p>
+ *
+ * @author
+ * @date 2025-11-13
+ */
+public final class Subscription {
+
+    private final EventBus bus;
+    private final String name;
+    private final BusHandler handler;
+    private final OverflowPolicy policy;
+    private final int maxBatch;
+    private final BusEvent view = new BusEvent();
+    private final Thread thread;
+    /**
+     * 已处理完的最大序号。
+     */
+    private volatile long sequence;
+    private volatile long missedCount;
+    private volatile long failedCount;
+    private volatile boolean cancelled;
+    private volatile boolean running = true;
+    /**
+     * 是否正挂起等待新事件。
+     */
+    private volatile boolean parked;
+
+    Subscription(EventBus bus, String name, BusHandler handler, OverflowPolicy policy, int maxBatch, long startAfter) {
+        this.bus = bus;
+        this.name = name;
+        this.handler = handler;
+        this.policy = policy;
+        this.maxBatch = maxBatch;
+        this.sequence = startAfter;
+        this.thread = new Thread(this::run, "monopoly-bus-" + name);
+        this.thread.setDaemon(true);
+    }
+
+    /**
+     * 订阅者名称。
+     *
+     * @return 名称
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * 溢出策略。
+     *
+     * @return 策略
+     */
+    public OverflowPolicy getPolicy() {
+        return policy;
+    }
+
+    /**
+     * 已处理完的最大序号。
+     *
+     * @return 序号
+     */
+    public long getSequence() {
+        return sequence;
+    }
+
+    /**
+     * 尚未处理的事件数。
+     *
+     * @return 落后条数
+     */
+    public long getLag() {
+        return Math.max(0, bus.getCursor() - sequence);
+    }
+
+    /**
+     * 因落后超过容量而跳过的事件数。
+     *
+     * @return 条数
+     */
+    public long getMissedCount() {
+        return missedCount;
+    }
+
+    /**
+     * 回调抛出异常的事件数。
+     *
+     * @return 条数
+     */
+    public long getFailedCount() {
+        return failedCount;
+    }
+
+    /**
+     * 订阅者线程是否仍在运行。
+     *
+     * @return 是否运行
+     */
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * 取消订阅：不再处理新事件，线程结束后从总线移除。
+     */
+    public void cancel() {
+        cancelled = true;
+        LockSupport.unpark(thread);
+    }
+
+    boolean isCancelled() {
+        return cancelled;
+    }
+
+    void setParked(boolean parked) {
+        this.parked = parked;
+    }
+
+    /**
+     * 唤醒挂起中的订阅者线程。
+     */
+    void wake() {
+        if (parked) {
+            LockSupport.unpark(thread);
+        }
+    }
+
+    void start() {
+        thread.start();
+    }
+
+    void join(long millis) {
+        try {
+            thread.join(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void run() {
+        long next = sequence + 1;
+        int idle = 0;
+        try {
+            while (!cancelled) {
+                long available = bus.getCursor();
+                if (available < next) {
+                    if (bus.isClosed() && bus.getCursor() < next) {
+                        return;
+                    }
+                    if (idle < EventBus.PARK_AFTER_IDLE) {
+                        idle = EventBus.idle(idle);
+                    } else {
+                        bus.parkUntilPublished(next, this);
+                    }
+                    continue;
+                }
+                idle = 0;
+                long end = Math.min(available, next + maxBatch - 1);
+                for (long s = next; s <= end; s++) {
+                    if (!bus.read(s, view)) {
+                        // 落后超过一圈：跳到当前仍可读的最旧事件
+                        long oldest = Math.max(s + 1, bus.getCursor() - bus.getCapacity() + 1);
+                        missedCount += oldest - s;
+                        handler.onMissed(oldest - s);
+                        end = oldest - 1;
+                        break;
+                    }
+                    try {
+                        handler.onEvent(view, s == end);
+                    } catch (Exception e) {
+                        failedCount++;
+                    }
+                }
+                sequence = end;
+                next = end + 1;
+            }
+        } finally {
+            running = false;
+            try {
+                handler.onClose();
+            } finally {
+                bus.remove(this);
+            }
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package Monopoly.adapters.headless;
+
+import Monopoly.core.message.GameMessage;
+import Monopoly.core.ports.OutputPort;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 实现功能【只按消息类型计数、不保留正文的输出端口，用于统计模拟对局中的事件分布】。
+ */
+public class CountingOutputAdapter implements OutputPort {
+
+    /**
+     * 各消息类型的累计条数。
+     */
+    private final Map<String, Long> counts = new TreeMap<>();
+
+    @Override
+    public void publish(GameMessage message) {
+        if (message == null) {
+            return;
+        }
+        counts.merge(message.getType(), 1L, Long::sum);
+    }
+
+    /**
+     * 获取指定类型的消息条数。
+     *
+     * @param type 消息类型
+     * @return 条数，未出现过返回 0
+     */
+    public long getCount(String type) {
+        return counts.getOrDefault(type, 0L);
+    }
+
+    /**
+     * 获取全部类型计数快照。
+     *
+     * @return 按类型排序的不可变计数表
+     */
+    public Map<String, Long> snapshot() {
+        return Collections.unmodifiableMap(new TreeMap<>(counts));
+    }
+}
@@ -0,0 +1,15 @@
+package Monopoly.adapters.headless;
+
+import Monopoly.core.message.GameMessage;
+import Monopoly.core.ports.OutputPort;
+
+/**
+ * 实现功能【丢弃所有消息的输出端口，用于无界面的批量模拟】。
+ */
+public class DiscardOutputAdapter implements OutputPort {
+
+    @Override
+    public void publish(GameMessage message) {
+        // 有意忽略
+    }
+}
@@ -0,0 +1,88 @@
+package Monopoly.adapters.network;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 实现功能【网络对局的按行分帧文本协议：每帧为一行 UTF-8 文本，以换行结尾】。
+ * <p>
+ * 帧的第一个单词为命令，其余为参数；多行正文中的反斜杠与换行转义为 {@code \\} 与 {@code \n}。
+ * <ul>
+ *     <li>客户端 → 服务器：{@code JOIN [名称]} 进入大厅排队，{@code ANS <输入>} 回答当前提问，
+ *     {@code PING}，{@code QUIT}</li>
+ *     <li>服务器 → 客户端：{@code HELLO}，{@code WAITING <已排队> <每局人数>}，
+ *     {@code START <对局号> <座位号> <人数> <棋盘版本>}，{@code OUT <消息类型> <正文>}，
+ *     {@code ASK <INT|LINE> <决策类别|-> <提示>}，{@code OVER <对局号> <存活座位号,...>}，
+ *     {@code ERR <原因>}，{@code PONG}</li>
+ * </ul>
+ * <p>
+ *
+ * @author
+ * @date 2025-11-13
+ */
+final class LineProtocol {
+
+    /**
+     * 单行最大字节数，超过时断开连接。
+     */
+    static final int MAX_LINE_BYTES = 4096;
+
+    private LineProtocol() {
+    }
+
+    /**
+     * 编码一帧：命令加正文，正文经过转义。
+     *
+     * @param command 命令及不含空白字符的参数
+     * @param text 正文，可包含换行
+     * @return 只读帧缓冲区，可在多个连接间共享（各自 duplicate）
+     */
+    static ByteBuffer frame(String command, String text) {
+        StringBuilder sb = new StringBuilder(command.length() + text.length() + 8);
+        sb.append(command).append(' ');
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            switch (c) {
+                case '\\' -> sb.append("\\\\");
+                case '\n' -> sb.append("\\n");
+                case '\r' -> {
+                }
+                default -> sb.append(c);
+            }
+        }
+        return frame(sb);
+    }
+
+    /**
+     * 编码只有命令与简单参数的一帧。
+     *
+     * @param command 命令及参数
+     * @return 只读帧缓冲区
+     */
+    static ByteBuffer frame(CharSequence command) {
+        byte[] bytes = (command + "\n").getBytes(StandardCharsets.UTF_8);
+        return ByteBuffer.wrap(bytes).asReadOnlyBuffer();
+    }
+
+    /**
+     * 取出一行中的命令（首个空格之前的部分，统一为大写）。
+     *
+     * @param line 一行输入
+     * @return 命令
+     */
+    static String command(String line) {
+        int space = line.indexOf(' ');
+        return (space < 0 ? line : line.substring(0, space)).toUpperCase();
+    }
+
+    /**
+     * 取出一行中命令之后的参数（去除首尾空白）。
+     *
+     * @param line 一行输入
+     * @return 参数，没有时为空串
+     */
+    static String argument(String line) {
+        int space = line.indexOf(' ');
+        return space < 0 ? "" : line.substring(space + 1).trim();
+    }
+}
@@ -0,0 +1,259 @@
+package Monopoly.adapters.network;
+
+import Monopoly.core.domain.entity.player.Player;
+import Monopoly.core.event.GameEvent;
+import Monopoly.core.event.InteractiveEvent;
+import Monopoly.core.message.GameMessage;
+import Monopoly.core.ports.AsyncDecisionPort;
+import Monopoly.core.ports.DecisionRequest;
+import Monopoly.core.ports.OutputPort;
+import Monopoly.core.service.AsyncTurnDriver;
+import Monopoly.core.service.ForkableTurnService;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.stream.Collectors;
+
+/**
+ * 实现功能【一局网络对局：作为回合服务的异步决策端口与输出端口，把提问与消息映射到各座位的连接上】。
+ * <p>
+ * 对局由 {@link AsyncTurnDriver} 在工作线程池上推进：向某个座位提问时发出 {@code ASK} 帧并返回未完成的 future，
+ * 工作线程随即释放；该座位的 {@code ANS} 到达后完成 future，驱动器重放挂起的交互事件继续推进。
+ * <p>
+ * 断线座位的提问立即以默认值作答（整数为 0，即放弃/破产；文本为空串）；所有座位都断线时对局直接结束。
+ * 提问状态由对象锁保护。
+ * <p>
+ *
+ * @author
+ * @date 2025-11-13
+ */
+final class NetworkGame implements AsyncDecisionPort, OutputPort {
+
+    /**
+     * 一次待回答的提问。
+     */
+    private record Ask(int seat, boolean integer, String type, String prompt, CompletableFuture<String> answer) {
+    }
+
+    private final NetworkGameServer server;
+    private final int id;
+    /**
+     * 座位号 n 对应下标 n-1。
+     */
+    private final List<NetworkSession> seats;
+    private final AsyncTurnDriver driver;
+    private final long boardVersion;
+    private ForkableTurnService turnService;
+
+    /**
+     * 已发出、尚未收到答案的提问。
+     */
+    private Ask awaiting;
+    /**
+     * 最近一个交互事件所属座位，供不带玩家信息的 requestIntAsync/requestLineAsync 使用（只在推进线程上读写）。
+     */
+    private int currentSeat;
+    private boolean finished;
+
+    NetworkGame(NetworkGameServer server, int id, List<NetworkSession> seats, Executor workers, long boardVersion) {
+        this.server = server;
+        this.id = id;
+        this.seats = List.copyOf(seats);
+        this.driver = new AsyncTurnDriver(this, this, workers);
+        this.boardVersion = boardVersion;
+        for (int i = 0; i < this.seats.size(); i++) {
+            this.seats.get(i).joinGame(this, i + 1);
+        }
+    }
+
+    int getId() {
+        return id;
+    }
+
+    int getSeatCount() {
+        return seats.size();
+    }
+
+    /**
+     * 回合服务使用的决策端口。
+     *
+     * @return 本局的驱动器
+     */
+    AsyncTurnDriver getDriver() {
+        return driver;
+    }
+
+    /**
+     * 绑定回合服务并开始推进。
+     *
+     * @param turnService 以 {@link #getDriver()} 为决策端口、以本对象为输出端口的回合服务
+     */
+    void start(ForkableTurnService turnService) {
+        this.turnService = Objects.requireNonNull(turnService, "回合服务不能为空。");
+        for (int i = 0; i < seats.size(); i++) {
+            seats.get(i).send(LineProtocol.frame("START " + id + " " + (i + 1) + " " + seats.size() + " " + boardVersion));
+        }
+        driver.start(turnService, () -> connectedCount() == 0).whenComplete((ignored, error) -> {
+            if (error != null) {
+                broadcast(LineProtocol.frame("ERR", "对局异常终止：" + error.getMessage()));
+            }
+            finish();
+        });
+    }
+
+    /**
+     * 收到某座位的输入（I/O 线程调用）。
+     *
+     * @param seat 座位号
+     * @param line 输入内容
+     */
+    void offer(int seat, String line) {
+        NetworkSession session = seats.get(seat - 1);
+        Ask ask;
+        synchronized (this) {
+            if (finished) {
+                session.send(LineProtocol.frame("ERR", "对局已结束。"));
+                return;
+            }
+            if (awaiting == null || awaiting.seat() != seat) {
+                session.send(LineProtocol.frame("ERR", "现在不是你的输入回合。"));
+                return;
+            }
+            if (awaiting.integer() && !isInteger(line)) {
+                session.send(LineProtocol.frame("ERR", "输入无效，请输入整数。"));
+                return;
+            }
+            ask = awaiting;
+            awaiting = null;
+        }
+        ask.answer().complete(line.trim());
+    }
+
+    /**
+     * 某座位断线（任意线程调用）。
+     *
+     * @param seat 座位号
+     */
+    void onDisconnect(int seat) {
+        Ask ask;
+        synchronized (this) {
+            if (finished || awaiting == null || awaiting.seat() != seat) {
+                return;
+            }
+            ask = awaiting;
+            awaiting = null;
+        }
+        ask.answer().complete(defaultAnswer(ask.integer()));
+    }
+
+    @Override
+    public CompletableFuture<Integer> requestIntAsync(String prompt) {
+        return ask(currentSeat, true, "-", prompt).thenApply(Integer::parseInt);
+    }
+
+    @Override
+    public CompletableFuture<String> requestLineAsync(String prompt) {
+        return ask(currentSeat, false, "-", prompt);
+    }
+
+    @Override
+    public CompletableFuture<Integer> requestDecisionAsync(DecisionRequest request) {
+        return ask(request.getPlayer().getId(), true, request.getType().name(), request.getPrompt())
+                .thenApply(Integer::parseInt);
+    }
+
+    @Override
+    public void publish(GameMessage message) {
+        if (message.getSourceEvent() instanceof InteractiveEvent) {
+            currentSeat = seatOf(message.getSourceEvent());
+        }
+        String content = message.getContent();
+        if (content.isEmpty()) {
+            return;
+        }
+        broadcast(LineProtocol.frame("OUT " + message.getType(), content));
+    }
+
+    /**
+     * 向座位发出提问；座位不存在或已断线时立即以默认值完成。
+     */
+    private CompletableFuture<String> ask(int seat, boolean integer, String type, String prompt) {
+        NetworkSession session = seatSession(seat);
+        if (session == null || session.isClosed()) {
+            return CompletableFuture.completedFuture(defaultAnswer(integer));
+        }
+        Ask ask = new Ask(seat, integer, type, prompt, new CompletableFuture<>());
+        synchronized (this) {
+            awaiting = ask;
+        }
+        session.send(LineProtocol.frame("ASK " + (integer ? "INT" : "LINE") + " " + type, prompt));
+        if (session.isClosed()) {
+            // 发出提问前后断线时断线回调可能已错过本次提问
+            onDisconnect(seat);
+        }
+        return ask.answer();
+    }
+
+    private void finish() {
+        synchronized (this) {
+            if (finished) {
+                return;
+            }
+            finished = true;
+            awaiting = null;
+        }
+        String survivors = turnService.getActivePlayers().stream()
+                .map(Player::getId)
+                .map(String::valueOf)
+                .collect(Collectors.joining(","));
+        broadcast(LineProtocol.frame("OVER " + id + " " + (survivors.isEmpty() ? "-" : survivors)));
+        for (NetworkSession session : seats) {
+            session.leaveGame(this);
+        }
+        server.onGameFinished(this);
+    }
+
+    private void broadcast(ByteBuffer frame) {
+        for (NetworkSession session : seats) {
+            session.send(frame);
+        }
+    }
+
+    private int connectedCount() {
+        int count = 0;
+        for (NetworkSession session : seats) {
+            if (!session.isClosed()) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private NetworkSession seatSession(int seat) {
+        return seat >= 1 && seat <= seats.size() ? seats.get(seat - 1) : null;
+    }
+
+    private static int seatOf(GameEvent event) {
+        try {
+            return Integer.parseInt(event.getPlayerId());
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+
+    private static String defaultAnswer(boolean integer) {
+        return integer ? "0" : "";
+    }
+
+    private static boolean isInteger(String line) {
+        try {
+            Integer.parseInt(line.trim());
+            return true;
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+}
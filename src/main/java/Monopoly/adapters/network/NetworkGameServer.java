@@ -0,0 +1,393 @@
+package Monopoly.adapters.network;
+
+import Monopoly.config.BoardVersion;
+import Monopoly.core.domain.entity.player.Player;
+import Monopoly.core.event.GameClock;
+import Monopoly.core.metrics.TurnMetrics;
+import Monopoly.core.repo.PlayerRepository;
+import Monopoly.core.repo.legacy.InMemoryPlayerRepository;
+import Monopoly.core.service.impl.SimpleTurnService;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.net.StandardSocketOptions;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * 实现功能【基于 Selector 的多局 TCP 服务器：少量 I/O 线程复用全部连接，大厅凑满人数即开一局网络对局】。
+ * <p>
+ * 线程模型：
+ * <ul>
+ *     <li>I/O 线程：每个线程一个 {@link Selector}，第一个线程同时负责 accept，新连接轮流分配给各 I/O 线程；
+ *     读到完整的一行即解析命令，写出由连接自己的队列驱动</li>
+ *     <li>工作线程：固定大小的线程池推进对局，对局等待玩家输入时不占用线程（见 {@link NetworkGame}）</li>
+ * </ul>
+ * 每局开局时取一次当前棋盘版本，地块与卡牌仓库在使用同一版本的对局间只读共享；配置热更新后新开的对局使用新版本，
+ * 进行中的对局不受影响。每局的随机种子由 {@link NetworkSettings#seed()} 派生。
+ * 协议格式见 {@link LineProtocol}。
+ * <p>
+ *
+ * @author
+ * @date 2025-11-13
+ */
+public final class NetworkGameServer implements AutoCloseable {
+
+    private final Supplier<BoardVersion> boards;
+    private final NetworkSettings settings;
+    private final SplittableRandom seeds;
+    private final List<NetworkSession> lobby = new ArrayList<>();
+    private final Set<NetworkGame> games = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger nextGameId = new AtomicInteger();
+    private final AtomicInteger nextLoop = new AtomicInteger();
+    private IoLoop[] loops;
+    private ExecutorService workers;
+    private ServerSocketChannel serverChannel;
+    private volatile boolean closed;
+
+    /**
+     * 构造函数。
+     *
+     * @param boards 棋盘版本来源，每局开局时取一次（固定版本或 {@link Monopoly.config.BoardConfigReloader}）
+     * @param settings 服务器参数
+     */
+    public NetworkGameServer(Supplier<BoardVersion> boards, NetworkSettings settings) {
+        this.boards = Objects.requireNonNull(boards, "棋盘版本来源不能为空。");
+        this.settings = Objects.requireNonNull(settings, "服务器参数不能为空。");
+        this.seeds = new SplittableRandom(settings.seed());
+    }
+
+    /**
+     * 从 resources/config 下的 JSON 配置构建服务器（尚未监听）。
+     *
+     * @param settings 服务器参数
+     * @return 服务器
+     * @throws IOException 配置读取失败时抛出
+     */
+    public static NetworkGameServer fromDefaultConfig(NetworkSettings settings) throws IOException {
+        BoardVersion board = BoardVersion.classpath();
+        return new NetworkGameServer(() -> board, settings);
+    }
+
+    /**
+     * 开始监听并启动 I/O 线程与工作线程。
+     *
+     * @throws IOException 监听失败时抛出
+     */
+    public synchronized void start() throws IOException {
+        if (serverChannel != null) {
+            throw new IllegalStateException("服务器已启动。");
+        }
+        serverChannel = ServerSocketChannel.open();
+        serverChannel.configureBlocking(false);
+        serverChannel.bind(settings.address(), 1024);
+
+        AtomicInteger workerIndex = new AtomicInteger();
+        workers = Executors.newFixedThreadPool(settings.workerThreads(), task -> {
+            Thread thread = new Thread(task, "monopoly-game-" + workerIndex.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        loops = new IoLoop[settings.ioThreads()];
+        for (int i = 0; i < loops.length; i++) {
+            loops[i] = new IoLoop(i);
+        }
+        loops[0].execute(() -> {
+            try {
+                serverChannel.register(loops[0].selector(), SelectionKey.OP_ACCEPT);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        for (IoLoop loop : loops) {
+            loop.thread.start();
+        }
+    }
+
+    /**
+     * 实际监听的端口（配置端口为 0 时由系统分配）。
+     *
+     * @return 端口
+     */
+    public int getPort() {
+        try {
+            return ((InetSocketAddress) serverChannel.getLocalAddress()).getPort();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 正在进行的对局数。
+     *
+     * @return 对局数
+     */
+    public int getActiveGameCount() {
+        return games.size();
+    }
+
+    /**
+     * 大厅中排队等待开局的连接数。
+     *
+     * @return 排队人数
+     */
+    public int getWaitingCount() {
+        synchronized (lobby) {
+            return lobby.size();
+        }
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        if (loops != null) {
+            for (IoLoop loop : loops) {
+                loop.selector.wakeup();
+            }
+            for (IoLoop loop : loops) {
+                try {
+                    loop.thread.join(TimeUnit.SECONDS.toMillis(5));
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    break;
+                }
+            }
+        }
+        if (workers != null) {
+            workers.shutdownNow();
+        }
+        if (serverChannel != null) {
+            serverChannel.close();
+        }
+    }
+
+    /**
+     * 处理一行客户端输入（I/O 线程调用）。
+     */
+    void onLine(NetworkSession session, String line) {
+        String argument = LineProtocol.argument(line);
+        switch (LineProtocol.command(line)) {
+            case "JOIN" -> join(session, argument);
+            case "ANS" -> {
+                NetworkGame game = session.getGame();
+                if (game == null) {
+                    session.send(LineProtocol.frame("ERR", "尚未开局。"));
+                } else {
+                    game.offer(session.getSeat(), argument);
+                }
+            }
+            case "PING" -> session.send(LineProtocol.frame("PONG"));
+            case "QUIT" -> session.close();
+            case "" -> {
+            }
+            default -> session.send(LineProtocol.frame("ERR", "未知命令：" + LineProtocol.command(line)));
+        }
+    }
+
+    /**
+     * 连接关闭（任意线程调用）。
+     */
+    void onClosed(NetworkSession session) {
+        synchronized (lobby) {
+            lobby.remove(session);
+        }
+        NetworkGame game = session.getGame();
+        if (game != null) {
+            game.onDisconnect(session.getSeat());
+        }
+    }
+
+    /**
+     * 对局结束（工作线程调用）。
+     */
+    void onGameFinished(NetworkGame game) {
+        games.remove(game);
+    }
+
+    private void join(NetworkSession session, String name) {
+        if (session.getGame() != null) {
+            session.send(LineProtocol.frame("ERR", "已在对局中。"));
+            return;
+        }
+        List<NetworkSession> seated = null;
+        int waiting;
+        synchronized (lobby) {
+            if (lobby.contains(session)) {
+                session.send(LineProtocol.frame("ERR", "已在大厅中排队。"));
+                return;
+            }
+            session.setName(name);
+            lobby.add(session);
+            waiting = lobby.size();
+            if (waiting >= settings.seatsPerGame()) {
+                List<NetworkSession> head = lobby.subList(0, settings.seatsPerGame());
+                seated = new ArrayList<>(head);
+                head.clear();
+            }
+        }
+        if (seated == null) {
+            session.send(LineProtocol.frame("WAITING " + waiting + " " + settings.seatsPerGame()));
+            return;
+        }
+        startGame(seated);
+    }
+
+    private void startGame(List<NetworkSession> seated) {
+        long seed;
+        synchronized (seeds) {
+            seed = seeds.nextLong();
+        }
+        BoardVersion board = boards.get();
+        NetworkGame game = new NetworkGame(this, nextGameId.incrementAndGet(), seated, workers, board.version());
+        PlayerRepository playerRepo = new InMemoryPlayerRepository();
+        for (int i = 0; i < seated.size(); i++) {
+            String name = seated.get(i).getName();
+            playerRepo.save(new Player(i + 1, name == null || name.isEmpty() ? "玩家" + (i + 1) : name,
+                    settings.initialMoney()));
+        }
+        SimpleTurnService turnService = new SimpleTurnService(playerRepo, board.tiles(), board.cards(), game.getDriver(),
+                new SplittableRandom(seed), GameClock.wall(), TurnMetrics.disabled());
+        games.add(game);
+        game.start(turnService);
+    }
+
+    /**
+     * 一个 I/O 线程及其 Selector。
+     */
+    final class IoLoop {
+        private final Selector selector;
+        private final Queue<Task> tasks = new ConcurrentLinkedQueue<>();
+        private final Thread thread;
+
+        IoLoop(int index) throws IOException {
+            this.selector = Selector.open();
+            this.thread = new Thread(this::run, "monopoly-net-" + (index + 1));
+            this.thread.setDaemon(true);
+        }
+
+        Selector selector() {
+            return selector;
+        }
+
+        /**
+         * 在本 I/O 线程上执行任务，可在任意线程调用。
+         */
+        void execute(Runnable task) {
+            execute(null, task);
+        }
+
+        /**
+         * 在本 I/O 线程上执行属于某个连接的任务，可在任意线程调用；任务抛出运行时异常时只断开该连接。
+         */
+        void execute(NetworkSession owner, Runnable task) {
+            tasks.add(new Task(owner, task));
+            selector.wakeup();
+        }
+
+        private void run() {
+            try {
+                while (!closed) {
+                    selector.select();
+                    Task task;
+                    while ((task = tasks.poll()) != null) {
+                        try {
+                            task.action().run();
+                        } catch (RuntimeException e) {
+                            fail(task.owner(), e);
+                        }
+                    }
+                    Iterator<SelectionKey> it = selector.selectedKeys().iterator();
+                    while (it.hasNext()) {
+                        SelectionKey key = it.next();
+                        it.remove();
+                        if (!key.isValid()) {
+                            continue;
+                        }
+                        if (key.isAcceptable()) {
+                            accept();
+                        } else {
+                            NetworkSession session = (NetworkSession) key.attachment();
+                            try {
+                                session.handle(key);
+                            } catch (RuntimeException e) {
+                                fail(session, e);
+                            }
+                        }
+                    }
+                }
+            } catch (IOException e) {
+                System.err.println("网络 I/O 线程异常退出：" + e.getMessage());
+            } finally {
+                for (SelectionKey key : selector.keys()) {
+                    if (key.attachment() instanceof NetworkSession session) {
+                        session.close();
+                    }
+                    try {
+                        key.channel().close();
+                    } catch (IOException ignored) {
+                        // 正在退出，忽略
+                    }
+                }
+                try {
+                    selector.close();
+                } catch (IOException ignored) {
+                    // 正在退出，忽略
+                }
+            }
+        }
+
+        /**
+         * 单个连接或任务出错时只断开相关连接（先发出 ERR 帧），I/O 线程继续服务其他连接。
+         */
+        private void fail(NetworkSession session, RuntimeException e) {
+            System.err.println("网络 I/O 任务异常：" + e);
+            if (session != null) {
+                session.fail("服务器内部错误：" + e.getMessage());
+            }
+        }
+
+        private void accept() throws IOException {
+            SocketChannel channel;
+            while ((channel = serverChannel.accept()) != null) {
+                channel.configureBlocking(false);
+                channel.setOption(StandardSocketOptions.TCP_NODELAY, true);
+                IoLoop target = loops[Math.floorMod(nextLoop.getAndIncrement(), loops.length)];
+                NetworkSession session = new NetworkSession(NetworkGameServer.this, target, channel);
+                target.execute(session, () -> {
+                    try {
+                        session.register();
+                        session.send(LineProtocol.frame("HELLO monopoly 1"));
+                    } catch (IOException e) {
+                        session.close();
+                    }
+                });
+            }
+        }
+
+        /**
+         * 排队任务及其所属连接（不属于任何连接时为 null）。
+         */
+        private record Task(NetworkSession owner, Runnable action) {
+        }
+    }
+}
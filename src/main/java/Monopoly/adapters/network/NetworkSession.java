@@ -0,0 +1,256 @@
+package Monopoly.adapters.network;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 实现功能【一个客户端连接：在所属 I/O 线程上按行读取输入，并把任意线程投递的帧排队写出】。
+ * <p>
+ * 读缓冲区与 {@link SelectionKey} 只由所属 I/O 线程访问；{@link #send(ByteBuffer)} 可在任意线程调用，
+ * 只把帧放入无锁队列并在需要时请求 I/O 线程关注可写事件。积压超过上限的慢客户端会被断开，
+ * 避免一个连接拖垮整个服务器的内存。因协议错误断开时先进入“关闭中”状态：不再读取、不再接受新帧，
+ * 待已排队的帧（包括最后的 ERR 帧）全部写出后再关闭通道；处理本连接时抛出的运行时异常也按此方式断开，
+ * 不影响同一 I/O 线程上的其他连接。
+ * <p>
+ *
+ * @author
+ * @date 2025-11-13
+ */
+final class NetworkSession {
+
+    /**
+     * 单个连接允许积压的最大待写字节数。
+     */
+    static final long MAX_QUEUED_BYTES = 1L << 20;
+
+    private final NetworkGameServer server;
+    private final NetworkGameServer.IoLoop loop;
+    private final SocketChannel channel;
+    private final ByteBuffer readBuffer = ByteBuffer.allocate(LineProtocol.MAX_LINE_BYTES);
+    private final Queue<ByteBuffer> outbound = new ConcurrentLinkedQueue<>();
+    private final AtomicLong queuedBytes = new AtomicLong();
+    private final AtomicBoolean writeRequested = new AtomicBoolean();
+    private final AtomicBoolean closed = new AtomicBoolean();
+    /**
+     * 关闭中：队列写空后关闭，只由所属 I/O 线程设置。
+     */
+    private volatile boolean closing;
+    private SelectionKey key;
+
+    /**
+     * 玩家名称，JOIN 时设置。
+     */
+    private volatile String name;
+    /**
+     * 当前所在对局，未开局时为 null。
+     */
+    private volatile NetworkGame game;
+    /**
+     * 在当前对局中的座位号（即玩家编号）。
+     */
+    private volatile int seat;
+
+    NetworkSession(NetworkGameServer server, NetworkGameServer.IoLoop loop, SocketChannel channel) {
+        this.server = server;
+        this.loop = loop;
+        this.channel = channel;
+    }
+
+    /**
+     * 在所属 I/O 线程上注册读事件。
+     */
+    void register() throws IOException {
+        if (closed.get()) {
+            channel.close();
+            return;
+        }
+        key = channel.register(loop.selector(), SelectionKey.OP_READ, this);
+        if (!outbound.isEmpty()) {
+            key.interestOps(SelectionKey.OP_READ | SelectionKey.OP_WRITE);
+        }
+    }
+
+    /**
+     * 处理就绪事件，只在所属 I/O 线程上调用。
+     */
+    void handle(SelectionKey ready) {
+        if (ready.isReadable()) {
+            read();
+        }
+        if (ready.isValid() && ready.isWritable()) {
+            write();
+        }
+    }
+
+    /**
+     * 投递一帧，可在任意线程调用。
+     *
+     * @param frame 帧缓冲区（不修改其位置）
+     */
+    void send(ByteBuffer frame) {
+        if (closed.get() || closing) {
+            return;
+        }
+        ByteBuffer copy = frame.duplicate();
+        if (queuedBytes.addAndGet(copy.remaining()) > MAX_QUEUED_BYTES) {
+            close();
+            return;
+        }
+        outbound.add(copy);
+        requestWrite();
+    }
+
+    /**
+     * 关闭连接，可在任意线程调用，重复调用无副作用。
+     */
+    void close() {
+        if (!closed.compareAndSet(false, true)) {
+            return;
+        }
+        loop.execute(this, () -> {
+            if (key != null) {
+                key.cancel();
+            }
+            try {
+                channel.close();
+            } catch (IOException ignored) {
+                // 连接已不可用，无需处理
+            }
+        });
+        server.onClosed(this);
+    }
+
+    /**
+     * 发出 ERR 帧并在写完后关闭连接，只在所属 I/O 线程上调用。
+     *
+     * @param reason 错误原因
+     */
+    void fail(String reason) {
+        send(LineProtocol.frame("ERR", reason));
+        closeAfterFlush();
+    }
+
+    /**
+     * 写完已排队的帧后再关闭连接，只在所属 I/O 线程上调用。
+     */
+    private void closeAfterFlush() {
+        if (closed.get() || closing) {
+            return;
+        }
+        closing = true;
+        if (outbound.isEmpty() || key == null || !key.isValid()) {
+            close();
+            return;
+        }
+        key.interestOps(SelectionKey.OP_WRITE);
+    }
+
+    boolean isClosed() {
+        return closed.get();
+    }
+
+    String getName() {
+        return name;
+    }
+
+    void setName(String name) {
+        this.name = name;
+    }
+
+    NetworkGame getGame() {
+        return game;
+    }
+
+    int getSeat() {
+        return seat;
+    }
+
+    void joinGame(NetworkGame game, int seat) {
+        this.seat = seat;
+        this.game = game;
+    }
+
+    void leaveGame(NetworkGame game) {
+        if (this.game == game) {
+            this.game = null;
+        }
+    }
+
+    private void requestWrite() {
+        if (writeRequested.compareAndSet(false, true)) {
+            loop.execute(this, () -> {
+                if (key != null && key.isValid()) {
+                    key.interestOps(closing ? SelectionKey.OP_WRITE : SelectionKey.OP_READ | SelectionKey.OP_WRITE);
+                }
+            });
+        }
+    }
+
+    private void read() {
+        int n;
+        try {
+            n = channel.read(readBuffer);
+        } catch (IOException e) {
+            close();
+            return;
+        }
+        if (n < 0) {
+            close();
+            return;
+        }
+        byte[] bytes = readBuffer.array();
+        int end = readBuffer.position();
+        int start = 0;
+        for (int i = 0; i < end && !closed.get(); i++) {
+            if (bytes[i] == '\n') {
+                int length = i - start;
+                if (length > 0 && bytes[i - 1] == '\r') {
+                    length--;
+                }
+                String line = new String(bytes, start, length, StandardCharsets.UTF_8);
+                start = i + 1;
+                server.onLine(this, line);
+            }
+        }
+        readBuffer.position(start).limit(end);
+        readBuffer.compact();
+        if (!readBuffer.hasRemaining()) {
+            fail("单行输入超过 " + LineProtocol.MAX_LINE_BYTES + " 字节。");
+        }
+    }
+
+    private void write() {
+        try {
+            ByteBuffer head;
+            while ((head = outbound.peek()) != null) {
+                int written = channel.write(head);
+                queuedBytes.addAndGet(-written);
+                if (head.hasRemaining()) {
+                    // 内核发送缓冲区已满，保持可写关注，下次就绪时继续
+                    return;
+                }
+                outbound.poll();
+            }
+        } catch (IOException e) {
+            close();
+            return;
+        }
+        if (closing) {
+            close();
+            return;
+        }
+        key.interestOps(SelectionKey.OP_READ);
+        writeRequested.set(false);
+        // 清除标志与其他线程入队之间可能交错，复查一次以免遗漏
+        if (!outbound.isEmpty() && writeRequested.compareAndSet(false, true)) {
+            key.interestOps(SelectionKey.OP_READ | SelectionKey.OP_WRITE);
+        }
+    }
+}
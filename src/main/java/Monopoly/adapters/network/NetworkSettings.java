@@ -0,0 +1,71 @@
+package Monopoly.adapters.network;
+
+import java.net.InetSocketAddress;
+import java.util.Objects;
+
+/**
+ * 实现功能【网络对局服务器的监听地址、开局人数与线程配置】。
+ * <p>
+ * I/O 线程只负责收发字节，对局推进在工作线程上执行；对局等待玩家输入时不占用任何线程，
+ * 因此两类线程都只需要少量即可承载大量连接。
+ * <p>
+ *
+ * @param address 监听地址，端口为 0 时由系统分配
+ * @param seatsPerGame 每局人数，大厅凑满该人数即开局
+ * @param initialMoney 每位玩家初始资金
+ * @param ioThreads I/O 线程数（每个线程一个 Selector）
+ * @param workerThreads 推进对局的工作线程数
+ * @param seed 各局随机种子的来源种子
+ * @author
+ * @date 2025-11-13
+ */
+public record NetworkSettings(InetSocketAddress address, int seatsPerGame, int initialMoney,
+                              int ioThreads, int workerThreads, long seed) {
+
+    /**
+     * 默认监听端口。
+     */
+    public static final int DEFAULT_PORT = 7777;
+
+    /**
+     * 参数校验。
+     */
+    public NetworkSettings {
+        Objects.requireNonNull(address, "监听地址不能为空。");
+        if (seatsPerGame < 2 || seatsPerGame > 6) {
+            throw new IllegalArgumentException("每局人数必须在 2~6 之间。");
+        }
+        if (initialMoney <= 0) {
+            throw new IllegalArgumentException("初始资金必须大于 0。");
+        }
+        if (ioThreads <= 0) {
+            throw new IllegalArgumentException("I/O 线程数必须大于 0。");
+        }
+        if (workerThreads <= 0) {
+            throw new IllegalArgumentException("工作线程数必须大于 0。");
+        }
+    }
+
+    /**
+     * 默认参数：监听所有网卡的 7777 端口、每局 4 人、初始资金 8000、1 个 I/O 线程、全部 CPU 核推进对局。
+     *
+     * @return 默认参数
+     */
+    public static NetworkSettings defaults() {
+        return new NetworkSettings(new InetSocketAddress(DEFAULT_PORT), 4, 8000, 1,
+                Runtime.getRuntime().availableProcessors(), System.nanoTime());
+    }
+
+    /**
+     * 监听本机回环地址的指定端口，其余参数取默认值。
+     *
+     * @param port 端口，0 表示由系统分配
+     * @param seatsPerGame 每局人数
+     * @return 参数
+     */
+    public static NetworkSettings loopback(int port, int seatsPerGame) {
+        NetworkSettings d = defaults();
+        return new NetworkSettings(new InetSocketAddress("127.0.0.1", port), seatsPerGame, d.initialMoney(),
+                d.ioThreads(), d.workerThreads(), d.seed());
+    }
+}
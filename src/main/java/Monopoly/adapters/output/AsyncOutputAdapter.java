@@ -0,0 +1,316 @@
+package Monopoly.adapters.output;
+
+import Monopoly.core.message.GameMessage;
+import Monopoly.core.ports.OutputPort;
+
+import java.io.Flushable;
+import java.io.IOException;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 实现功能【异步批量输出装饰器：引擎线程只把消息放入有界环形缓冲区，由后台线程成批转交给被装饰的输出端口】。
+ * <p>
+ * 消息正文依赖发布时刻的游戏状态（见 {@link Monopoly.core.message.LazyText}），因此在入队前由发布线程渲染，
+ * 后台线程只接触已经定型的字符串。渲染在锁外进行：先在锁内决定去留（{@link OverflowPolicy#SAMPLE}
+ * 模式下被抽样丢弃的消息不会渲染），渲染完再加锁入队，后台线程取批不会被格式化拖住。
+ * 每批消息转交完毕后，若被装饰端口实现了 {@link Flushable} 则调用一次 flush，便于底层按批写出。
+ * <p>
+ * 只允许一个线程调用 {@link #publish(GameMessage)}（即驱动对局的线程），被装饰端口只会在后台线程中被调用。
+ * <p>
+ *
+ * @author
+ * @date 2025-11-13
+ */
+public class AsyncOutputAdapter implements OutputPort, Flushable, AutoCloseable {
+
+    /**
+     * 默认缓冲区容量。
+     */
+    public static final int DEFAULT_CAPACITY = 8192;
+    /**
+     * 默认单批最大条数。
+     */
+    public static final int DEFAULT_BATCH_SIZE = 256;
+    /**
+     * 默认抽样间隔。
+     */
+    public static final int DEFAULT_SAMPLE_INTERVAL = 16;
+
+    private final OutputPort delegate;
+    private final OverflowPolicy policy;
+    private final int sampleInterval;
+    private final GameMessage[] ring;
+    private final GameMessage[] batch;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition notEmpty = lock.newCondition();
+    private final Condition notFull = lock.newCondition();
+    private final Condition drained = lock.newCondition();
+    private final Thread writer;
+
+    /**
+     * 下一条待读取消息的下标。
+     */
+    private int head;
+    /**
+     * 缓冲区中的消息数量。
+     */
+    private int count;
+    /**
+     * 后台线程是否正在转交一批消息。
+     */
+    private boolean inFlight;
+    private boolean closed;
+    /**
+     * 缓冲区写满期间收到的新消息数，用于抽样。
+     */
+    private long overflowArrivals;
+    private long publishedCount;
+    private long droppedCount;
+    private long failedCount;
+
+    /**
+     * 使用默认容量、批大小，写满时阻塞。
+     *
+     * @param delegate 被装饰的输出端口
+     */
+    public AsyncOutputAdapter(OutputPort delegate) {
+        this(delegate, DEFAULT_CAPACITY, DEFAULT_BATCH_SIZE, OverflowPolicy.BLOCK, DEFAULT_SAMPLE_INTERVAL);
+    }
+
+    /**
+     * 构造函数，同时启动后台写出线程。
+     *
+     * @param delegate 被装饰的输出端口
+     * @param capacity 缓冲区容量
+     * @param batchSize 单批最大条数
+     * @param policy 缓冲区写满时的策略
+     * @param sampleInterval 抽样间隔（仅 {@link OverflowPolicy#SAMPLE} 使用）
+     */
+    public AsyncOutputAdapter(OutputPort delegate, int capacity, int batchSize, OverflowPolicy policy, int sampleInterval) {
+        this.delegate = Objects.requireNonNull(delegate, "输出端口不能为空。");
+        this.policy = Objects.requireNonNull(policy, "溢出策略不能为空。");
+        if (capacity <= 0 || batchSize <= 0 || sampleInterval <= 0) {
+            throw new IllegalArgumentException("缓冲区容量、批大小与抽样间隔都必须大于 0。");
+        }
+        this.sampleInterval = sampleInterval;
+        this.ring = new GameMessage[capacity];
+        this.batch = new GameMessage[Math.min(batchSize, capacity)];
+        this.writer = new Thread(this::drainLoop, "monopoly-output-writer");
+        this.writer.setDaemon(true);
+        this.writer.start();
+    }
+
+    @Override
+    public void publish(GameMessage message) {
+        if (message == null) {
+            return;
+        }
+        lock.lock();
+        try {
+            ensureOpen();
+            if (count == ring.length) {
+                switch (policy) {
+                    case BLOCK -> {
+                        while (count == ring.length && !closed) {
+                            notFull.awaitUninterruptibly();
+                        }
+                        ensureOpen();
+                    }
+                    case DROP_OLDEST -> {
+                        // 入队时再丢弃最旧的消息，期间后台线程可能已腾出空间
+                    }
+                    case SAMPLE -> {
+                        if (overflowArrivals++ % sampleInterval != 0) {
+                            droppedCount++;
+                            return;
+                        }
+                    }
+                }
+            } else {
+                overflowArrivals = 0;
+            }
+        } finally {
+            lock.unlock();
+        }
+
+        // 渲染在锁外进行，后台线程取批不必等待格式化
+        GameMessage rendered = render(message);
+
+        lock.lock();
+        try {
+            ensureOpen();
+            // 只有发布线程会增加消息，等待期间后台线程只会腾出空间；仍满说明策略是丢弃最旧消息
+            if (count == ring.length) {
+                dropOldest();
+            }
+            ring[(head + count) % ring.length] = rendered;
+            count++;
+            notEmpty.signal();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 阻塞直到此前发布的消息全部转交给被装饰端口（例如在等待人工输入前调用）。
+     */
+    @Override
+    public void flush() {
+        lock.lock();
+        try {
+            while ((count > 0 || inFlight) && writer.isAlive()) {
+                drained.awaitUninterruptibly();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 停止接收新消息，写出剩余消息后结束后台线程；被装饰端口若可关闭则一并关闭。
+     */
+    @Override
+    public void close() {
+        lock.lock();
+        try {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            notEmpty.signalAll();
+            notFull.signalAll();
+        } finally {
+            lock.unlock();
+        }
+        try {
+            writer.join(TimeUnit.SECONDS.toMillis(30));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (delegate instanceof AutoCloseable closeable) {
+            try {
+                closeable.close();
+            } catch (Exception e) {
+                throw new IllegalStateException("关闭输出端口失败：" + e.getMessage(), e);
+            }
+        }
+    }
+
+    /**
+     * 已转交给被装饰端口的消息数。
+     *
+     * @return 条数
+     */
+    public long getPublishedCount() {
+        lock.lock();
+        try {
+            return publishedCount;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 因缓冲区写满而丢弃的消息数。
+     *
+     * @return 条数
+     */
+    public long getDroppedCount() {
+        lock.lock();
+        try {
+            return droppedCount;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 被装饰端口处理时抛出异常的消息数。
+     *
+     * @return 条数
+     */
+    public long getFailedCount() {
+        lock.lock();
+        try {
+            return failedCount;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void ensureOpen() {
+        if (closed) {
+            throw new IllegalStateException("输出端口已关闭。");
+        }
+    }
+
+    private void dropOldest() {
+        ring[head] = null;
+        head = (head + 1) % ring.length;
+        count--;
+        droppedCount++;
+    }
+
+    private static GameMessage render(GameMessage message) {
+        return new GameMessage(message.getType(), message.getContent(), message.getSourceEvent());
+    }
+
+    private void drainLoop() {
+        while (true) {
+            int size;
+            lock.lock();
+            try {
+                while (count == 0 && !closed) {
+                    notEmpty.awaitUninterruptibly();
+                }
+                if (count == 0) {
+                    drained.signalAll();
+                    return;
+                }
+                size = Math.min(count, batch.length);
+                for (int i = 0; i < size; i++) {
+                    batch[i] = ring[head];
+                    ring[head] = null;
+                    head = (head + 1) % ring.length;
+                }
+                count -= size;
+                inFlight = true;
+                notFull.signalAll();
+            } finally {
+                lock.unlock();
+            }
+
+            int failed = 0;
+            for (int i = 0; i < size; i++) {
+                try {
+                    delegate.publish(batch[i]);
+                } catch (RuntimeException e) {
+                    failed++;
+                }
+                batch[i] = null;
+            }
+            if (delegate instanceof Flushable flushable) {
+                try {
+                    flushable.flush();
+                } catch (IOException | RuntimeException e) {
+                    failed++;
+                }
+            }
+
+            lock.lock();
+            try {
+                inFlight = false;
+                publishedCount += size;
+                failedCount += failed;
+                if (count == 0) {
+                    drained.signalAll();
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package Monopoly.adapters.output;
+
+import Monopoly.core.message.GameMessage;
+import Monopoly.core.ports.OutputPort;
+
+import java.io.Closeable;
+import java.io.FileDescriptor;
+import java.io.FileOutputStream;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Objects;
+
+/**
+ * 实现功能【以与控制台相同的格式把消息编码进缓冲区，并在 flush 时整块写入字节通道（标准输出或日志文件）】。
+ * <p>
+ * 通常放在 {@link AsyncOutputAdapter} 之后使用：后台线程每转交一批消息调用一次 {@link #flush()}，
+ * 一批只产生少量系统调用。非线程安全。
+ * <p>
+ *
+ * @author
+ * @date 2025-11-13
+ */
+public class ChannelOutputAdapter implements OutputPort, Flushable, Closeable {
+
+    /**
+     * 默认写缓冲区大小（字节）。
+     */
+    public static final int DEFAULT_BUFFER_SIZE = 64 * 1024;
+
+    private final WritableByteChannel channel;
+    private final boolean closeChannel;
+    private final CharsetEncoder encoder;
+    private final ByteBuffer buffer;
+
+    /**
+     * 构造函数。
+     *
+     * @param channel 目标字节通道
+     * @param charset 字符集
+     * @param bufferSize 写缓冲区大小（字节）
+     * @param closeChannel 关闭本端口时是否关闭通道
+     */
+    public ChannelOutputAdapter(WritableByteChannel channel, Charset charset, int bufferSize, boolean closeChannel) {
+        this.channel = Objects.requireNonNull(channel, "输出通道不能为空。");
+        if (bufferSize < 64) {
+            throw new IllegalArgumentException("写缓冲区至少为 64 字节。");
+        }
+        this.encoder = Objects.requireNonNull(charset, "字符集不能为空。").newEncoder()
+                .onMalformedInput(CodingErrorAction.REPLACE)
+                .onUnmappableCharacter(CodingErrorAction.REPLACE);
+        this.buffer = ByteBuffer.allocate(bufferSize);
+        this.closeChannel = closeChannel;
+    }
+
+    /**
+     * 写到标准输出（使用平台默认字符集，不随端口关闭）。
+     *
+     * @return 输出端口
+     */
+    public static ChannelOutputAdapter stdout() {
+        return new ChannelOutputAdapter(Channels.newChannel(new FileOutputStream(FileDescriptor.out)),
+                Charset.defaultCharset(), DEFAULT_BUFFER_SIZE, false);
+    }
+
+    /**
+     * 以 UTF-8 追加写入日志文件，文件不存在时创建。
+     *
+     * @param file 日志文件
+     * @return 输出端口
+     * @throws IOException 打开文件失败时抛出
+     */
+    public static ChannelOutputAdapter appendTo(Path file) throws IOException {
+        FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.APPEND);
+        return new ChannelOutputAdapter(channel, StandardCharsets.UTF_8, DEFAULT_BUFFER_SIZE, true);
+    }
+
+    @Override
+    public void publish(GameMessage message) {
+        encode("[消息] " + message.getType() + " - " + message.getContent() + System.lineSeparator());
+    }
+
+    @Override
+    public void flush() throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    @Override
+    public void close() throws IOException {
+        flush();
+        if (closeChannel) {
+            channel.close();
+        }
+    }
+
+    private void encode(String line) {
+        CharBuffer chars = CharBuffer.wrap(line);
+        encoder.reset();
+        try {
+            while (encoder.encode(chars, buffer, true).isOverflow()) {
+                flush();
+            }
+            while (encoder.flush(buffer).isOverflow()) {
+                flush();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("写出消息失败：" + e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package Monopoly.adapters.output;
+
+/**
+ * 实现功能【异步输出缓冲区写满时的处理策略】。
+ * <p>
+ *
+ * <p>
+ *
+ * @author
+ * @date 2025-11-13
+ */
+public enum OverflowPolicy {
+    /**
+     * 阻塞发布线程，直到后台线程腾出空间（不丢消息）。
+     */
+    BLOCK,
+    /**
+     * 丢弃缓冲区中最旧的消息，为新消息让位（发布线程永不阻塞）。
+     */
+    DROP_OLDEST,
+    /**
+     * 缓冲区写满期间按固定间隔抽样：每 N 条新消息只保留 1 条（替换最旧的消息），其余直接丢弃。
+     */
+    SAMPLE
+}
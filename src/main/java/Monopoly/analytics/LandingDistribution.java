@@ -0,0 +1,103 @@
+package Monopoly.analytics;
+
+/**
+ * 实现功能【棋盘的稳态落点分布：每个位置每回合被掷骰落中的概率与回合结束时的停留概率】。
+ * <p>
+ * 两组概率均按“某位玩家的一个回合”计：被关押或暂停而跳过的回合不落点，因此落点概率之和小于 1；
+ * 停留概率为回合结束时棋子所在位置的分布，之和为 1。位置从 1 开始。
+ * <p>
+ *
+ * @author
+ * @date 2025-11-13
+ */
+public final class LandingDistribution {
+
+    private final double[] landing;
+    private final double[] occupancy;
+    private final double skipProbability;
+    private final int iterations;
+    private final double residual;
+
+    LandingDistribution(double[] landing, double[] occupancy, double skipProbability, int iterations, double residual) {
+        this.landing = landing;
+        this.occupancy = occupancy;
+        this.skipProbability = skipProbability;
+        this.iterations = iterations;
+        this.residual = residual;
+    }
+
+    /**
+     * 棋盘格数。
+     *
+     * @return 格数
+     */
+    public int getBoardSize() {
+        return landing.length - 1;
+    }
+
+    /**
+     * 某位置每回合被掷骰落中（触发地块事件）的概率。
+     *
+     * @param position 位置（1 起）
+     * @return 概率，越界位置为 0
+     */
+    public double landingProbability(int position) {
+        return position >= 1 && position < landing.length ? landing[position] : 0.0;
+    }
+
+    /**
+     * 回合结束时棋子停在某位置的概率（含卡牌移动与入狱）。
+     *
+     * @param position 位置（1 起）
+     * @return 概率，越界位置为 0
+     */
+    public double occupancyProbability(int position) {
+        return position >= 1 && position < occupancy.length ? occupancy[position] : 0.0;
+    }
+
+    /**
+     * 每回合因关押或暂停而不行动的概率。
+     *
+     * @return 概率
+     */
+    public double getSkipProbability() {
+        return skipProbability;
+    }
+
+    /**
+     * 幂迭代次数。
+     *
+     * @return 次数
+     */
+    public int getIterations() {
+        return iterations;
+    }
+
+    /**
+     * 最后一次迭代的 L1 变化量。
+     *
+     * @return 残差
+     */
+    public double getResidual() {
+        return residual;
+    }
+
+    /**
+     * 以数组形式获取落点概率，下标即位置（0 号位恒为 0）。
+     *
+     * @return 数组副本
+     */
+    public double[] landingProbabilities() {
+        return landing.clone();
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append(String.format("稳态落点分布（迭代 %d 次，残差 %.2e，跳过回合概率 %.4f）%n", iterations, residual, skipProbability));
+        for (int position = 1; position < landing.length; position++) {
+            sb.append(String.format("格%-3d 落点 %.5f  停留 %.5f%n", position, landing[position], occupancy[position]));
+        }
+        return sb.toString();
+    }
+}
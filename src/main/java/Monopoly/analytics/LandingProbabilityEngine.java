@@ -0,0 +1,312 @@
+package Monopoly.analytics;
+
+import Monopoly.config.ConfigLoader;
+import Monopoly.core.domain.entity.card.CardType;
+import Monopoly.core.domain.entity.card.DrawCard;
+import Monopoly.core.domain.entity.card.effect.CardEffect;
+import Monopoly.core.domain.entity.tile.CardTile;
+import Monopoly.core.domain.entity.tile.SpecialTile;
+import Monopoly.core.domain.entity.tile.Tile;
+import Monopoly.core.repo.CardRepository;
+import Monopoly.core.repo.TileRepository;
+import Monopoly.core.repo.json.JsonCardRepository;
+import Monopoly.core.repo.json.JsonTileRepository;
+
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * 实现功能【以马尔可夫链求解棋盘的稳态落点分布，规则与回合服务一致】。
+ * <p>
+ * 状态为（位置，剩余关押回合 0~2，是否暂停），共 {@code 40×3×2} 个。一个回合内：
+ * 关押中只减少关押回合，暂停中只解除暂停；否则掷两颗骰子前进（越过 40 回到 1），落点触发地块：
+ * 进牢送往 11 号格并关押 2 回合；机会/命运格按卡组均匀抽一张，依次执行其移动类效果
+ * （{@code go:} 移动、{@code goToJail}、{@code pause}、{@code dice:move} 再掷骰前进）。
+ * 与回合服务相同，卡牌带来的移动不再触发新位置的地块事件。
+ * <p>
+ * 转移矩阵按压缩行存储（每行至多数十个非零元），自均匀分布出发做幂迭代直至 L1 变化量低于容差，
+ * 整个求解在毫秒级完成。卡组按均匀抽取近似（洗牌不放回在长期下的频率即均匀）。
+ * <p>
+ *
+ * @author
+ * @date 2025-11-13
+ */
+public final class LandingProbabilityEngine {
+
+    /**
+     * 棋盘格数与坐牢位置，与回合服务中的规则一致。
+     */
+    static final int BOARD_SIZE = 40;
+    static final int JAIL_POSITION = 11;
+    private static final int JAIL_TURNS = 2;
+    private static final int JAIL_STATES = JAIL_TURNS + 1;
+    private static final int STATE_COUNT = BOARD_SIZE * JAIL_STATES * 2;
+
+    private static final double DEFAULT_TOLERANCE = 1e-12;
+    private static final int DEFAULT_MAX_ITERATIONS = 10_000;
+
+    /**
+     * 两颗骰子点数和 2~12 的概率，下标为点数和。
+     */
+    private static final double[] DICE = new double[13];
+
+    static {
+        for (int sum = 2; sum <= 12; sum++) {
+            DICE[sum] = (6 - Math.abs(sum - 7)) / 36.0;
+        }
+    }
+
+    /**
+     * 下标为位置：0 普通格，1 进牢，2 机会，3 命运。
+     */
+    private final byte[] tileKinds = new byte[BOARD_SIZE + 1];
+    private final Map<CardType, List<DrawCard>> decks = new EnumMap<>(CardType.class);
+    private final double tolerance;
+    private final int maxIterations;
+
+    /**
+     * 构造函数，使用默认容差 1e-12 与最多 10000 次迭代。
+     *
+     * @param tileRepository 地块仓库
+     * @param cardRepository 卡牌仓库（使用预编译的卡牌效果）
+     */
+    public LandingProbabilityEngine(TileRepository tileRepository, CardRepository cardRepository) {
+        this(tileRepository, cardRepository, DEFAULT_TOLERANCE, DEFAULT_MAX_ITERATIONS);
+    }
+
+    /**
+     * 构造函数。
+     *
+     * @param tileRepository 地块仓库
+     * @param cardRepository 卡牌仓库（使用预编译的卡牌效果）
+     * @param tolerance 收敛容差（L1）
+     * @param maxIterations 最大迭代次数
+     */
+    public LandingProbabilityEngine(TileRepository tileRepository, CardRepository cardRepository,
+                                    double tolerance, int maxIterations) {
+        Objects.requireNonNull(tileRepository, "地块仓库不能为空。");
+        Objects.requireNonNull(cardRepository, "卡牌仓库不能为空。");
+        if (tolerance <= 0) {
+            throw new IllegalArgumentException("收敛容差必须大于 0。");
+        }
+        if (maxIterations <= 0) {
+            throw new IllegalArgumentException("最大迭代次数必须大于 0。");
+        }
+        this.tolerance = tolerance;
+        this.maxIterations = maxIterations;
+        for (Tile tile : tileRepository.findAll()) {
+            int position = tile.getPosition();
+            if (position < 1 || position > BOARD_SIZE) {
+                throw new IllegalArgumentException("地块位置超出棋盘范围：" + position);
+            }
+            if (tile instanceof SpecialTile special && special.getCategory() == SpecialTile.SpecialCategory.GO_TO_JAIL) {
+                tileKinds[position] = 1;
+            } else if (tile instanceof CardTile card) {
+                tileKinds[position] = (byte) (card.getCardType() == CardType.CHANCE ? 2 : 3);
+            }
+        }
+        for (CardType type : CardType.values()) {
+            decks.put(type, new ArrayList<>(cardRepository.findAllByType(type)));
+        }
+    }
+
+    /**
+     * 从 resources/config 下的 JSON 配置构建引擎。
+     *
+     * @return 落点概率引擎
+     * @throws IOException 配置读取失败时抛出
+     */
+    public static LandingProbabilityEngine fromDefaultConfig() throws IOException {
+        ConfigLoader loader = new ConfigLoader();
+        return new LandingProbabilityEngine(new JsonTileRepository(loader), new JsonCardRepository(loader));
+    }
+
+    /**
+     * 求解稳态分布。
+     *
+     * @return 落点分布
+     * @throws IllegalStateException 在最大迭代次数内未收敛时抛出
+     */
+    public LandingDistribution solve() {
+        Transitions transitions = buildTransitions();
+        double[] current = new double[STATE_COUNT];
+        double[] next = new double[STATE_COUNT];
+        Arrays.fill(current, 1.0 / STATE_COUNT);
+        int iterations = 0;
+        double residual = Double.MAX_VALUE;
+        while (residual > tolerance) {
+            if (iterations >= maxIterations) {
+                throw new IllegalStateException("落点分布在 " + maxIterations + " 次迭代内未收敛，残差 " + residual);
+            }
+            transitions.multiply(current, next);
+            residual = 0.0;
+            for (int i = 0; i < STATE_COUNT; i++) {
+                residual += Math.abs(next[i] - current[i]);
+            }
+            double[] swap = current;
+            current = next;
+            next = swap;
+            iterations++;
+        }
+
+        double[] landing = new double[BOARD_SIZE + 1];
+        double[] occupancy = new double[BOARD_SIZE + 1];
+        double skip = 0.0;
+        for (int position = 1; position <= BOARD_SIZE; position++) {
+            for (int jail = 0; jail < JAIL_STATES; jail++) {
+                for (int paused = 0; paused < 2; paused++) {
+                    double p = current[state(position, jail, paused == 1)];
+                    occupancy[position] += p;
+                    if (jail > 0 || paused == 1) {
+                        skip += p;
+                        continue;
+                    }
+                    for (int sum = 2; sum <= 12; sum++) {
+                        landing[wrap(position + sum)] += p * DICE[sum];
+                    }
+                }
+            }
+        }
+        return new LandingDistribution(landing, occupancy, skip, iterations, residual);
+    }
+
+    /**
+     * 构建压缩行存储的转移矩阵。
+     */
+    private Transitions buildTransitions() {
+        int[] rowStart = new int[STATE_COUNT + 1];
+        List<int[]> columns = new ArrayList<>(STATE_COUNT);
+        List<double[]> values = new ArrayList<>(STATE_COUNT);
+        double[] row = new double[STATE_COUNT];
+        int nonZero = 0;
+        for (int position = 1; position <= BOARD_SIZE; position++) {
+            for (int jail = 0; jail < JAIL_STATES; jail++) {
+                for (int paused = 0; paused < 2; paused++) {
+                    Arrays.fill(row, 0.0);
+                    if (jail > 0) {
+                        row[state(position, jail - 1, paused == 1)] += 1.0;
+                    } else if (paused == 1) {
+                        row[state(position, 0, false)] += 1.0;
+                    } else {
+                        for (int sum = 2; sum <= 12; sum++) {
+                            land(row, wrap(position + sum), DICE[sum]);
+                        }
+                    }
+                    int count = 0;
+                    for (double v : row) {
+                        if (v != 0.0) {
+                            count++;
+                        }
+                    }
+                    int[] cols = new int[count];
+                    double[] vals = new double[count];
+                    int k = 0;
+                    for (int c = 0; c < STATE_COUNT; c++) {
+                        if (row[c] != 0.0) {
+                            cols[k] = c;
+                            vals[k++] = row[c];
+                        }
+                    }
+                    columns.add(cols);
+                    values.add(vals);
+                    nonZero += count;
+                }
+            }
+        }
+        int[] colIndex = new int[nonZero];
+        double[] value = new double[nonZero];
+        int offset = 0;
+        for (int s = 0; s < STATE_COUNT; s++) {
+            rowStart[s] = offset;
+            System.arraycopy(columns.get(s), 0, colIndex, offset, columns.get(s).length);
+            System.arraycopy(values.get(s), 0, value, offset, values.get(s).length);
+            offset += columns.get(s).length;
+        }
+        rowStart[STATE_COUNT] = offset;
+        return new Transitions(rowStart, colIndex, value);
+    }
+
+    /**
+     * 掷骰落在某位置后的地块处理，把概率质量分配到回合结束时的状态。
+     */
+    private void land(double[] row, int position, double probability) {
+        switch (tileKinds[position]) {
+            case 1 -> row[state(JAIL_POSITION, JAIL_TURNS, false)] += probability;
+            case 2 -> drawCard(row, CardType.CHANCE, position, probability);
+            case 3 -> drawCard(row, CardType.FATE, position, probability);
+            default -> row[state(position, 0, false)] += probability;
+        }
+    }
+
+    private void drawCard(double[] row, CardType type, int position, double probability) {
+        List<DrawCard> deck = decks.get(type);
+        if (deck.isEmpty()) {
+            row[state(position, 0, false)] += probability;
+            return;
+        }
+        double each = probability / deck.size();
+        for (DrawCard card : deck) {
+            applyEffects(row, card.getEffects(), 0, position, 0, false, each);
+        }
+    }
+
+    /**
+     * 依次执行卡牌的移动类效果；再掷骰前进会按点数分支。
+     */
+    private void applyEffects(double[] row, List<CardEffect> effects, int from,
+                              int position, int jail, boolean paused, double probability) {
+        for (int i = from; i < effects.size(); i++) {
+            CardEffect effect = effects.get(i);
+            if (effect instanceof CardEffect.GoTo go) {
+                position = go.position();
+            } else if (effect instanceof CardEffect.GoToJail) {
+                position = JAIL_POSITION;
+                jail = JAIL_TURNS;
+            } else if (effect instanceof CardEffect.Pause) {
+                paused = true;
+            } else if (effect instanceof CardEffect.DiceMove) {
+                for (int sum = 2; sum <= 12; sum++) {
+                    applyEffects(row, effects, i + 1, wrap(position + sum), jail, paused, probability * DICE[sum]);
+                }
+                return;
+            }
+        }
+        row[state(position, jail, paused)] += probability;
+    }
+
+    private static int state(int position, int jail, boolean paused) {
+        return ((position - 1) * JAIL_STATES + jail) * 2 + (paused ? 1 : 0);
+    }
+
+    private static int wrap(int position) {
+        return position > BOARD_SIZE ? position - BOARD_SIZE : position;
+    }
+
+    /**
+     * 压缩行存储的稀疏转移矩阵。
+     */
+    private record Transitions(int[] rowStart, int[] colIndex, double[] value) {
+
+        /**
+         * 计算 {@code out = in × P}。
+         */
+        void multiply(double[] in, double[] out) {
+            Arrays.fill(out, 0.0);
+            for (int s = 0; s < rowStart.length - 1; s++) {
+                double mass = in[s];
+                if (mass == 0.0) {
+                    continue;
+                }
+                for (int k = rowStart[s]; k < rowStart[s + 1]; k++) {
+                    out[colIndex[k]] += mass * value[k];
+                }
+            }
+        }
+    }
+}
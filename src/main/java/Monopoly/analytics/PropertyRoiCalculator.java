@@ -0,0 +1,125 @@
+package Monopoly.analytics;
+
+import Monopoly.core.domain.entity.tile.CompanyTile;
+import Monopoly.core.domain.entity.tile.CountryTile;
+import Monopoly.core.domain.entity.tile.Tile;
+import Monopoly.core.domain.entity.tile.TrainStationTile;
+import Monopoly.core.repo.CardRepository;
+import Monopoly.core.repo.TileRepository;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.WeakHashMap;
+
+/**
+ * 实现功能【根据过路费表与稳态落点概率计算地产投资回报表，并按棋盘配置缓存】。
+ * <p>
+ * 过路费规则与回合服务一致：国家按空地/房屋数/旅馆取过路费，垄断时翻倍；火车站按所有者未抵押车站数取
+ * {@code tollByOwnership}；公司为转盘点数（1~16 均匀，期望 8.5）乘以 10，持有两家未抵押公司时乘以 100。
+ * 整张表在一次遍历中填入按（位置，等级）展开的平铺数组。
+ * <p>
+ * {@link #forBoard(TileRepository, CardRepository)} 以仓库实例为键缓存结果（弱引用，仓库被回收后自动失效），
+ * 同一份配置在各局之间共享时只计算一次。
+ * <p>
+ *
+ * @author
+ * @date 2025-11-13
+ */
+public final class PropertyRoiCalculator {
+
+    /**
+     * 公司转盘点数 1~16 的期望值。
+     */
+    private static final double COMPANY_WHEEL_MEAN = 8.5;
+
+    private static final Map<TileRepository, Map<CardRepository, PropertyRoiTable>> CACHE = new WeakHashMap<>();
+
+    private PropertyRoiCalculator() {
+    }
+
+    /**
+     * 获取某棋盘配置的投资回报表，首次调用时求解落点分布并计算，之后直接返回缓存。
+     *
+     * @param tileRepository 地块仓库
+     * @param cardRepository 卡牌仓库
+     * @return 投资回报表
+     */
+    public static PropertyRoiTable forBoard(TileRepository tileRepository, CardRepository cardRepository) {
+        Objects.requireNonNull(tileRepository, "地块仓库不能为空。");
+        Objects.requireNonNull(cardRepository, "卡牌仓库不能为空。");
+        synchronized (CACHE) {
+            PropertyRoiTable cached = CACHE.getOrDefault(tileRepository, Map.of()).get(cardRepository);
+            if (cached != null) {
+                return cached;
+            }
+        }
+        LandingDistribution landing = new LandingProbabilityEngine(tileRepository, cardRepository).solve();
+        PropertyRoiTable table = compute(tileRepository, landing);
+        synchronized (CACHE) {
+            return CACHE.computeIfAbsent(tileRepository, key -> new IdentityHashMap<>())
+                    .computeIfAbsent(cardRepository, key -> table);
+        }
+    }
+
+    /**
+     * 按给定落点分布计算投资回报表（不缓存）。
+     *
+     * @param tileRepository 地块仓库
+     * @param landing 落点分布
+     * @return 投资回报表
+     */
+    public static PropertyRoiTable compute(TileRepository tileRepository, LandingDistribution landing) {
+        Objects.requireNonNull(tileRepository, "地块仓库不能为空。");
+        Objects.requireNonNull(landing, "落点分布不能为空。");
+        int levels = PropertyRoiTable.LEVELS;
+        int size = (landing.getBoardSize() + 1) * levels;
+        double[] income = new double[size];
+        double[] monopolyIncome = new double[size];
+        int[] investment = new int[size];
+        int[] stepCost = new int[size];
+
+        for (Tile tile : tileRepository.findAll()) {
+            int position = tile.getPosition();
+            if (position < 1 || position > landing.getBoardSize()) {
+                continue;
+            }
+            double p = landing.landingProbability(position);
+            int base = position * levels;
+            if (tile instanceof CountryTile country) {
+                int[] houseToll = country.getHouseToll();
+                int cost = country.getSellPrice();
+                for (int level = PropertyRoiTable.LEVEL_LAND; level < levels; level++) {
+                    int toll;
+                    if (level == PropertyRoiTable.LEVEL_LAND) {
+                        toll = country.getBaseToll();
+                    } else if (level == PropertyRoiTable.LEVEL_HOTEL) {
+                        toll = country.getHotelToll();
+                        stepCost[base + level] = country.getBuildHotelCost();
+                    } else {
+                        toll = level - 1 < houseToll.length ? houseToll[level - 1] : country.getBaseToll();
+                        stepCost[base + level] = country.getBuildHouseCost();
+                    }
+                    cost += stepCost[base + level];
+                    investment[base + level] = cost;
+                    income[base + level] = p * toll;
+                    monopolyIncome[base + level] = p * toll * 2;
+                }
+            } else if (tile instanceof TrainStationTile station) {
+                int[] tolls = station.getTollByOwnership();
+                for (int count = 1; count <= Math.min(4, tolls.length) && count < levels; count++) {
+                    investment[base + count] = station.getSellPrice();
+                    income[base + count] = p * tolls[count - 1];
+                    monopolyIncome[base + count] = income[base + count];
+                }
+            } else if (tile instanceof CompanyTile company) {
+                for (int count = 1; count <= 2; count++) {
+                    investment[base + count] = company.getSellPrice();
+                    income[base + count] = p * COMPANY_WHEEL_MEAN * (count == 2 ? 100 : 10);
+                    monopolyIncome[base + count] = income[base + count];
+                }
+            }
+        }
+        return new PropertyRoiTable(landing, income, monopolyIncome, investment, stepCost);
+    }
+}
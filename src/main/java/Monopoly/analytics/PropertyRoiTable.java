@@ -0,0 +1,122 @@
+package Monopoly.analytics;
+
+/**
+ * 实现功能【地产投资回报表：每块可购地产在各建设等级下的期望过路费收入、累计投入、回本期与边际回报率】。
+ * <p>
+ * 收入均为“每个对手回合”的期望值（落点概率 × 过路费），有 k 个对手时每轮收入乘以 k；回本期以对手回合计。
+ * 等级含义随地块类型而定：
+ * <ul>
+ *     <li>国家：0 为空地，1~4 为房屋数，{@link #LEVEL_HOTEL} 为旅馆；可分别查询是否垄断（过路费翻倍）</li>
+ *     <li>火车站：等级为所有者持有的未抵押火车站数（1~4）</li>
+ *     <li>公司：等级为所有者持有的未抵押公司数（1~2）</li>
+ * </ul>
+ * 火车站与公司忽略垄断参数。无效的位置或等级返回 0（回本期返回正无穷）。
+ * <p>
+ *
+ * @author
+ * @date 2025-11-13
+ */
+public final class PropertyRoiTable {
+
+    /**
+     * 国家空地等级。
+     */
+    public static final int LEVEL_LAND = 0;
+    /**
+     * 国家旅馆等级。
+     */
+    public static final int LEVEL_HOTEL = 5;
+    /**
+     * 每个位置的等级槽数。
+     */
+    static final int LEVELS = LEVEL_HOTEL + 1;
+
+    private final LandingDistribution landing;
+    /**
+     * 以下数组均按 {@code position * LEVELS + level} 下标。
+     */
+    private final double[] income;
+    private final double[] monopolyIncome;
+    private final int[] investment;
+    private final int[] stepCost;
+
+    PropertyRoiTable(LandingDistribution landing, double[] income, double[] monopolyIncome, int[] investment, int[] stepCost) {
+        this.landing = landing;
+        this.income = income;
+        this.monopolyIncome = monopolyIncome;
+        this.investment = investment;
+        this.stepCost = stepCost;
+    }
+
+    /**
+     * 计算所用的落点分布。
+     *
+     * @return 落点分布
+     */
+    public LandingDistribution getLanding() {
+        return landing;
+    }
+
+    /**
+     * 每个对手回合的期望过路费收入。
+     *
+     * @param position 位置
+     * @param level 等级
+     * @param monopoly 是否垄断
+     * @return 期望收入
+     */
+    public double expectedIncome(int position, int level, boolean monopoly) {
+        int i = index(position, level);
+        return i < 0 ? 0.0 : (monopoly ? monopolyIncome[i] : income[i]);
+    }
+
+    /**
+     * 达到该等级的累计投入（购地价加建筑造价；旅馆会消耗 4 幢房屋）。
+     *
+     * @param position 位置
+     * @param level 等级
+     * @return 累计投入
+     */
+    public int investment(int position, int level) {
+        int i = index(position, level);
+        return i < 0 ? 0 : investment[i];
+    }
+
+    /**
+     * 回本期：累计投入 ÷ 每对手回合期望收入。
+     *
+     * @param position 位置
+     * @param level 等级
+     * @param monopoly 是否垄断
+     * @return 对手回合数，无收入时为正无穷
+     */
+    public double paybackTurns(int position, int level, boolean monopoly) {
+        double expected = expectedIncome(position, level, monopoly);
+        return expected <= 0.0 ? Double.POSITIVE_INFINITY : investment(position, level) / expected;
+    }
+
+    /**
+     * 边际回报率：从上一等级升到该等级新增的期望收入 ÷ 这一步的造价（每对手回合）。
+     * 国家 1~5 级分别对应第 n 幢房屋与旅馆；其余情况为 0。
+     *
+     * @param position 位置
+     * @param level 等级
+     * @param monopoly 是否垄断
+     * @return 边际回报率
+     */
+    public double marginalRoi(int position, int level, boolean monopoly) {
+        int i = index(position, level);
+        if (i < 0 || level == LEVEL_LAND || stepCost[i] <= 0) {
+            return 0.0;
+        }
+        double[] table = monopoly ? monopolyIncome : income;
+        return (table[i] - table[i - 1]) / stepCost[i];
+    }
+
+    private int index(int position, int level) {
+        if (level < 0 || level >= LEVELS || position < 0 || (position + 1) * LEVELS > income.length) {
+            return -1;
+        }
+        return position * LEVELS + level;
+    }
+}
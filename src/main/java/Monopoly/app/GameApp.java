@@ -7,6 +7,8 @@ import Monopoly.core.domain.entity.player.Player;
 import Monopoly.core.event.GameEvent;
 import Monopoly.core.event.InteractiveEvent;
 import Monopoly.core.message.GameMessage;
+import Monopoly.core.metrics.TurnMetrics;
+import Monopoly.core.metrics.TurnPhase;
 import Monopoly.core.ports.OutputPort;
 import Monopoly.core.repo.CardRepository;
 import Monopoly.core.repo.PlayerRepository;
@@ -17,6 +19,9 @@ import Monopoly.core.repo.legacy.InMemoryPlayerRepository;
 import Monopoly.core.service.TurnService;
 import Monopoly.core.service.impl.SimpleTurnService;
 
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.Objects;
 
 /**
@@ -28,7 +33,7 @@ import java.util.Objects;
  * @author li.hongyu
  * @date 2025-11-13 16:45:23
  */
-public class GameApp {
+public class GameApp implements AutoCloseable {
 
     private final TurnService turnService;
     private final OutputPort outputPort;
@@ -50,19 +55,51 @@ public class GameApp {
      * @return 无返回值，循环结束即表示游戏完结
      */
     public void start() {
+        TurnMetrics metrics = turnService.getMetrics();
         while (!turnService.isGameOver()) {
             GameEvent event = turnService.advanceTurn();
             GameEvent current = event;
             while (current != null) {
-                GameMessage message = new GameMessage(current.getType(), current.toString(), current);
+                GameMessage message = new GameMessage(current.getType(), current::toString, current);
+                long mark = metrics.mark();
                 outputPort.publish(message);
+                metrics.record(TurnPhase.RENDER, mark);
                 if (current instanceof InteractiveEvent interactive) {
+                    // 异步输出时先让已发布的消息全部显示，再向玩家提问
+                    flushOutput();
+                    mark = metrics.mark();
                     current = interactive.interact();
+                    metrics.recordInteraction(interactive.getClass(), mark);
                 } else {
                     current = null;
                 }
             }
         }
+        flushOutput();
+    }
+
+    /**
+     * 关闭输出端口（如事件总线、异步输出），等待其处理完剩余消息并结束后台线程。
+     */
+    @Override
+    public void close() {
+        if (outputPort instanceof AutoCloseable closeable) {
+            try {
+                closeable.close();
+            } catch (Exception e) {
+                throw new IllegalStateException("关闭输出端口失败: " + e.getMessage(), e);
+            }
+        }
+    }
+
+    private void flushOutput() {
+        if (outputPort instanceof Flushable flushable) {
+            try {
+                flushable.flush();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
     }
 
     /**
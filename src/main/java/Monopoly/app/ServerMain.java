@@ -0,0 +1,65 @@
+package Monopoly.app;
+
+import Monopoly.adapters.network.NetworkGameServer;
+import Monopoly.adapters.network.NetworkSettings;
+import Monopoly.config.BoardConfigReloader;
+import Monopoly.config.GameConfiguration;
+
+import java.net.InetSocketAddress;
+import java.nio.file.Path;
+import java.util.concurrent.CountDownLatch;
+
+/**
+ * 实现功能【网络对局服务器入口，监听 TCP 端口并同时承载多局对局】。
+ * <p>
+ * 参数依次为：端口（默认 7777）、每局人数（默认 4）、I/O 线程数（默认 1）、工作线程数（默认 CPU 核数）、
+ * 棋盘配置目录（可选；指定后监视该目录下的 JSON 文件，修改后新开的对局使用新配置，无需重启）。
+ * 客户端可直接用 {@code nc} 连接，发送 {@code JOIN 名称} 排队，之后用 {@code ANS 输入} 回答提问。
+ * <p>
+ */
+public class ServerMain {
+
+    /**
+     * 服务器入口，进程结束前一直运行。
+     *
+     * @param args 命令行参数
+     * @throws Exception 配置加载或监听失败时抛出
+     */
+    public static void main(String[] args) throws Exception {
+        NetworkSettings d = NetworkSettings.defaults();
+        int port = args.length > 0 ? Integer.parseInt(args[0]) : NetworkSettings.DEFAULT_PORT;
+        int seats = args.length > 1 ? Integer.parseInt(args[1]) : d.seatsPerGame();
+        int ioThreads = args.length > 2 ? Integer.parseInt(args[2]) : d.ioThreads();
+        int workerThreads = args.length > 3 ? Integer.parseInt(args[3]) : d.workerThreads();
+        NetworkSettings settings = new NetworkSettings(new InetSocketAddress(port), seats, d.initialMoney(),
+                ioThreads, workerThreads, d.seed());
+
+        BoardConfigReloader reloader = null;
+        NetworkGameServer server;
+        if (args.length > 4) {
+            reloader = new BoardConfigReloader(Path.of(args[4]));
+            reloader.addListener(board -> System.out.printf("棋盘配置已更新为版本 %d%n", board.version()));
+            reloader.addErrorListener(e -> System.err.println("棋盘配置重新加载失败，继续使用旧版本：" + e.getMessage()));
+            server = new NetworkGameServer(reloader, settings);
+        } else {
+            server = new GameConfiguration().provideNetworkServer(settings);
+        }
+        server.start();
+        System.out.printf("网络对局服务器已启动，端口 %d，每局 %d 人%n", server.getPort(), seats);
+
+        CountDownLatch stopped = new CountDownLatch(1);
+        BoardConfigReloader watcher = reloader;
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            try {
+                server.close();
+                if (watcher != null) {
+                    watcher.close();
+                }
+            } catch (Exception ignored) {
+                // 进程正在退出
+            }
+            stopped.countDown();
+        }));
+        stopped.await();
+    }
+}
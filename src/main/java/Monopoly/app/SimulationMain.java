@@ -0,0 +1,68 @@
+package Monopoly.app;
+
+import Monopoly.adapters.bot.BotDecisionAdapter;
+import Monopoly.adapters.output.AsyncOutputAdapter;
+import Monopoly.adapters.output.ChannelOutputAdapter;
+import Monopoly.core.metrics.TurnMetrics;
+import Monopoly.simulation.BotGameFactory;
+import Monopoly.simulation.HeadlessGameRunner;
+import Monopoly.simulation.SimulationRunner;
+import Monopoly.simulation.SimulationStats;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * 实现功能【批量机器人模拟入口，输出胜率、对局长度与破产统计】。
+ * <p>
+ * 参数依次为：对局数（默认 10000）、每局人数（默认 4）、批次种子（默认 42）、线程数（默认 CPU 核数）、
+ * 延迟统计转储周期秒数（默认 0，即不统计；大于 0 时定期向标准错误输出各阶段延迟分位数，结束时再输出一次）、
+ * 对局记录文件（可选；给出时批次结束后重放第 0 局，经 {@link AsyncOutputAdapter} 与 {@link ChannelOutputAdapter}
+ * 把完整的对局文本追加写入该文件）。
+ * <p>
+ */
+public class SimulationMain {
+
+    /**
+     * 模拟入口。
+     *
+     * @param args 命令行参数
+     * @throws Exception 配置加载失败时抛出
+     */
+    public static void main(String[] args) throws Exception {
+        int games = args.length > 0 ? Integer.parseInt(args[0]) : 10000;
+        int players = args.length > 1 ? Integer.parseInt(args[1]) : 4;
+        long seed = args.length > 2 ? Long.parseLong(args[2]) : 42L;
+        int threads = args.length > 3 ? Integer.parseInt(args[3]) : Runtime.getRuntime().availableProcessors();
+        int dumpSeconds = args.length > 4 ? Integer.parseInt(args[4]) : 0;
+        Path transcript = args.length > 5 ? Path.of(args[5]) : null;
+
+        TurnMetrics metrics = dumpSeconds > 0 ? new TurnMetrics() : TurnMetrics.disabled();
+        SimulationRunner runner = new SimulationRunner(BotGameFactory.fromDefaultConfig(metrics),
+                BotDecisionAdapter::new, threads, HeadlessGameRunner.DEFAULT_MAX_TURNS);
+        long start = System.nanoTime();
+        SimulationStats stats;
+        if (dumpSeconds > 0) {
+            TurnMetrics.PeriodicDump dump = metrics.startPeriodicDump(Duration.ofSeconds(dumpSeconds), System.err::print);
+            try {
+                stats = runner.run(games, players, 8000, seed);
+            } finally {
+                dump.close();
+            }
+        } else {
+            stats = runner.run(games, players, 8000, seed);
+        }
+        long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+        System.out.print(stats);
+        System.out.printf("耗时 %d ms，线程 %d%n", elapsedMs, threads);
+        if (metrics.isEnabled()) {
+            System.out.print(metrics.report());
+        }
+        if (transcript != null) {
+            try (AsyncOutputAdapter output = new AsyncOutputAdapter(ChannelOutputAdapter.appendTo(transcript))) {
+                runner.replay(0, players, 8000, seed, output);
+            }
+            System.out.printf("第 0 局对局记录已写入 %s%n", transcript);
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package Monopoly.app;
+
+import Monopoly.adapters.bot.BotDecisionAdapter;
+import Monopoly.adapters.bot.MctsDecisionAdapter;
+import Monopoly.adapters.bot.MctsSettings;
+import Monopoly.adapters.bot.ThresholdBotStrategy;
+import Monopoly.simulation.BotGameFactory;
+import Monopoly.simulation.EloRatingTable;
+import Monopoly.simulation.HeadlessGameRunner;
+import Monopoly.simulation.Tournament;
+import Monopoly.simulation.TournamentSettings;
+
+/**
+ * 实现功能【机器人锦标赛入口，输出各策略的 Elo 评分、胜率与平均名次】。
+ * <p>
+ * 参数依次为：对局数（默认 10000）、每局最少人数（默认 2）、每局最多人数（默认 4）、种子（默认 42）、
+ * 线程数（默认 CPU 核数）、MCTS 每步迭代次数（默认 0，即不派 MCTS 参赛）。
+ * 参赛者为不同现金储备的阈值机器人，MCTS 迭代次数大于 0 时加入单线程的 MCTS 机器人。
+ * <p>
+ */
+public class TournamentMain {
+
+    /**
+     * 锦标赛入口。
+     *
+     * @param args 命令行参数
+     * @throws Exception 配置加载失败时抛出
+     */
+    public static void main(String[] args) throws Exception {
+        int games = args.length > 0 ? Integer.parseInt(args[0]) : 10000;
+        int minPlayers = args.length > 1 ? Integer.parseInt(args[1]) : 2;
+        int maxPlayers = args.length > 2 ? Integer.parseInt(args[2]) : 4;
+        long seed = args.length > 3 ? Long.parseLong(args[3]) : 42L;
+        int threads = args.length > 4 ? Integer.parseInt(args[4]) : Runtime.getRuntime().availableProcessors();
+        int mctsIterations = args.length > 5 ? Integer.parseInt(args[5]) : 0;
+
+        TournamentSettings settings = new TournamentSettings(games, minPlayers, maxPlayers, 8000, threads,
+                HeadlessGameRunner.DEFAULT_MAX_TURNS, 16, seed);
+        Tournament tournament = new Tournament(BotGameFactory.fromDefaultConfig(), settings)
+                .register("阈值机器人(储备0)", () -> new BotDecisionAdapter(new ThresholdBotStrategy(0)))
+                .register("阈值机器人(储备1000)", () -> new BotDecisionAdapter(new ThresholdBotStrategy(1000)))
+                .register("阈值机器人(储备3000)", () -> new BotDecisionAdapter(new ThresholdBotStrategy(3000)));
+        if (mctsIterations > 0) {
+            tournament.register("MCTS(" + mctsIterations + ")", () -> new MctsDecisionAdapter(
+                    MctsSettings.ofIterations(1, mctsIterations, seed), new ThresholdBotStrategy()));
+        }
+        long start = System.nanoTime();
+        EloRatingTable ratings = tournament.run();
+        long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+        System.out.print(ratings);
+        System.out.printf("耗时 %d ms，线程 %d%n", elapsedMs, threads);
+    }
+}
@@ -0,0 +1,128 @@
+package Monopoly.config;
+
+import Monopoly.core.domain.entity.tile.SpecialTile;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * 实现功能【一套完整的棋盘配置（六个配置文件的类型化内容），构造时完成跨文件校验，之后不可变】。
+ * <p>
+ * 校验内容：地图位置唯一且从 1 连续编号；地图类型与特殊格类别合法；国家、火车站、公司明细的位置在地图中存在且类型一致，
+ * 地图中每个国家、火车站、公司格都恰好有一条明细；机会卡与命运卡各自编号唯一。
+ * 所有问题一次性收集后抛出，便于一次改完配置。
+ * <p>
+ *
+ * @param map 地图条目（按位置升序）
+ * @param countries 国家定义
+ * @param stations 火车站定义
+ * @param companies 公司定义
+ * @param chance 机会卡定义
+ * @param fate 命运卡定义
+ * @author
+ * @date 2025-11-13
+ */
+public record BoardConfig(List<MapEntryConfig> map, List<CountryConfig> countries, List<StationConfig> stations,
+                          List<CompanyConfig> companies, List<CardConfig> chance, List<CardConfig> fate) {
+
+    private static final Set<String> MAP_TYPES = Set.of(MapEntryConfig.SPECIAL, MapEntryConfig.CHANCE,
+            MapEntryConfig.FATE, MapEntryConfig.COUNTRY, MapEntryConfig.TRAIN_STATION, MapEntryConfig.COMPANY);
+
+    /**
+     * 复制为不可变列表并做跨文件校验。
+     *
+     * @throws IllegalArgumentException 配置不一致时抛出，消息中列出全部问题
+     */
+    public BoardConfig {
+        map = sortedByPosition(Objects.requireNonNull(map, "地图配置不能为空。"));
+        countries = List.copyOf(Objects.requireNonNull(countries, "国家配置不能为空。"));
+        stations = List.copyOf(Objects.requireNonNull(stations, "火车站配置不能为空。"));
+        companies = List.copyOf(Objects.requireNonNull(companies, "公司配置不能为空。"));
+        chance = List.copyOf(Objects.requireNonNull(chance, "机会卡配置不能为空。"));
+        fate = List.copyOf(Objects.requireNonNull(fate, "命运卡配置不能为空。"));
+
+        List<String> errors = new ArrayList<>();
+        Map<Integer, MapEntryConfig> byPosition = new HashMap<>();
+        for (int i = 0; i < map.size(); i++) {
+            MapEntryConfig entry = map.get(i);
+            if (byPosition.put(entry.position(), entry) != null) {
+                errors.add("map.json 中位置 " + entry.position() + " 重复");
+            } else if (entry.position() != i + 1) {
+                errors.add("map.json 的位置应从 1 连续编号，缺少位置 " + (i + 1));
+            }
+            if (!MAP_TYPES.contains(entry.type())) {
+                errors.add("map.json 位置 " + entry.position() + " 的类型 " + entry.type() + " 未知");
+            } else if (MapEntryConfig.SPECIAL.equals(entry.type()) && entry.special() != null) {
+                try {
+                    SpecialTile.SpecialCategory.valueOf(entry.special());
+                } catch (IllegalArgumentException e) {
+                    errors.add("map.json 位置 " + entry.position() + " 的特殊格类别 " + entry.special() + " 未知");
+                }
+            }
+        }
+        Set<Integer> defined = new HashSet<>();
+        for (CountryConfig country : countries) {
+            checkDetail(errors, byPosition, defined, "countries.json", country.position(), MapEntryConfig.COUNTRY);
+        }
+        for (StationConfig station : stations) {
+            checkDetail(errors, byPosition, defined, "stations.json", station.position(), MapEntryConfig.TRAIN_STATION);
+        }
+        for (CompanyConfig company : companies) {
+            checkDetail(errors, byPosition, defined, "companies.json", company.position(), MapEntryConfig.COMPANY);
+        }
+        for (MapEntryConfig entry : map) {
+            boolean property = MapEntryConfig.COUNTRY.equals(entry.type())
+                    || MapEntryConfig.TRAIN_STATION.equals(entry.type())
+                    || MapEntryConfig.COMPANY.equals(entry.type());
+            if (property && !defined.contains(entry.position())) {
+                errors.add("map.json 位置 " + entry.position() + "（" + entry.type() + "）缺少明细配置");
+            }
+        }
+        checkCardIds(errors, "chance.json", chance);
+        checkCardIds(errors, "fate.json", fate);
+        if (!errors.isEmpty()) {
+            throw new IllegalArgumentException("棋盘配置校验失败：" + String.join("；", errors) + "。");
+        }
+    }
+
+    /**
+     * 棋盘格数。
+     *
+     * @return 格数
+     */
+    public int size() {
+        return map.size();
+    }
+
+    private static List<MapEntryConfig> sortedByPosition(List<MapEntryConfig> map) {
+        List<MapEntryConfig> sorted = new ArrayList<>(map);
+        sorted.sort((a, b) -> Integer.compare(a.position(), b.position()));
+        return List.copyOf(sorted);
+    }
+
+    private static void checkDetail(List<String> errors, Map<Integer, MapEntryConfig> byPosition, Set<Integer> defined,
+                                    String file, int position, String expectedType) {
+        MapEntryConfig entry = byPosition.get(position);
+        if (entry == null) {
+            errors.add(file + " 的位置 " + position + " 不在地图上");
+        } else if (!expectedType.equals(entry.type())) {
+            errors.add(file + " 的位置 " + position + " 在 map.json 中的类型为 " + entry.type() + "，应为 " + expectedType);
+        } else if (!defined.add(position)) {
+            errors.add(file + " 的位置 " + position + " 重复定义");
+        }
+    }
+
+    private static void checkCardIds(List<String> errors, String file, List<CardConfig> cards) {
+        Set<Integer> ids = new HashSet<>();
+        for (CardConfig card : cards) {
+            if (!ids.add(card.id())) {
+                errors.add(file + " 中卡牌编号 " + card.id() + " 重复");
+            }
+        }
+    }
+}
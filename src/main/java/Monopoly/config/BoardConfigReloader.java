@@ -0,0 +1,190 @@
+package Monopoly.config;
+
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * 实现功能【监视磁盘上的棋盘配置目录，文件变化后在后台重新解析、校验，并原子替换为新的不可变版本】。
+ * <p>
+ * 监视线程只接收文件系统事件；同一批改动（编辑器保存、多个文件依次复制）在静默 {@code debounce} 之后
+ * 合并为一次重新加载，由单独的加载线程完成解析、跨文件校验与仓库构建。只有全部成功才替换当前版本，
+ * 失败时保留旧版本并通知错误监听器，下一次文件变化会再次尝试。
+ * <p>
+ * {@link #get()} 只是一次原子读取：对局在开局时取得版本并持有到结束，新开的对局使用最新版本。
+ * <p>
+ *
+ * @author
+ * @date 2025-11-13
+ */
+public final class BoardConfigReloader implements Supplier<BoardVersion>, AutoCloseable {
+
+    /**
+     * 默认的合并等待时间。
+     */
+    public static final Duration DEFAULT_DEBOUNCE = Duration.ofMillis(250);
+
+    private final ConfigLoader loader;
+    private final Duration debounce;
+    private final AtomicReference<BoardVersion> current = new AtomicReference<>();
+    private final List<Consumer<BoardVersion>> listeners = new CopyOnWriteArrayList<>();
+    private final List<Consumer<Exception>> errorListeners = new CopyOnWriteArrayList<>();
+    private final ScheduledExecutorService reloadExecutor;
+    private final WatchService watchService;
+    private final Thread watchThread;
+    private ScheduledFuture<?> scheduled;
+
+    /**
+     * 构造函数：同步加载一次配置作为版本 1，然后开始监视目录。
+     *
+     * @param directory 配置目录
+     * @param debounce 合并等待时间
+     * @throws IOException 初始配置读取失败或无法监视目录时抛出
+     * @throws IllegalArgumentException 初始配置校验失败时抛出
+     */
+    public BoardConfigReloader(Path directory, Duration debounce) throws IOException {
+        this.loader = new ConfigLoader(Objects.requireNonNull(directory, "配置目录不能为空。"));
+        this.debounce = Objects.requireNonNull(debounce, "合并等待时间不能为空。");
+        current.set(BoardVersion.of(1, loader.parseBoard()));
+
+        this.reloadExecutor = Executors.newSingleThreadScheduledExecutor(task -> {
+            Thread thread = new Thread(task, "monopoly-config-reload");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.watchService = FileSystems.getDefault().newWatchService();
+        directory.register(watchService, StandardWatchEventKinds.ENTRY_CREATE,
+                StandardWatchEventKinds.ENTRY_MODIFY, StandardWatchEventKinds.ENTRY_DELETE);
+        this.watchThread = new Thread(this::watch, "monopoly-config-watch");
+        this.watchThread.setDaemon(true);
+        this.watchThread.start();
+    }
+
+    /**
+     * 构造函数，使用默认合并等待时间。
+     *
+     * @param directory 配置目录
+     * @throws IOException 初始配置读取失败或无法监视目录时抛出
+     */
+    public BoardConfigReloader(Path directory) throws IOException {
+        this(directory, DEFAULT_DEBOUNCE);
+    }
+
+    /**
+     * 当前最新的棋盘版本。
+     *
+     * @return 棋盘版本
+     */
+    @Override
+    public BoardVersion get() {
+        return current.get();
+    }
+
+    /**
+     * 注册新版本生效后的回调（在加载线程上调用）。
+     *
+     * @param listener 回调
+     */
+    public void addListener(Consumer<BoardVersion> listener) {
+        listeners.add(Objects.requireNonNull(listener, "回调不能为空。"));
+    }
+
+    /**
+     * 注册重新加载失败时的回调（在加载线程上调用），失败时旧版本继续生效。
+     *
+     * @param listener 回调
+     */
+    public void addErrorListener(Consumer<Exception> listener) {
+        errorListeners.add(Objects.requireNonNull(listener, "回调不能为空。"));
+    }
+
+    /**
+     * 立即在加载线程上重新加载一次，不等待文件事件。
+     *
+     * @return 新版本；加载失败时以异常完成
+     */
+    public CompletableFuture<BoardVersion> reloadNow() {
+        CompletableFuture<BoardVersion> result = new CompletableFuture<>();
+        reloadExecutor.execute(() -> {
+            try {
+                result.complete(reload());
+            } catch (Exception e) {
+                result.completeExceptionally(e);
+            }
+        });
+        return result;
+    }
+
+    @Override
+    public void close() throws IOException {
+        watchService.close();
+        reloadExecutor.shutdownNow();
+    }
+
+    private void watch() {
+        try {
+            while (true) {
+                WatchKey key = watchService.take();
+                boolean relevant = false;
+                for (WatchEvent<?> event : key.pollEvents()) {
+                    if (event.kind() == StandardWatchEventKinds.OVERFLOW
+                            || event.context() instanceof Path name && ConfigLoader.FILE_NAMES.contains(name.toString())) {
+                        relevant = true;
+                    }
+                }
+                if (relevant) {
+                    scheduleReload();
+                }
+                if (!key.reset()) {
+                    return;
+                }
+            }
+        } catch (InterruptedException | ClosedWatchServiceException e) {
+            // 已关闭
+        }
+    }
+
+    private synchronized void scheduleReload() {
+        if (scheduled != null) {
+            scheduled.cancel(false);
+        }
+        scheduled = reloadExecutor.schedule(() -> {
+            try {
+                reload();
+            } catch (Exception e) {
+                for (Consumer<Exception> listener : errorListeners) {
+                    listener.accept(e);
+                }
+            }
+        }, debounce.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 解析、校验并替换，只在加载线程上调用。
+     */
+    private BoardVersion reload() throws IOException {
+        BoardVersion next = BoardVersion.of(current.get().version() + 1, loader.parseBoard());
+        current.set(next);
+        for (Consumer<BoardVersion> listener : listeners) {
+            listener.accept(next);
+        }
+        return next;
+    }
+}
@@ -0,0 +1,62 @@
+package Monopoly.config;
+
+import Monopoly.core.repo.CardRepository;
+import Monopoly.core.repo.TileRepository;
+import Monopoly.core.repo.indexed.IndexedTileRepository;
+import Monopoly.core.repo.json.JsonCardRepository;
+import Monopoly.core.repo.json.JsonTileRepository;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.Objects;
+
+/**
+ * 实现功能【一个不可变的棋盘配置版本：校验过的配置及由它构建的地块、卡牌仓库】。
+ * <p>
+ * 仓库只在创建版本时构建一次（含卡牌效果编译），之后由使用该版本的所有对局只读共享。
+ * 对局在开局时取一个版本并一直使用到结束，之后的热更新不会影响它。
+ * <p>
+ *
+ * @param version 版本号，从 1 开始递增
+ * @param config 棋盘配置
+ * @param tiles 地块仓库
+ * @param cards 卡牌仓库
+ * @param loadedAt 生成时间
+ * @author
+ * @date 2025-11-13
+ */
+public record BoardVersion(long version, BoardConfig config, TileRepository tiles, CardRepository cards, Instant loadedAt) {
+
+    /**
+     * 参数校验。
+     */
+    public BoardVersion {
+        Objects.requireNonNull(config, "棋盘配置不能为空。");
+        Objects.requireNonNull(tiles, "地块仓库不能为空。");
+        Objects.requireNonNull(cards, "卡牌仓库不能为空。");
+        Objects.requireNonNull(loadedAt, "生成时间不能为空。");
+    }
+
+    /**
+     * 由配置构建一个版本；卡牌效果无法编译时失败。
+     *
+     * @param version 版本号
+     * @param config 棋盘配置
+     * @return 棋盘版本
+     * @throws IllegalArgumentException 卡牌效果配置错误时抛出
+     */
+    public static BoardVersion of(long version, BoardConfig config) {
+        return new BoardVersion(version, config, IndexedTileRepository.copyOf(new JsonTileRepository(config)),
+                new JsonCardRepository(config), Instant.now());
+    }
+
+    /**
+     * 固定使用类路径配置的版本 1。
+     *
+     * @return 棋盘版本
+     * @throws IOException 配置读取失败时抛出
+     */
+    public static BoardVersion classpath() throws IOException {
+        return of(1, new ConfigLoader().loadBoard());
+    }
+}
@@ -0,0 +1,26 @@
+package Monopoly.config;
+
+import java.util.Objects;
+
+/**
+ * 实现功能【chance.json / fate.json 中的一张卡牌定义，直接由 Jackson 绑定】。
+ * <p>
+ *
+ * @param id 卡牌编号
+ * @param title 标题
+ * @param effect 效果字符串
+ * @param flavor 说明文字，缺省为空串
+ * @author
+ * @date 2025-11-13
+ */
+public record CardConfig(int id, String title, String effect, String flavor) {
+
+    /**
+     * 字段校验。
+     */
+    public CardConfig {
+        Objects.requireNonNull(title, "卡牌 " + id + " 的标题不能为空。");
+        Objects.requireNonNull(effect, "卡牌 " + id + " 的效果不能为空。");
+        flavor = flavor == null ? "" : flavor;
+    }
+}
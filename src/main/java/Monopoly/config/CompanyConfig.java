@@ -0,0 +1,27 @@
+package Monopoly.config;
+
+import java.util.Objects;
+
+/**
+ * 实现功能【companies.json 中的一个公司定义，直接由 Jackson 绑定】。
+ * <p>
+ *
+ * @param position 位置
+ * @param name 名称
+ * @param sellPrice 售价
+ * @param mortgagePrice 抵押价
+ * @author
+ * @date 2025-11-13
+ */
+public record CompanyConfig(int position, String name, int sellPrice, int mortgagePrice) {
+
+    /**
+     * 字段校验。
+     */
+    public CompanyConfig {
+        Objects.requireNonNull(name, "第 " + position + " 格公司的名称不能为空。");
+        if (sellPrice <= 0 || mortgagePrice < 0) {
+            throw new IllegalArgumentException("第 " + position + " 格公司 " + name + " 的价格配置无效。");
+        }
+    }
+}
@@ -1,17 +1,29 @@
 package Monopoly.config;
 
-import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.List;
-import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Supplier;
 
 /**
- * 实现功能【从 resources/config 下加载地图与卡牌配置的工具类】
+ * 实现功能【从 resources/config（或指定的磁盘目录）加载地图与卡牌配置的工具类】
  * <p>
- *
+ * 各文件由 Jackson 直接绑定为记录类型，不再经过 {@code List<Map<String, Object>>} 与装箱数字。
+ * {@link #loadBoard()} 并行解析六个文件并做一次跨文件校验；类路径上的配置不会变化，
+ * 结果在进程内缓存，所有加载器与对局共享同一份不可变配置。磁盘目录上的配置可能被修改，
+ * 每个加载器只缓存自己第一次解析的结果，需要重新读取时调用 {@link #parseBoard()}。
  * <p>
  *
  * @author
@@ -19,7 +31,59 @@ import java.util.Map;
  */
 public class ConfigLoader {
 
-    private final ObjectMapper objectMapper = new ObjectMapper();
+    /**
+     * 一套棋盘配置包含的全部文件名。
+     */
+    public static final List<String> FILE_NAMES = List.of("map.json", "countries.json", "stations.json",
+            "companies.json", "chance.json", "fate.json");
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper()
+            .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+            .enable(DeserializationFeature.FAIL_ON_NULL_FOR_PRIMITIVES);
+    private static final ObjectReader MAP_READER = OBJECT_MAPPER.readerForListOf(MapEntryConfig.class);
+    private static final ObjectReader COUNTRY_READER = OBJECT_MAPPER.readerForListOf(CountryConfig.class);
+    private static final ObjectReader STATION_READER = OBJECT_MAPPER.readerForListOf(StationConfig.class);
+    private static final ObjectReader COMPANY_READER = OBJECT_MAPPER.readerForListOf(CompanyConfig.class);
+    private static final ObjectReader CARD_READER = OBJECT_MAPPER.readerForListOf(CardConfig.class);
+
+    /**
+     * 类路径配置的解析结果，首次 {@link #loadBoard()} 时生成。
+     */
+    private static volatile BoardConfig classpathBoard;
+
+    /**
+     * 配置目录，为 null 时从类路径 /config 读取。
+     */
+    private final Path directory;
+    /**
+     * 磁盘目录配置的解析结果，首次 {@link #loadBoard()} 时生成。
+     */
+    private volatile BoardConfig directoryBoard;
+
+    /**
+     * 构造函数，从类路径 /config 读取。
+     */
+    public ConfigLoader() {
+        this.directory = null;
+    }
+
+    /**
+     * 构造函数，从磁盘目录读取（文件名与类路径下相同）。
+     *
+     * @param directory 配置目录
+     */
+    public ConfigLoader(Path directory) {
+        this.directory = Objects.requireNonNull(directory, "配置目录不能为空。");
+    }
+
+    /**
+     * 配置目录。
+     *
+     * @return 配置目录，从类路径读取时为空
+     */
+    public Optional<Path> getDirectory() {
+        return Optional.ofNullable(directory);
+    }
 
     /**
      * 加载 map.json。
@@ -27,8 +91,8 @@ public class ConfigLoader {
      * @return 地图条目列表
      * @throws IOException 读取失败时抛出
      */
-    public List<Map<String, Object>> loadMap() throws IOException {
-        return readList("/config/map.json");
+    public List<MapEntryConfig> loadMap() throws IOException {
+        return readList("map.json", MAP_READER);
     }
 
     /**
@@ -37,45 +101,140 @@ public class ConfigLoader {
      * @return 国家条目列表
      * @throws IOException 读取失败时抛出
      */
-    public List<Map<String, Object>> loadCountries() throws IOException {
-        return readList("/config/countries.json");
+    public List<CountryConfig> loadCountries() throws IOException {
+        return readList("countries.json", COUNTRY_READER);
     }
 
     /**
      * 加载 stations.json。
      */
-    public List<Map<String, Object>> loadStations() throws IOException {
-        return readList("/config/stations.json");
+    public List<StationConfig> loadStations() throws IOException {
+        return readList("stations.json", STATION_READER);
     }
 
     /**
      * 加载 companies.json。
      */
-    public List<Map<String, Object>> loadCompanies() throws IOException {
-        return readList("/config/companies.json");
+    public List<CompanyConfig> loadCompanies() throws IOException {
+        return readList("companies.json", COMPANY_READER);
     }
 
     /**
      * 加载 chance.json。
      */
-    public List<Map<String, Object>> loadChance() throws IOException {
-        return readList("/config/chance.json");
+    public List<CardConfig> loadChance() throws IOException {
+        return readList("chance.json", CARD_READER);
     }
 
     /**
      * 加载 fate.json。
      */
-    public List<Map<String, Object>> loadFate() throws IOException {
-        return readList("/config/fate.json");
+    public List<CardConfig> loadFate() throws IOException {
+        return readList("fate.json", CARD_READER);
+    }
+
+    /**
+     * 加载并校验完整的棋盘配置，首次调用时解析，之后返回缓存。
+     *
+     * @return 棋盘配置
+     * @throws IOException 读取或绑定失败时抛出
+     * @throws IllegalArgumentException 跨文件校验失败时抛出
+     */
+    public BoardConfig loadBoard() throws IOException {
+        if (directory != null) {
+            BoardConfig board = directoryBoard;
+            if (board == null) {
+                synchronized (this) {
+                    board = directoryBoard;
+                    if (board == null) {
+                        board = parseBoard();
+                        directoryBoard = board;
+                    }
+                }
+            }
+            return board;
+        }
+        BoardConfig board = classpathBoard;
+        if (board == null) {
+            synchronized (ConfigLoader.class) {
+                board = classpathBoard;
+                if (board == null) {
+                    board = parseBoard();
+                    classpathBoard = board;
+                }
+            }
+        }
+        return board;
     }
 
-    private List<Map<String, Object>> readList(String path) throws IOException {
+    /**
+     * 不经缓存重新解析：在公共线程池上并行解析六个配置文件，然后做跨文件校验。
+     *
+     * @return 棋盘配置
+     * @throws IOException 任一文件读取或绑定失败时抛出
+     * @throws IllegalArgumentException 跨文件校验失败时抛出
+     */
+    public BoardConfig parseBoard() throws IOException {
+        CompletableFuture<List<MapEntryConfig>> map = async(this::loadMap);
+        CompletableFuture<List<CountryConfig>> countries = async(this::loadCountries);
+        CompletableFuture<List<StationConfig>> stations = async(this::loadStations);
+        CompletableFuture<List<CompanyConfig>> companies = async(this::loadCompanies);
+        CompletableFuture<List<CardConfig>> chance = async(this::loadChance);
+        CompletableFuture<List<CardConfig>> fate = async(this::loadFate);
+        try {
+            return new BoardConfig(map.join(), countries.join(), stations.join(), companies.join(),
+                    chance.join(), fate.join());
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof UncheckedIOException io) {
+                throw io.getCause();
+            }
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw e;
+        }
+    }
+
+    private <T> List<T> readList(String fileName, ObjectReader reader) throws IOException {
+        if (directory != null) {
+            Path file = directory.resolve(fileName);
+            if (!Files.isRegularFile(file)) {
+                throw new IOException("配置文件未找到: " + file);
+            }
+            try (InputStream in = Files.newInputStream(file)) {
+                return reader.readValue(in);
+            }
+        }
+        String path = "/config/" + fileName;
         try (InputStream in = getClass().getResourceAsStream(path)) {
             if (in == null) {
                 throw new IOException("配置文件未找到: " + path);
             }
-            return objectMapper.readValue(in, new TypeReference<List<Map<String, Object>>>() {});
+            return reader.readValue(in);
         }
     }
-}
 
+    private static <T> CompletableFuture<T> async(IoSupplier<T> supplier) {
+        Supplier<T> task = () -> {
+            try {
+                return supplier.get();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        };
+        // 单核时公共线程池退化为每任务一个新线程，直接在当前线程解析更快
+        if (ForkJoinPool.getCommonPoolParallelism() <= 1) {
+            try {
+                return CompletableFuture.completedFuture(task.get());
+            } catch (RuntimeException e) {
+                return CompletableFuture.failedFuture(e);
+            }
+        }
+        return CompletableFuture.supplyAsync(task);
+    }
+
+    @FunctionalInterface
+    private interface IoSupplier<T> {
+        T get() throws IOException;
+    }
+}
@@ -0,0 +1,56 @@
+package Monopoly.config;
+
+import java.util.Objects;
+
+/**
+ * 实现功能【countries.json 中的一个国家地块定义，直接由 Jackson 绑定】。
+ * <p>
+ *
+ * @param position 位置
+ * @param countryName 国家名
+ * @param city 城市名
+ * @param color 颜色组
+ * @param sellPrice 售价
+ * @param baseToll 空地过路费
+ * @param houseToll 1~4 幢房屋的过路费
+ * @param hotelToll 旅馆过路费
+ * @param buildHouseCost 每幢房屋造价
+ * @param buildHotelCost 旅馆造价
+ * @param mortgagePrice 抵押价
+ * @author
+ * @date 2025-11-13
+ */
+public record CountryConfig(int position, String countryName, String city, String color, int sellPrice, int baseToll,
+                            int[] houseToll, int hotelToll, int buildHouseCost, int buildHotelCost, int mortgagePrice) {
+
+    /**
+     * 房屋过路费档数。
+     */
+    public static final int HOUSE_LEVELS = 4;
+
+    /**
+     * 字段校验。
+     */
+    public CountryConfig {
+        Objects.requireNonNull(countryName, "第 " + position + " 格国家的名称不能为空。");
+        if (houseToll == null || houseToll.length != HOUSE_LEVELS) {
+            throw new IllegalArgumentException("第 " + position + " 格国家 " + countryName
+                    + " 的 houseToll 必须恰好有 " + HOUSE_LEVELS + " 档。");
+        }
+        if (sellPrice <= 0 || mortgagePrice < 0 || baseToll < 0 || hotelToll < 0
+                || buildHouseCost < 0 || buildHotelCost < 0) {
+            throw new IllegalArgumentException("第 " + position + " 格国家 " + countryName + " 的价格配置无效。");
+        }
+        houseToll = houseToll.clone();
+    }
+
+    /**
+     * 获取房屋过路费（副本）。
+     *
+     * @return 1~4 幢房屋的过路费
+     */
+    @Override
+    public int[] houseToll() {
+        return houseToll.clone();
+    }
+}
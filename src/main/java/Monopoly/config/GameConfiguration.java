@@ -1,7 +1,12 @@
 package Monopoly.config;
 
+import Monopoly.adapters.bus.BusHandler;
+import Monopoly.adapters.bus.EventBus;
 import Monopoly.adapters.console.ConsoleDecisionAdapter;
 import Monopoly.adapters.console.ConsoleOutputAdapter;
+import Monopoly.adapters.network.NetworkGameServer;
+import Monopoly.adapters.network.NetworkSettings;
+import Monopoly.adapters.output.OverflowPolicy;
 import Monopoly.app.GameApp;
 import Monopoly.core.domain.entity.player.Player;
 import Monopoly.core.ports.OutputPort;
@@ -55,6 +60,19 @@ public class GameConfiguration {
         return new ConsoleOutputAdapter();
     }
 
+    /**
+     * 提供事件总线，并把默认输出适配器挂为阻塞型订阅者；日志、观战等其他输出可继续调用
+     * {@link EventBus#subscribe} 挂到同一总线上，引擎线程的发布开销不随订阅者数量增加。
+     *
+     * @return 事件总线实例
+     */
+    public EventBus provideEventBus() {
+        EventBus bus = new EventBus();
+        bus.subscribe("console", BusHandler.forOutputPort(provideOutputPort()), OverflowPolicy.BLOCK,
+                EventBus.DEFAULT_BATCH_SIZE);
+        return bus;
+    }
+
     /**
      * 提供一个默认的回合管理服务（基于 JSON 配置与内存玩家仓库）。
      *
@@ -83,6 +101,20 @@ public class GameConfiguration {
         }
     }
 
+    /**
+     * 提供网络对局服务器（基于 JSON 配置，尚未监听），每个座位的决策与输出经由 TCP 连接完成。
+     *
+     * @param settings 服务器参数
+     * @return 网络对局服务器
+     */
+    public NetworkGameServer provideNetworkServer(NetworkSettings settings) {
+        try {
+            return NetworkGameServer.fromDefaultConfig(settings);
+        } catch (Exception e) {
+            throw new RuntimeException("初始化网络对局服务器失败: " + e.getMessage(), e);
+        }
+    }
+
     /**
      * 装配并提供 GameApp。
      *
@@ -90,8 +122,7 @@ public class GameConfiguration {
      */
     public GameApp provideGameApp() {
         TurnService turnService = provideTurnService();
-        OutputPort outputPort = provideOutputPort();
-        return new GameApp(turnService, outputPort);
+        return new GameApp(turnService, provideEventBus());
     }
 }
 
@@ -0,0 +1,51 @@
+package Monopoly.config;
+
+import java.util.Objects;
+
+/**
+ * 实现功能【map.json 中的一格地图条目，直接由 Jackson 绑定】。
+ * <p>
+ *
+ * @param position 位置（从 1 开始）
+ * @param name 名称
+ * @param type 类型：special、chance、fate、country、trainStation、company
+ * @param special 特殊格类别（仅 special 类型），为空时按 OTHER 处理
+ * @param description 特殊格描述，为空时使用名称
+ * @author
+ * @date 2025-11-13
+ */
+public record MapEntryConfig(int position, String name, String type, String special, String description) {
+
+    /**
+     * 特殊格类型。
+     */
+    public static final String SPECIAL = "special";
+    /**
+     * 机会格类型。
+     */
+    public static final String CHANCE = "chance";
+    /**
+     * 命运格类型。
+     */
+    public static final String FATE = "fate";
+    /**
+     * 国家类型。
+     */
+    public static final String COUNTRY = "country";
+    /**
+     * 火车站类型。
+     */
+    public static final String TRAIN_STATION = "trainStation";
+    /**
+     * 公司类型。
+     */
+    public static final String COMPANY = "company";
+
+    /**
+     * 字段校验。
+     */
+    public MapEntryConfig {
+        Objects.requireNonNull(name, "地图第 " + position + " 格的名称不能为空。");
+        Objects.requireNonNull(type, "地图第 " + position + " 格的类型不能为空。");
+    }
+}
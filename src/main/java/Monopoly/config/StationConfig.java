@@ -0,0 +1,42 @@
+package Monopoly.config;
+
+import java.util.Objects;
+
+/**
+ * 实现功能【stations.json 中的一个火车站定义，直接由 Jackson 绑定】。
+ * <p>
+ *
+ * @param position 位置
+ * @param name 名称
+ * @param tollByOwnership 所有者持有 1~n 个火车站时的过路费
+ * @param mortgagePrice 抵押价
+ * @param sellPrice 售价
+ * @author
+ * @date 2025-11-13
+ */
+public record StationConfig(int position, String name, int[] tollByOwnership, int mortgagePrice, int sellPrice) {
+
+    /**
+     * 字段校验。
+     */
+    public StationConfig {
+        Objects.requireNonNull(name, "第 " + position + " 格火车站的名称不能为空。");
+        if (tollByOwnership == null || tollByOwnership.length == 0) {
+            throw new IllegalArgumentException("第 " + position + " 格火车站 " + name + " 缺少 tollByOwnership。");
+        }
+        if (sellPrice <= 0 || mortgagePrice < 0) {
+            throw new IllegalArgumentException("第 " + position + " 格火车站 " + name + " 的价格配置无效。");
+        }
+        tollByOwnership = tollByOwnership.clone();
+    }
+
+    /**
+     * 获取按持有数量的过路费（副本）。
+     *
+     * @return 过路费
+     */
+    @Override
+    public int[] tollByOwnership() {
+        return tollByOwnership.clone();
+    }
+}
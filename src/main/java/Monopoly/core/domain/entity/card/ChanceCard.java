@@ -1,5 +1,9 @@
 package Monopoly.core.domain.entity.card;
 
+import Monopoly.core.domain.entity.card.effect.CardEffect;
+
+import java.util.List;
+
 /**
  * 实现功能【机会卡实体，继承通用抽牌属性】。
  * <p>
@@ -23,6 +27,21 @@ public class ChanceCard extends DrawCard {
         super(id, title, effect, flavorText);
     }
 
+    /**
+     * 构造函数。
+     *
+     * @param id 编号
+     * @param title 标题
+     * @param effect 效果描述
+     * @param flavorText 背景描述
+     * @param effects 预编译的效果序列
+     * @param description 渲染好的效果说明
+     */
+    public ChanceCard(int id, String title, String effect, String flavorText, List<CardEffect> effects,
+                      String description) {
+        super(id, title, effect, flavorText, effects, description);
+    }
+
     @Override
     public CardType getType() {
         return CardType.CHANCE;
@@ -1,7 +1,11 @@
 package Monopoly.core.domain.entity.card;
 
+import Monopoly.core.domain.entity.card.effect.CardEffect;
 import lombok.Getter;
 
+import java.util.List;
+import java.util.Objects;
+
 /**
  * 实现功能【定义机会/命运等抽牌的通用属性】。
  * <p>
@@ -30,9 +34,17 @@ public abstract class DrawCard {
      * 卡牌背景故事或补充说明。
      */
     private final String flavorText;
+    /**
+     * 预编译的效果序列，未编译的卡牌为空列表。
+     */
+    private final List<CardEffect> effects;
+    /**
+     * 展示给玩家的效果说明，加载时渲染一次；未编译的卡牌会注明没有可执行的效果。
+     */
+    private final String description;
 
     /**
-     * 构造函数。
+     * 构造函数（不带预编译效果，说明中注明该卡没有可执行的效果）。
      *
      * @param id 编号
      * @param title 标题
@@ -40,10 +52,27 @@ public abstract class DrawCard {
      * @param flavorText 背景描述
      */
     protected DrawCard(int id, String title, String effect, String flavorText) {
+        this(id, title, effect, flavorText, List.of(), effect + "（未编译，抽到时无效果）");
+    }
+
+    /**
+     * 构造函数。
+     *
+     * @param id 编号
+     * @param title 标题
+     * @param effect 效果描述
+     * @param flavorText 背景描述
+     * @param effects 预编译的效果序列
+     * @param description 渲染好的效果说明
+     */
+    protected DrawCard(int id, String title, String effect, String flavorText, List<CardEffect> effects,
+                       String description) {
         this.id = id;
         this.title = title;
         this.effect = effect;
         this.flavorText = flavorText;
+        this.effects = List.copyOf(Objects.requireNonNull(effects, "卡牌效果不能为空。"));
+        this.description = Objects.requireNonNull(description, "卡牌效果说明不能为空。");
     }
 
     /**
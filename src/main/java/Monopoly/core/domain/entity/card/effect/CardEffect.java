@@ -0,0 +1,86 @@
+package Monopoly.core.domain.entity.card.effect;
+
+/**
+ * 实现功能【卡牌效果的预编译表示，每种效果对应一个不可变记录类型】。
+ * <p>
+ * 由 {@link CardEffectCompiler} 在加载卡牌时从效果字符串编译得到，引擎按类型分派执行，
+ * 抽牌时不再解析字符串。
+ * <p>
+ *
+ * @author
+ * @date 2025-11-13
+ */
+public sealed interface CardEffect {
+
+    /**
+     * 支付金额给银行（lose:金额）。
+     */
+    record Lose(int amount) implements CardEffect {
+    }
+
+    /**
+     * 从银行获得金额（gain:金额）。
+     */
+    record Gain(int amount) implements CardEffect {
+    }
+
+    /**
+     * 暂停若干回合（pause:回合数）。
+     */
+    record Pause(int turns) implements CardEffect {
+    }
+
+    /**
+     * 立即入狱（goToJail）。
+     */
+    record GoToJail() implements CardEffect {
+    }
+
+    /**
+     * 获得出狱许可证（jailCard）。
+     */
+    record JailCard() implements CardEffect {
+    }
+
+    /**
+     * 移动到指定位置并领取奖励（go:位置[,bonus:金额] 或 moveTo:位置）。
+     */
+    record GoTo(int position, int bonus) implements CardEffect {
+    }
+
+    /**
+     * 现金最多的玩家被罚款（fine:max:金额）。
+     */
+    record FineMax(int amount) implements CardEffect {
+    }
+
+    /**
+     * 最靠近指定位置的玩家被罚款（fine:near:位置:金额）。
+     */
+    record FineNear(int position, int amount) implements CardEffect {
+    }
+
+    /**
+     * 所有人掷骰，点数最大者获得点数乘以倍数的奖励（dice:max:倍数）。
+     */
+    record DiceMax(int multiplier) implements CardEffect {
+    }
+
+    /**
+     * 掷骰并再移动一次（dice:move）。
+     */
+    record DiceMove() implements CardEffect {
+    }
+
+    /**
+     * 房子最少的玩家免费盖一栋（buildHouse:min）。
+     */
+    record BuildHouseMin() implements CardEffect {
+    }
+
+    /**
+     * 房子最多的玩家拆一栋（removeHouse:max）。
+     */
+    record RemoveHouseMax() implements CardEffect {
+    }
+}
@@ -0,0 +1,163 @@
+package Monopoly.core.domain.entity.card.effect;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.IntFunction;
+
+/**
+ * 实现功能【将配置中的卡牌效果字符串编译为不可变的效果序列，格式错误时立即失败】。
+ * <p>
+ * 效果之间以逗号分隔；{@code bonus:金额} 只能紧跟在 {@code go:位置} 之后，作为该次移动的奖励。
+ * 编译结果可由 {@link #describe(List, IntFunction)} 渲染为展示给玩家的中文说明，同样只在加载时做一次。
+ * <p>
+ *
+ * @author
+ * @date 2025-11-13
+ */
+public final class CardEffectCompiler {
+
+    private static final CardEffect GO_TO_JAIL = new CardEffect.GoToJail();
+    private static final CardEffect JAIL_CARD = new CardEffect.JailCard();
+    private static final CardEffect DICE_MOVE = new CardEffect.DiceMove();
+    private static final CardEffect BUILD_HOUSE_MIN = new CardEffect.BuildHouseMin();
+    private static final CardEffect REMOVE_HOUSE_MAX = new CardEffect.RemoveHouseMax();
+
+    private CardEffectCompiler() {
+    }
+
+    /**
+     * 编译效果字符串。
+     *
+     * @param effect 效果字符串，如 {@code lose:200,dice:move}
+     * @return 不可变效果序列
+     * @throws IllegalArgumentException 效果为空或无法识别时抛出
+     */
+    public static List<CardEffect> compile(String effect) {
+        if (effect == null || effect.isBlank()) {
+            throw new IllegalArgumentException("卡牌效果不能为空。");
+        }
+        String[] tokens = effect.split(",");
+        List<CardEffect> effects = new ArrayList<>(tokens.length);
+        for (String raw : tokens) {
+            String token = raw.trim();
+            if (token.startsWith("bonus:")) {
+                int last = effects.size() - 1;
+                if (last < 0 || !(effects.get(last) instanceof CardEffect.GoTo go) || go.bonus() != 0) {
+                    throw new IllegalArgumentException("bonus 必须紧跟在 go 效果之后：" + effect);
+                }
+                effects.set(last, new CardEffect.GoTo(go.position(), parseAmount(token, "bonus:".length())));
+            } else {
+                effects.add(compileToken(token));
+            }
+        }
+        return List.copyOf(effects);
+    }
+
+    /**
+     * 将效果序列渲染为中文说明。
+     *
+     * @param effects 编译后的效果序列
+     * @param tileNames 按位置取地块名称
+     * @return 以“，”连接的效果说明
+     */
+    public static String describe(List<CardEffect> effects, IntFunction<String> tileNames) {
+        List<String> descriptions = new ArrayList<>(effects.size());
+        for (CardEffect eff : effects) {
+            if (eff instanceof CardEffect.Lose lose) {
+                descriptions.add("花费 " + lose.amount() + "元");
+            } else if (eff instanceof CardEffect.Gain gain) {
+                descriptions.add("获得 " + gain.amount() + "元");
+            } else if (eff instanceof CardEffect.Pause pause) {
+                descriptions.add("下" + pause.turns() + "回合暂停行动");
+            } else if (eff instanceof CardEffect.GoToJail) {
+                descriptions.add("立刻坐牢");
+            } else if (eff instanceof CardEffect.JailCard) {
+                descriptions.add("获得出狱许可证（可以保留或出售）");
+            } else if (eff instanceof CardEffect.GoTo go) {
+                String tileName = tileNames.apply(go.position());
+                if (go.bonus() > 0) {
+                    descriptions.add("马上回到" + tileName + "并领取 " + go.bonus() + "元");
+                } else {
+                    descriptions.add("移动到 " + tileName);
+                }
+            } else if (eff instanceof CardEffect.FineMax fine) {
+                descriptions.add("现金最多的玩家罚 " + fine.amount() + "元");
+            } else if (eff instanceof CardEffect.FineNear fine) {
+                descriptions.add("最靠近" + tileNames.apply(fine.position()) + "的玩家付 " + fine.amount() + "元");
+            } else if (eff instanceof CardEffect.DiceMax diceMax) {
+                descriptions.add("大家转转盘，点数最大的人拿取点数 × " + diceMax.multiplier() + " 的金额");
+            } else if (eff instanceof CardEffect.DiceMove) {
+                descriptions.add("捐 200 元再转转盘行动一次");
+            } else if (eff instanceof CardEffect.BuildHouseMin) {
+                descriptions.add("房子最少的玩家免费盖一栋");
+            } else if (eff instanceof CardEffect.RemoveHouseMax) {
+                descriptions.add("房子最多的人拆一栋房子");
+            }
+        }
+        return String.join("，", descriptions);
+    }
+
+    private static CardEffect compileToken(String token) {
+        switch (token) {
+            case "goToJail":
+                return GO_TO_JAIL;
+            case "jailCard":
+                return JAIL_CARD;
+            case "dice:move":
+                return DICE_MOVE;
+            case "buildHouse:min":
+                return BUILD_HOUSE_MIN;
+            case "removeHouse:max":
+                return REMOVE_HOUSE_MAX;
+            default:
+                break;
+        }
+        if (token.startsWith("lose:")) {
+            return new CardEffect.Lose(parseAmount(token, 5));
+        } else if (token.startsWith("gain:")) {
+            return new CardEffect.Gain(parseAmount(token, 5));
+        } else if (token.startsWith("pause:")) {
+            return new CardEffect.Pause(parseAmount(token, 6));
+        } else if (token.startsWith("go:")) {
+            return new CardEffect.GoTo(parsePosition(token, token.substring(3)), 0);
+        } else if (token.startsWith("moveTo:")) {
+            return new CardEffect.GoTo(parsePosition(token, token.substring(7)), 0);
+        } else if (token.startsWith("fine:max:")) {
+            return new CardEffect.FineMax(parseAmount(token, 9));
+        } else if (token.startsWith("fine:near:")) {
+            String[] parts = token.substring(10).split(":");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("fine:near 格式应为 fine:near:位置:金额：" + token);
+            }
+            return new CardEffect.FineNear(parsePosition(token, parts[0]), parseNumber(token, parts[1]));
+        } else if (token.startsWith("dice:max:")) {
+            return new CardEffect.DiceMax(parseAmount(token, 9));
+        }
+        throw new IllegalArgumentException("无法识别的卡牌效果：" + token);
+    }
+
+    private static int parseAmount(String token, int offset) {
+        return parseNumber(token, token.substring(offset));
+    }
+
+    private static int parsePosition(String token, String text) {
+        int position = parseNumber(token, text);
+        if (position < 1) {
+            throw new IllegalArgumentException("卡牌效果中的位置必须从 1 开始：" + token);
+        }
+        return position;
+    }
+
+    private static int parseNumber(String token, String text) {
+        int value;
+        try {
+            value = Integer.parseInt(text.trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("卡牌效果中的数值无效：" + token, e);
+        }
+        if (value < 0) {
+            throw new IllegalArgumentException("卡牌效果中的数值不能为负：" + token);
+        }
+        return value;
+    }
+}
@@ -39,6 +39,14 @@ public class Player {
      * 玩家已抵押的地块位置集合。
      */
     private final Set<Integer> mortgagedTilePositions = new HashSet<>();
+    /**
+     * 已拥有且未抵押的火车站数量，随购买、抵押、赎回与破产增量维护。
+     */
+    private int activeStationCount;
+    /**
+     * 已拥有且未抵押的公司数量，随购买、抵押、赎回与破产增量维护。
+     */
+    private int activeCompanyCount;
     /**
      * 玩家当前所在位置。
      */
@@ -88,5 +96,50 @@ public class Player {
     public boolean addMortgagedTile(int tilePosition) {
         return mortgagedTilePositions.add(tilePosition);
     }
-}
 
+    /**
+     * 调整未抵押火车站计数。
+     *
+     * @param delta 变化量
+     */
+    public void changeActiveStationCount(int delta) {
+        activeStationCount += delta;
+    }
+
+    /**
+     * 调整未抵押公司计数。
+     *
+     * @param delta 变化量
+     */
+    public void changeActiveCompanyCount(int delta) {
+        activeCompanyCount += delta;
+    }
+
+    /**
+     * 复制玩家的全部状态（地产集合为独立副本），用于派生对局。
+     *
+     * @return 玩家副本
+     */
+    public Player copy() {
+        Player copy = new Player(id, name, money);
+        copy.ownedTilePositions.addAll(ownedTilePositions);
+        copy.mortgagedTilePositions.addAll(mortgagedTilePositions);
+        copy.activeStationCount = activeStationCount;
+        copy.activeCompanyCount = activeCompanyCount;
+        copy.position = position;
+        copy.paused = paused;
+        copy.hasJailReleasePermit = hasJailReleasePermit;
+        copy.jailTurnsRemaining = jailTurnsRemaining;
+        return copy;
+    }
+
+    /**
+     * 清空全部地产及相关计数，用于破产回收。
+     */
+    public void clearAssets() {
+        ownedTilePositions.clear();
+        mortgagedTilePositions.clear();
+        activeStationCount = 0;
+        activeCompanyCount = 0;
+    }
+}
@@ -0,0 +1,187 @@
+package Monopoly.core.domain.state;
+
+import Monopoly.core.domain.entity.card.DrawCard;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.random.RandomGenerator;
+
+/**
+ * 实现功能【单一类型卡牌的洗牌牌堆：按洗好的顺序抽牌，抽完后整体重洗】。
+ * <p>
+ * 内部以下标数组表示三段区域：{@code [0, cursor)} 为已抽出的弃牌，{@code [cursor, size)} 为剩余牌堆，
+ * {@code [size, n)} 为被玩家持有、暂不参与抽牌的卡（如出狱许可证）。抽牌为 O(1) 且不分配对象。
+ * 归还的卡放到牌堆底部，与实体牌堆的行为一致。
+ * <p>
+ *
+ * @author
+ * @date 2025-11-13
+ */
+public final class CardDeck {
+
+    /**
+     * 全部卡牌（按编号升序，保证同种子下结果可复现）。
+     */
+    private final DrawCard[] cards;
+    /**
+     * 洗牌顺序，元素为 {@link #cards} 的下标。
+     */
+    private final int[] order;
+    /**
+     * 每张卡在 {@link #order} 中的位置。
+     */
+    private final int[] slotOf;
+    private final RandomGenerator random;
+    /**
+     * 下一张要抽的牌在 {@link #order} 中的位置。
+     */
+    private int cursor;
+    /**
+     * 未被持有的卡牌数量。
+     */
+    private int size;
+
+    /**
+     * 构造函数，构造时即完成首次洗牌。
+     *
+     * @param cards 卡牌集合
+     * @param random 本局随机数发生器
+     */
+    public CardDeck(Collection<? extends DrawCard> cards, RandomGenerator random) {
+        Objects.requireNonNull(cards, "卡牌集合不能为空。");
+        this.random = Objects.requireNonNull(random, "随机数发生器不能为空。");
+        List<DrawCard> sorted = new ArrayList<>(cards);
+        sorted.sort(Comparator.comparingInt(DrawCard::getId));
+        this.cards = sorted.toArray(new DrawCard[0]);
+        this.order = new int[this.cards.length];
+        this.slotOf = new int[this.cards.length];
+        for (int i = 0; i < order.length; i++) {
+            order[i] = i;
+            slotOf[i] = i;
+        }
+        this.size = order.length;
+        shuffle();
+    }
+
+    private CardDeck(CardDeck source, RandomGenerator random) {
+        this.cards = source.cards;
+        this.order = source.order.clone();
+        this.slotOf = source.slotOf.clone();
+        this.random = random;
+        this.cursor = source.cursor;
+        this.size = source.size;
+    }
+
+    /**
+     * 复制牌堆用于派生对局：弃牌区与持有区保持不变，剩余牌堆用新的随机数发生器重新洗牌，
+     * 派生对局因此无法得知原对局尚未翻开的牌序。
+     *
+     * @param random 派生对局的随机数发生器
+     * @return 牌堆副本
+     */
+    public CardDeck copy(RandomGenerator random) {
+        CardDeck copy = new CardDeck(this, Objects.requireNonNull(random, "随机数发生器不能为空。"));
+        for (int i = copy.size - 1; i > copy.cursor; i--) {
+            copy.swap(i, copy.cursor + random.nextInt(i - copy.cursor + 1));
+        }
+        return copy;
+    }
+
+    /**
+     * 抽一张牌；牌堆抽完时先将弃牌重洗。
+     *
+     * @return 抽到的卡牌，所有卡都被持有或卡组为空时返回 null
+     */
+    public DrawCard draw() {
+        if (size == 0) {
+            return null;
+        }
+        if (cursor >= size) {
+            shuffle();
+        }
+        return cards[order[cursor++]];
+    }
+
+    /**
+     * 将卡牌移出流通（玩家持有），直到 {@link #giveBack(DrawCard)} 归还。
+     *
+     * @param card 卡牌
+     */
+    public void hold(DrawCard card) {
+        int index = indexOf(card);
+        int slot = slotOf[index];
+        if (slot >= size) {
+            return;
+        }
+        if (slot < cursor) {
+            // 弃牌区：先换到弃牌区末尾，再让剩余牌堆底部的牌补到该位置，弃牌区缩短一格
+            swap(slot, cursor - 1);
+            swap(cursor - 1, size - 1);
+            cursor--;
+        } else {
+            swap(slot, size - 1);
+        }
+        size--;
+    }
+
+    /**
+     * 归还持有的卡牌，放到剩余牌堆底部。
+     *
+     * @param card 卡牌
+     */
+    public void giveBack(DrawCard card) {
+        int index = indexOf(card);
+        int slot = slotOf[index];
+        if (slot < size) {
+            return;
+        }
+        swap(slot, size);
+        size++;
+    }
+
+    /**
+     * 剩余牌堆中的卡牌数量。
+     *
+     * @return 剩余数量
+     */
+    public int remaining() {
+        return size - cursor;
+    }
+
+    /**
+     * 卡组总数（含被持有的卡）。
+     *
+     * @return 总数
+     */
+    public int totalSize() {
+        return cards.length;
+    }
+
+    private void shuffle() {
+        for (int i = size - 1; i > 0; i--) {
+            swap(i, random.nextInt(i + 1));
+        }
+        cursor = 0;
+    }
+
+    private int indexOf(DrawCard card) {
+        for (int i = 0; i < cards.length; i++) {
+            if (cards[i] == card) {
+                return i;
+            }
+        }
+        throw new IllegalArgumentException("卡牌不属于该牌堆：" + card.getTitle());
+    }
+
+    private void swap(int a, int b) {
+        int ia = order[a];
+        int ib = order[b];
+        order[a] = ib;
+        order[b] = ia;
+        slotOf[ib] = a;
+        slotOf[ia] = b;
+    }
+}
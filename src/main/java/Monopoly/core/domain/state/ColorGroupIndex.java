@@ -0,0 +1,164 @@
+package Monopoly.core.domain.state;
+
+import Monopoly.core.domain.entity.tile.CountryTile;
+import Monopoly.core.domain.entity.tile.Tile;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 实现功能【国家地块颜色分组的只读索引：位置 → 分组编号、分组编号 → 成员位置】。
+ * <p>
+ * 分组编号按颜色在地图上首次出现的位置从 0 开始依次分配；非国家地块的分组为 {@link #NO_GROUP}。
+ * 索引在加载地图时构建一次，之后不可变，可在多局、多线程之间共享。
+ * <p>
+ *
+ * @author
+ * @date 2025-11-13
+ */
+public final class ColorGroupIndex {
+
+    /**
+     * 非国家地块的分组编号。
+     */
+    public static final int NO_GROUP = -1;
+
+    /**
+     * 以位置为下标的分组编号。
+     */
+    private final int[] groupByPosition;
+    /**
+     * 每个分组的成员位置（升序）。
+     */
+    private final int[][] members;
+    /**
+     * 每个分组对应的颜色。
+     */
+    private final String[] colors;
+
+    private ColorGroupIndex(int[] groupByPosition, int[][] members, String[] colors) {
+        this.groupByPosition = groupByPosition;
+        this.members = members;
+        this.colors = colors;
+    }
+
+    /**
+     * 根据地块集合构建索引。
+     *
+     * @param tiles 全部地块
+     * @return 颜色分组索引
+     */
+    public static ColorGroupIndex of(Collection<? extends Tile> tiles) {
+        int maxPosition = 0;
+        for (Tile tile : tiles) {
+            maxPosition = Math.max(maxPosition, tile.getPosition());
+        }
+        CountryTile[] countries = new CountryTile[maxPosition + 1];
+        for (Tile tile : tiles) {
+            if (tile instanceof CountryTile country) {
+                countries[country.getPosition()] = country;
+            }
+        }
+
+        int[] groupByPosition = new int[maxPosition + 1];
+        Arrays.fill(groupByPosition, NO_GROUP);
+        Map<String, List<Integer>> byColor = new LinkedHashMap<>();
+        for (int position = 1; position <= maxPosition; position++) {
+            CountryTile country = countries[position];
+            if (country != null) {
+                byColor.computeIfAbsent(country.getColor(), k -> new ArrayList<>()).add(position);
+            }
+        }
+
+        int[][] members = new int[byColor.size()][];
+        String[] colors = new String[byColor.size()];
+        int group = 0;
+        for (Map.Entry<String, List<Integer>> entry : byColor.entrySet()) {
+            colors[group] = entry.getKey();
+            members[group] = entry.getValue().stream().mapToInt(Integer::intValue).toArray();
+            for (int position : members[group]) {
+                groupByPosition[position] = group;
+            }
+            group++;
+        }
+        return new ColorGroupIndex(groupByPosition, members, colors);
+    }
+
+    /**
+     * 获取地图最大位置编号。
+     *
+     * @return 最大位置编号
+     */
+    public int getMaxPosition() {
+        return groupByPosition.length - 1;
+    }
+
+    /**
+     * 获取分组数量。
+     *
+     * @return 分组数量
+     */
+    public int getGroupCount() {
+        return members.length;
+    }
+
+    /**
+     * 获取地块所在分组。
+     *
+     * @param position 地块位置
+     * @return 分组编号，非国家地块或越界时返回 {@link #NO_GROUP}
+     */
+    public int groupOf(int position) {
+        return position >= 0 && position < groupByPosition.length ? groupByPosition[position] : NO_GROUP;
+    }
+
+    /**
+     * 根据颜色查找分组。
+     *
+     * @param color 颜色
+     * @return 分组编号，不存在时返回 {@link #NO_GROUP}
+     */
+    public int groupOf(String color) {
+        for (int group = 0; group < colors.length; group++) {
+            if (colors[group].equals(color)) {
+                return group;
+            }
+        }
+        return NO_GROUP;
+    }
+
+    /**
+     * 获取分组成员数量。
+     *
+     * @param group 分组编号
+     * @return 成员数量
+     */
+    public int getGroupSize(int group) {
+        return members[group].length;
+    }
+
+    /**
+     * 获取分组中第 i 个成员的位置。
+     *
+     * @param group 分组编号
+     * @param index 成员序号，从 0 开始
+     * @return 地块位置
+     */
+    public int getMember(int group, int index) {
+        return members[group][index];
+    }
+
+    /**
+     * 获取分组颜色。
+     *
+     * @param group 分组编号
+     * @return 颜色
+     */
+    public String getColor(int group) {
+        return colors[group];
+    }
+}
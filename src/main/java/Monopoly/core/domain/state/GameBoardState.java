@@ -0,0 +1,287 @@
+package Monopoly.core.domain.state;
+
+import java.util.Arrays;
+
+/**
+ * 实现功能【以基本类型数组保存整张地图的可变状态：所有者、房屋数、旅馆与抵押标记】。
+ * <p>
+ * 所有数组均以地块位置为下标（位置从 1 开始，0 号位不使用），读写不装箱、不分配对象；
+ * 所有权变化时同步维护各玩家在每个颜色分组中的持有数，垄断判定为 O(1)。
+ * {@link #copy()} 只做数组拷贝，便于模拟时快速复制整局状态。
+ * <p>
+ *
+ * @author
+ * @date 2025-11-13
+ */
+public final class GameBoardState {
+
+    /**
+     * 无人持有时的所有者编号（玩家编号从 1 开始）。
+     */
+    public static final int NO_OWNER = 0;
+    /**
+     * 单块地最多可建的房屋数。
+     */
+    public static final int MAX_HOUSES = 4;
+
+    /**
+     * 颜色分组索引（只读共享）。
+     */
+    private final ColorGroupIndex groups;
+    /**
+     * 地块所有者编号。
+     */
+    private final int[] owners;
+    /**
+     * 房屋数量（0-4）。
+     */
+    private final byte[] houses;
+    /**
+     * 旅馆标记（0 或 1）。
+     */
+    private final byte[] hotels;
+    /**
+     * 抵押标记（0 或 1）。
+     */
+    private final byte[] mortgaged;
+    /**
+     * 每位玩家在每个颜色分组中持有的地块数，下标为 {@code playerId * 分组数 + 分组编号}，
+     * 随所有权变化增量维护，按玩家编号按需扩容。
+     */
+    private int[] groupOwnedCounts;
+
+    /**
+     * 构造函数。
+     *
+     * @param groups 颜色分组索引，同时决定地图尺寸
+     */
+    public GameBoardState(ColorGroupIndex groups) {
+        int size = groups.getMaxPosition() + 1;
+        this.groups = groups;
+        this.owners = new int[size];
+        this.houses = new byte[size];
+        this.hotels = new byte[size];
+        this.mortgaged = new byte[size];
+        this.groupOwnedCounts = new int[0];
+    }
+
+    private GameBoardState(GameBoardState source) {
+        this.groups = source.groups;
+        this.owners = source.owners.clone();
+        this.houses = source.houses.clone();
+        this.hotels = source.hotels.clone();
+        this.mortgaged = source.mortgaged.clone();
+        this.groupOwnedCounts = source.groupOwnedCounts.clone();
+    }
+
+    /**
+     * 复制一份完全独立的状态。
+     *
+     * @return 状态副本
+     */
+    public GameBoardState copy() {
+        return new GameBoardState(this);
+    }
+
+    /**
+     * 用另一份同尺寸状态覆盖当前状态，不分配新数组。
+     *
+     * @param source 源状态
+     */
+    public void copyFrom(GameBoardState source) {
+        if (source.owners.length != owners.length) {
+            throw new IllegalArgumentException("地图尺寸不一致：" + (source.owners.length - 1) + " != " + (owners.length - 1));
+        }
+        System.arraycopy(source.owners, 0, owners, 0, owners.length);
+        System.arraycopy(source.houses, 0, houses, 0, houses.length);
+        System.arraycopy(source.hotels, 0, hotels, 0, hotels.length);
+        System.arraycopy(source.mortgaged, 0, mortgaged, 0, mortgaged.length);
+        if (groupOwnedCounts.length != source.groupOwnedCounts.length) {
+            groupOwnedCounts = source.groupOwnedCounts.clone();
+        } else {
+            System.arraycopy(source.groupOwnedCounts, 0, groupOwnedCounts, 0, groupOwnedCounts.length);
+        }
+    }
+
+    /**
+     * 获取地图最大位置编号。
+     *
+     * @return 最大位置编号
+     */
+    public int getMaxPosition() {
+        return owners.length - 1;
+    }
+
+    public int getOwner(int position) {
+        return owners[position];
+    }
+
+    public boolean isOwned(int position) {
+        return owners[position] != NO_OWNER;
+    }
+
+    /**
+     * 设置地块所有者，并同步更新颜色分组持有计数。
+     *
+     * @param position 地块位置
+     * @param playerId 新所有者编号，{@link #NO_OWNER} 表示收回
+     */
+    public void setOwner(int position, int playerId) {
+        int previous = owners[position];
+        if (previous == playerId) {
+            return;
+        }
+        owners[position] = playerId;
+        int group = groups.groupOf(position);
+        if (group == ColorGroupIndex.NO_GROUP) {
+            return;
+        }
+        if (previous != NO_OWNER) {
+            groupOwnedCounts[previous * groups.getGroupCount() + group]--;
+        }
+        if (playerId != NO_OWNER) {
+            ensurePlayerCapacity(playerId);
+            groupOwnedCounts[playerId * groups.getGroupCount() + group]++;
+        }
+    }
+
+    /**
+     * 获取玩家在指定颜色分组中持有的地块数。
+     *
+     * @param playerId 玩家编号
+     * @param group 分组编号
+     * @return 持有数量
+     */
+    public int getOwnedInGroup(int playerId, int group) {
+        int index = playerId * groups.getGroupCount() + group;
+        return group >= 0 && playerId > NO_OWNER && index < groupOwnedCounts.length ? groupOwnedCounts[index] : 0;
+    }
+
+    /**
+     * 判断玩家是否垄断了指定颜色分组（持有该分组全部地块），O(1) 且不分配对象。
+     *
+     * @param playerId 玩家编号
+     * @param group 分组编号
+     * @return 是否垄断
+     */
+    public boolean hasMonopoly(int playerId, int group) {
+        return group != ColorGroupIndex.NO_GROUP && getOwnedInGroup(playerId, group) == groups.getGroupSize(group);
+    }
+
+    /**
+     * 获取颜色分组索引。
+     *
+     * @return 颜色分组索引
+     */
+    public ColorGroupIndex getColorGroups() {
+        return groups;
+    }
+
+    public int getHouseCount(int position) {
+        return houses[position];
+    }
+
+    public void setHouseCount(int position, int houseCount) {
+        houses[position] = (byte) houseCount;
+    }
+
+    public int getHotelCount(int position) {
+        return hotels[position];
+    }
+
+    public void setHotelCount(int position, int hotelCount) {
+        hotels[position] = (byte) hotelCount;
+    }
+
+    public boolean isMortgaged(int position) {
+        return mortgaged[position] != 0;
+    }
+
+    public void setMortgaged(int position, boolean value) {
+        mortgaged[position] = (byte) (value ? 1 : 0);
+    }
+
+    /**
+     * 是否可以建造房屋
+     */
+    public boolean canBuildHouse(int position) {
+        return mortgaged[position] == 0 && houses[position] < MAX_HOUSES && hotels[position] == 0;
+    }
+
+    /**
+     * 是否可以建造旅馆
+     */
+    public boolean canBuildHotel(int position) {
+        return mortgaged[position] == 0 && houses[position] == MAX_HOUSES && hotels[position] == 0;
+    }
+
+    /**
+     * 是否可以建造（房屋或旅馆）
+     */
+    public boolean canBuild(int position) {
+        return canBuildHouse(position) || canBuildHotel(position);
+    }
+
+    /**
+     * 建造房屋
+     */
+    public void buildHouse(int position) {
+        if (!canBuildHouse(position)) {
+            throw new IllegalStateException(describeBuildFailure("房屋", position));
+        }
+        houses[position]++;
+    }
+
+    /**
+     * 建造旅馆（会移除4幢房屋）
+     */
+    public void buildHotel(int position) {
+        if (!canBuildHotel(position)) {
+            throw new IllegalStateException(describeBuildFailure("旅馆", position));
+        }
+        houses[position] = 0;
+        hotels[position] = 1;
+    }
+
+    /**
+     * 是否有建筑物（房屋或旅馆）
+     */
+    public boolean hasBuildings(int position) {
+        return houses[position] > 0 || hotels[position] > 0;
+    }
+
+    /**
+     * 清空地块状态（所有者、建筑与抵押），用于破产回收。
+     *
+     * @param position 地块位置
+     */
+    public void clear(int position) {
+        setOwner(position, NO_OWNER);
+        houses[position] = 0;
+        hotels[position] = 0;
+        mortgaged[position] = 0;
+    }
+
+    /**
+     * 清空整张地图。
+     */
+    public void clearAll() {
+        Arrays.fill(owners, NO_OWNER);
+        Arrays.fill(houses, (byte) 0);
+        Arrays.fill(hotels, (byte) 0);
+        Arrays.fill(mortgaged, (byte) 0);
+        Arrays.fill(groupOwnedCounts, 0);
+    }
+
+    private void ensurePlayerCapacity(int playerId) {
+        int required = (playerId + 1) * groups.getGroupCount();
+        if (required > groupOwnedCounts.length) {
+            groupOwnedCounts = Arrays.copyOf(groupOwnedCounts, required);
+        }
+    }
+
+    private String describeBuildFailure(String building, int position) {
+        return "无法建造" + building + "：位置=" + position + ", 房屋数=" + houses[position]
+                + ", 旅馆数=" + hotels[position] + ", 抵押状态=" + isMortgaged(position);
+    }
+}
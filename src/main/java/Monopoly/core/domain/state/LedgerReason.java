@@ -0,0 +1,55 @@
+package Monopoly.core.domain.state;
+
+/**
+ * 实现功能【资金流水的原因代码，流水中以序号（byte）保存】。
+ */
+public enum LedgerReason {
+    /**
+     * 开局时银行发放的初始资金。
+     */
+    OPENING,
+    /**
+     * 经过起点的奖励。
+     */
+    PASS_GO,
+    /**
+     * 停留在起点的奖励。
+     */
+    GO_BONUS,
+    /**
+     * 税费。
+     */
+    TAX,
+    /**
+     * 购买地块。
+     */
+    PURCHASE,
+    /**
+     * 建造房屋或旅馆。
+     */
+    BUILD,
+    /**
+     * 抵押地块获得的资金。
+     */
+    MORTGAGE,
+    /**
+     * 赎回地块的费用。
+     */
+    REDEEM,
+    /**
+     * 过路费，记录收费地块。
+     */
+    TOLL,
+    /**
+     * 机会卡、命运卡带来的收支（含罚款与奖励）。
+     */
+    CARD,
+    /**
+     * 其他支付。
+     */
+    PAYMENT,
+    /**
+     * 破产时剩余现金转给债权人或银行。
+     */
+    BANKRUPTCY
+}
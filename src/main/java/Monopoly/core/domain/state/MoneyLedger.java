@@ -0,0 +1,281 @@
+package Monopoly.core.domain.state;
+
+import Monopoly.core.domain.entity.player.Player;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+/**
+ * 实现功能【复式记账的资金流水：每笔转账记录付款方、收款方（银行为 0 号账户）、金额、原因与地块】。
+ * <p>
+ * 流水按列保存在基本类型数组中，追加不分配对象；每笔转账同时减记付款账户、增记收款账户，
+ * 因此所有账户（含银行）余额之和恒为 0，玩家手中的货币总量即银行账户余额的相反数，守恒检查无需遍历玩家。
+ * 按原因与按地块的累计额随记账增量维护，“某地块累计收取的过路费”等查询为 O(1)。
+ * <p>
+ * 玩家现金在记账时立即更新（回合内的购买、缴费判定需要读取最新余额）；涉及的玩家在本回合内只登记一次，
+ * 回合结束时由 {@link #settle(Consumer)} 统一核对账面余额并批量保存。位置、入狱、地产等非资金变动
+ * 通过 {@link #touch(Player)} 登记到同一批次，无需逐次保存。
+ * <p>
+ *
+ * @author
+ * @date 2025-11-13
+ */
+public final class MoneyLedger {
+
+    /**
+     * 银行账户编号（玩家编号从 1 开始）。
+     */
+    public static final int BANK = 0;
+    /**
+     * 与地块无关的流水使用的位置编号（地块位置从 1 开始）。
+     */
+    public static final int NO_TILE = 0;
+
+    private static final LedgerReason[] REASONS = LedgerReason.values();
+
+    /**
+     * 流水列：付款账户、收款账户、金额、原因序号、地块位置、回合号。
+     */
+    private int[] payers = new int[64];
+    private int[] payees = new int[64];
+    private int[] amounts = new int[64];
+    private byte[] reasons = new byte[64];
+    private int[] tiles = new int[64];
+    private int[] turns = new int[64];
+    private int size;
+
+    /**
+     * 各账户余额，下标为账户编号，按玩家编号按需扩容。
+     */
+    private long[] balances = new long[8];
+    /**
+     * 各原因的累计金额。
+     */
+    private final long[] totalsByReason = new long[REASONS.length];
+    /**
+     * 各地块累计收取的过路费，下标为地块位置，按需扩容。
+     */
+    private long[] tollsByTile = new long[41];
+
+    /**
+     * 本回合涉及、尚未核对保存的玩家。
+     */
+    private Player[] touched = new Player[8];
+    private boolean[] touchedFlags = new boolean[8];
+    private int touchedCount;
+    private int turn;
+
+    /**
+     * 开户：以玩家当前现金作为银行发放的初始资金记账。
+     *
+     * @param player 玩家
+     */
+    public void open(Player player) {
+        Objects.requireNonNull(player, "玩家不能为空。");
+        int id = player.getId();
+        if (id <= BANK) {
+            throw new IllegalArgumentException("玩家编号必须大于 0：" + id);
+        }
+        ensureAccount(id);
+        int money = player.getMoney();
+        append(BANK, id, money, LedgerReason.OPENING, NO_TILE);
+        balances[BANK] -= money;
+        balances[id] += money;
+        totalsByReason[LedgerReason.OPENING.ordinal()] += money;
+    }
+
+    /**
+     * 记账并立即更新双方现金。
+     *
+     * @param payer 付款玩家，null 表示银行
+     * @param payee 收款玩家，null 表示银行
+     * @param amount 金额，不能为负
+     * @param reason 原因
+     * @param position 相关地块位置，无关时为 {@link #NO_TILE}
+     */
+    public void transfer(Player payer, Player payee, int amount, LedgerReason reason, int position) {
+        Objects.requireNonNull(reason, "记账原因不能为空。");
+        if (amount < 0) {
+            throw new IllegalArgumentException("转账金额不能为负：" + amount);
+        }
+        if (amount == 0 || payer == payee) {
+            return;
+        }
+        int from = payer == null ? BANK : payer.getId();
+        int to = payee == null ? BANK : payee.getId();
+        ensureAccount(Math.max(from, to));
+        append(from, to, amount, reason, position);
+        balances[from] -= amount;
+        balances[to] += amount;
+        if (payer != null) {
+            payer.setMoney(payer.getMoney() - amount);
+            touch(payer);
+        }
+        if (payee != null) {
+            payee.setMoney(payee.getMoney() + amount);
+            touch(payee);
+        }
+        totalsByReason[reason.ordinal()] += amount;
+        if (reason == LedgerReason.TOLL && position > NO_TILE) {
+            if (position >= tollsByTile.length) {
+                tollsByTile = Arrays.copyOf(tollsByTile, position + 1);
+            }
+            tollsByTile[position] += amount;
+        }
+    }
+
+    /**
+     * 结束一个回合：核对本回合涉及玩家的现金与账面余额，并逐个保存一次。
+     *
+     * @param sink 保存玩家的回调（通常为玩家仓库的 save）
+     * @return 本回合涉及的玩家数
+     * @throws IllegalStateException 有玩家现金绕过流水发生了变动
+     */
+    public int settle(Consumer<Player> sink) {
+        int count = touchedCount;
+        for (int i = 0; i < count; i++) {
+            Player player = touched[i];
+            touched[i] = null;
+            touchedFlags[player.getId()] = false;
+            if (balances[player.getId()] != player.getMoney()) {
+                touchedCount = 0;
+                throw new IllegalStateException("资金不守恒：玩家 " + player.getName() + " 账面余额 "
+                        + balances[player.getId()] + "，实际现金 " + player.getMoney() + "。");
+            }
+            sink.accept(player);
+        }
+        touchedCount = 0;
+        return count;
+    }
+
+    /**
+     * 登记本回合状态有变动的玩家，回合结束时与资金变动的玩家一起核对并保存一次（重复登记忽略）。
+     *
+     * @param player 玩家
+     */
+    public void touch(Player player) {
+        int id = player.getId();
+        ensureAccount(id);
+        if (touchedFlags[id]) {
+            return;
+        }
+        touchedFlags[id] = true;
+        if (touchedCount == touched.length) {
+            touched = Arrays.copyOf(touched, touchedCount << 1);
+        }
+        touched[touchedCount++] = player;
+    }
+
+    /**
+     * 设置之后流水记录的回合号。
+     *
+     * @param turn 回合号
+     */
+    public void beginTurn(int turn) {
+        this.turn = turn;
+    }
+
+    /**
+     * 账户余额。
+     *
+     * @param account 账户编号，{@link #BANK} 为银行
+     * @return 余额；未开户的账户为 0
+     */
+    public long getBalance(int account) {
+        return account < balances.length ? balances[account] : 0;
+    }
+
+    /**
+     * 玩家手中的货币总量（银行累计净发放额），O(1)。
+     *
+     * @return 货币总量
+     */
+    public long getMoneySupply() {
+        return -balances[BANK];
+    }
+
+    /**
+     * 某原因的累计金额。
+     *
+     * @param reason 原因
+     * @return 累计金额
+     */
+    public long getTotal(LedgerReason reason) {
+        return totalsByReason[reason.ordinal()];
+    }
+
+    /**
+     * 某地块累计收取的过路费。
+     *
+     * @param position 地块位置
+     * @return 累计过路费
+     */
+    public long getTollIncome(int position) {
+        return position > NO_TILE && position < tollsByTile.length ? tollsByTile[position] : 0;
+    }
+
+    /**
+     * 流水条数。
+     *
+     * @return 条数
+     */
+    public int size() {
+        return size;
+    }
+
+    public int getPayer(int index) {
+        return payers[checkIndex(index)];
+    }
+
+    public int getPayee(int index) {
+        return payees[checkIndex(index)];
+    }
+
+    public int getAmount(int index) {
+        return amounts[checkIndex(index)];
+    }
+
+    public LedgerReason getReason(int index) {
+        return REASONS[reasons[checkIndex(index)]];
+    }
+
+    public int getTile(int index) {
+        return tiles[checkIndex(index)];
+    }
+
+    public int getTurn(int index) {
+        return turns[checkIndex(index)];
+    }
+
+    private void append(int from, int to, int amount, LedgerReason reason, int position) {
+        if (size == payers.length) {
+            int capacity = size << 1;
+            payers = Arrays.copyOf(payers, capacity);
+            payees = Arrays.copyOf(payees, capacity);
+            amounts = Arrays.copyOf(amounts, capacity);
+            reasons = Arrays.copyOf(reasons, capacity);
+            tiles = Arrays.copyOf(tiles, capacity);
+            turns = Arrays.copyOf(turns, capacity);
+        }
+        payers[size] = from;
+        payees[size] = to;
+        amounts[size] = amount;
+        reasons[size] = (byte) reason.ordinal();
+        tiles[size] = position;
+        turns[size] = turn;
+        size++;
+    }
+
+    private void ensureAccount(int id) {
+        if (id >= balances.length) {
+            int capacity = Math.max(id + 1, balances.length << 1);
+            balances = Arrays.copyOf(balances, capacity);
+            touchedFlags = Arrays.copyOf(touchedFlags, capacity);
+        }
+    }
+
+    private int checkIndex(int index) {
+        return Objects.checkIndex(index, size);
+    }
+}
@@ -0,0 +1,207 @@
+package Monopoly.core.domain.state;
+
+import Monopoly.core.domain.entity.player.Player;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.IntFunction;
+
+/**
+ * 实现功能【玩家行动顺序环：按编号排座，轮转取下一位、淘汰出局均为 O(1)】。
+ * <p>
+ * 座位以数组保存，在役玩家通过 {@code next/prev} 下标串成双向环；淘汰时只摘除该座位，
+ * 当前指针若正指向被淘汰者则顺移到其下一位，其余玩家的先后次序不受影响。
+ * 另维护编号 → 座位的下标，按编号查找玩家同样为 O(1)。
+ * <p>
+ *
+ * @author
+ * @date 2025-11-13
+ */
+public final class TurnOrder {
+
+    private static final int NO_SEAT = -1;
+
+    /**
+     * 按编号升序排列的全部玩家（含已淘汰）。
+     */
+    private final Player[] seats;
+    private final int[] next;
+    private final int[] prev;
+    private final boolean[] active;
+    /**
+     * 玩家编号 → 座位下标。
+     */
+    private final int[] seatById;
+    /**
+     * 下一位行动玩家的座位。
+     */
+    private int cursor;
+    private int activeCount;
+    /**
+     * 在役玩家列表缓存，淘汰发生时失效。
+     */
+    private List<Player> activeView;
+
+    /**
+     * 构造函数，全部玩家均在役，编号最小者先行动。
+     *
+     * @param players 玩家集合，编号不可重复且不小于 0
+     */
+    public TurnOrder(Collection<Player> players) {
+        Objects.requireNonNull(players, "玩家集合不能为空。");
+        List<Player> sorted = new ArrayList<>(players);
+        sorted.sort(Comparator.comparingInt(Player::getId));
+        this.seats = sorted.toArray(new Player[0]);
+        int n = seats.length;
+        this.next = new int[n];
+        this.prev = new int[n];
+        this.active = new boolean[n];
+        int maxId = n == 0 ? 0 : seats[n - 1].getId();
+        if (n > 0 && seats[0].getId() < 0) {
+            throw new IllegalArgumentException("玩家编号不能为负：" + seats[0].getId());
+        }
+        this.seatById = new int[maxId + 1];
+        Arrays.fill(seatById, NO_SEAT);
+        for (int i = 0; i < n; i++) {
+            if (seatById[seats[i].getId()] != NO_SEAT) {
+                throw new IllegalArgumentException("玩家编号重复：" + seats[i].getId());
+            }
+            seatById[seats[i].getId()] = i;
+            next[i] = (i + 1) % n;
+            prev[i] = (i + n - 1) % n;
+            active[i] = true;
+        }
+        this.activeCount = n;
+        this.cursor = 0;
+    }
+
+    private TurnOrder(TurnOrder source, Player[] seats) {
+        this.seats = seats;
+        this.next = source.next.clone();
+        this.prev = source.prev.clone();
+        this.active = source.active.clone();
+        this.seatById = source.seatById;
+        this.cursor = source.cursor;
+        this.activeCount = source.activeCount;
+    }
+
+    /**
+     * 复制行动顺序（含当前指针与淘汰状态），座位上的玩家替换为派生对局中的同编号玩家。
+     *
+     * @param players 按编号查找派生对局玩家的函数
+     * @return 行动顺序副本
+     */
+    public TurnOrder copy(IntFunction<Player> players) {
+        Player[] copies = new Player[seats.length];
+        for (int i = 0; i < seats.length; i++) {
+            copies[i] = Objects.requireNonNull(players.apply(seats[i].getId()), "派生对局缺少玩家：" + seats[i].getId());
+        }
+        return new TurnOrder(this, copies);
+    }
+
+    /**
+     * 取出下一位行动的玩家，并把指针移到其后一位。
+     *
+     * @return 玩家，无在役玩家时返回 null
+     */
+    public Player advance() {
+        if (activeCount == 0) {
+            return null;
+        }
+        Player player = seats[cursor];
+        cursor = next[cursor];
+        return player;
+    }
+
+    /**
+     * 查看下一位行动的玩家，不移动指针。
+     *
+     * @return 玩家，无在役玩家时返回 null
+     */
+    public Player peek() {
+        return activeCount == 0 ? null : seats[cursor];
+    }
+
+    /**
+     * 淘汰玩家，重复淘汰或编号不存在时忽略。
+     *
+     * @param playerId 玩家编号
+     * @return 是否确实淘汰了一名在役玩家
+     */
+    public boolean eliminate(int playerId) {
+        int seat = seatOf(playerId);
+        if (seat == NO_SEAT || !active[seat]) {
+            return false;
+        }
+        active[seat] = false;
+        activeCount--;
+        activeView = null;
+        if (activeCount == 0) {
+            return true;
+        }
+        next[prev[seat]] = next[seat];
+        prev[next[seat]] = prev[seat];
+        if (cursor == seat) {
+            cursor = next[seat];
+        }
+        return true;
+    }
+
+    /**
+     * 按编号查找玩家（含已淘汰）。
+     *
+     * @param playerId 玩家编号
+     * @return 玩家，不存在时返回 null
+     */
+    public Player findById(int playerId) {
+        int seat = seatOf(playerId);
+        return seat == NO_SEAT ? null : seats[seat];
+    }
+
+    /**
+     * 判断玩家是否在役。
+     *
+     * @param playerId 玩家编号
+     * @return 是否在役
+     */
+    public boolean isActive(int playerId) {
+        int seat = seatOf(playerId);
+        return seat != NO_SEAT && active[seat];
+    }
+
+    /**
+     * 在役玩家数量。
+     *
+     * @return 数量
+     */
+    public int getActiveCount() {
+        return activeCount;
+    }
+
+    /**
+     * 按编号升序获取在役玩家的只读列表；仅在淘汰发生后重新构建。
+     *
+     * @return 在役玩家
+     */
+    public List<Player> activePlayers() {
+        if (activeView == null) {
+            List<Player> list = new ArrayList<>(activeCount);
+            for (int i = 0; i < seats.length; i++) {
+                if (active[i]) {
+                    list.add(seats[i]);
+                }
+            }
+            activeView = Collections.unmodifiableList(list);
+        }
+        return activeView;
+    }
+
+    private int seatOf(int playerId) {
+        return playerId >= 0 && playerId < seatById.length ? seatById[playerId] : NO_SEAT;
+    }
+}
@@ -0,0 +1,52 @@
+package Monopoly.core.event;
+
+import lombok.Getter;
+
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 实现功能【为一局游戏内的事件分配单调递增的序号，并提供该局使用的时钟】。
+ * <p>
+ * 每局游戏持有一个实例，序号从 1 开始，同种子的模拟中序号完全可复现。
+ * <p>
+ *
+ * @author
+ * @date 2025-11-13
+ */
+public final class EventSequencer {
+
+    /**
+     * 事件时间戳来源。
+     */
+    @Getter
+    private final GameClock clock;
+    private final AtomicLong lastSequence = new AtomicLong();
+
+    /**
+     * 构造函数。
+     *
+     * @param clock 时钟
+     */
+    public EventSequencer(GameClock clock) {
+        this.clock = Objects.requireNonNull(clock, "时钟不能为空。");
+    }
+
+    /**
+     * 分配下一个序号。
+     *
+     * @return 序号，从 1 开始
+     */
+    public long nextSequence() {
+        return lastSequence.incrementAndGet();
+    }
+
+    /**
+     * 获取最近分配的序号。
+     *
+     * @return 序号，尚未分配时为 0
+     */
+    public long lastSequence() {
+        return lastSequence.get();
+    }
+}
@@ -0,0 +1,76 @@
+package Monopoly.core.event;
+
+/**
+ * 实现功能【为领域事件提供时间戳的可替换时钟】。
+ * <p>
+ * 时间戳的单位由具体时钟决定：{@link #wall()} 为毫秒级墙上时间，{@link #nano()} 为自时钟创建起的纳秒数，
+ * {@link #turns()} 为逻辑回合号（同种子的模拟可完全复现）。
+ * <p>
+ *
+ * @author
+ * @date 2025-11-13
+ */
+@FunctionalInterface
+public interface GameClock {
+
+    /**
+     * 获取当前时间戳。
+     *
+     * @return 时间戳
+     */
+    long now();
+
+    /**
+     * 回合开始时由回合服务回调，逻辑时钟据此推进；其他时钟忽略。
+     *
+     * @param turn 回合号，从 1 开始
+     */
+    default void onTurnStarted(int turn) {
+    }
+
+    /**
+     * 墙上时钟（自 1970-01-01 起的毫秒数）。
+     *
+     * @return 时钟
+     */
+    static GameClock wall() {
+        return System::currentTimeMillis;
+    }
+
+    /**
+     * 单调纳秒时钟（自本时钟创建起经过的纳秒数）。
+     *
+     * @return 时钟
+     */
+    static GameClock nano() {
+        long origin = System.nanoTime();
+        return () -> System.nanoTime() - origin;
+    }
+
+    /**
+     * 逻辑回合时钟（时间戳为当前回合号，开局前为 0）。
+     *
+     * @return 时钟
+     */
+    static GameClock turns() {
+        return new TurnClock();
+    }
+
+    /**
+     * 逻辑回合时钟实现。
+     */
+    final class TurnClock implements GameClock {
+
+        private volatile long turn;
+
+        @Override
+        public long now() {
+            return turn;
+        }
+
+        @Override
+        public void onTurnStarted(int turn) {
+            this.turn = turn;
+        }
+    }
+}
@@ -1,14 +1,15 @@
 package Monopoly.core.event;
 
+import lombok.AccessLevel;
 import lombok.Getter;
 
-import java.time.Instant;
 import java.util.UUID;
 
 /**
  * 实现功能【表示在游戏运行过程中发生的领域事件，所有具体事件都应继承该抽象类】
  * <p>
- *
+ * 事件的身份是对局内单调递增的序号，时间戳来自对局注入的 {@link GameClock}；
+ * UUID 只在有消费者调用 {@link #getId()} 时才生成。
  * <p>
  *
  * @author li.hongyu
@@ -18,29 +19,47 @@ import java.util.UUID;
 public abstract class GameEvent {
 
     /**
-     * 事件唯一标识
+     * 事件在所属对局内的序号，从 1 开始单调递增
      */
-    private final UUID id;
+    private final long sequence;
     /**
-     * 事件发生的时间戳
+     * 事件发生的时间戳，单位取决于所属对局的时钟
      */
-    private final Instant occurredAt;
+    private final long timestamp;
     /**
      * 玩家标识字符串，若无玩家关联则返回 null
      */
     private final String playerId;
+    /**
+     * 事件唯一标识，首次读取时生成
+     */
+    @Getter(AccessLevel.NONE)
+    private UUID id;
 
     /**
      * 构造函数。
      *
+     * @param sequencer 所属对局的事件序号分配器
      * @param playerId 事件关联的玩家标识，若与玩家无关可传入 null
      */
-    protected GameEvent(String playerId) {
-        this.id = UUID.randomUUID();
-        this.occurredAt = Instant.now();
+    protected GameEvent(EventSequencer sequencer, String playerId) {
+        this.sequence = sequencer.nextSequence();
+        this.timestamp = sequencer.getClock().now();
         this.playerId = playerId;
     }
 
+    /**
+     * 获取事件唯一标识，首次调用时生成。
+     *
+     * @return UUID
+     */
+    public UUID getId() {
+        if (id == null) {
+            id = UUID.randomUUID();
+        }
+        return id;
+    }
+
     /**
      * 获取事件类型名称，用于日志和输出。
      *
@@ -2,6 +2,9 @@ package Monopoly.core.event;
 
 /**
  * 实现功能【表示带有后续交互步骤的领域事件】。
+ * <p>
+ * 实现约定：一次 {@link #interact()} 至多向决策端口提问一次，且在提问返回之前不修改对局状态。
+ * 网络对局依赖这一点在等待玩家输入时中止交互、答案到达后重新调用。
  */
 public interface InteractiveEvent {
 
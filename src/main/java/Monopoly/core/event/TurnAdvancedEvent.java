@@ -33,13 +33,15 @@ public class TurnAdvancedEvent extends GameEvent {
     /**
      * 构造函数。
      *
+     * @param sequencer     所属对局的事件序号分配器
      * @param currentPlayer 当前执行回合的玩家
      * @param roundNumber   当前第几轮
      * @param playerOrder   玩家在轮次中的顺序
      * @param gameOver      推进后游戏是否结束
      */
-    public TurnAdvancedEvent(Player currentPlayer, int roundNumber, int playerOrder, boolean gameOver) {
-        super(currentPlayer == null ? null : String.valueOf(currentPlayer.getId()));
+    public TurnAdvancedEvent(EventSequencer sequencer, Player currentPlayer, int roundNumber, int playerOrder,
+                             boolean gameOver) {
+        super(sequencer, currentPlayer == null ? null : String.valueOf(currentPlayer.getId()));
         this.currentPlayer = currentPlayer;
         this.roundNumber = roundNumber;
         this.playerOrder = playerOrder;
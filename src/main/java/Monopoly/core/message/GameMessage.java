@@ -3,6 +3,8 @@ package Monopoly.core.message;
 import Monopoly.core.event.GameEvent;
 import lombok.Getter;
 
+import java.util.function.Supplier;
+
 /**
  * 实现功能【描述一次需要输出给玩家的消息。该消息通常由领域事件转换而来，用于统一字符串打印逻辑】
  * <p>
@@ -20,9 +22,10 @@ public class GameMessage {
      */
     private final String type;
     /**
-     *  已格式化的消息正文
+     *  消息正文，首次调用 {@link #getContent()} 时才格式化
      */
-    private final String content;
+    @Getter(lombok.AccessLevel.NONE)
+    private final LazyText content;
     /**
      * 关联的领域事件，可能为 null
      */
@@ -36,10 +39,30 @@ public class GameMessage {
      * @param sourceEvent 触发该消息的事件原始对象，可为空
      */
     public GameMessage(String type, String content, GameEvent sourceEvent) {
+        this(type, LazyText.of(content), sourceEvent);
+    }
+
+    /**
+     * 构造函数，正文延迟到输出端口读取时才渲染。
+     *
+     * @param type 消息类型，通常与事件类型或业务场景对应
+     * @param content 正文渲染方法
+     * @param sourceEvent 触发该消息的事件原始对象，可为空
+     */
+    public GameMessage(String type, Supplier<String> content, GameEvent sourceEvent) {
         this.type = type;
-        this.content = content;
+        this.content = LazyText.of(content);
         this.sourceEvent = sourceEvent;
     }
 
+    /**
+     * 获取消息正文，首次调用时渲染。
+     *
+     * @return 已格式化的消息正文
+     */
+    public String getContent() {
+        return content.get();
+    }
+
 }
 
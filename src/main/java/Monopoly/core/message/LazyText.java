@@ -0,0 +1,84 @@
+package Monopoly.core.message;
+
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/**
+ * 实现功能【延迟渲染的文本：首次读取时才执行格式化，结果缓存复用】。
+ * <p>
+ * 事件与消息只持有渲染方法及其所需的数据，无界面对局中没有输出端口读取正文时，
+ * 整个格式化过程都会被跳过。渲染读取的是读取时刻的游戏状态，因此正文应在发布时同步读取，
+ * 不能拖到事件链继续推进之后。非线程安全。
+ * <p>
+ *
+ * @author
+ * @date 2025-11-13
+ */
+public final class LazyText implements Supplier<String> {
+
+    private static final LazyText EMPTY = new LazyText(null, "");
+
+    private Supplier<String> renderer;
+    private String text;
+
+    private LazyText(Supplier<String> renderer, String text) {
+        this.renderer = renderer;
+        this.text = text;
+    }
+
+    /**
+     * 由渲染方法构建延迟文本。
+     *
+     * @param renderer 渲染方法
+     * @return 延迟文本
+     */
+    public static LazyText of(Supplier<String> renderer) {
+        if (renderer instanceof LazyText lazy) {
+            return lazy;
+        }
+        return new LazyText(Objects.requireNonNull(renderer, "渲染方法不能为空。"), null);
+    }
+
+    /**
+     * 包装已经格式化好的文本。
+     *
+     * @param text 文本，null 视为空串
+     * @return 延迟文本
+     */
+    public static LazyText of(String text) {
+        return text == null || text.isEmpty() ? EMPTY : new LazyText(null, text);
+    }
+
+    /**
+     * 获取空文本。
+     *
+     * @return 空文本
+     */
+    public static LazyText empty() {
+        return EMPTY;
+    }
+
+    /**
+     * 是否已经渲染。
+     *
+     * @return 是否已渲染
+     */
+    public boolean isRendered() {
+        return renderer == null;
+    }
+
+    @Override
+    public String get() {
+        if (renderer != null) {
+            String rendered = renderer.get();
+            text = rendered == null ? "" : rendered;
+            renderer = null;
+        }
+        return text;
+    }
+
+    @Override
+    public String toString() {
+        return get();
+    }
+}
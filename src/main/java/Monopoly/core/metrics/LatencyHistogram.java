@@ -0,0 +1,129 @@
+package Monopoly.core.metrics;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 实现功能【无锁的对数-线性延迟直方图（纳秒），可多线程并发记录并随时读取分位数】。
+ * <p>
+ * 每个 2 的幂区间再等分为 32 个子桶，相对误差不超过约 3%，整张表固定 1888 个计数槽；
+ * 记录只做一次下标计算和一次原子自增，不分配对象。分位数返回所在桶的上界（不超过观测到的最大值）。
+ * <p>
+ *
+ * @author
+ * @date 2025-11-13
+ */
+public final class LatencyHistogram {
+
+    private static final int SUB_BITS = 5;
+    private static final int SUB_COUNT = 1 << SUB_BITS;
+    private static final int BUCKET_COUNT = (64 - SUB_BITS + 1) * SUB_COUNT;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKET_COUNT);
+    private final LongAdder total = new LongAdder();
+    private final LongAdder sum = new LongAdder();
+    private final LongAccumulator max = new LongAccumulator(Math::max, 0L);
+
+    /**
+     * 记录一次耗时，负值按 0 计。
+     *
+     * @param nanos 耗时（纳秒）
+     */
+    public void record(long nanos) {
+        long value = Math.max(0L, nanos);
+        counts.incrementAndGet(indexOf(value));
+        total.increment();
+        sum.add(value);
+        max.accumulate(value);
+    }
+
+    /**
+     * 获取记录次数。
+     *
+     * @return 次数
+     */
+    public long getCount() {
+        return total.sum();
+    }
+
+    /**
+     * 获取观测到的最大耗时。
+     *
+     * @return 最大耗时（纳秒），无记录时为 0
+     */
+    public long getMax() {
+        return max.get();
+    }
+
+    /**
+     * 获取平均耗时。
+     *
+     * @return 平均耗时（纳秒），无记录时为 0
+     */
+    public double getMean() {
+        long count = total.sum();
+        return count == 0 ? 0.0 : (double) sum.sum() / count;
+    }
+
+    /**
+     * 获取分位数。
+     *
+     * @param percent 百分位，取值 [0, 100]，如 99.9
+     * @return 该分位的耗时上界（纳秒），无记录时为 0
+     */
+    public long percentile(double percent) {
+        if (percent < 0.0 || percent > 100.0) {
+            throw new IllegalArgumentException("百分位必须在 0~100 之间：" + percent);
+        }
+        long[] snapshot = new long[BUCKET_COUNT];
+        long count = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            snapshot[i] = counts.get(i);
+            count += snapshot[i];
+        }
+        if (count == 0) {
+            return 0L;
+        }
+        long rank = Math.max(1L, (long) Math.ceil(percent / 100.0 * count));
+        long seen = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            seen += snapshot[i];
+            if (seen >= rank) {
+                return Math.min(highestValueOf(i), max.get());
+            }
+        }
+        return max.get();
+    }
+
+    /**
+     * 清空全部记录。与并发记录同时进行时，个别记录可能落在清空前后任一侧。
+     */
+    public void reset() {
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            counts.set(i, 0L);
+        }
+        total.reset();
+        sum.reset();
+        max.reset();
+    }
+
+    private static int indexOf(long value) {
+        if (value < SUB_COUNT) {
+            return (int) value;
+        }
+        int shift = 63 - Long.numberOfLeadingZeros(value) - SUB_BITS;
+        int mantissa = (int) (value >>> shift);
+        return (shift + 1) * SUB_COUNT + (mantissa - SUB_COUNT);
+    }
+
+    private static long highestValueOf(int index) {
+        if (index < SUB_COUNT) {
+            return index;
+        }
+        int shift = index / SUB_COUNT - 1;
+        long mantissa = SUB_COUNT + index % SUB_COUNT;
+        long high = ((mantissa + 1) << shift) - 1;
+        return high < 0 ? Long.MAX_VALUE : high;
+    }
+}
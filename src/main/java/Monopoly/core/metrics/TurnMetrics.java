@@ -0,0 +1,363 @@
+package Monopoly.core.metrics;
+
+import Monopoly.core.domain.entity.player.Player;
+import Monopoly.core.domain.entity.tile.TileType;
+import Monopoly.core.ports.DecisionPort;
+import Monopoly.core.ports.DecisionRequest;
+import Monopoly.core.repo.PlayerRepository;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * 实现功能【回合流水线的延迟统计：按阶段、落点地块类型与交互事件类分别维护延迟直方图】。
+ * <p>
+ * 计时以“引擎时钟”为准：当前线程的纳秒时间减去该线程累计阻塞在决策端口上的时间，
+ * 因此各阶段的耗时天然扣除了等待玩家决策的部分，后者单独记入 {@link TurnPhase#DECISION}。
+ * 决策端口与玩家仓库需分别经 {@link #timed(DecisionPort)}、{@link #timed(PlayerRepository)} 包装后才会被计时。
+ * <p>
+ * 用法：{@code long mark = metrics.mark(); ...; metrics.record(TurnPhase.EXECUTE, mark);}。
+ * 同一实例可被多局、多线程共享；{@link #disabled()} 返回的实例不做任何记录。
+ * <p>
+ *
+ * @author
+ * @date 2025-11-13
+ */
+public final class TurnMetrics {
+
+    private static final TurnMetrics DISABLED = new TurnMetrics(false);
+
+    private final boolean enabled;
+    private final Map<TurnPhase, LatencyHistogram> phases = new EnumMap<>(TurnPhase.class);
+    private final Map<TileType, LatencyHistogram> tiles = new EnumMap<>(TileType.class);
+    private final Map<Class<?>, LatencyHistogram> interactions = new ConcurrentHashMap<>();
+    /**
+     * 每个线程累计阻塞在决策端口上的纳秒数。
+     */
+    private final ThreadLocal<long[]> blockedNanos = ThreadLocal.withInitial(() -> new long[1]);
+
+    /**
+     * 构造一个启用的统计实例。
+     */
+    public TurnMetrics() {
+        this(true);
+    }
+
+    private TurnMetrics(boolean enabled) {
+        this.enabled = enabled;
+        for (TurnPhase phase : TurnPhase.values()) {
+            phases.put(phase, new LatencyHistogram());
+        }
+        for (TileType type : TileType.values()) {
+            tiles.put(type, new LatencyHistogram());
+        }
+    }
+
+    /**
+     * 获取不做任何记录的共享实例。
+     *
+     * @return 禁用的统计实例
+     */
+    public static TurnMetrics disabled() {
+        return DISABLED;
+    }
+
+    /**
+     * 是否启用。
+     *
+     * @return 是否启用
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 读取当前线程的引擎时钟，作为一段计时的起点。
+     *
+     * @return 起点标记，禁用时为 0
+     */
+    public long mark() {
+        return enabled ? engineNanos() : 0L;
+    }
+
+    /**
+     * 记录从起点标记到现在的阶段引擎耗时。
+     *
+     * @param phase 阶段
+     * @param mark 起点标记
+     */
+    public void record(TurnPhase phase, long mark) {
+        if (enabled) {
+            phases.get(phase).record(engineNanos() - mark);
+        }
+    }
+
+    /**
+     * 记录落点处理的引擎耗时，同时计入 {@link TurnPhase#TILE}。
+     *
+     * @param type 地块类型
+     * @param mark 起点标记
+     */
+    public void recordTile(TileType type, long mark) {
+        if (enabled) {
+            long nanos = engineNanos() - mark;
+            phases.get(TurnPhase.TILE).record(nanos);
+            tiles.get(type).record(nanos);
+        }
+    }
+
+    /**
+     * 记录一次交互事件处理的引擎耗时，同时计入 {@link TurnPhase#INTERACT}。
+     * 按事件类统计，以便区分支付、抵押、建造等不同提示链。
+     *
+     * @param eventClass 事件类
+     * @param mark 起点标记
+     */
+    public void recordInteraction(Class<?> eventClass, long mark) {
+        if (enabled) {
+            long nanos = engineNanos() - mark;
+            phases.get(TurnPhase.INTERACT).record(nanos);
+            interactions.computeIfAbsent(eventClass, key -> new LatencyHistogram()).record(nanos);
+        }
+    }
+
+    /**
+     * 获取阶段直方图。
+     *
+     * @param phase 阶段
+     * @return 直方图
+     */
+    public LatencyHistogram histogram(TurnPhase phase) {
+        return phases.get(phase);
+    }
+
+    /**
+     * 获取落点地块类型直方图。
+     *
+     * @param type 地块类型
+     * @return 直方图
+     */
+    public LatencyHistogram histogram(TileType type) {
+        return tiles.get(type);
+    }
+
+    /**
+     * 获取交互事件类直方图。
+     *
+     * @param eventClass 事件类
+     * @return 直方图，尚无记录时返回空直方图
+     */
+    public LatencyHistogram interactionHistogram(Class<?> eventClass) {
+        LatencyHistogram histogram = interactions.get(eventClass);
+        return histogram != null ? histogram : new LatencyHistogram();
+    }
+
+    /**
+     * 获取分位数的便捷方法。
+     *
+     * @param phase 阶段
+     * @param percent 百分位，如 99.9
+     * @return 耗时（纳秒）
+     */
+    public long percentile(TurnPhase phase, double percent) {
+        return phases.get(phase).percentile(percent);
+    }
+
+    /**
+     * 包装决策端口：调用期间的墙钟时间记入 {@link TurnPhase#DECISION}，并从当前线程的引擎时钟中扣除。
+     *
+     * @param delegate 被包装的决策端口
+     * @return 计时决策端口，禁用时原样返回
+     */
+    public DecisionPort timed(DecisionPort delegate) {
+        Objects.requireNonNull(delegate, "决策端口不能为空。");
+        return enabled ? new TimedDecisionPort(delegate) : delegate;
+    }
+
+    /**
+     * 包装玩家仓库：保存操作的耗时记入 {@link TurnPhase#SAVE}。
+     *
+     * @param delegate 被包装的玩家仓库
+     * @return 计时玩家仓库，禁用时原样返回
+     */
+    public PlayerRepository timed(PlayerRepository delegate) {
+        Objects.requireNonNull(delegate, "玩家仓库不能为空。");
+        return enabled ? new TimedPlayerRepository(delegate) : delegate;
+    }
+
+    /**
+     * 清空全部直方图。
+     */
+    public void reset() {
+        phases.values().forEach(LatencyHistogram::reset);
+        tiles.values().forEach(LatencyHistogram::reset);
+        interactions.values().forEach(LatencyHistogram::reset);
+    }
+
+    /**
+     * 生成文本报表：每行一个直方图，列出次数、平均值、P50/P90/P99/P99.9 与最大值（微秒），空直方图省略。
+     *
+     * @return 报表
+     */
+    public String report() {
+        StringBuilder sb = new StringBuilder();
+        sb.append(String.format("%-40s %10s %10s %10s %10s %10s %10s %10s%n",
+                "阶段(us)", "count", "mean", "p50", "p90", "p99", "p99.9", "max"));
+        for (Map.Entry<TurnPhase, LatencyHistogram> entry : phases.entrySet()) {
+            appendRow(sb, entry.getKey().name(), entry.getValue());
+        }
+        for (Map.Entry<TileType, LatencyHistogram> entry : tiles.entrySet()) {
+            appendRow(sb, "TILE." + entry.getKey().name(), entry.getValue());
+        }
+        Map<String, LatencyHistogram> byName = new TreeMap<>();
+        interactions.forEach((eventClass, histogram) -> byName.put(eventClass.getSimpleName(), histogram));
+        for (Map.Entry<String, LatencyHistogram> entry : byName.entrySet()) {
+            appendRow(sb, "INTERACT." + entry.getKey(), entry.getValue());
+        }
+        return sb.toString();
+    }
+
+    /**
+     * 启动定时转储：按固定周期把 {@link #report()} 交给输出回调，由一个守护线程执行。
+     *
+     * @param period 转储周期
+     * @param sink 报表输出回调
+     * @return 关闭即停止转储的句柄
+     */
+    public PeriodicDump startPeriodicDump(Duration period, Consumer<String> sink) {
+        Objects.requireNonNull(period, "转储周期不能为空。");
+        Objects.requireNonNull(sink, "报表输出不能为空。");
+        if (period.isZero() || period.isNegative()) {
+            throw new IllegalArgumentException("转储周期必须大于 0。");
+        }
+        ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "monopoly-metrics-dump");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long nanos = period.toNanos();
+        scheduler.scheduleAtFixedRate(() -> sink.accept(report()), nanos, nanos, TimeUnit.NANOSECONDS);
+        return scheduler::shutdownNow;
+    }
+
+    /**
+     * 定时转储句柄，关闭时停止转储，不抛出受检异常。
+     */
+    @FunctionalInterface
+    public interface PeriodicDump extends AutoCloseable {
+
+        /**
+         * 停止转储。
+         */
+        @Override
+        void close();
+    }
+
+    private static void appendRow(StringBuilder sb, String name, LatencyHistogram histogram) {
+        long count = histogram.getCount();
+        if (count == 0) {
+            return;
+        }
+        sb.append(String.format("%-40s %10d %10.1f %10.1f %10.1f %10.1f %10.1f %10.1f%n",
+                name, count, histogram.getMean() / 1000.0,
+                histogram.percentile(50) / 1000.0, histogram.percentile(90) / 1000.0,
+                histogram.percentile(99) / 1000.0, histogram.percentile(99.9) / 1000.0,
+                histogram.getMax() / 1000.0));
+    }
+
+    private long engineNanos() {
+        return System.nanoTime() - blockedNanos.get()[0];
+    }
+
+    /**
+     * 计时决策端口。
+     */
+    private final class TimedDecisionPort implements DecisionPort {
+
+        private final DecisionPort delegate;
+
+        private TimedDecisionPort(DecisionPort delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public int requestInt(String prompt) {
+            long start = System.nanoTime();
+            try {
+                return delegate.requestInt(prompt);
+            } finally {
+                blocked(start);
+            }
+        }
+
+        @Override
+        public String requestLine(String prompt) {
+            long start = System.nanoTime();
+            try {
+                return delegate.requestLine(prompt);
+            } finally {
+                blocked(start);
+            }
+        }
+
+        @Override
+        public int requestDecision(DecisionRequest request) {
+            long start = System.nanoTime();
+            try {
+                return delegate.requestDecision(request);
+            } finally {
+                blocked(start);
+            }
+        }
+
+        private void blocked(long start) {
+            long nanos = System.nanoTime() - start;
+            blockedNanos.get()[0] += nanos;
+            phases.get(TurnPhase.DECISION).record(nanos);
+        }
+    }
+
+    /**
+     * 计时玩家仓库。
+     */
+    private final class TimedPlayerRepository implements PlayerRepository {
+
+        private final PlayerRepository delegate;
+
+        private TimedPlayerRepository(PlayerRepository delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public void save(Player player) {
+            long mark = mark();
+            delegate.save(player);
+            record(TurnPhase.SAVE, mark);
+        }
+
+        @Override
+        public Optional<Player> findById(int id) {
+            return delegate.findById(id);
+        }
+
+        @Override
+        public Collection<Player> findAll() {
+            return delegate.findAll();
+        }
+
+        @Override
+        public void deleteById(int id) {
+            delegate.deleteById(id);
+        }
+    }
+}
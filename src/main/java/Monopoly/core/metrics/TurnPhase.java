@@ -0,0 +1,42 @@
+package Monopoly.core.metrics;
+
+/**
+ * 实现功能【回合流水线中单独计时的阶段】。
+ * <p>
+ * 除 {@link #DECISION} 外，各阶段记录的都是引擎耗时，即扣除了期间阻塞在决策端口上的时间；
+ * 阶段之间可以嵌套（如 {@link #EXECUTE} 包含在 {@link #TURN} 中）。
+ * <p>
+ *
+ * @author
+ * @date 2025-11-13
+ */
+public enum TurnPhase {
+    /**
+     * 一次 advanceTurn 调用（含赎回检查与 executeTurn）。
+     */
+    TURN,
+    /**
+     * 掷骰、移动与落点处理（executeTurn）。
+     */
+    EXECUTE,
+    /**
+     * 落点地块的事件处理，另按地块类型分别统计。
+     */
+    TILE,
+    /**
+     * 一次 InteractiveEvent.interact 调用，另按事件类型分别统计。
+     */
+    INTERACT,
+    /**
+     * 阻塞在决策端口上的时间（墙钟时间）。
+     */
+    DECISION,
+    /**
+     * 消息交给输出端口（含按需渲染正文）。
+     */
+    RENDER,
+    /**
+     * 玩家仓库保存。
+     */
+    SAVE
+}
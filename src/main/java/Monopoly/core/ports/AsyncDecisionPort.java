@@ -0,0 +1,70 @@
+package Monopoly.core.ports;
+
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 实现功能【非阻塞的决策端口：提问立即返回，答案在玩家作答后以 {@link CompletableFuture} 完成】。
+ * <p>
+ * 与 {@link DecisionPort} 一一对应，由 {@link Monopoly.core.service.AsyncTurnDriver} 驱动对局：
+ * 等待作答期间不占用任何线程，答案到达后对局在驱动器的执行器上继续推进。
+ * 以异常完成的 future 会使对局异常终止。
+ * <p>
+ *
+ * @author
+ * @date 2025-11-13
+ */
+public interface AsyncDecisionPort {
+
+    /**
+     * 请求玩家输入一个整数选项。
+     *
+     * @param prompt 提示文本
+     * @return 玩家输入的整数
+     */
+    CompletableFuture<Integer> requestIntAsync(String prompt);
+
+    /**
+     * 请求玩家输入一行文本。
+     *
+     * @param prompt 提示文本
+     * @return 玩家输入的文本（去除首尾空白）
+     */
+    CompletableFuture<String> requestLineAsync(String prompt);
+
+    /**
+     * 请求玩家做出一次结构化决策。默认退化为 {@link #requestIntAsync(String)}。
+     *
+     * @param request 决策请求
+     * @return 玩家选择的整数（0 表示放弃/取消）
+     */
+    default CompletableFuture<Integer> requestDecisionAsync(DecisionRequest request) {
+        return requestIntAsync(request.getPrompt());
+    }
+
+    /**
+     * 把同步决策端口包装为立即完成的异步端口（机器人、测试脚本等不需要等待的实现）。
+     *
+     * @param port 同步决策端口
+     * @return 异步决策端口
+     */
+    static AsyncDecisionPort of(DecisionPort port) {
+        Objects.requireNonNull(port, "决策端口不能为空。");
+        return new AsyncDecisionPort() {
+            @Override
+            public CompletableFuture<Integer> requestIntAsync(String prompt) {
+                return CompletableFuture.completedFuture(port.requestInt(prompt));
+            }
+
+            @Override
+            public CompletableFuture<String> requestLineAsync(String prompt) {
+                return CompletableFuture.completedFuture(port.requestLine(prompt));
+            }
+
+            @Override
+            public CompletableFuture<Integer> requestDecisionAsync(DecisionRequest request) {
+                return CompletableFuture.completedFuture(port.requestDecision(request));
+            }
+        };
+    }
+}
@@ -20,5 +20,15 @@ public interface DecisionPort {
      * @return 玩家输入的文本（去除首尾空白）
      */
     String requestLine(String prompt);
-}
 
+    /**
+     * 请求玩家做出一次结构化决策。默认退化为 {@link #requestInt(String)}，
+     * 机器人等实现可以直接根据请求中的类别与选项作答，无需解析提示文本。
+     *
+     * @param request 决策请求
+     * @return 玩家选择的整数（0 表示放弃/取消）
+     */
+    default int requestDecision(DecisionRequest request) {
+        return requestInt(request.getPrompt());
+    }
+}
@@ -0,0 +1,164 @@
+package Monopoly.core.ports;
+
+import Monopoly.core.domain.entity.player.Player;
+import Monopoly.core.domain.entity.tile.Tile;
+import Monopoly.core.domain.state.LedgerReason;
+import Monopoly.core.message.LazyText;
+import lombok.AccessLevel;
+import lombok.Getter;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * 实现功能【描述一次结构化的玩家决策请求：决策类别、可选项及其金额，并附带按需渲染的控制台提示文本】。
+ * <p>
+ * 可选项以并列数组表示：{@code choices[i]} 为玩家可输入的整数，{@code values[i]} 为该选项涉及的金额，
+ * {@code tiles.get(i)} 为该选项对应的地块。输入 0 始终表示放弃/取消（支付场景下表示破产）。
+ * <p>
+ * 为凑款而抵押的请求还附带待完成的结算（{@link #withSettlement(Tile, Player, LedgerReason)}）：
+ * 凑足 {@link #getAmount()} 后要购买的地块，或要向谁、以什么名目支付，供前瞻模拟在派生局面中完整复现这次决策。
+ * <p>
+ *
+ * @author
+ * @date 2025-11-13
+ */
+@Getter
+public class DecisionRequest {
+
+    /**
+     * 决策类别。
+     */
+    private final DecisionType type;
+    /**
+     * 需要做出决策的玩家。
+     */
+    private final Player player;
+    /**
+     * 本次决策涉及的总金额（售价、需支付金额等）。
+     */
+    private final int amount;
+    /**
+     * 可输入的选项值（不含 0）。
+     */
+    private final int[] choices;
+    /**
+     * 每个选项对应的金额（建造费用、抵押价值、赎回费用等）。
+     */
+    private final int[] values;
+    /**
+     * 每个选项对应的地块。
+     */
+    private final List<Tile> tiles;
+    /**
+     * 面向人类玩家的提示文本，只有决策端口读取时才格式化（机器人不读取）。
+     */
+    @Getter(AccessLevel.NONE)
+    private final LazyText prompt;
+    /**
+     * 待结算的地块：购买的目标地块，或产生费用的地块；与地块无关的支付为 null。
+     */
+    private final Tile target;
+    /**
+     * 待支付的收款人，null 表示银行（购买时也为 null）。
+     */
+    private final Player creditor;
+    /**
+     * 待结算的记账原因，没有待结算事项时为 null。
+     */
+    private final LedgerReason settlementReason;
+
+    /**
+     * 构造函数。
+     *
+     * @param type 决策类别
+     * @param player 决策玩家
+     * @param amount 涉及的总金额
+     * @param choices 可输入的选项值
+     * @param values 选项金额
+     * @param tiles 选项地块
+     * @param prompt 提示文本
+     */
+    public DecisionRequest(DecisionType type, Player player, int amount,
+                           int[] choices, int[] values, List<Tile> tiles, Supplier<String> prompt) {
+        this(type, player, amount, choices, values, tiles, LazyText.of(prompt), null, null, null);
+    }
+
+    private DecisionRequest(DecisionType type, Player player, int amount, int[] choices, int[] values, List<Tile> tiles,
+                            LazyText prompt, Tile target, Player creditor, LedgerReason settlementReason) {
+        this.type = type;
+        this.player = player;
+        this.amount = amount;
+        this.choices = choices;
+        this.values = values;
+        this.tiles = tiles;
+        this.prompt = prompt;
+        this.target = target;
+        this.creditor = creditor;
+        this.settlementReason = settlementReason;
+    }
+
+    /**
+     * 附带凑足金额后要完成的结算，返回新的请求。
+     *
+     * @param target 购买的目标地块或产生费用的地块，可为 null
+     * @param creditor 收款人，null 表示银行
+     * @param reason 记账原因（购买为 {@link LedgerReason#PURCHASE}）
+     * @return 附带结算信息的请求
+     */
+    public DecisionRequest withSettlement(Tile target, Player creditor, LedgerReason reason) {
+        return new DecisionRequest(type, player, amount, choices, values, tiles, prompt, target, creditor, reason);
+    }
+
+    /**
+     * 构造只有“是/否”两种答案的请求（1=是，0=否）。
+     *
+     * @param type 决策类别
+     * @param player 决策玩家
+     * @param tile 相关地块
+     * @param amount 涉及金额
+     * @param prompt 提示文本
+     * @return 决策请求
+     */
+    public static DecisionRequest confirm(DecisionType type, Player player, Tile tile, int amount, Supplier<String> prompt) {
+        return new DecisionRequest(type, player, amount, new int[]{1}, new int[]{amount}, List.of(tile), prompt);
+    }
+
+    /**
+     * 构造从地块列表中选择一项的请求（1..n 对应列表顺序，0=放弃）。
+     *
+     * @param type 决策类别
+     * @param player 决策玩家
+     * @param amount 涉及的总金额
+     * @param tiles 候选地块
+     * @param values 候选地块对应金额
+     * @param prompt 提示文本
+     * @return 决策请求
+     */
+    public static DecisionRequest choose(DecisionType type, Player player, int amount,
+                                         List<Tile> tiles, int[] values, Supplier<String> prompt) {
+        int[] choices = new int[tiles.size()];
+        for (int i = 0; i < choices.length; i++) {
+            choices[i] = i + 1;
+        }
+        return new DecisionRequest(type, player, amount, choices, values, tiles, prompt);
+    }
+
+    /**
+     * 获取提示文本，首次调用时渲染。
+     *
+     * @return 提示文本
+     */
+    public String getPrompt() {
+        return prompt.get();
+    }
+
+    /**
+     * 获取可选项数量。
+     *
+     * @return 选项数量（不含 0）
+     */
+    public int getOptionCount() {
+        return choices.length;
+    }
+}
@@ -0,0 +1,35 @@
+package Monopoly.core.ports;
+
+/**
+ * 实现功能【标识回合服务向玩家发起的决策类别，供机器人等非控制台决策端口识别提示含义】。
+ */
+public enum DecisionType {
+    /**
+     * 是否购买当前地块（1=购买，0=放弃）。
+     */
+    PURCHASE,
+    /**
+     * 在自己的国家上建造房屋或旅馆（1=房屋，2=旅馆，0=不建造）。
+     */
+    BUILD,
+    /**
+     * 确认抵押单个地块（1=抵押，0=取消）。
+     */
+    MORTGAGE,
+    /**
+     * 为购买地块而选择抵押（1..n=抵押对应地块，0=放弃购买）。
+     */
+    MORTGAGE_FOR_PURCHASE,
+    /**
+     * 为支付过路费、税费等而选择抵押（1..n=抵押对应地块，0=破产）。
+     */
+    MORTGAGE_FOR_PAYMENT,
+    /**
+     * 确认赎回单个地块（1=赎回，0=取消）。
+     */
+    REDEEM,
+    /**
+     * 回合开始时选择赎回的地块（1..n=赎回对应地块，0=不赎回）。
+     */
+    REDEEM_CHOICE
+}
@@ -0,0 +1,23 @@
+package Monopoly.core.ports;
+
+import Monopoly.core.service.ForkableTurnService;
+
+/**
+ * 实现功能【需要读取对局局面才能作答的决策端口（如前瞻搜索机器人）】。
+ * <p>
+ * 回合服务在构造完成时通过 {@link #attach(ForkableTurnService)} 把自身交给端口；
+ * 端口只应在作答期间（对局线程阻塞等待答案时）派生局面。
+ * <p>
+ *
+ * @author
+ * @date 2025-11-13
+ */
+public interface ForkingDecisionPort extends DecisionPort {
+
+    /**
+     * 绑定对局。
+     *
+     * @param game 可派生的回合服务
+     */
+    void attach(ForkableTurnService game);
+}
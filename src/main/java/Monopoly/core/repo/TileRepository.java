@@ -30,5 +30,15 @@ public interface TileRepository {
      * @return 地块实体，可为空
      */
     Optional<Tile> findByPosition(int position);
+
+    /**
+     * 根据位置获取地块的快速版本，不包装 {@link Optional}。
+     *
+     * @param position 地块顺序位置
+     * @return 地块实体，不存在时返回 null
+     */
+    default Tile getByPosition(int position) {
+        return findByPosition(position).orElse(null);
+    }
 }
 
@@ -0,0 +1,117 @@
+package Monopoly.core.repo.indexed;
+
+import Monopoly.core.domain.entity.tile.CountryTile;
+import Monopoly.core.domain.entity.tile.Tile;
+import Monopoly.core.repo.TileRepository;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * 实现功能【以位置为下标的不可变地块仓库】。
+ * <p>
+ * 构建后内部数组不再修改、也不对外暴露，可在多个线程与多局游戏之间安全共享；
+ * {@link #getByPosition(int)} 直接按下标取值，不创建 {@link Optional}。
+ * <p>
+ *
+ * @author
+ * @date 2025-11-13
+ */
+public final class IndexedTileRepository implements TileRepository {
+
+    /**
+     * 以位置为下标的地块，空位为 null。
+     */
+    private final Tile[] byPosition;
+    /**
+     * 全部地块（按位置升序）。
+     */
+    private final List<Tile> all;
+
+    private IndexedTileRepository(Collection<? extends Tile> tiles) {
+        int maxPosition = 0;
+        for (Tile tile : tiles) {
+            Objects.requireNonNull(tile, "地块不能为空。");
+            if (tile.getPosition() < 1) {
+                throw new IllegalArgumentException("地块位置必须从 1 开始：" + tile.getPosition());
+            }
+            maxPosition = Math.max(maxPosition, tile.getPosition());
+        }
+        this.byPosition = new Tile[maxPosition + 1];
+        for (Tile tile : tiles) {
+            if (byPosition[tile.getPosition()] != null) {
+                throw new IllegalArgumentException("地块位置重复：" + tile.getPosition());
+            }
+            byPosition[tile.getPosition()] = tile;
+        }
+
+        List<Tile> allTiles = new ArrayList<>(tiles.size());
+        for (Tile tile : byPosition) {
+            if (tile != null) {
+                allTiles.add(tile);
+            }
+        }
+        this.all = List.copyOf(allTiles);
+    }
+
+    /**
+     * 由地块集合构建仓库。
+     *
+     * @param tiles 地块集合，位置不可重复
+     * @return 地块仓库
+     */
+    public static IndexedTileRepository of(Collection<? extends Tile> tiles) {
+        return new IndexedTileRepository(Objects.requireNonNull(tiles, "地块集合不能为空。"));
+    }
+
+    /**
+     * 复制任意仓库的数据；若本身已是本类型则直接返回。
+     *
+     * @param source 源仓库
+     * @return 地块仓库
+     */
+    public static IndexedTileRepository copyOf(TileRepository source) {
+        Objects.requireNonNull(source, "地块仓库不能为空。");
+        if (source instanceof IndexedTileRepository indexed) {
+            return indexed;
+        }
+        return new IndexedTileRepository(source.findAll());
+    }
+
+    @Override
+    public Collection<Tile> findAll() {
+        return all;
+    }
+
+    @Override
+    public Optional<Tile> findByPosition(int position) {
+        return Optional.ofNullable(getByPosition(position));
+    }
+
+    @Override
+    public Tile getByPosition(int position) {
+        return position >= 0 && position < byPosition.length ? byPosition[position] : null;
+    }
+
+    /**
+     * 获取指定位置的国家地块。
+     *
+     * @param position 地块位置
+     * @return 国家地块，该位置不是国家地块时返回 null
+     */
+    public CountryTile getCountry(int position) {
+        return getByPosition(position) instanceof CountryTile country ? country : null;
+    }
+
+    /**
+     * 获取地图最大位置编号。
+     *
+     * @return 最大位置编号
+     */
+    public int getMaxPosition() {
+        return byPosition.length - 1;
+    }
+}
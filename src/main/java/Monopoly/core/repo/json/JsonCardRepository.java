@@ -1,18 +1,31 @@
 package Monopoly.core.repo.json;
 
+import Monopoly.config.BoardConfig;
+import Monopoly.config.CardConfig;
 import Monopoly.config.ConfigLoader;
 import Monopoly.core.domain.entity.card.*;
+import Monopoly.core.domain.entity.card.effect.CardEffect;
+import Monopoly.core.domain.entity.card.effect.CardEffectCompiler;
+import Monopoly.core.domain.entity.tile.Tile;
 import Monopoly.core.repo.CardRepository;
+import Monopoly.core.repo.TileRepository;
 
 import java.io.IOException;
 import java.util.*;
 
 /**
- * 实现功能【从 JSON 加载机会/命运卡牌】。
+ * 实现功能【从 JSON 加载机会/命运卡牌，并在加载时预编译卡牌效果、渲染效果说明】。
+ * <p>
+ * 效果字符串格式错误时构造即失败，不会拖到对局中途才暴露。
+ * 效果说明中的地块名称取自同一份棋盘配置建出的地块，卡牌实例在各局之间共享，对局中不再渲染。
  */
 public class JsonCardRepository implements CardRepository {
 
     private final Map<CardType, Map<Integer, DrawCard>> cache = new EnumMap<>(CardType.class);
+    /**
+     * 同一份配置建出的地块，用于渲染效果说明中的地块名称。
+     */
+    private final TileRepository tiles;
 
     /**
      * 构造函数。
@@ -21,10 +34,20 @@ public class JsonCardRepository implements CardRepository {
      * @throws IOException 读取失败时抛出
      */
     public JsonCardRepository(ConfigLoader loader) throws IOException {
+        this(loader.loadBoard());
+    }
+
+    /**
+     * 根据已校验的棋盘配置构建卡牌。
+     *
+     * @param board 棋盘配置
+     */
+    public JsonCardRepository(BoardConfig board) {
         cache.put(CardType.CHANCE, new HashMap<>());
         cache.put(CardType.FATE, new HashMap<>());
-        loadChance(loader);
-        loadFate(loader);
+        tiles = new JsonTileRepository(board);
+        loadChance(board.chance());
+        loadFate(board.fate());
     }
 
     @Override
@@ -37,24 +60,37 @@ public class JsonCardRepository implements CardRepository {
         return Optional.ofNullable(cache.getOrDefault(cardType, Map.of()).get(id));
     }
 
-    private void loadChance(ConfigLoader loader) throws IOException {
+    private void loadChance(List<CardConfig> items) {
         Map<Integer, DrawCard> map = cache.get(CardType.CHANCE);
-        for (Map<String, Object> item : loader.loadChance()) {
-            int id = ((Number) item.get("id")).intValue();
-            map.put(id, new ChanceCard(id, (String) item.get("title"),
-                    (String) item.get("effect"),
-                    Optional.ofNullable(item.get("flavor")).map(Object::toString).orElse("")));
+        for (CardConfig item : items) {
+            List<CardEffect> effects = compileEffect("机会卡", item.id(), item.effect());
+            map.put(item.id(), new ChanceCard(item.id(), item.title(), item.effect(), item.flavor(), effects,
+                    CardEffectCompiler.describe(effects, this::tileName)));
         }
     }
 
-    private void loadFate(ConfigLoader loader) throws IOException {
+    private void loadFate(List<CardConfig> items) {
         Map<Integer, DrawCard> map = cache.get(CardType.FATE);
-        for (Map<String, Object> item : loader.loadFate()) {
-            int id = ((Number) item.get("id")).intValue();
-            map.put(id, new FateCard(id, (String) item.get("title"),
-                    (String) item.get("effect"),
-                    Optional.ofNullable(item.get("flavor")).map(Object::toString).orElse("")));
+        for (CardConfig item : items) {
+            List<CardEffect> effects = compileEffect("命运卡", item.id(), item.effect());
+            map.put(item.id(), new FateCard(item.id(), item.title(), item.effect(), item.flavor(), effects,
+                    CardEffectCompiler.describe(effects, this::tileName)));
+        }
+    }
+
+    private List<CardEffect> compileEffect(String label, int id, String effect) {
+        try {
+            return CardEffectCompiler.compile(effect);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException(label + " " + id + " 的效果配置错误：" + e.getMessage(), e);
         }
     }
-}
 
+    private String tileName(int position) {
+        Tile tile = tiles.getByPosition(position);
+        if (tile != null) {
+            return tile.getName();
+        }
+        return position == 1 ? "起点" : ("格" + position);
+    }
+}
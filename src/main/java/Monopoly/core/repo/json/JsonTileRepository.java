@@ -1,6 +1,11 @@
 package Monopoly.core.repo.json;
 
+import Monopoly.config.BoardConfig;
+import Monopoly.config.CompanyConfig;
 import Monopoly.config.ConfigLoader;
+import Monopoly.config.CountryConfig;
+import Monopoly.config.MapEntryConfig;
+import Monopoly.config.StationConfig;
 import Monopoly.core.domain.entity.card.CardType;
 import Monopoly.core.domain.entity.tile.*;
 import Monopoly.core.repo.TileRepository;
@@ -22,63 +27,56 @@ public class JsonTileRepository implements TileRepository {
      * @throws IOException 读取失败时抛出
      */
     public JsonTileRepository(ConfigLoader loader) throws IOException {
-        List<Map<String, Object>> mapItems = loader.loadMap();
+        this(loader.loadBoard());
+    }
+
+    /**
+     * 根据已校验的棋盘配置构建地块。
+     *
+     * @param board 棋盘配置
+     */
+    public JsonTileRepository(BoardConfig board) {
         // 先放入特殊/卡牌占位
-        for (Map<String, Object> item : mapItems) {
-            int position = ((Number) item.get("position")).intValue();
-            String name = (String) item.get("name");
-            String type = (String) item.get("type");
-            switch (type) {
-                case "special" -> {
-                    String special = Optional.ofNullable(item.get("special")).map(Object::toString).orElse("OTHER");
-                    String desc = Optional.ofNullable(item.get("description")).map(Object::toString).orElse(name);
+        for (MapEntryConfig item : board.map()) {
+            int position = item.position();
+            String name = item.name();
+            switch (item.type()) {
+                case MapEntryConfig.SPECIAL -> {
+                    String special = Optional.ofNullable(item.special()).orElse("OTHER");
+                    String desc = Optional.ofNullable(item.description()).orElse(name);
                     tiles.put(position, new SpecialTile(position, name, SpecialTile.SpecialCategory.valueOf(special), desc));
                 }
-                case "chance" -> tiles.put(position, new CardTile(position, name, CardType.CHANCE));
-                case "fate" -> tiles.put(position, new CardTile(position, name, CardType.FATE));
+                case MapEntryConfig.CHANCE -> tiles.put(position, new CardTile(position, name, CardType.CHANCE));
+                case MapEntryConfig.FATE -> tiles.put(position, new CardTile(position, name, CardType.FATE));
                 default -> {
                     // country/trainStation/company 延后根据明细文件补齐
                 }
             }
         }
         // 国家
-        for (Map<String, Object> item : loader.loadCountries()) {
-            int position = ((Number) item.get("position")).intValue();
-            int[] houseToll = toIntArray((List<?>) item.get("houseToll"));
-            CountryTile tile = new CountryTile(
-                    position,
-                    (String) item.get("countryName"),
-                    (String) item.get("city"),
-                    (String) item.get("color"),
-                    ((Number) item.get("sellPrice")).intValue(),
-                    ((Number) item.get("baseToll")).intValue(),
-                    houseToll,
-                    ((Number) item.get("hotelToll")).intValue(),
-                    ((Number) item.get("buildHouseCost")).intValue(),
-                    ((Number) item.get("buildHotelCost")).intValue(),
-                    ((Number) item.get("mortgagePrice")).intValue()
-            );
-            tiles.put(position, tile);
+        for (CountryConfig item : board.countries()) {
+            tiles.put(item.position(), new CountryTile(
+                    item.position(),
+                    item.countryName(),
+                    item.city(),
+                    item.color(),
+                    item.sellPrice(),
+                    item.baseToll(),
+                    item.houseToll(),
+                    item.hotelToll(),
+                    item.buildHouseCost(),
+                    item.buildHotelCost(),
+                    item.mortgagePrice()
+            ));
         }
         // 车站
-        for (Map<String, Object> item : loader.loadStations()) {
-            int position = ((Number) item.get("position")).intValue();
-            int[] toll = toIntArray((List<?>) item.get("tollByOwnership"));
-            TrainStationTile tile = new TrainStationTile(
-                    position,
-                    (String) item.get("name"),
-                    toll,
-                    ((Number) item.get("mortgagePrice")).intValue(),
-                    ((Number) item.get("sellPrice")).intValue()
-            );
-            tiles.put(position, tile);
+        for (StationConfig item : board.stations()) {
+            tiles.put(item.position(), new TrainStationTile(item.position(), item.name(), item.tollByOwnership(),
+                    item.mortgagePrice(), item.sellPrice()));
         }
         // 公司
-        for (Map<String, Object> item : loader.loadCompanies()) {
-            int position = ((Number) item.get("position")).intValue();
-            tiles.put(position, new CompanyTile(position, (String) item.get("name"),
-                    ((Number) item.get("sellPrice")).intValue(),
-                    ((Number) item.get("mortgagePrice")).intValue()));
+        for (CompanyConfig item : board.companies()) {
+            tiles.put(item.position(), new CompanyTile(item.position(), item.name(), item.sellPrice(), item.mortgagePrice()));
         }
     }
 
@@ -91,14 +89,5 @@ public class JsonTileRepository implements TileRepository {
     public Optional<Tile> findByPosition(int position) {
         return Optional.ofNullable(tiles.get(position));
     }
-
-    private int[] toIntArray(List<?> list) {
-        if (list == null) return new int[0];
-        int[] arr = new int[list.size()];
-        for (int i = 0; i < list.size(); i++) {
-            arr[i] = ((Number) list.get(i)).intValue();
-        }
-        return arr;
-    }
 }
 
@@ -0,0 +1,243 @@
+package Monopoly.core.service;
+
+import Monopoly.core.event.GameEvent;
+import Monopoly.core.event.InteractiveEvent;
+import Monopoly.core.message.GameMessage;
+import Monopoly.core.metrics.TurnMetrics;
+import Monopoly.core.metrics.TurnPhase;
+import Monopoly.core.ports.AsyncDecisionPort;
+import Monopoly.core.ports.DecisionPort;
+import Monopoly.core.ports.DecisionRequest;
+import Monopoly.core.ports.OutputPort;
+
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.BooleanSupplier;
+
+/**
+ * 实现功能【在共享线程池上驱动对局的主循环，玩家作答期间不占用线程】。
+ * <p>
+ * 驱动器本身是交给回合服务的 {@link DecisionPort}：交互事件提问时，驱动器向 {@link AsyncDecisionPort} 转发提问，
+ * 若答案尚未就绪就中止本次 {@link InteractiveEvent#interact()} 并释放线程；答案完成后在执行器上再次调用同一事件的
+ * {@code interact()}，这一次直接返回答案，交互链（购买、缴纳过路费、抵押筹款等提示事件）由此继续。重放依赖
+ * {@link InteractiveEvent} 的约定：每次交互至多提问一次，且在得到答案之前不修改对局状态。
+ * <p>
+ * 推进方式与 {@link Monopoly.app.GameApp} 的主循环相同；每次占用线程至多推进固定数量的事件后重新排队，
+ * 以便少量线程轮流推进大量对局。同一时刻至多有一个线程推进同一对局，对局状态的可见性由执行器与 future 的交接保证。
+ * <p>
+ *
+ * @author
+ * @date 2025-11-13
+ */
+public final class AsyncTurnDriver implements DecisionPort {
+
+    /**
+     * 每次占用线程最多推进的事件数，之后让出线程给其他对局。
+     */
+    private static final int EVENTS_PER_SLICE = 256;
+
+    /**
+     * 通知驱动循环“本次交互需要等待答案”的信号，不收集栈信息。
+     */
+    private static final RuntimeException AWAITING_ANSWER = new RuntimeException("等待玩家作答", null, false, false) {
+    };
+
+    private final AsyncDecisionPort decisions;
+    private final OutputPort outputPort;
+    private final Executor executor;
+    private final CompletableFuture<Void> completion = new CompletableFuture<>();
+
+    private TurnService turnService;
+    private BooleanSupplier stopWhen;
+    /**
+     * 被挂起、等待再次调用 interact() 的交互事件。
+     */
+    private GameEvent pending;
+    /**
+     * 挂起的交互正在等待的答案。
+     */
+    private CompletableFuture<?> awaiting;
+    /**
+     * 已完成、等待被重放的交互取走的答案。
+     */
+    private Object answer;
+    private boolean answered;
+    private volatile boolean waiting;
+
+    /**
+     * 构造函数。
+     *
+     * @param decisions 异步决策端口
+     * @param outputPort 输出端口，在推进对局的线程上调用
+     * @param executor 推进对局的执行器，可由多个驱动器共享
+     */
+    public AsyncTurnDriver(AsyncDecisionPort decisions, OutputPort outputPort, Executor executor) {
+        this.decisions = Objects.requireNonNull(decisions, "异步决策端口不能为空。");
+        this.outputPort = Objects.requireNonNull(outputPort, "输出端口不能为空。");
+        this.executor = Objects.requireNonNull(executor, "执行器不能为空。");
+    }
+
+    /**
+     * 开始推进对局，直到游戏结束。回合服务须以本驱动器为决策端口构造。
+     *
+     * @param turnService 回合服务
+     * @return 对局结束时完成；交互或答案出错时以该异常完成；取消该 future 会在下一次推进时停止对局
+     */
+    public CompletableFuture<Void> start(TurnService turnService) {
+        return start(turnService, () -> false);
+    }
+
+    /**
+     * 开始推进对局，直到游戏结束或停止条件成立（在两个回合步骤之间检查）。
+     *
+     * @param turnService 回合服务
+     * @param stopWhen 提前结束的条件，例如所有玩家都已离开
+     * @return 对局结束时完成
+     */
+    public CompletableFuture<Void> start(TurnService turnService, BooleanSupplier stopWhen) {
+        Objects.requireNonNull(turnService, "回合服务不能为空。");
+        Objects.requireNonNull(stopWhen, "停止条件不能为空。");
+        synchronized (this) {
+            if (this.turnService != null) {
+                throw new IllegalStateException("对局已开始。");
+            }
+            this.turnService = turnService;
+            this.stopWhen = stopWhen;
+        }
+        schedule();
+        return completion;
+    }
+
+    /**
+     * 对局是否正在等待玩家作答（不占用线程）。
+     *
+     * @return 是否等待中
+     */
+    public boolean isWaiting() {
+        return waiting;
+    }
+
+    @Override
+    public int requestInt(String prompt) {
+        if (answered) {
+            return take(Integer.class);
+        }
+        return await(decisions.requestIntAsync(prompt));
+    }
+
+    @Override
+    public String requestLine(String prompt) {
+        if (answered) {
+            return take(String.class);
+        }
+        return await(decisions.requestLineAsync(prompt));
+    }
+
+    @Override
+    public int requestDecision(DecisionRequest request) {
+        if (answered) {
+            return take(Integer.class);
+        }
+        return await(decisions.requestDecisionAsync(request));
+    }
+
+    /**
+     * 推进对局，直到需要等待答案、用完时间片或对局结束。
+     */
+    private void run() {
+        if (completion.isDone()) {
+            return;
+        }
+        try {
+            GameEvent current = pending;
+            pending = null;
+            if (awaiting != null) {
+                answer = awaiting.join();
+                answered = true;
+                awaiting = null;
+                waiting = false;
+            }
+            TurnMetrics metrics = turnService.getMetrics();
+            for (int budget = EVENTS_PER_SLICE; budget > 0; budget--) {
+                if (current == null) {
+                    if (turnService.isGameOver() || stopWhen.getAsBoolean()) {
+                        completion.complete(null);
+                        return;
+                    }
+                    current = turnService.advanceTurn();
+                    publish(current, metrics);
+                }
+                if (!(current instanceof InteractiveEvent interactive)) {
+                    current = null;
+                    continue;
+                }
+                GameEvent next;
+                long mark = metrics.mark();
+                try {
+                    next = interactive.interact();
+                } catch (RuntimeException e) {
+                    if (e != AWAITING_ANSWER) {
+                        throw e;
+                    }
+                    suspend(current);
+                    return;
+                } finally {
+                    // 未被取走的答案不能留给之后的提问
+                    answer = null;
+                    answered = false;
+                }
+                metrics.recordInteraction(interactive.getClass(), mark);
+                publish(next, metrics);
+                current = next;
+            }
+            pending = current;
+            schedule();
+        } catch (Throwable e) {
+            completion.completeExceptionally(e);
+        }
+    }
+
+    private void publish(GameEvent event, TurnMetrics metrics) {
+        if (event == null) {
+            return;
+        }
+        long mark = metrics.mark();
+        outputPort.publish(new GameMessage(event.getType(), event::toString, event));
+        metrics.record(TurnPhase.RENDER, mark);
+    }
+
+    private <T> T await(CompletableFuture<T> future) {
+        Objects.requireNonNull(future, "异步决策端口返回了空的 future。");
+        if (future.isDone()) {
+            return future.join();
+        }
+        awaiting = future;
+        throw AWAITING_ANSWER;
+    }
+
+    private void suspend(GameEvent event) {
+        pending = event;
+        waiting = true;
+        awaiting.whenComplete((value, error) -> schedule());
+    }
+
+    private <T> T take(Class<T> type) {
+        Object value = answer;
+        answer = null;
+        answered = false;
+        if (!type.isInstance(value)) {
+            throw new IllegalStateException("重放的提问与挂起时的提问类型不一致。");
+        }
+        return type.cast(value);
+    }
+
+    private void schedule() {
+        try {
+            executor.execute(this::run);
+        } catch (RejectedExecutionException e) {
+            completion.completeExceptionally(e);
+        }
+    }
+}
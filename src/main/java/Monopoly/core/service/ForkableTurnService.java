@@ -0,0 +1,55 @@
+package Monopoly.core.service;
+
+import Monopoly.core.domain.entity.player.Player;
+import Monopoly.core.ports.DecisionPort;
+import Monopoly.core.ports.DecisionRequest;
+
+import java.util.List;
+import java.util.random.RandomGenerator;
+
+/**
+ * 实现功能【可派生的回合服务：从当前局面复制出互不影响的对局，供机器人做前瞻模拟】。
+ * <p>
+ * 派生对局复制玩家、地图所有权与建筑、牌堆、持有卡、行动顺序与回合计数，只读的地块与卡牌配置则直接共享；
+ * 派生对局使用调用方给定的随机数发生器与决策端口，不输出统计，与原对局及其他派生对局之间互不影响。
+ * <p>
+ *
+ * @author
+ * @date 2025-11-13
+ */
+public interface ForkableTurnService extends TurnService {
+
+    /**
+     * 从当前局面派生一局新对局。原对局在派生期间不得被修改；同一局面可被多个线程同时派生。
+     *
+     * @param random 派生对局的随机数发生器
+     * @param decisionPort 派生对局中所有玩家共用的决策端口
+     * @return 派生对局
+     */
+    ForkableTurnService fork(RandomGenerator random, DecisionPort decisionPort);
+
+    /**
+     * 在本局直接执行某个决策请求的结果（购买、建造、抵押、赎回），不经过提示事件链。
+     * 请求通常来自原对局，按玩家编号与地块位置对应到本局；条件不满足（如现金不足）时忽略。
+     * 抵押凑款类请求会连同其附带的结算一起完成：凑足后购买目标地块或向债权人支付，钱仍不够时由本局的决策端口继续选择抵押。
+     *
+     * @param request 决策请求
+     * @param choice 选项值，0 表示放弃（支付场景下即破产）
+     */
+    void applyDecision(DecisionRequest request, int choice);
+
+    /**
+     * 获取玩家净资产：现金加上地产购入价与建筑造价，已抵押地块扣除赎回费用。
+     *
+     * @param playerId 玩家编号
+     * @return 净资产，已出局或不存在的玩家为 0
+     */
+    int getNetWorth(int playerId);
+
+    /**
+     * 获取仍在局中的玩家。
+     *
+     * @return 在役玩家（按编号升序，只读）
+     */
+    List<Player> getActivePlayers();
+}
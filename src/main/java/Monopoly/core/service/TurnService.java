@@ -1,6 +1,7 @@
 package Monopoly.core.service;
 
 import Monopoly.core.event.GameEvent;
+import Monopoly.core.metrics.TurnMetrics;
 
 /**
  * 实现功能【负责管理玩家回合状态流转的服务接口】
@@ -26,5 +27,14 @@ public interface TurnService {
      * @return 如果游戏结束返回 true，否则返回 false
      */
     boolean isGameOver();
+
+    /**
+     * 获取本服务使用的回合延迟统计，驱动循环据此为交互事件与消息输出计时。
+     *
+     * @return 延迟统计，默认不做任何记录
+     */
+    default TurnMetrics getMetrics() {
+        return TurnMetrics.disabled();
+    }
 }
 
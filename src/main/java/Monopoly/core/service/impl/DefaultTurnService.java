@@ -1,6 +1,8 @@
 package Monopoly.core.service.impl;
 
 import Monopoly.core.domain.entity.player.Player;
+import Monopoly.core.event.EventSequencer;
+import Monopoly.core.event.GameClock;
 import Monopoly.core.event.GameEvent;
 import Monopoly.core.event.TurnAdvancedEvent;
 import Monopoly.core.service.TurnService;
@@ -42,6 +44,10 @@ public class DefaultTurnService implements TurnService {
      * 游戏是否已结束
      */
     private boolean gameOver = false;
+    /**
+     * 本局的事件序号分配器
+     */
+    private final EventSequencer events = new EventSequencer(GameClock.wall());
 
     /**
      * 构造函数。
@@ -76,6 +82,7 @@ public class DefaultTurnService implements TurnService {
         currentRound++;
         boolean reachMaxRounds = currentRound >= maxRounds;
         GameEvent event = new TurnAdvancedEvent(
+                events,
                 currentPlayer,
                 currentRound,
                 currentPlayerIndex + 1,
@@ -2,42 +2,82 @@ package Monopoly.core.service.impl;
 
 import Monopoly.core.domain.entity.player.Player;
 import Monopoly.core.domain.entity.tile.*;
-import Monopoly.core.domain.state.PropertyState;
+import Monopoly.core.domain.state.CardDeck;
+import Monopoly.core.domain.state.ColorGroupIndex;
+import Monopoly.core.domain.state.GameBoardState;
+import Monopoly.core.domain.state.LedgerReason;
+import Monopoly.core.domain.state.MoneyLedger;
+import Monopoly.core.domain.state.TurnOrder;
+import Monopoly.core.event.EventSequencer;
+import Monopoly.core.event.GameClock;
 import Monopoly.core.event.GameEvent;
 import Monopoly.core.event.InteractiveEvent;
+import Monopoly.core.message.LazyText;
+import Monopoly.core.metrics.TurnMetrics;
+import Monopoly.core.metrics.TurnPhase;
 import Monopoly.core.ports.DecisionPort;
+import Monopoly.core.ports.ForkingDecisionPort;
+import Monopoly.core.ports.DecisionRequest;
+import Monopoly.core.ports.DecisionType;
 import Monopoly.core.domain.entity.card.CardType;
 import Monopoly.core.domain.entity.card.DrawCard;
+import Monopoly.core.domain.entity.card.effect.CardEffect;
 import Monopoly.core.repo.CardRepository;
 import Monopoly.core.repo.PlayerRepository;
 import Monopoly.core.repo.TileRepository;
-import Monopoly.core.service.TurnService;
+import Monopoly.core.repo.indexed.IndexedTileRepository;
+import Monopoly.core.repo.legacy.InMemoryPlayerRepository;
+import Monopoly.core.service.ForkableTurnService;
 
 import java.util.*;
+import java.util.function.Supplier;
+import java.util.random.RandomGenerator;
 import java.util.stream.Collectors;
 
 /**
  * 实现功能【最小可玩的回合推进：掷骰、移动、落地触发购买/过路费等基础逻辑】。
  */
-public class SimpleTurnService implements TurnService {
+public class SimpleTurnService implements ForkableTurnService {
 
     private final PlayerRepository playerRepository;
-    private final TileRepository tileRepository;
+    private final IndexedTileRepository tileRepository;
     private final CardRepository cardRepository;
     private final DecisionPort decisionPort;
-    private final Random random = new Random();
-    private int currentPlayerIndex = 0;
+    /**
+     * 本局专用的随机数发生器（掷骰、公司转盘、抽卡等全部使用它）。
+     */
+    private final RandomGenerator random;
     private boolean gameOver = false;
     private int turnCounter = 0;
     /**
-     * 记录地块所有者（仅针对可购买地块）。
+     * 整张地图的所有者、建筑与抵押状态（按位置下标的基本类型数组）。
      */
-    private final Map<Integer, Integer> tileOwners = new HashMap<>();
-    
+    private final GameBoardState board;
+    /**
+     * 本局的资金流水，所有现金变动都经由它记账。
+     */
+    private final MoneyLedger ledger = new MoneyLedger();
+
+    /**
+     * 在役玩家的行动顺序环，首个回合开始时按玩家仓库建立；破产出局的玩家从环中摘除。
+     */
+    private TurnOrder turnOrder;
+    /**
+     * 每种卡牌类型一副洗好的牌堆，由本局随机数发生器洗牌。
+     */
+    private final Map<CardType, CardDeck> decks = new EnumMap<>(CardType.class);
+    /**
+     * 玩家持有、暂不参与抽牌的卡（如出狱许可证），键为玩家编号。
+     */
+    private final Map<Integer, DrawCard> heldCards = new HashMap<>();
+    /**
+     * 本局事件的序号分配器与时钟。
+     */
+    private final EventSequencer events;
     /**
-     * 记录地块状态（房屋数、旅馆数、抵押状态）。
+     * 回合延迟统计；决策端口与玩家仓库已经由它包装计时。
      */
-    private final Map<Integer, PropertyState> propertyStates = new HashMap<>();
+    private final TurnMetrics metrics;
 
     /**
      * 构造函数。
@@ -48,29 +88,300 @@ public class SimpleTurnService implements TurnService {
      * @param decisionPort 决策端口
      */
     public SimpleTurnService(PlayerRepository playerRepository, TileRepository tileRepository, CardRepository cardRepository, DecisionPort decisionPort) {
-        this.playerRepository = playerRepository;
-        this.tileRepository = tileRepository;
+        this(playerRepository, tileRepository, cardRepository, decisionPort, new Random());
+    }
+
+    /**
+     * 构造函数。传入固定种子的随机数发生器即可复现整局对局。
+     *
+     * @param playerRepository 玩家仓库
+     * @param tileRepository 地块仓库
+     * @param cardRepository 卡牌仓库
+     * @param decisionPort 决策端口
+     * @param random 本局专用的随机数发生器，不应与其他对局共享
+     */
+    public SimpleTurnService(PlayerRepository playerRepository, TileRepository tileRepository, CardRepository cardRepository,
+                             DecisionPort decisionPort, RandomGenerator random) {
+        this(playerRepository, tileRepository, cardRepository, decisionPort, random, GameClock.wall());
+    }
+
+    /**
+     * 构造函数。
+     *
+     * @param playerRepository 玩家仓库
+     * @param tileRepository 地块仓库
+     * @param cardRepository 卡牌仓库
+     * @param decisionPort 决策端口
+     * @param random 本局专用的随机数发生器，不应与其他对局共享
+     * @param clock 本局事件时间戳所用的时钟
+     */
+    public SimpleTurnService(PlayerRepository playerRepository, TileRepository tileRepository, CardRepository cardRepository,
+                             DecisionPort decisionPort, RandomGenerator random, GameClock clock) {
+        this(playerRepository, tileRepository, cardRepository, decisionPort, random, clock, TurnMetrics.disabled());
+    }
+
+    /**
+     * 构造函数。
+     *
+     * @param playerRepository 玩家仓库
+     * @param tileRepository 地块仓库
+     * @param cardRepository 卡牌仓库
+     * @param decisionPort 决策端口
+     * @param random 本局专用的随机数发生器，不应与其他对局共享
+     * @param clock 本局事件时间戳所用的时钟
+     * @param metrics 回合延迟统计，可在多局间共享
+     */
+    public SimpleTurnService(PlayerRepository playerRepository, TileRepository tileRepository, CardRepository cardRepository,
+                             DecisionPort decisionPort, RandomGenerator random, GameClock clock, TurnMetrics metrics) {
+        this.metrics = Objects.requireNonNull(metrics, "延迟统计不能为空。");
+        this.playerRepository = metrics.timed(playerRepository);
+        this.tileRepository = IndexedTileRepository.copyOf(tileRepository);
         this.cardRepository = cardRepository;
-        this.decisionPort = decisionPort;
+        this.decisionPort = metrics.timed(decisionPort);
+        this.random = Objects.requireNonNull(random, "随机数发生器不能为空。");
+        this.events = new EventSequencer(clock);
+        this.board = new GameBoardState(ColorGroupIndex.of(tileRepository.findAll()));
+        for (CardType cardType : CardType.values()) {
+            decks.put(cardType, new CardDeck(cardRepository.findAllByType(cardType), random));
+        }
+        if (decisionPort instanceof ForkingDecisionPort forking) {
+            forking.attach(this);
+        }
+    }
+
+    /**
+     * 派生对局的构造函数：复制可变状态，共享只读配置。
+     */
+    private SimpleTurnService(SimpleTurnService source, RandomGenerator random, DecisionPort decisionPort) {
+        this.metrics = TurnMetrics.disabled();
+        this.tileRepository = source.tileRepository;
+        this.cardRepository = source.cardRepository;
+        this.decisionPort = Objects.requireNonNull(decisionPort, "决策端口不能为空。");
+        this.random = Objects.requireNonNull(random, "随机数发生器不能为空。");
+        this.events = new EventSequencer(GameClock.turns());
+        this.board = source.board.copy();
+        TurnOrder order = source.turnOrder();
+        Map<Integer, Player> players = new HashMap<>();
+        PlayerRepository repository = new InMemoryPlayerRepository();
+        for (Player player : source.playerRepository.findAll()) {
+            Player copy = player.copy();
+            players.put(copy.getId(), copy);
+            repository.save(copy);
+        }
+        this.playerRepository = repository;
+        this.turnOrder = order.copy(players::get);
+        // 派生对局不复制流水，以当前现金重新开户
+        for (Player player : players.values()) {
+            ledger.open(player);
+        }
+        for (Map.Entry<CardType, CardDeck> entry : source.decks.entrySet()) {
+            decks.put(entry.getKey(), entry.getValue().copy(random));
+        }
+        heldCards.putAll(source.heldCards);
+        this.turnCounter = source.turnCounter;
+        this.gameOver = source.gameOver;
+    }
+
+    /**
+     * 获取当前地图状态（所有者、建筑、抵押），返回的是引用而非副本。
+     *
+     * @return 地图状态
+     */
+    public GameBoardState getBoardState() {
+        return board;
+    }
+
+    /**
+     * 获取本局的资金流水，返回的是引用而非副本。
+     *
+     * @return 资金流水
+     */
+    public MoneyLedger getLedger() {
+        return ledger;
+    }
+
+    /**
+     * 获取行动顺序环，首次调用时按玩家仓库中的全部玩家建立。
+     *
+     * @return 行动顺序环
+     */
+    private TurnOrder turnOrder() {
+        if (turnOrder == null) {
+            turnOrder = new TurnOrder(playerRepository.findAll());
+            for (Player player : turnOrder.activePlayers()) {
+                ledger.open(player);
+            }
+        }
+        return turnOrder;
+    }
+
+    @Override
+    public TurnMetrics getMetrics() {
+        return metrics;
+    }
+
+    @Override
+    public SimpleTurnService fork(RandomGenerator random, DecisionPort decisionPort) {
+        return new SimpleTurnService(this, random, decisionPort);
+    }
+
+    @Override
+    public void applyDecision(DecisionRequest request, int choice) {
+        Player player = turnOrder().findById(request.getPlayer().getId());
+        if (player == null || !turnOrder().isActive(player.getId())) {
+            return;
+        }
+        int index = choice - 1;
+        boolean chosen = index >= 0 && index < request.getTiles().size();
+        Tile tile = chosen ? request.getTiles().get(index) : null;
+        switch (request.getType()) {
+            case PURCHASE -> {
+                if (chosen && !board.isOwned(tile.getPosition()) && player.getMoney() >= request.getAmount()) {
+                    payMoney(player, request.getAmount(), LedgerReason.PURCHASE, tile.getPosition());
+                    acquireTile(player, tile);
+                }
+            }
+            case BUILD -> {
+                int position = request.getTiles().get(0).getPosition();
+                CountryTile country = (CountryTile) request.getTiles().get(0);
+                if (choice == 1 && board.canBuildHouse(position) && player.getMoney() >= country.getBuildHouseCost()) {
+                    payMoney(player, country.getBuildHouseCost(), LedgerReason.BUILD, position);
+                    board.buildHouse(position);
+                } else if (choice == 2 && board.canBuildHotel(position) && player.getMoney() >= country.getBuildHotelCost()) {
+                    payMoney(player, country.getBuildHotelCost(), LedgerReason.BUILD, position);
+                    board.buildHotel(position);
+                }
+            }
+            case MORTGAGE -> {
+                if (chosen && canMortgage(player, tile)) {
+                    mortgageTile(player, tile);
+                    receiveMoney(player, calculateRedeemCost(tile), LedgerReason.MORTGAGE, tile.getPosition());
+                }
+            }
+            case MORTGAGE_FOR_PURCHASE, MORTGAGE_FOR_PAYMENT -> applyMortgageForSettlement(request, player, choice);
+            case REDEEM, REDEEM_CHOICE -> {
+                if (chosen && board.isMortgaged(tile.getPosition()) && board.getOwner(tile.getPosition()) == player.getId()) {
+                    int cost = calculateRedeemCost(tile);
+                    if (player.getMoney() >= cost) {
+                        payMoney(player, cost, LedgerReason.REDEEM, tile.getPosition());
+                        redeemTile(player, tile);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * 在派生局面中完整复现一次“抵押凑款”决策，与真实提示事件链的结果一致：
+     * 钱仍不够时以本局的决策端口继续从剩余地块中选择抵押；凑足后完成购买或向债权人支付；
+     * 放弃购买则什么都不做，放弃支付或已无可抵押地块则向债权人破产。
+     */
+    private void applyMortgageForSettlement(DecisionRequest request, Player player, int choice) {
+        boolean purchase = request.getType() == DecisionType.MORTGAGE_FOR_PURCHASE;
+        Tile target = request.getTarget();
+        Player creditor = request.getCreditor() == null ? null : turnOrder().findById(request.getCreditor().getId());
+        DecisionRequest current = request;
+        int answer = choice;
+        while (player.getMoney() < request.getAmount()) {
+            int index = answer - 1;
+            if (index < 0 || index >= current.getTiles().size() || !canMortgage(player, current.getTiles().get(index))) {
+                if (!purchase) {
+                    declareBankruptcy(player, creditor, true);
+                }
+                return;
+            }
+            Tile tile = current.getTiles().get(index);
+            mortgageTile(player, tile);
+            receiveMoney(player, current.getValues()[index], LedgerReason.MORTGAGE, tile.getPosition());
+            if (player.getMoney() >= request.getAmount()) {
+                break;
+            }
+            List<Tile> remaining = new ArrayList<>(current.getTiles().size());
+            List<Integer> values = new ArrayList<>(current.getTiles().size());
+            for (int i = 0; i < current.getTiles().size(); i++) {
+                if (canMortgage(player, current.getTiles().get(i))) {
+                    remaining.add(current.getTiles().get(i));
+                    values.add(current.getValues()[i]);
+                }
+            }
+            if (remaining.isEmpty()) {
+                if (!purchase) {
+                    declareBankruptcy(player, creditor, false);
+                }
+                return;
+            }
+            current = DecisionRequest.choose(request.getType(), player, request.getAmount(), remaining,
+                    values.stream().mapToInt(Integer::intValue).toArray(),
+                    () -> "\n[抵押选择] 还差 " + formatMoney(request.getAmount() - player.getMoney()) + "，请选择: ")
+                    .withSettlement(target, creditor, request.getSettlementReason());
+            answer = decisionPort.requestDecision(current);
+        }
+        if (purchase) {
+            if (target != null && !board.isOwned(target.getPosition())) {
+                payMoney(player, request.getAmount(), LedgerReason.PURCHASE, target.getPosition());
+                acquireTile(player, target);
+            }
+        } else if (request.getSettlementReason() != null) {
+            payPlayer(player, creditor, request.getAmount(), request.getSettlementReason(),
+                    target == null ? MoneyLedger.NO_TILE : target.getPosition());
+        }
+    }
+
+    private boolean canMortgage(Player player, Tile tile) {
+        return board.getOwner(tile.getPosition()) == player.getId() && !board.isMortgaged(tile.getPosition());
+    }
+
+    @Override
+    public int getNetWorth(int playerId) {
+        if (!turnOrder().isActive(playerId)) {
+            return 0;
+        }
+        Player player = turnOrder().findById(playerId);
+        int worth = player.getMoney();
+        for (Integer position : player.getOwnedTilePositions()) {
+            Tile tile = tileRepository.getByPosition(position);
+            if (tile instanceof CountryTile country) {
+                worth += country.getSellPrice() + board.getHouseCount(position) * country.getBuildHouseCost()
+                        + board.getHotelCount(position) * country.getBuildHotelCost();
+            } else if (tile instanceof CompanyTile company) {
+                worth += company.getSellPrice();
+            } else if (tile instanceof TrainStationTile station) {
+                worth += station.getSellPrice();
+            }
+            if (tile != null && board.isMortgaged(position)) {
+                worth -= calculateRedeemCost(tile);
+            }
+        }
+        return worth;
+    }
+
+    @Override
+    public List<Player> getActivePlayers() {
+        return turnOrder().activePlayers();
     }
 
     @Override
     public GameEvent advanceTurn() {
-        var players = playerRepository.findAll().stream()
-                .sorted(Comparator.comparingInt(Player::getId))
-                .toList();
-        if (players.isEmpty()) {
-            gameOver = true;
-            return new TextEvent(null, "暂无玩家，游戏结束");
+        long mark = metrics.mark();
+        try {
+            return startTurn();
+        } finally {
+            metrics.record(TurnPhase.TURN, mark);
         }
-        // 如果当前索引超出（玩家可能被淘汰）
-        if (currentPlayerIndex >= players.size()) {
-            currentPlayerIndex = 0;
+    }
+
+    private GameEvent startTurn() {
+        // 上一回合的交互已全部完成，统一核对并保存资金变动
+        settleLedger();
+        Player player = turnOrder().advance();
+        if (player == null) {
+            gameOver = true;
+            return new TextEvent(events, null, () -> "暂无玩家，游戏结束");
         }
-        Player player = players.get(currentPlayerIndex);
-        currentPlayerIndex = (currentPlayerIndex + 1) % players.size();
 
         turnCounter++;
+        ledger.beginTurn(turnCounter);
+        events.getClock().onTurnStarted(turnCounter);
         
         String fromName = getTileName(player.getPosition());
 
@@ -97,45 +408,47 @@ public class SimpleTurnService implements TurnService {
         int newPos = player.getPosition() + dice;
         if (newPos > 40) {
             newPos -= 40;
-            player.setMoney(player.getMoney() + 2000);
+            receiveMoney(player, 2000, LedgerReason.PASS_GO, MoneyLedger.NO_TILE);
         }
         player.setPosition(newPos);
-        playerRepository.save(player);
+        markChanged(player);
         return newPos;
     }
 
     private GameEvent handleSpecialTile(Player player, SpecialTile tile, boolean passedGo, boolean isOnGo,
-                                       String header, String locationLine) {
+                                       LazyText header, LazyText locationLine) {
         return switch (tile.getCategory()) {
             case GO -> {
                 String detail;
                 if (passedGo && isOnGo) {
                     // 经过并停留在起点，已奖励2000（经过）+ 2000（停留）= 4000
-                    detail = "经过并停留在起点，奖励 4000元（经过2000 + 停留2000），现金：" + formatMoney(player.getMoney());
+                    detail = "经过并停留在起点，奖励 4000元（经过2000 + 停留2000），现金：";
                 } else if (passedGo) {
                     // 只经过起点，已在movePlayer中奖励2000
-                    detail = "经过起点，已奖励 2000元，现金：" + formatMoney(player.getMoney());
+                    detail = "经过起点，已奖励 2000元，现金：";
                 } else if (isOnGo) {
                     // 停留在起点（没有经过），奖励4000元
-                    player.setMoney(player.getMoney() + 4000);
-                    playerRepository.save(player);
-                    detail = "停留在起点，奖励 4000元，现金：" + formatMoney(player.getMoney());
+                    receiveMoney(player, 4000, LedgerReason.GO_BONUS, tile.getPosition());
+                    detail = "停留在起点，奖励 4000元，现金：";
                 } else {
-                    detail = "起点，无奖励，现金：" + formatMoney(player.getMoney());
+                    detail = "起点，无奖励，现金：";
                 }
-                yield new TurnSummaryEvent(player, buildSummary(header, locationLine, detail, player));
+                int cash = player.getMoney();
+                yield new TurnSummaryEvent(player, buildSummary(header, locationLine,
+                        () -> detail + formatMoney(cash), player));
             }
             case TAX -> {
                 int tax = tile.getName().contains("2000") ? 2000 : 1000;
                 if (player.getMoney() >= tax) {
                     // 钱够，直接支付
-                    payMoney(player, tax);
-                    playerRepository.save(player);
-                    String detail = "支付税费 " + formatMoney(tax) + "，现金：" + formatMoney(player.getMoney());
-                    yield new TurnSummaryEvent(player, buildSummary(header, locationLine, detail, player));
+                    payMoney(player, tax, LedgerReason.TAX, tile.getPosition());
+                    int cash = player.getMoney();
+                    yield new TurnSummaryEvent(player, buildSummary(header, locationLine,
+                            () -> "支付税费 " + formatMoney(tax) + "，现金：" + formatMoney(cash), player));
                 } else {
                     // 钱不够，需要抵押或破产
-                    String body = "需支付税费 " + formatMoney(tax) + "，但您的现金不足(" + formatMoney(player.getMoney()) + ")。";
+                    int cash = player.getMoney();
+                    Supplier<String> body = () -> "需支付税费 " + formatMoney(tax) + "，但您的现金不足(" + formatMoney(cash) + ")。";
                     yield new TaxPaymentPromptEvent(player, tile, tax, buildSummary(header, locationLine, body, player));
                 }
             }
@@ -149,7 +462,7 @@ public class SimpleTurnService implements TurnService {
                 int jailPosition = 11; // 坐牢位置
                 player.setPosition(jailPosition);
                 player.setJailTurnsRemaining(2); // 此回合和下回合无法行动
-                playerRepository.save(player);
+                markChanged(player);
                 String detail = "停在进牢，立即被送入坐牢。此回合和下回合无法行动，只能展示基本信息。";
                 yield new TurnSummaryEvent(player, buildSummary(header, locationLine, detail, player));
             }
@@ -164,59 +477,57 @@ public class SimpleTurnService implements TurnService {
         };
     }
 
-    private GameEvent createCountryEvent(List<Player> players, Player player, CountryTile tile,
-                                         String header, String locationLine) {
+    private GameEvent createCountryEvent(Player player, CountryTile tile,
+                                         LazyText header, LazyText locationLine) {
         int position = tile.getPosition();
-        Integer ownerId = tileOwners.get(position);
-        if (ownerId == null) {
+        int ownerId = board.getOwner(position);
+        if (ownerId == GameBoardState.NO_OWNER) {
             int price = tile.getSellPrice();
-            String body = "该国家无人持有，售价 " + formatMoney(price)
+            int cash = player.getMoney();
+            Supplier<String> body = () -> "该国家无人持有，售价 " + formatMoney(price)
                     + "，基础过路费 " + formatMoney(tile.getBaseToll())
-                    + "。\n当前现金：" + formatMoney(player.getMoney())
+                    + "。\n当前现金：" + formatMoney(cash)
                     + "，稍后将询问是否购买。";
-            String preMessage = buildSummary(header, locationLine, body, player);
+            LazyText preMessage = buildSummary(header, locationLine, body, player);
             return new PurchasePromptEvent(player, tile, preMessage);
         }
-        if (ownerId.equals(player.getId())) {
+        if (ownerId == player.getId()) {
             // 玩家停留在自己的国家上，可以建造房屋/旅馆
-            PropertyState state = getPropertyState(position);
-            String statusInfo = getPropertyStatusInfo(tile, state);
-            String body = "这是您自己的国家。" + statusInfo;
+            LazyText body = LazyText.of(() -> "这是您自己的国家。" + getPropertyStatusInfo(tile));
             // 如果未抵押且可以建造，可以建造
-            if (state.canBuild()) {
-                return new BuildPromptEvent(player, tile, state, buildSummary(header, locationLine, body, player));
+            if (board.canBuild(position)) {
+                return new BuildPromptEvent(player, tile, buildSummary(header, locationLine, body, player));
             } else {
                 return new TurnSummaryEvent(player, buildSummary(header, locationLine, body, player));
             }
         }
-        Optional<Player> ownerOpt = players.stream().filter(p -> p.getId() == ownerId).findFirst();
-        if (ownerOpt.isEmpty()) {
+        Player owner = turnOrder().findById(ownerId);
+        if (owner == null) {
             String body = "该国家原有者不存在，暂不收费。";
             return new TurnSummaryEvent(player, buildSummary(header, locationLine, body, player));
         }
-        Player owner = ownerOpt.get();
-        PropertyState state = getPropertyState(position);
         
         // 如果已抵押，不需要支付过路费
-        if (state.isMortgaged()) {
+        if (board.isMortgaged(position)) {
             String body = "该地块已抵押给银行，无需支付过路费。";
             return new TurnSummaryEvent(player, buildSummary(header, locationLine, body, player));
         }
         
         // 计算过路费（包括房屋/旅馆和垄断翻倍）
-        int toll = calculateToll(tile, state, ownerId);
+        int toll = calculateToll(tile, ownerId);
         if (player.getMoney() >= toll) {
-            payMoney(player, toll);
-            owner.setMoney(owner.getMoney() + toll);
-            playerRepository.save(owner);
-            String body = "需向 " + owner.getName() + " 支付过路费 " + formatMoney(toll)
-                    + "。\n您的现金：" + formatMoney(player.getMoney())
-                    + "；" + owner.getName() + " 现金：" + formatMoney(owner.getMoney());
+            payPlayer(player, owner, toll, LedgerReason.TOLL, tile.getPosition());
+            int cash = player.getMoney();
+            int ownerCash = owner.getMoney();
+            Supplier<String> body = () -> "需向 " + owner.getName() + " 支付过路费 " + formatMoney(toll)
+                    + "。\n您的现金：" + formatMoney(cash)
+                    + "；" + owner.getName() + " 现金：" + formatMoney(ownerCash);
             return new TurnSummaryEvent(player, buildSummary(header, locationLine, body, player));
         } else {
             // 钱不够，需要抵押或破产
-            String body = "需向 " + owner.getName() + " 支付过路费 " + formatMoney(toll)
-                    + "，但您的现金不足(" + formatMoney(player.getMoney()) + ")。";
+            int cash = player.getMoney();
+            Supplier<String> body = () -> "需向 " + owner.getName() + " 支付过路费 " + formatMoney(toll)
+                    + "，但您的现金不足(" + formatMoney(cash) + ")。";
             return new TollPaymentPromptEvent(player, owner, tile, toll, buildSummary(header, locationLine, body, player));
         }
     }
@@ -224,60 +535,58 @@ public class SimpleTurnService implements TurnService {
     /**
      * 创建火车站地块事件。
      */
-    private GameEvent createTrainStationEvent(List<Player> players, Player player, TrainStationTile tile,
-                                               String header, String locationLine) {
+    private GameEvent createTrainStationEvent(Player player, TrainStationTile tile,
+                                               LazyText header, LazyText locationLine) {
         int position = tile.getPosition();
-        Integer ownerId = tileOwners.get(position);
-        if (ownerId == null) {
+        int ownerId = board.getOwner(position);
+        if (ownerId == GameBoardState.NO_OWNER) {
             // 无人持有，可以购买
             int price = tile.getSellPrice();
-            String body = "该火车站无人持有，售价 " + formatMoney(price)
+            int cash = player.getMoney();
+            Supplier<String> body = () -> "该火车站无人持有，售价 " + formatMoney(price)
                     + "，抵押价格 " + formatMoney(tile.getMortgagePrice())
-                    + "。\n当前现金：" + formatMoney(player.getMoney())
+                    + "。\n当前现金：" + formatMoney(cash)
                     + "，稍后将询问是否购买。";
-            String preMessage = buildSummary(header, locationLine, body, player);
+            LazyText preMessage = buildSummary(header, locationLine, body, player);
             return new TrainStationPurchasePromptEvent(player, tile, preMessage);
         }
-        if (ownerId.equals(player.getId())) {
+        if (ownerId == player.getId()) {
             // 玩家停留在自己的火车站上
-            PropertyState state = getPropertyState(position);
-            String statusInfo = state.isMortgaged() ? "【已抵押】" : "这是您自己的火车站。";
-            String body = statusInfo;
+            String body = board.isMortgaged(position) ? "【已抵押】" : "这是您自己的火车站。";
             return new TurnSummaryEvent(player, buildSummary(header, locationLine, body, player));
         }
-        Optional<Player> ownerOpt = players.stream().filter(p -> p.getId() == ownerId).findFirst();
-        if (ownerOpt.isEmpty()) {
+        Player owner = turnOrder().findById(ownerId);
+        if (owner == null) {
             String body = "该火车站原有者不存在，暂不收费。";
             return new TurnSummaryEvent(player, buildSummary(header, locationLine, body, player));
         }
-        Player owner = ownerOpt.get();
-        PropertyState state = getPropertyState(position);
         
         // 如果已抵押，不需要支付过路费
-        if (state.isMortgaged()) {
+        if (board.isMortgaged(position)) {
             String body = "该火车站已抵押给银行，无需支付过路费。";
             return new TurnSummaryEvent(player, buildSummary(header, locationLine, body, player));
         }
         
         // 计算过路费（根据拥有车站数量）
         // 注意：只统计未抵押的车站
-        int stationCount = countOwnedTrainStations(ownerId); // 只统计未抵押的车站数量
+        int stationCount = owner.getActiveStationCount(); // 只统计未抵押的车站数量
         int toll = calculateTrainStationToll(tile, stationCount);
         
-        String tollDescription = "拥有" + stationCount + "个未抵押的火车站，过路费：" + formatMoney(toll);
+        Supplier<String> tollDescription = () -> "拥有" + stationCount + "个未抵押的火车站，过路费：" + formatMoney(toll);
         
         if (player.getMoney() >= toll) {
-            payMoney(player, toll);
-            owner.setMoney(owner.getMoney() + toll);
-            playerRepository.save(owner);
-            String body = tollDescription + "\n需向 " + owner.getName() + " 支付过路费 " + formatMoney(toll)
-                    + "。\n您的现金：" + formatMoney(player.getMoney())
-                    + "；" + owner.getName() + " 现金：" + formatMoney(owner.getMoney());
+            payPlayer(player, owner, toll, LedgerReason.TOLL, tile.getPosition());
+            int cash = player.getMoney();
+            int ownerCash = owner.getMoney();
+            Supplier<String> body = () -> tollDescription.get() + "\n需向 " + owner.getName() + " 支付过路费 " + formatMoney(toll)
+                    + "。\n您的现金：" + formatMoney(cash)
+                    + "；" + owner.getName() + " 现金：" + formatMoney(ownerCash);
             return new TurnSummaryEvent(player, buildSummary(header, locationLine, body, player));
         } else {
             // 钱不够，需要抵押或破产
-            String body = tollDescription + "\n需向 " + owner.getName() + " 支付过路费 " + formatMoney(toll)
-                    + "，但您的现金不足(" + formatMoney(player.getMoney()) + ")。";
+            int cash = player.getMoney();
+            Supplier<String> body = () -> tollDescription.get() + "\n需向 " + owner.getName() + " 支付过路费 " + formatMoney(toll)
+                    + "，但您的现金不足(" + formatMoney(cash) + ")。";
             return new TrainStationTollPaymentPromptEvent(player, owner, tile, toll, buildSummary(header, locationLine, body, player));
         }
     }
@@ -294,61 +603,37 @@ public class SimpleTurnService implements TurnService {
         return tile.getTollByOwnership()[stationCount - 1];
     }
 
-    /**
-     * 统计玩家拥有的未抵押火车站数量。
-     * 注意：只统计未抵押的车站。如果玩家拥有4个车站但其中1个被抵押，则只返回3。
-     */
-    private int countOwnedTrainStations(int playerId) {
-        int count = 0;
-        for (Map.Entry<Integer, Integer> entry : tileOwners.entrySet()) {
-            if (entry.getValue().equals(playerId)) {
-                Tile tile = tileRepository.findByPosition(entry.getKey()).orElse(null);
-                if (tile instanceof TrainStationTile) {
-                    PropertyState state = getPropertyState(entry.getKey());
-                    // 只计算未抵押的车站
-                    if (!state.isMortgaged()) {
-                        count++;
-                    }
-                }
-            }
-        }
-        return count;
-    }
-
     /**
      * 创建公司地块事件。
      */
-    private GameEvent createCompanyEvent(List<Player> players, Player player, CompanyTile tile,
-                                         String header, String locationLine) {
+    private GameEvent createCompanyEvent(Player player, CompanyTile tile,
+                                         LazyText header, LazyText locationLine) {
         int position = tile.getPosition();
-        Integer ownerId = tileOwners.get(position);
-        if (ownerId == null) {
+        int ownerId = board.getOwner(position);
+        if (ownerId == GameBoardState.NO_OWNER) {
             // 无人持有，可以购买
             int price = tile.getSellPrice();
-            String body = "该公司无人持有，售价 " + formatMoney(price)
+            int cash = player.getMoney();
+            Supplier<String> body = () -> "该公司无人持有，售价 " + formatMoney(price)
                     + "，抵押价格 " + formatMoney(tile.getMortgagePrice())
-                    + "。\n当前现金：" + formatMoney(player.getMoney())
+                    + "。\n当前现金：" + formatMoney(cash)
                     + "，稍后将询问是否购买。";
-            String preMessage = buildSummary(header, locationLine, body, player);
+            LazyText preMessage = buildSummary(header, locationLine, body, player);
             return new CompanyPurchasePromptEvent(player, tile, preMessage);
         }
-        if (ownerId.equals(player.getId())) {
+        if (ownerId == player.getId()) {
             // 玩家停留在自己的公司上
-            PropertyState state = getPropertyState(position);
-            String statusInfo = state.isMortgaged() ? "【已抵押】" : "这是您自己的公司。";
-            String body = statusInfo;
+            String body = board.isMortgaged(position) ? "【已抵押】" : "这是您自己的公司。";
             return new TurnSummaryEvent(player, buildSummary(header, locationLine, body, player));
         }
-        Optional<Player> ownerOpt = players.stream().filter(p -> p.getId() == ownerId).findFirst();
-        if (ownerOpt.isEmpty()) {
+        Player owner = turnOrder().findById(ownerId);
+        if (owner == null) {
             String body = "该公司原有者不存在，暂不收费。";
             return new TurnSummaryEvent(player, buildSummary(header, locationLine, body, player));
         }
-        Player owner = ownerOpt.get();
-        PropertyState state = getPropertyState(position);
         
         // 如果已抵押，不需要支付过路费
-        if (state.isMortgaged()) {
+        if (board.isMortgaged(position)) {
             String body = "该公司已抵押给银行，无需支付过路费。";
             return new TurnSummaryEvent(player, buildSummary(header, locationLine, body, player));
         }
@@ -356,69 +641,45 @@ public class SimpleTurnService implements TurnService {
         // 计算过路费（转盘1-16，根据拥有公司数量计算）
         // 注意：只统计未抵押的公司，如果有一个公司被抵押，则只按一个公司计算
         int diceRoll = random.nextInt(16) + 1; // 转动转盘（1-16）
-        int companyCount = countOwnedCompanies(ownerId); // 只统计未抵押的公司数量
+        int companyCount = owner.getActiveCompanyCount(); // 只统计未抵押的公司数量
         int multiplier = companyCount == 2 ? 100 : 10;
         int toll = diceRoll * multiplier;
         
-        String tollDescription = "转盘数字：" + diceRoll + "，";
-        if (companyCount == 2) {
-            tollDescription += "拥有两个未抵押的公司，费用 = " + diceRoll + " × 100 = " + formatMoney(toll);
-        } else {
-            tollDescription += "拥有" + companyCount + "个未抵押的公司，费用 = " + diceRoll + " × 10 = " + formatMoney(toll);
-        }
+        Supplier<String> tollDescription = () -> "转盘数字：" + diceRoll + "，" + (companyCount == 2
+                ? "拥有两个未抵押的公司，费用 = " + diceRoll + " × 100 = " + formatMoney(toll)
+                : "拥有" + companyCount + "个未抵押的公司，费用 = " + diceRoll + " × 10 = " + formatMoney(toll));
         
         if (player.getMoney() >= toll) {
-            payMoney(player, toll);
-            owner.setMoney(owner.getMoney() + toll);
-            playerRepository.save(owner);
-            String body = tollDescription + "\n需向 " + owner.getName() + " 支付过路费 " + formatMoney(toll)
-                    + "。\n您的现金：" + formatMoney(player.getMoney())
-                    + "；" + owner.getName() + " 现金：" + formatMoney(owner.getMoney());
+            payPlayer(player, owner, toll, LedgerReason.TOLL, tile.getPosition());
+            int cash = player.getMoney();
+            int ownerCash = owner.getMoney();
+            Supplier<String> body = () -> tollDescription.get() + "\n需向 " + owner.getName() + " 支付过路费 " + formatMoney(toll)
+                    + "。\n您的现金：" + formatMoney(cash)
+                    + "；" + owner.getName() + " 现金：" + formatMoney(ownerCash);
             return new TurnSummaryEvent(player, buildSummary(header, locationLine, body, player));
         } else {
             // 钱不够，需要抵押或破产
-            String body = tollDescription + "\n需向 " + owner.getName() + " 支付过路费 " + formatMoney(toll)
-                    + "，但您的现金不足(" + formatMoney(player.getMoney()) + ")。";
+            int cash = player.getMoney();
+            Supplier<String> body = () -> tollDescription.get() + "\n需向 " + owner.getName() + " 支付过路费 " + formatMoney(toll)
+                    + "，但您的现金不足(" + formatMoney(cash) + ")。";
             return new CompanyTollPaymentPromptEvent(player, owner, tile, toll, buildSummary(header, locationLine, body, player));
         }
     }
 
 
-    /**
-     * 统计玩家拥有的未抵押公司数量。
-     * 注意：只统计未抵押的公司。如果玩家拥有两个公司但其中一个被抵押，
-     * 则只返回1，过路费按×10计算；只有两个公司都未抵押时，才返回2，过路费按×100计算。
-     */
-    private int countOwnedCompanies(int playerId) {
-        int count = 0;
-        for (Map.Entry<Integer, Integer> entry : tileOwners.entrySet()) {
-            if (entry.getValue().equals(playerId)) {
-                Tile tile = tileRepository.findByPosition(entry.getKey()).orElse(null);
-                if (tile instanceof CompanyTile) {
-                    PropertyState state = getPropertyState(entry.getKey());
-                    // 只计算未抵押的公司
-                    if (!state.isMortgaged()) {
-                        count++;
-                    }
-                }
-            }
-        }
-        return count;
-    }
-
     /**
      * 文本事件：最小可玩版本用于输出描述性文本。
      */
     public static class TextEvent extends GameEvent {
-        private final String text;
-        public TextEvent(String playerId, String text) {
-            super(playerId);
-            this.text = text;
+        private final LazyText text;
+        public TextEvent(EventSequencer sequencer, String playerId, Supplier<String> text) {
+            super(sequencer, playerId);
+            this.text = LazyText.of(text);
         }
         @Override
         public String getType() { return "Text"; }
         @Override
-        public String toString() { return text; }
+        public String toString() { return text.get(); }
     }
 
     /**
@@ -428,8 +689,8 @@ public class SimpleTurnService implements TurnService {
         private final Player player;
         private final CountryTile tile;
 
-        PurchasePromptEvent(Player player, CountryTile tile, String preMessage) {
-            super(String.valueOf(player.getId()), preMessage);
+        PurchasePromptEvent(Player player, CountryTile tile, Supplier<String> preMessage) {
+            super(events, String.valueOf(player.getId()), preMessage);
             this.player = player;
             this.tile = tile;
         }
@@ -437,20 +698,19 @@ public class SimpleTurnService implements TurnService {
         @Override
         public GameEvent interact() {
             int price = tile.getSellPrice();
-            String prompt = "\n[购地选择] " + player.getName() + " 当前现金 " + formatMoney(player.getMoney())
+            Supplier<String> prompt = () -> "\n[购地选择] " + player.getName() + " 当前现金 " + formatMoney(player.getMoney())
                     + "，是否以 " + formatMoney(price) + " 购买 [" + tile.getName() + "]？"
                     + "（基础过路费 " + formatMoney(tile.getBaseToll()) + "，1=购买，0=放弃）: ";
-            int choice = decisionPort.requestInt(prompt);
+            int choice = decisionPort.requestDecision(
+                    DecisionRequest.confirm(DecisionType.PURCHASE, player, tile, price, prompt));
             String message;
             if (choice == 1) {
                 if (player.getMoney() >= price) {
-                    payMoney(player, price);
-                    tileOwners.put(tile.getPosition(), player.getId());
-                    player.addOwnedTile(tile.getPosition());
+                    payMoney(player, price, LedgerReason.PURCHASE, tile.getPosition());
+                    acquireTile(player, tile);
                     message = "玩家 " + player.getName() + " 以 " + formatMoney(price)
                             + " 购入 [" + tile.getName() + "]。";
-                    playerRepository.save(player);
-                    String summary = buildResultSummary("购地结果", message, player);
+                    LazyText summary = buildResultSummary("购地结果", message, player);
                     return new TurnSummaryEvent(player, summary);
                 } else {
                     // 钱不够，需要抵押
@@ -461,8 +721,7 @@ public class SimpleTurnService implements TurnService {
                 }
             } else {
                 message = "玩家 " + player.getName() + " 放弃购买 [" + tile.getName() + "]。";
-                playerRepository.save(player);
-                String summary = buildResultSummary("购地结果", message, player);
+                LazyText summary = buildResultSummary("购地结果", message, player);
                 return new TurnSummaryEvent(player, summary);
             }
         }
@@ -475,8 +734,8 @@ public class SimpleTurnService implements TurnService {
         private final Player player;
         private final CompanyTile tile;
 
-        CompanyPurchasePromptEvent(Player player, CompanyTile tile, String preMessage) {
-            super(String.valueOf(player.getId()), preMessage);
+        CompanyPurchasePromptEvent(Player player, CompanyTile tile, Supplier<String> preMessage) {
+            super(events, String.valueOf(player.getId()), preMessage);
             this.player = player;
             this.tile = tile;
         }
@@ -484,20 +743,19 @@ public class SimpleTurnService implements TurnService {
         @Override
         public GameEvent interact() {
             int price = tile.getSellPrice();
-            String prompt = "\n[购买公司] " + player.getName() + " 当前现金 " + formatMoney(player.getMoney())
+            Supplier<String> prompt = () -> "\n[购买公司] " + player.getName() + " 当前现金 " + formatMoney(player.getMoney())
                     + "，是否以 " + formatMoney(price) + " 购买 [" + tile.getName() + "]？"
                     + "（抵押价格 " + formatMoney(tile.getMortgagePrice()) + "，1=购买，0=放弃）: ";
-            int choice = decisionPort.requestInt(prompt);
+            int choice = decisionPort.requestDecision(
+                    DecisionRequest.confirm(DecisionType.PURCHASE, player, tile, price, prompt));
             String message;
             if (choice == 1) {
                 if (player.getMoney() >= price) {
-                    payMoney(player, price);
-                    tileOwners.put(tile.getPosition(), player.getId());
-                    player.addOwnedTile(tile.getPosition());
+                    payMoney(player, price, LedgerReason.PURCHASE, tile.getPosition());
+                    acquireTile(player, tile);
                     message = "玩家 " + player.getName() + " 以 " + formatMoney(price)
                             + " 购入 [" + tile.getName() + "]。";
-                    playerRepository.save(player);
-                    String summary = buildResultSummary("购买公司结果", message, player);
+                    LazyText summary = buildResultSummary("购买公司结果", message, player);
                     return new TurnSummaryEvent(player, summary);
                 } else {
                     // 钱不够，需要抵押
@@ -508,16 +766,15 @@ public class SimpleTurnService implements TurnService {
                 }
             } else {
                 message = "玩家 " + player.getName() + " 放弃购买 [" + tile.getName() + "]。";
-                playerRepository.save(player);
-                String summary = buildResultSummary("购买公司结果", message, player);
+                LazyText summary = buildResultSummary("购买公司结果", message, player);
                 return new TurnSummaryEvent(player, summary);
             }
         }
     }
 
     private class TurnSummaryEvent extends TextEvent implements InteractiveEvent {
-        TurnSummaryEvent(Player player, String message) {
-            super(String.valueOf(player.getId()), message);
+        TurnSummaryEvent(Player player, Supplier<String> message) {
+            super(events, String.valueOf(player.getId()), message);
         }
 
         @Override
@@ -527,8 +784,53 @@ public class SimpleTurnService implements TurnService {
         }
     }
 
-    private void payMoney(Player player, int amount) {
-        player.setMoney(player.getMoney() - amount);
+    /**
+     * 破产事件：与回合总结相同的交互，事件类型为 "BANKRUPTCY"，便于无界面模拟统计淘汰情况。
+     */
+    private class BankruptcyEvent extends TurnSummaryEvent {
+        BankruptcyEvent(Player player, Supplier<String> message) {
+            super(player, message);
+        }
+
+        @Override
+        public String getType() {
+            return "BANKRUPTCY";
+        }
+    }
+
+    /**
+     * 玩家向银行付款（购地、建造、赎回、税费、罚款）。
+     */
+    private void payMoney(Player player, int amount, LedgerReason reason, int position) {
+        ledger.transfer(player, null, amount, reason, position);
+    }
+
+    /**
+     * 玩家从银行收款（起点奖励、抵押、卡牌奖励）。
+     */
+    private void receiveMoney(Player player, int amount, LedgerReason reason, int position) {
+        ledger.transfer(null, player, amount, reason, position);
+    }
+
+    /**
+     * 玩家之间转账（过路费、破产清偿），收款人为 null 时付给银行。
+     */
+    private void payPlayer(Player payer, Player payee, int amount, LedgerReason reason, int position) {
+        ledger.transfer(payer, payee, amount, reason, position);
+    }
+
+    /**
+     * 玩家有非资金的状态变动（位置、入狱、暂停、地产），登记到本回合结账时统一保存。
+     */
+    private void markChanged(Player player) {
+        ledger.touch(player);
+    }
+
+    /**
+     * 结束当前回合的记账：核对本回合资金或状态变动过的玩家，并各保存一次。
+     */
+    private void settleLedger() {
+        ledger.settle(playerRepository::save);
     }
 
     /**
@@ -544,27 +846,21 @@ public class SimpleTurnService implements TurnService {
      * @return 游戏事件
      */
     private GameEvent handlePayment(Player player, int amount, Player recipient, String description,
-                                   String header, String locationLine) {
+                                   LazyText header, LazyText locationLine) {
         if (player.getMoney() >= amount) {
             // 现金足够，直接支付
-            payMoney(player, amount);
-            if (recipient != null) {
-                recipient.setMoney(recipient.getMoney() + amount);
-                playerRepository.save(recipient);
-            }
-            playerRepository.save(player);
-            String body = description + " " + formatMoney(amount);
-            if (recipient != null) {
-                body += "。\n您的现金：" + formatMoney(player.getMoney())
-                        + "；" + recipient.getName() + " 现金：" + formatMoney(recipient.getMoney());
-            } else {
-                body += "，现金：" + formatMoney(player.getMoney());
-            }
+            payPlayer(player, recipient, amount, LedgerReason.PAYMENT, MoneyLedger.NO_TILE);
+            int cash = player.getMoney();
+            int recipientCash = recipient != null ? recipient.getMoney() : 0;
+            Supplier<String> body = () -> description + " " + formatMoney(amount) + (recipient != null
+                    ? "。\n您的现金：" + formatMoney(cash) + "；" + recipient.getName() + " 现金：" + formatMoney(recipientCash)
+                    : "，现金：" + formatMoney(cash));
             return new TurnSummaryEvent(player, buildSummary(header, locationLine, body, player));
         } else {
             // 现金不足，需要抵押或破产
-            String body = description + " " + formatMoney(amount)
-                    + "，但您的现金不足(" + formatMoney(player.getMoney()) + ")。";
+            int cash = player.getMoney();
+            LazyText body = LazyText.of(() -> description + " " + formatMoney(amount)
+                    + "，但您的现金不足(" + formatMoney(cash) + ")。");
             if (recipient != null) {
                 // 支付给其他玩家（过路费）
                 if (description.contains("过路费")) {
@@ -579,6 +875,9 @@ public class SimpleTurnService implements TurnService {
         }
     }
 
+    /**
+     * 生成玩家资产概览。
+     */
     private String describeAssets(Player player) {
         StringBuilder sb = new StringBuilder();
         sb.append("- 现金：").append(formatMoney(player.getMoney())).append("\n");
@@ -589,18 +888,17 @@ public class SimpleTurnService implements TurnService {
             String owned = player.getOwnedTilePositions().stream()
                     .sorted()
                     .map(pos -> {
-                        Tile tile = tileRepository.findByPosition(pos).orElse(null);
+                        Tile tile = tileRepository.getByPosition(pos);
                         if (tile == null) {
                             return "格" + pos;
                         }
                         String tileName = tile.getName();
                         // 如果是国家地块，显示房屋或旅馆数量
                         if (tile instanceof CountryTile) {
-                            PropertyState state = getPropertyState(pos);
-                            if (state.getHotelCount() > 0) {
-                                tileName += "（" + state.getHotelCount() + "旅馆）";
-                            } else if (state.getHouseCount() > 0) {
-                                tileName += "（" + state.getHouseCount() + "房屋）";
+                            if (board.getHotelCount(pos) > 0) {
+                                tileName += "（" + board.getHotelCount(pos) + "旅馆）";
+                            } else if (board.getHouseCount(pos) > 0) {
+                                tileName += "（" + board.getHouseCount(pos) + "房屋）";
                             }
                         }
                         return tileName;
@@ -624,79 +922,95 @@ public class SimpleTurnService implements TurnService {
                 + "移动：" + fromName + " -> " + toName + "\n\n";
     }
 
-    private String buildPausedSummary(int turn, Player player, String tileName, int position) {
-        StringBuilder sb = new StringBuilder();
-        sb.append("==================== 回合 ").append(turn).append(" ====================\n");
-        sb.append("玩家：").append(player.getName()).append("\n");
-        sb.append("状态：暂停一回合\n");
-        sb.append("当前位置：").append(tileName).append("\n\n");
-        sb.append("事件：玩家被暂停，跳过本次行动。\n\n");
-        sb.append("资产概览：\n").append(describeAssets(player));
-        return sb.toString();
+    private LazyText buildPausedSummary(int turn, Player player, String tileName, int position) {
+        return LazyText.of(() -> {
+            StringBuilder sb = new StringBuilder();
+            sb.append("==================== 回合 ").append(turn).append(" ====================\n");
+            sb.append("玩家：").append(player.getName()).append("\n");
+            sb.append("状态：暂停一回合\n");
+            sb.append("当前位置：").append(tileName).append("\n\n");
+            sb.append("事件：玩家被暂停，跳过本次行动。\n\n");
+            sb.append("资产概览：\n").append(describeAssets(player));
+            return sb.toString();
+        });
+    }
+
+    private LazyText buildJailSummary(int turn, Player player, String tileName, int position, int remainingTurns) {
+        return LazyText.of(() -> {
+            StringBuilder sb = new StringBuilder();
+            sb.append("==================== 回合 ").append(turn).append(" ====================\n");
+            sb.append("玩家：").append(player.getName()).append("\n");
+            sb.append("状态：在监狱中（剩余 ").append(remainingTurns).append(" 回合）\n");
+            sb.append("当前位置：").append(tileName).append("\n\n");
+            if (remainingTurns > 1) {
+                sb.append("事件：玩家在监狱中，无法行动，只能展示基本信息。\n\n");
+            } else {
+                sb.append("事件：玩家在监狱中，这是最后一回合，下回合可以正常行动。\n\n");
+            }
+            sb.append("资产概览：\n").append(describeAssets(player));
+            return sb.toString();
+        });
     }
 
-    private String buildJailSummary(int turn, Player player, String tileName, int position, int remainingTurns) {
-        StringBuilder sb = new StringBuilder();
-        sb.append("==================== 回合 ").append(turn).append(" ====================\n");
-        sb.append("玩家：").append(player.getName()).append("\n");
-        sb.append("状态：在监狱中（剩余 ").append(remainingTurns).append(" 回合）\n");
-        sb.append("当前位置：").append(tileName).append("\n\n");
-        if (remainingTurns > 1) {
-            sb.append("事件：玩家在监狱中，无法行动，只能展示基本信息。\n\n");
-        } else {
-            sb.append("事件：玩家在监狱中，这是最后一回合，下回合可以正常行动。\n\n");
-        }
-        sb.append("资产概览：\n").append(describeAssets(player));
-        return sb.toString();
+    /**
+     * 生成回合摘要，资产概览在读取时才渲染。
+     */
+    private LazyText buildSummary(Supplier<String> header, Supplier<String> locationLine, String body, Player player) {
+        return buildSummary(header, locationLine, () -> body, player);
     }
 
-    private String buildSummary(String header, String locationLine, String body, Player player) {
-        StringBuilder sb = new StringBuilder();
-        sb.append(header);
-        sb.append(locationLine);
-        if (body != null && !body.isBlank()) {
-            sb.append("事件：").append(body).append("\n");
-        }
-        sb.append("\n资产概览：\n").append(describeAssets(player));
-        return sb.toString();
+    /**
+     * 生成回合摘要，头部、落点与事件正文都在读取时才渲染。
+     */
+    private LazyText buildSummary(Supplier<String> header, Supplier<String> locationLine, Supplier<String> body,
+                                  Player player) {
+        return LazyText.of(() -> {
+            StringBuilder sb = new StringBuilder();
+            sb.append(header.get());
+            sb.append(locationLine.get());
+            String text = body.get();
+            if (text != null && !text.isBlank()) {
+                sb.append("事件：").append(text).append("\n");
+            }
+            sb.append("\n资产概览：\n").append(describeAssets(player));
+            return sb.toString();
+        });
     }
 
-    private String buildResultSummary(String title, String body, Player player) {
-        StringBuilder sb = new StringBuilder();
-        sb.append(">>>> ").append(title).append(" <<<<\n");
-        if (body != null && !body.isBlank()) {
-            sb.append(body).append("\n");
-        }
-        sb.append("\n资产概览：\n").append(describeAssets(player));
-        return sb.toString();
+    private LazyText buildResultSummary(String title, String body, Player player) {
+        return LazyText.of(() -> {
+            StringBuilder sb = new StringBuilder();
+            sb.append(">>>> ").append(title).append(" <<<<\n");
+            if (body != null && !body.isBlank()) {
+                sb.append(body).append("\n");
+            }
+            sb.append("\n资产概览：\n").append(describeAssets(player));
+            return sb.toString();
+        });
     }
 
     private String getTileName(int position) {
-        return tileRepository.findByPosition(position)
-                .map(Tile::getName)
-                .orElse(position == 1 ? "起点" : ("格" + position));
-    }
-
-    /**
-     * 获取地块状态，如果不存在则创建新的。
-     */
-    private PropertyState getPropertyState(int position) {
-        return propertyStates.computeIfAbsent(position, k -> new PropertyState());
+        Tile tile = tileRepository.getByPosition(position);
+        if (tile != null) {
+            return tile.getName();
+        }
+        return position == 1 ? "起点" : ("格" + position);
     }
 
     /**
      * 计算过路费。
      * 注意：根据用户说明，houseToll 数组中的值已经包含了 baseToll，所以不需要再加 baseToll。
      */
-    private int calculateToll(CountryTile tile, PropertyState state, int ownerId) {
+    private int calculateToll(CountryTile tile, int ownerId) {
+        int position = tile.getPosition();
         int toll;
         
-        if (state.getHotelCount() > 0) {
+        if (board.getHotelCount(position) > 0) {
             // 有旅馆，使用旅馆过路费（已包含 baseToll）
             toll = tile.getHotelToll();
-        } else if (state.getHouseCount() > 0) {
+        } else if (board.getHouseCount(position) > 0) {
             // 有房屋，使用对应房屋数的过路费（已包含 baseToll）
-            int houseIndex = state.getHouseCount() - 1;
+            int houseIndex = board.getHouseCount(position) - 1;
             if (houseIndex < tile.getHouseToll().length) {
                 toll = tile.getHouseToll()[houseIndex];
             } else {
@@ -708,7 +1022,7 @@ public class SimpleTurnService implements TurnService {
         }
         
         // 检查是否垄断（拥有同颜色的所有地块）
-        if (hasMonopoly(ownerId, tile.getColor())) {
+        if (hasMonopoly(ownerId, position)) {
             toll *= 2;
         }
         
@@ -716,39 +1030,28 @@ public class SimpleTurnService implements TurnService {
     }
 
     /**
-     * 检查玩家是否拥有同颜色的所有地块（垄断）。
+     * 检查玩家是否拥有该地块所在颜色分组的所有地块（垄断），由棋盘状态增量维护的计数直接给出。
      */
-    private boolean hasMonopoly(int playerId, String color) {
-        // 获取所有同颜色的地块
-        List<CountryTile> sameColorTiles = tileRepository.findAll().stream()
-                .filter(t -> t instanceof CountryTile)
-                .map(t -> (CountryTile) t)
-                .filter(t -> color.equals(t.getColor()))
-                .collect(Collectors.toList());
-        
-        // 检查玩家是否拥有所有这些地块
-        return sameColorTiles.stream()
-                .allMatch(t -> {
-                    Integer owner = tileOwners.get(t.getPosition());
-                    return owner != null && owner.equals(playerId);
-                });
+    private boolean hasMonopoly(int playerId, int position) {
+        return board.hasMonopoly(playerId, board.getColorGroups().groupOf(position));
     }
 
     /**
      * 获取地块状态信息字符串。
      */
-    private String getPropertyStatusInfo(CountryTile tile, PropertyState state) {
+    private String getPropertyStatusInfo(CountryTile tile) {
+        int position = tile.getPosition();
         StringBuilder sb = new StringBuilder();
-        if (state.isMortgaged()) {
+        if (board.isMortgaged(position)) {
             sb.append("【已抵押】");
         }
-        if (state.getHouseCount() > 0) {
-            sb.append("房屋数：").append(state.getHouseCount()).append("，");
+        if (board.getHouseCount(position) > 0) {
+            sb.append("房屋数：").append(board.getHouseCount(position)).append("，");
         }
-        if (state.getHotelCount() > 0) {
-            sb.append("旅馆数：").append(state.getHotelCount()).append("，");
+        if (board.getHotelCount(position) > 0) {
+            sb.append("旅馆数：").append(board.getHotelCount(position)).append("，");
         }
-        if (!state.isMortgaged() && state.getHouseCount() == 0 && state.getHotelCount() == 0) {
+        if (!board.isMortgaged(position) && board.getHouseCount(position) == 0 && board.getHotelCount(position) == 0) {
             sb.append("空地，");
         }
         if (sb.length() > 0 && sb.charAt(sb.length() - 1) == '，') {
@@ -763,49 +1066,62 @@ public class SimpleTurnService implements TurnService {
     private class BuildPromptEvent extends TextEvent implements InteractiveEvent {
         private final Player player;
         private final CountryTile tile;
-        private final PropertyState state;
 
-        BuildPromptEvent(Player player, CountryTile tile, PropertyState state, String preMessage) {
-            super(String.valueOf(player.getId()), preMessage);
+        BuildPromptEvent(Player player, CountryTile tile, Supplier<String> preMessage) {
+            super(events, String.valueOf(player.getId()), preMessage);
             this.player = player;
             this.tile = tile;
-            this.state = state;
         }
 
         @Override
         public GameEvent interact() {
-            StringBuilder options = new StringBuilder();
-            options.append("\n[建造选择] ").append(player.getName()).append(" 当前现金 ").append(formatMoney(player.getMoney()));
-            options.append("，地块：").append(tile.getName());
-            
-            if (state.canBuildHouse()) {
-                options.append("\n  1 = 建造房屋（费用：").append(formatMoney(tile.getBuildHouseCost())).append("）");
-            }
-            if (state.canBuildHotel()) {
-                options.append("\n  2 = 建造旅馆（费用：").append(formatMoney(tile.getBuildHotelCost())).append("，将移除4幢房屋）");
-            }
-            options.append("\n  0 = 不建造\n请选择: ");
+            boolean canHouse = board.canBuildHouse(tile.getPosition());
+            boolean canHotel = board.canBuildHotel(tile.getPosition());
+            int buildChoice = 0;
+            int buildCost = 0;
+            if (canHouse) {
+                buildChoice = 1;
+                buildCost = tile.getBuildHouseCost();
+            }
+            if (canHotel) {
+                buildChoice = 2;
+                buildCost = tile.getBuildHotelCost();
+            }
+            Supplier<String> options = () -> {
+                StringBuilder sb = new StringBuilder();
+                sb.append("\n[建造选择] ").append(player.getName()).append(" 当前现金 ").append(formatMoney(player.getMoney()));
+                sb.append("，地块：").append(tile.getName());
+                if (canHouse) {
+                    sb.append("\n  1 = 建造房屋（费用：").append(formatMoney(tile.getBuildHouseCost())).append("）");
+                }
+                if (canHotel) {
+                    sb.append("\n  2 = 建造旅馆（费用：").append(formatMoney(tile.getBuildHotelCost())).append("，将移除4幢房屋）");
+                }
+                sb.append("\n  0 = 不建造\n请选择: ");
+                return sb.toString();
+            };
             
-            int choice = decisionPort.requestInt(options.toString());
+            int choice = decisionPort.requestDecision(new DecisionRequest(DecisionType.BUILD, player, buildCost,
+                    new int[]{buildChoice}, new int[]{buildCost}, List.of(tile), options));
             String message;
             
-            if (choice == 1 && state.canBuildHouse()) {
+            if (choice == 1 && board.canBuildHouse(tile.getPosition())) {
                 int cost = tile.getBuildHouseCost();
                 if (player.getMoney() >= cost) {
-                    payMoney(player, cost);
-                    state.buildHouse();
+                    payMoney(player, cost, LedgerReason.BUILD, tile.getPosition());
+                    board.buildHouse(tile.getPosition());
                     message = "玩家 " + player.getName() + " 在 [" + tile.getName() + "] 建造了1幢房屋，花费 " + formatMoney(cost)
-                            + "。当前房屋数：" + state.getHouseCount();
+                            + "。当前房屋数：" + board.getHouseCount(tile.getPosition());
                 } else {
                     message = "现金不足，无法建造房屋（需要 " + formatMoney(cost) + "，当前 " + formatMoney(player.getMoney()) + "）。";
                 }
-            } else if (choice == 2 && state.canBuildHotel()) {
+            } else if (choice == 2 && board.canBuildHotel(tile.getPosition())) {
                 int cost = tile.getBuildHotelCost();
                 if (player.getMoney() >= cost) {
-                    payMoney(player, cost);
-                    state.buildHotel();
+                    payMoney(player, cost, LedgerReason.BUILD, tile.getPosition());
+                    board.buildHotel(tile.getPosition());
                     message = "玩家 " + player.getName() + " 在 [" + tile.getName() + "] 建造了1幢旅馆，花费 " + formatMoney(cost)
-                            + "（已移除4幢房屋）。当前旅馆数：" + state.getHotelCount();
+                            + "（已移除4幢房屋）。当前旅馆数：" + board.getHotelCount(tile.getPosition());
                 } else {
                     message = "现金不足，无法建造旅馆（需要 " + formatMoney(cost) + "，当前 " + formatMoney(player.getMoney()) + "）。";
                 }
@@ -813,8 +1129,7 @@ public class SimpleTurnService implements TurnService {
                 message = "玩家 " + player.getName() + " 选择不建造。";
             }
             
-            playerRepository.save(player);
-            String summary = buildResultSummary("建造结果", message, player);
+            LazyText summary = buildResultSummary("建造结果", message, player);
             return new TurnSummaryEvent(player, summary);
         }
     }
@@ -825,30 +1140,28 @@ public class SimpleTurnService implements TurnService {
     private class MortgagePromptEvent extends TextEvent implements InteractiveEvent {
         private final Player player;
         private final CountryTile tile;
-        private final PropertyState state;
 
-        MortgagePromptEvent(Player player, CountryTile tile, PropertyState state, String preMessage) {
-            super(String.valueOf(player.getId()), preMessage);
+        MortgagePromptEvent(Player player, CountryTile tile, Supplier<String> preMessage) {
+            super(events, String.valueOf(player.getId()), preMessage);
             this.player = player;
             this.tile = tile;
-            this.state = state;
         }
 
         @Override
         public GameEvent interact() {
-            int mortgageValue = calculateMortgageValue(tile, state);
-            String prompt = "\n[抵押选择] " + player.getName() + " 当前现金 " + formatMoney(player.getMoney())
+            int mortgageValue = calculateMortgageValue(tile);
+            Supplier<String> prompt = () -> "\n[抵押选择] " + player.getName() + " 当前现金 " + formatMoney(player.getMoney())
                     + "，地块：" + tile.getName()
                     + "\n  抵押价值：" + formatMoney(mortgageValue)
                     + "\n  1 = 抵押，0 = 取消\n请选择: ";
-            int choice = decisionPort.requestInt(prompt);
+            int choice = decisionPort.requestDecision(
+                    DecisionRequest.confirm(DecisionType.MORTGAGE, player, tile, mortgageValue, prompt));
             String message;
             
             if (choice == 1) {
-                if (!state.isMortgaged()) {
-                    state.setMortgaged(true);
-                    player.setMoney(player.getMoney() + mortgageValue);
-                    player.addMortgagedTile(tile.getPosition());
+                if (!board.isMortgaged(tile.getPosition())) {
+                    mortgageTile(player, tile);
+                    receiveMoney(player, mortgageValue, LedgerReason.MORTGAGE, tile.getPosition());
                     message = "玩家 " + player.getName() + " 将 [" + tile.getName() + "] 抵押给银行，获得 " + formatMoney(mortgageValue);
                 } else {
                     message = "该地块已经抵押。";
@@ -857,8 +1170,7 @@ public class SimpleTurnService implements TurnService {
                 message = "玩家 " + player.getName() + " 取消抵押。";
             }
             
-            playerRepository.save(player);
-            String summary = buildResultSummary("抵押结果", message, player);
+            LazyText summary = buildResultSummary("抵押结果", message, player);
             return new TurnSummaryEvent(player, summary);
         }
     }
@@ -867,9 +1179,10 @@ public class SimpleTurnService implements TurnService {
      * 计算抵押价值。
      * 规则：每建一栋房子或者旅馆便能以一半的价格将他们抵押出去，再加上空地抵押费。
      */
-    private int calculateMortgageValue(CountryTile tile, PropertyState state) {
-        int buildingValue = (state.getHouseCount() * tile.getBuildHouseCost() 
-                + state.getHotelCount() * tile.getBuildHotelCost()) / 2;
+    private int calculateMortgageValue(CountryTile tile) {
+        int position = tile.getPosition();
+        int buildingValue = (board.getHouseCount(position) * tile.getBuildHouseCost() 
+                + board.getHotelCount(position) * tile.getBuildHotelCost()) / 2;
         return buildingValue + tile.getMortgagePrice();
     }
 
@@ -879,31 +1192,29 @@ public class SimpleTurnService implements TurnService {
     private class RedeemPromptEvent extends TextEvent implements InteractiveEvent {
         private final Player player;
         private final CountryTile tile;
-        private final PropertyState state;
 
-        RedeemPromptEvent(Player player, CountryTile tile, PropertyState state, String preMessage) {
-            super(String.valueOf(player.getId()), preMessage);
+        RedeemPromptEvent(Player player, CountryTile tile, Supplier<String> preMessage) {
+            super(events, String.valueOf(player.getId()), preMessage);
             this.player = player;
             this.tile = tile;
-            this.state = state;
         }
 
         @Override
         public GameEvent interact() {
-            int redeemCost = calculateMortgageValue(tile, state);
-            String prompt = "\n[赎回选择] " + player.getName() + " 当前现金 " + formatMoney(player.getMoney())
+            int redeemCost = calculateMortgageValue(tile);
+            Supplier<String> prompt = () -> "\n[赎回选择] " + player.getName() + " 当前现金 " + formatMoney(player.getMoney())
                     + "，地块：" + tile.getName()
                     + "\n  赎回费用：" + formatMoney(redeemCost)
                     + "\n  1 = 赎回，0 = 取消\n请选择: ";
-            int choice = decisionPort.requestInt(prompt);
+            int choice = decisionPort.requestDecision(
+                    DecisionRequest.confirm(DecisionType.REDEEM, player, tile, redeemCost, prompt));
             String message;
             
             if (choice == 1) {
-                if (state.isMortgaged()) {
+                if (board.isMortgaged(tile.getPosition())) {
                     if (player.getMoney() >= redeemCost) {
-                        payMoney(player, redeemCost);
-                        state.setMortgaged(false);
-                        player.getMortgagedTilePositions().remove(tile.getPosition());
+                        payMoney(player, redeemCost, LedgerReason.REDEEM, tile.getPosition());
+                        redeemTile(player, tile);
                         message = "玩家 " + player.getName() + " 以 " + formatMoney(redeemCost) + " 赎回了 [" + tile.getName() + "]";
                     } else {
                         message = "现金不足，无法赎回（需要 " + formatMoney(redeemCost) + "，当前 " + formatMoney(player.getMoney()) + "）。";
@@ -915,8 +1226,7 @@ public class SimpleTurnService implements TurnService {
                 message = "玩家 " + player.getName() + " 取消赎回。";
             }
             
-            playerRepository.save(player);
-            String summary = buildResultSummary("赎回结果", message, player);
+            LazyText summary = buildResultSummary("赎回结果", message, player);
             return new TurnSummaryEvent(player, summary);
         }
     }
@@ -931,7 +1241,7 @@ public class SimpleTurnService implements TurnService {
         private final String fromName;
 
         RedeemChoiceEvent(Player player, List<Tile> mortgagedTiles, int turn, String fromName) {
-            super(String.valueOf(player.getId()), 
+            super(events, String.valueOf(player.getId()), () ->
                     "==================== 回合 " + turn + " ====================\n"
                     + "玩家：" + player.getName() + "\n"
                     + "您有 " + mortgagedTiles.size() + " 块已抵押的地块可以赎回。\n");
@@ -943,31 +1253,34 @@ public class SimpleTurnService implements TurnService {
 
         @Override
         public GameEvent interact() {
-            StringBuilder prompt = new StringBuilder();
-            prompt.append("\n[赎回选择] ").append(player.getName()).append(" 当前现金 ").append(formatMoney(player.getMoney()));
-            prompt.append("\n已抵押的地块：\n");
+            int[] redeemCosts = new int[mortgagedTiles.size()];
             for (int i = 0; i < mortgagedTiles.size(); i++) {
-                Tile tile = mortgagedTiles.get(i);
-                PropertyState state = getPropertyState(tile.getPosition());
-                int redeemCost = calculateRedeemCost(tile, state);
-                prompt.append("  ").append(i + 1).append(" = ").append(tile.getName())
-                        .append("（赎回费用：").append(formatMoney(redeemCost)).append("）\n");
-            }
-            prompt.append("  0 = 不赎回，继续游戏\n请选择: ");
+                redeemCosts[i] = calculateRedeemCost(mortgagedTiles.get(i));
+            }
+            Supplier<String> prompt = () -> {
+                StringBuilder sb = new StringBuilder();
+                sb.append("\n[赎回选择] ").append(player.getName()).append(" 当前现金 ").append(formatMoney(player.getMoney()));
+                sb.append("\n已抵押的地块：\n");
+                for (int i = 0; i < mortgagedTiles.size(); i++) {
+                    sb.append("  ").append(i + 1).append(" = ").append(mortgagedTiles.get(i).getName())
+                            .append("（赎回费用：").append(formatMoney(redeemCosts[i])).append("）\n");
+                }
+                sb.append("  0 = 不赎回，继续游戏\n请选择: ");
+                return sb.toString();
+            };
             
-            int choice = decisionPort.requestInt(prompt.toString());
+            int choice = decisionPort.requestDecision(DecisionRequest.choose(DecisionType.REDEEM_CHOICE, player, 0,
+                    mortgagedTiles, redeemCosts, prompt));
             String message;
             
             if (choice > 0 && choice <= mortgagedTiles.size()) {
                 Tile tile = mortgagedTiles.get(choice - 1);
-                PropertyState state = getPropertyState(tile.getPosition());
-                int redeemCost = calculateRedeemCost(tile, state);
+                int redeemCost = calculateRedeemCost(tile);
                 
-                if (state.isMortgaged()) {
+                if (board.isMortgaged(tile.getPosition())) {
                     if (player.getMoney() >= redeemCost) {
-                        payMoney(player, redeemCost);
-                        state.setMortgaged(false);
-                        player.getMortgagedTilePositions().remove(tile.getPosition());
+                        payMoney(player, redeemCost, LedgerReason.REDEEM, tile.getPosition());
+                        redeemTile(player, tile);
                         message = "玩家 " + player.getName() + " 以 " + formatMoney(redeemCost) + " 赎回了 [" + tile.getName() + "]";
                     } else {
                         message = "现金不足，无法赎回（需要 " + formatMoney(redeemCost) + "，当前 " + formatMoney(player.getMoney()) + "）。";
@@ -975,13 +1288,12 @@ public class SimpleTurnService implements TurnService {
                 } else {
                     message = "该地块未抵押。";
                 }
-                playerRepository.save(player);
-                String summary = buildResultSummary("赎回结果", message, player);
+                LazyText summary = buildResultSummary("赎回结果", message, player);
                 // 继续游戏流程
                 return new ContinueTurnEvent(player, summary, turn, fromName);
             } else {
                 // 不赎回，继续游戏
-                return new ContinueTurnEvent(player, "玩家 " + player.getName() + " 选择不赎回，继续游戏。", turn, fromName);
+                return new ContinueTurnEvent(player, () -> "玩家 " + player.getName() + " 选择不赎回，继续游戏。", turn, fromName);
             }
         }
     }
@@ -989,9 +1301,9 @@ public class SimpleTurnService implements TurnService {
     /**
      * 计算赎回费用（根据地块类型）。
      */
-    private int calculateRedeemCost(Tile tile, PropertyState state) {
+    private int calculateRedeemCost(Tile tile) {
         if (tile instanceof CountryTile) {
-            return calculateMortgageValue((CountryTile) tile, state);
+            return calculateMortgageValue((CountryTile) tile);
         } else if (tile instanceof CompanyTile) {
             return calculateCompanyMortgageValue((CompanyTile) tile);
         } else if (tile instanceof TrainStationTile) {
@@ -1007,19 +1319,21 @@ public class SimpleTurnService implements TurnService {
         private final Player player;
         private final int turn;
         private final String fromName;
-        private final String redeemMessage;
+        private final LazyText redeemMessage;
 
-        ContinueTurnEvent(Player player, String redeemMessage, int turn, String fromName) {
-            super(String.valueOf(player.getId()), "");
+        ContinueTurnEvent(Player player, Supplier<String> redeemMessage, int turn, String fromName) {
+            super(events, String.valueOf(player.getId()), LazyText.empty());
             this.player = player;
             this.turn = turn;
             this.fromName = fromName;
-            this.redeemMessage = redeemMessage;
+            this.redeemMessage = LazyText.of(redeemMessage);
         }
 
         @Override
         public String toString() {
-            // 不显示任何内容，让 WrappedEvent 来显示赎回结果
+            // 不显示任何内容，让 WrappedEvent 来显示赎回结果；
+            // 但需在此刻（赎回后、掷骰前）把赎回结果渲染下来，避免之后的资金变化混入资产概览
+            redeemMessage.get();
             return "";
         }
 
@@ -1040,21 +1354,30 @@ public class SimpleTurnService implements TurnService {
      * @param prefixMessage 前缀消息（用于在游戏流程前显示赎回结果等信息）
      * @return 游戏事件
      */
-    private GameEvent executeTurn(Player player, int turn, String fromName, boolean skipHeader, String prefixMessage) {
+    private GameEvent executeTurn(Player player, int turn, String fromName, boolean skipHeader, LazyText prefixMessage) {
+        long mark = metrics.mark();
+        try {
+            return playTurn(player, turn, fromName, skipHeader, prefixMessage);
+        } finally {
+            metrics.record(TurnPhase.EXECUTE, mark);
+        }
+    }
+
+    private GameEvent playTurn(Player player, int turn, String fromName, boolean skipHeader, LazyText prefixMessage) {
         // 检查玩家是否在监狱中
         if (player.getJailTurnsRemaining() > 0) {
             // 在监狱中，只展示基本信息，不掷骰子
             int remaining = player.getJailTurnsRemaining();
             player.setJailTurnsRemaining(remaining - 1); // 减少剩余回合数
-            playerRepository.save(player);
-            String jailSummary = buildJailSummary(turn, player, fromName, player.getPosition(), remaining);
+            markChanged(player);
+            LazyText jailSummary = buildJailSummary(turn, player, fromName, player.getPosition(), remaining);
             return new TurnSummaryEvent(player, jailSummary);
         }
         
         if (player.isPaused()) {
             player.setPaused(false);
-            playerRepository.save(player);
-            String pausedSummary = buildPausedSummary(turn, player, fromName, player.getPosition());
+            markChanged(player);
+            LazyText pausedSummary = buildPausedSummary(turn, player, fromName, player.getPosition());
             return new TurnSummaryEvent(player, pausedSummary);
         }
 
@@ -1064,32 +1387,28 @@ public class SimpleTurnService implements TurnService {
         boolean passedGo = (oldPos + dice) > 40;
         int newPos = movePlayer(player, dice);
 
-        Tile tile = tileRepository.findByPosition(newPos).orElse(null);
+        Tile tile = tileRepository.getByPosition(newPos);
         String toName = tile != null ? tile.getName() : getTileName(newPos);
-        String header = skipHeader ? "" : buildTurnHeader(turn, player, dice, oldPos, fromName, newPos, toName);
-        
         // 如果跳过了回合号，需要构建一个不包含回合号的头部
-        if (skipHeader) {
-            header = "掷骰：" + dice + "\n"
-                    + "移动：" + fromName + " -> " + toName + "\n\n";
-        }
+        LazyText header = skipHeader
+                ? LazyText.of(() -> "掷骰：" + dice + "\n" + "移动：" + fromName + " -> " + toName + "\n\n")
+                : LazyText.of(() -> buildTurnHeader(turn, player, dice, oldPos, fromName, newPos, toName));
 
         if (tile == null) {
-            String summary = buildSummary(header, "落点：未知地块\n", "无额外事件。", player);
-            if (skipHeader && prefixMessage != null && !prefixMessage.isEmpty()) {
-                summary = prefixMessage + "\n\n" + summary;
+            LazyText summary = buildSummary(header, LazyText.of("落点：未知地块\n"), "无额外事件。", player);
+            if (skipHeader && prefixMessage != null) {
+                LazyText body = summary;
+                summary = LazyText.of(() -> prefixMessage.get() + "\n\n" + body.get());
             }
             return new TurnSummaryEvent(player, summary);
         }
 
-        String locationLine = "落点：" + toName + "\n";
+        LazyText locationLine = LazyText.of(() -> "落点：" + toName + "\n");
 
         GameEvent event;
-        var players = playerRepository.findAll().stream()
-                .sorted(Comparator.comparingInt(Player::getId))
-                .toList();
+        long tileMark = metrics.mark();
         switch (tile.getTileType()) {
-            case COUNTRY -> event = createCountryEvent(players, player, (CountryTile) tile, header, locationLine);
+            case COUNTRY -> event = createCountryEvent(player, (CountryTile) tile, header, locationLine);
             case SPECIAL -> {
                 // 如果是起点，检查是经过还是停留
                 boolean isGo = ((SpecialTile) tile).getCategory() == SpecialTile.SpecialCategory.GO;
@@ -1097,14 +1416,13 @@ public class SimpleTurnService implements TurnService {
                     // 如果经过起点且最终停留在起点，需要额外奖励2000（总共4000）
                     if (passedGo && newPos == 1) {
                         // 已经在movePlayer中奖励了2000，停留再奖励2000
-                        player.setMoney(player.getMoney() + 2000);
-                        playerRepository.save(player);
+                        receiveMoney(player, 2000, LedgerReason.GO_BONUS, newPos);
                     }
                 }
                 event = handleSpecialTile(player, (SpecialTile) tile, passedGo, newPos == 1, header, locationLine);
             }
-            case TRAIN_STATION -> event = createTrainStationEvent(players, player, (TrainStationTile) tile, header, locationLine);
-            case COMPANY -> event = createCompanyEvent(players, player, (CompanyTile) tile, header, locationLine);
+            case TRAIN_STATION -> event = createTrainStationEvent(player, (TrainStationTile) tile, header, locationLine);
+            case COMPANY -> event = createCompanyEvent(player, (CompanyTile) tile, header, locationLine);
             case CHANCE, FATE -> {
                 CardType cardType = ((CardTile) tile).getCardType();
                 event = handleCardTile(player, cardType, header, locationLine, passedGo, newPos);
@@ -1114,14 +1432,14 @@ public class SimpleTurnService implements TurnService {
                 event = new TurnSummaryEvent(player, buildSummary(header, locationLine, body, player));
             }
         }
+        metrics.recordTile(tile.getTileType(), tileMark);
         
         // 如果跳过了回合号，需要在事件消息前添加赎回结果
-        if (skipHeader && prefixMessage != null && !prefixMessage.isEmpty()) {
+        if (skipHeader && prefixMessage != null) {
             // 创建一个包装事件，将赎回结果和游戏流程合并显示
             event = new WrappedEvent(event, prefixMessage);
         }
         
-        playerRepository.save(player);
         return event;
     }
     
@@ -1142,10 +1460,10 @@ public class SimpleTurnService implements TurnService {
      */
     private class WrappedEvent extends TextEvent implements InteractiveEvent {
         private final GameEvent originalEvent;
-        private final String prefixMessage;
+        private final LazyText prefixMessage;
 
-        WrappedEvent(GameEvent originalEvent, String prefixMessage) {
-            super(originalEvent.getPlayerId(), prefixMessage);
+        WrappedEvent(GameEvent originalEvent, LazyText prefixMessage) {
+            super(events, originalEvent.getPlayerId(), prefixMessage);
             this.originalEvent = originalEvent;
             this.prefixMessage = prefixMessage;
         }
@@ -1157,7 +1475,7 @@ public class SimpleTurnService implements TurnService {
 
         @Override
         public String toString() {
-            return prefixMessage + "\n\n" + originalEvent.toString();
+            return prefixMessage.get() + "\n\n" + originalEvent.toString();
         }
 
         @Override
@@ -1177,8 +1495,8 @@ public class SimpleTurnService implements TurnService {
         private final CountryTile tile;
         private final int requiredAmount;
 
-        MortgageForPurchaseEvent(Player player, CountryTile tile, int requiredAmount, String preMessage) {
-            super(String.valueOf(player.getId()), preMessage);
+        MortgageForPurchaseEvent(Player player, CountryTile tile, int requiredAmount, Supplier<String> preMessage) {
+            super(events, String.valueOf(player.getId()), preMessage);
             this.player = player;
             this.tile = tile;
             this.requiredAmount = requiredAmount;
@@ -1189,38 +1507,38 @@ public class SimpleTurnService implements TurnService {
             List<CountryTile> availableTiles = getAvailableTilesForMortgage(player);
             if (availableTiles.isEmpty()) {
                 String message = "没有可抵押的地块，无法购买。";
-                playerRepository.save(player);
-                String summary = buildResultSummary("购地结果", message, player);
+                LazyText summary = buildResultSummary("购地结果", message, player);
                 return new TurnSummaryEvent(player, summary);
             }
             
-            StringBuilder prompt = new StringBuilder();
-            prompt.append("\n[抵押选择] 需要 ").append(formatMoney(requiredAmount))
-                    .append("，当前现金 ").append(formatMoney(player.getMoney()))
-                    .append("，还差 ").append(formatMoney(requiredAmount - player.getMoney()))
-                    .append("\n可抵押的地块：\n");
-            for (int i = 0; i < availableTiles.size(); i++) {
-                CountryTile t = availableTiles.get(i);
-                PropertyState state = getPropertyState(t.getPosition());
-                int mortgageValue = calculateMortgageValue(t, state);
-                prompt.append("  ").append(i + 1).append(" = ").append(t.getName())
-                        .append("（抵押价值：").append(formatMoney(mortgageValue)).append("）\n");
-            }
-            prompt.append("  0 = 放弃购买\n请选择: ");
+            Supplier<String> prompt = () -> {
+                StringBuilder sb = new StringBuilder();
+                sb.append("\n[抵押选择] 需要 ").append(formatMoney(requiredAmount))
+                        .append("，当前现金 ").append(formatMoney(player.getMoney()))
+                        .append("，还差 ").append(formatMoney(requiredAmount - player.getMoney()))
+                        .append("\n可抵押的地块：\n");
+                for (int i = 0; i < availableTiles.size(); i++) {
+                    CountryTile t = availableTiles.get(i);
+                    int mortgageValue = calculateMortgageValue(t);
+                    sb.append("  ").append(i + 1).append(" = ").append(t.getName())
+                            .append("（抵押价值：").append(formatMoney(mortgageValue)).append("）\n");
+                }
+                sb.append("  0 = 放弃购买\n请选择: ");
+                return sb.toString();
+            };
             
-            int choice = decisionPort.requestInt(prompt.toString());
+            int choice = decisionPort.requestDecision(mortgageRequest(DecisionType.MORTGAGE_FOR_PURCHASE, player,
+                    requiredAmount, availableTiles, List.of(), List.of(), prompt)
+                    .withSettlement(tile, null, LedgerReason.PURCHASE));
             String message;
             
             if (choice > 0 && choice <= availableTiles.size()) {
                 CountryTile selectedTile = availableTiles.get(choice - 1);
-                PropertyState state = getPropertyState(selectedTile.getPosition());
-                int mortgageValue = calculateMortgageValue(selectedTile, state);
+                int mortgageValue = calculateMortgageValue(selectedTile);
                 
-                state.setMortgaged(true);
-                player.setMoney(player.getMoney() + mortgageValue);
-                player.addMortgagedTile(selectedTile.getPosition());
+                mortgageTile(player, selectedTile);
+                receiveMoney(player, mortgageValue, LedgerReason.MORTGAGE, selectedTile.getPosition());
                 message = "玩家 " + player.getName() + " 将 [" + selectedTile.getName() + "] 抵押给银行，获得 " + formatMoney(mortgageValue);
-                playerRepository.save(player);
                 
                 // 检查现在是否有足够的钱购买
                 if (player.getMoney() >= requiredAmount) {
@@ -1234,8 +1552,7 @@ public class SimpleTurnService implements TurnService {
                 }
             } else {
                 message = "玩家 " + player.getName() + " 放弃购买。";
-                playerRepository.save(player);
-                String summary = buildResultSummary("购地结果", message, player);
+                LazyText summary = buildResultSummary("购地结果", message, player);
                 return new TurnSummaryEvent(player, summary);
             }
         }
@@ -1250,8 +1567,8 @@ public class SimpleTurnService implements TurnService {
         private final CountryTile tile;
         private final int toll;
 
-        TollPaymentPromptEvent(Player player, Player owner, CountryTile tile, int toll, String preMessage) {
-            super(String.valueOf(player.getId()), preMessage);
+        TollPaymentPromptEvent(Player player, Player owner, CountryTile tile, int toll, Supplier<String> preMessage) {
+            super(events, String.valueOf(player.getId()), preMessage);
             this.player = player;
             this.owner = owner;
             this.tile = tile;
@@ -1263,68 +1580,45 @@ public class SimpleTurnService implements TurnService {
             List<CountryTile> availableTiles = getAvailableTilesForMortgage(player);
             if (availableTiles.isEmpty()) {
                 // 没有可抵押的地块，破产
-                int paid = player.getMoney();
-                player.setMoney(0);
-                owner.setMoney(owner.getMoney() + paid);
-                playerRepository.save(owner);
-                
-                // 回收玩家的所有资产
-                for (Integer pos : new HashSet<>(player.getOwnedTilePositions())) {
-                    tileOwners.remove(pos);
-                    propertyStates.remove(pos);
-                }
-                player.getOwnedTilePositions().clear();
-                player.getMortgagedTilePositions().clear();
-                
-                var players = playerRepository.findAll().stream()
-                        .filter(p -> p.getMoney() > 0 || !p.getOwnedTilePositions().isEmpty())
-                        .toList();
-                gameOver = players.size() <= 1;
-                
-                String message = "资金不足且无可抵押资产，玩家 " + player.getName() + " 破产出局。"
-                        + (paid > 0 ? "已支付全部现金 " + formatMoney(paid) + "。" : "");
-                playerRepository.save(player);
-                String summary = buildResultSummary("破产", message, player);
-                return new TurnSummaryEvent(player, summary);
+                return declareBankruptcy(player, owner, false);
             }
             
-            StringBuilder prompt = new StringBuilder();
-            prompt.append("\n[抵押选择] 需要支付过路费 ").append(formatMoney(toll))
-                    .append("，当前现金 ").append(formatMoney(player.getMoney()))
-                    .append("，还差 ").append(formatMoney(toll - player.getMoney()))
-                    .append("\n可抵押的地块：\n");
-            for (int i = 0; i < availableTiles.size(); i++) {
-                CountryTile t = availableTiles.get(i);
-                PropertyState state = getPropertyState(t.getPosition());
-                int mortgageValue = calculateMortgageValue(t, state);
-                prompt.append("  ").append(i + 1).append(" = ").append(t.getName())
-                        .append("（抵押价值：").append(formatMoney(mortgageValue)).append("）\n");
-            }
-            prompt.append("  0 = 破产（如果无法支付）\n请选择: ");
+            Supplier<String> prompt = () -> {
+                StringBuilder sb = new StringBuilder();
+                sb.append("\n[抵押选择] 需要支付过路费 ").append(formatMoney(toll))
+                        .append("，当前现金 ").append(formatMoney(player.getMoney()))
+                        .append("，还差 ").append(formatMoney(toll - player.getMoney()))
+                        .append("\n可抵押的地块：\n");
+                for (int i = 0; i < availableTiles.size(); i++) {
+                    CountryTile t = availableTiles.get(i);
+                    int mortgageValue = calculateMortgageValue(t);
+                    sb.append("  ").append(i + 1).append(" = ").append(t.getName())
+                            .append("（抵押价值：").append(formatMoney(mortgageValue)).append("）\n");
+                }
+                sb.append("  0 = 破产（如果无法支付）\n请选择: ");
+                return sb.toString();
+            };
             
-            int choice = decisionPort.requestInt(prompt.toString());
+            int choice = decisionPort.requestDecision(mortgageRequest(DecisionType.MORTGAGE_FOR_PAYMENT, player,
+                    toll, availableTiles, List.of(), List.of(), prompt)
+                    .withSettlement(tile, owner, LedgerReason.TOLL));
             String message;
             
             if (choice > 0 && choice <= availableTiles.size()) {
                 CountryTile selectedTile = availableTiles.get(choice - 1);
-                PropertyState state = getPropertyState(selectedTile.getPosition());
-                int mortgageValue = calculateMortgageValue(selectedTile, state);
+                int mortgageValue = calculateMortgageValue(selectedTile);
                 
-                state.setMortgaged(true);
-                player.setMoney(player.getMoney() + mortgageValue);
-                player.addMortgagedTile(selectedTile.getPosition());
+                mortgageTile(player, selectedTile);
+                receiveMoney(player, mortgageValue, LedgerReason.MORTGAGE, selectedTile.getPosition());
                 message = "玩家 " + player.getName() + " 将 [" + selectedTile.getName() + "] 抵押给银行，获得 " + formatMoney(mortgageValue);
-                playerRepository.save(player);
                 
                 // 检查现在是否有足够的钱支付过路费
                 if (player.getMoney() >= toll) {
-                    payMoney(player, toll);
-                    owner.setMoney(owner.getMoney() + toll);
-                    playerRepository.save(owner);
+                    payPlayer(player, owner, toll, LedgerReason.TOLL, tile.getPosition());
                     message += "\n已向 " + owner.getName() + " 支付过路费 " + formatMoney(toll)
                             + "。\n您的现金：" + formatMoney(player.getMoney())
                             + "；" + owner.getName() + " 现金：" + formatMoney(owner.getMoney());
-                    String summary = buildResultSummary("支付过路费", message, player);
+                    LazyText summary = buildResultSummary("支付过路费", message, player);
                     return new TurnSummaryEvent(player, summary);
                 } else {
                     // 还需要继续抵押
@@ -1333,29 +1627,7 @@ public class SimpleTurnService implements TurnService {
                 }
             } else {
                 // 选择破产
-                int paid = player.getMoney();
-                player.setMoney(0);
-                owner.setMoney(owner.getMoney() + paid);
-                playerRepository.save(owner);
-                
-                // 回收玩家的所有资产
-                for (Integer pos : new HashSet<>(player.getOwnedTilePositions())) {
-                    tileOwners.remove(pos);
-                    propertyStates.remove(pos);
-                }
-                player.getOwnedTilePositions().clear();
-                player.getMortgagedTilePositions().clear();
-                
-                var players = playerRepository.findAll().stream()
-                        .filter(p -> p.getMoney() > 0 || !p.getOwnedTilePositions().isEmpty())
-                        .toList();
-                gameOver = players.size() <= 1;
-                
-                message = "玩家 " + player.getName() + " 选择破产出局。"
-                        + (paid > 0 ? "已支付全部现金 " + formatMoney(paid) + "。" : "");
-                playerRepository.save(player);
-                String summary = buildResultSummary("破产", message, player);
-                return new TurnSummaryEvent(player, summary);
+                return declareBankruptcy(player, owner, true);
             }
         }
     }
@@ -1368,8 +1640,8 @@ public class SimpleTurnService implements TurnService {
         private final SpecialTile tile;
         private final int tax;
 
-        TaxPaymentPromptEvent(Player player, SpecialTile tile, int tax, String preMessage) {
-            super(String.valueOf(player.getId()), preMessage);
+        TaxPaymentPromptEvent(Player player, SpecialTile tile, int tax, Supplier<String> preMessage) {
+            super(events, String.valueOf(player.getId()), preMessage);
             this.player = player;
             this.tile = tile;
             this.tax = tax;
@@ -1383,50 +1655,33 @@ public class SimpleTurnService implements TurnService {
             
             if (availableCountryTiles.isEmpty() && availableCompanyTiles.isEmpty()) {
                 // 没有可抵押的地块，破产
-                int paid = player.getMoney();
-                player.setMoney(0);
-                playerRepository.save(player);
-                
-                // 回收玩家的所有资产
-                for (Integer pos : new HashSet<>(player.getOwnedTilePositions())) {
-                    tileOwners.remove(pos);
-                    propertyStates.remove(pos);
-                }
-                player.getOwnedTilePositions().clear();
-                player.getMortgagedTilePositions().clear();
-                
-                var players = playerRepository.findAll().stream()
-                        .filter(p -> p.getMoney() > 0 || !p.getOwnedTilePositions().isEmpty())
-                        .toList();
-                gameOver = players.size() <= 1;
-                
-                String message = "资金不足且无可抵押资产，玩家 " + player.getName() + " 破产出局。"
-                        + (paid > 0 ? "已支付全部现金 " + formatMoney(paid) + "。" : "");
-                playerRepository.save(player);
-                String summary = buildResultSummary("破产", message, player);
-                return new TurnSummaryEvent(player, summary);
+                return declareBankruptcy(player, null, false);
             }
             
-            StringBuilder prompt = new StringBuilder();
-            prompt.append("\n[抵押选择] 需要支付税费 ").append(formatMoney(tax))
-                    .append("，当前现金 ").append(formatMoney(player.getMoney()))
-                    .append("，还差 ").append(formatMoney(tax - player.getMoney()))
-                    .append("\n可抵押的地块：\n");
-            int index = 1;
-            for (CountryTile t : availableCountryTiles) {
-                PropertyState state = getPropertyState(t.getPosition());
-                int mortgageValue = calculateMortgageValue(t, state);
-                prompt.append("  ").append(index++).append(" = ").append(t.getName())
-                        .append("（抵押价值：").append(formatMoney(mortgageValue)).append("）\n");
-            }
-            for (CompanyTile t : availableCompanyTiles) {
-                int mortgageValue = calculateCompanyMortgageValue(t);
-                prompt.append("  ").append(index++).append(" = ").append(t.getName())
-                        .append("（抵押价值：").append(formatMoney(mortgageValue)).append("）\n");
-            }
-            prompt.append("  0 = 破产（如果无法支付）\n请选择: ");
+            Supplier<String> prompt = () -> {
+                StringBuilder sb = new StringBuilder();
+                sb.append("\n[抵押选择] 需要支付税费 ").append(formatMoney(tax))
+                        .append("，当前现金 ").append(formatMoney(player.getMoney()))
+                        .append("，还差 ").append(formatMoney(tax - player.getMoney()))
+                        .append("\n可抵押的地块：\n");
+                int index = 1;
+                for (CountryTile t : availableCountryTiles) {
+                    int mortgageValue = calculateMortgageValue(t);
+                    sb.append("  ").append(index++).append(" = ").append(t.getName())
+                            .append("（抵押价值：").append(formatMoney(mortgageValue)).append("）\n");
+                }
+                for (CompanyTile t : availableCompanyTiles) {
+                    int mortgageValue = calculateCompanyMortgageValue(t);
+                    sb.append("  ").append(index++).append(" = ").append(t.getName())
+                            .append("（抵押价值：").append(formatMoney(mortgageValue)).append("）\n");
+                }
+                sb.append("  0 = 破产（如果无法支付）\n请选择: ");
+                return sb.toString();
+            };
             
-            int choice = decisionPort.requestInt(prompt.toString());
+            int choice = decisionPort.requestDecision(mortgageRequest(DecisionType.MORTGAGE_FOR_PAYMENT, player,
+                    tax, availableCountryTiles, availableCompanyTiles, List.of(), prompt)
+                    .withSettlement(tile, null, LedgerReason.TAX));
             String message;
             
             int totalOptions = availableCountryTiles.size() + availableCompanyTiles.size();
@@ -1434,33 +1689,27 @@ public class SimpleTurnService implements TurnService {
                 if (choice <= availableCountryTiles.size()) {
                     // 选择了国家地块
                     CountryTile selectedTile = availableCountryTiles.get(choice - 1);
-                    PropertyState state = getPropertyState(selectedTile.getPosition());
-                    int mortgageValue = calculateMortgageValue(selectedTile, state);
+                    int mortgageValue = calculateMortgageValue(selectedTile);
                     
-                    state.setMortgaged(true);
-                    player.setMoney(player.getMoney() + mortgageValue);
-                    player.addMortgagedTile(selectedTile.getPosition());
+                    mortgageTile(player, selectedTile);
+                    receiveMoney(player, mortgageValue, LedgerReason.MORTGAGE, selectedTile.getPosition());
                     message = "玩家 " + player.getName() + " 将 [" + selectedTile.getName() + "] 抵押给银行，获得 " + formatMoney(mortgageValue);
                 } else {
                     // 选择了公司地块
                     CompanyTile selectedTile = availableCompanyTiles.get(choice - availableCountryTiles.size() - 1);
-                    PropertyState state = getPropertyState(selectedTile.getPosition());
                     int mortgageValue = calculateCompanyMortgageValue(selectedTile);
                     
-                    state.setMortgaged(true);
-                    player.setMoney(player.getMoney() + mortgageValue);
-                    player.addMortgagedTile(selectedTile.getPosition());
+                    mortgageTile(player, selectedTile);
+                    receiveMoney(player, mortgageValue, LedgerReason.MORTGAGE, selectedTile.getPosition());
                     message = "玩家 " + player.getName() + " 将 [" + selectedTile.getName() + "] 抵押给银行，获得 " + formatMoney(mortgageValue);
                 }
-                playerRepository.save(player);
                 
                 // 检查现在是否有足够的钱支付税费
                 if (player.getMoney() >= tax) {
-                    payMoney(player, tax);
-                    playerRepository.save(player);
+                    payMoney(player, tax, LedgerReason.TAX, tile.getPosition());
                     message += "\n已支付税费 " + formatMoney(tax)
                             + "。\n您的现金：" + formatMoney(player.getMoney());
-                    String summary = buildResultSummary("支付税费", message, player);
+                    LazyText summary = buildResultSummary("支付税费", message, player);
                     return new TurnSummaryEvent(player, summary);
                 } else {
                     // 还需要继续抵押
@@ -1469,28 +1718,7 @@ public class SimpleTurnService implements TurnService {
                 }
             } else {
                 // 选择破产
-                int paid = player.getMoney();
-                player.setMoney(0);
-                playerRepository.save(player);
-                
-                // 回收玩家的所有资产
-                for (Integer pos : new HashSet<>(player.getOwnedTilePositions())) {
-                    tileOwners.remove(pos);
-                    propertyStates.remove(pos);
-                }
-                player.getOwnedTilePositions().clear();
-                player.getMortgagedTilePositions().clear();
-                
-                var players = playerRepository.findAll().stream()
-                        .filter(p -> p.getMoney() > 0 || !p.getOwnedTilePositions().isEmpty())
-                        .toList();
-                gameOver = players.size() <= 1;
-                
-                message = "玩家 " + player.getName() + " 选择破产出局。"
-                        + (paid > 0 ? "已支付全部现金 " + formatMoney(paid) + "。" : "");
-                playerRepository.save(player);
-                String summary = buildResultSummary("破产", message, player);
-                return new TurnSummaryEvent(player, summary);
+                return declareBankruptcy(player, null, true);
             }
         }
     }
@@ -1504,8 +1732,8 @@ public class SimpleTurnService implements TurnService {
         private final int amount;
         private final String description;
 
-        GenericPaymentPromptEvent(Player player, Player recipient, int amount, String description, String preMessage) {
-            super(String.valueOf(player.getId()), preMessage);
+        GenericPaymentPromptEvent(Player player, Player recipient, int amount, String description, Supplier<String> preMessage) {
+            super(events, String.valueOf(player.getId()), preMessage);
             this.player = player;
             this.recipient = recipient;
             this.amount = amount;
@@ -1520,55 +1748,34 @@ public class SimpleTurnService implements TurnService {
             
             if (availableCountryTiles.isEmpty() && availableCompanyTiles.isEmpty()) {
                 // 没有可抵押的地块，破产
-                int paid = player.getMoney();
-                player.setMoney(0);
-                if (recipient != null) {
-                    recipient.setMoney(recipient.getMoney() + paid);
-                    playerRepository.save(recipient);
-                }
-                playerRepository.save(player);
-                
-                // 回收玩家的所有资产
-                for (Integer pos : new HashSet<>(player.getOwnedTilePositions())) {
-                    tileOwners.remove(pos);
-                    propertyStates.remove(pos);
-                }
-                player.getOwnedTilePositions().clear();
-                player.getMortgagedTilePositions().clear();
-                
-                var players = playerRepository.findAll().stream()
-                        .filter(p -> p.getMoney() > 0 || !p.getOwnedTilePositions().isEmpty())
-                        .toList();
-                gameOver = players.size() <= 1;
-                
-                String message = "资金不足且无可抵押资产，玩家 " + player.getName() + " 破产出局。"
-                        + (paid > 0 ? "已支付全部现金 " + formatMoney(paid) + "。" : "");
-                playerRepository.save(player);
-                String summary = buildResultSummary("破产", message, player);
-                return new TurnSummaryEvent(player, summary);
+                return declareBankruptcy(player, recipient, false);
             }
             
-            StringBuilder prompt = new StringBuilder();
-            String paymentType = recipient != null ? "支付给 " + recipient.getName() : "支付";
-            prompt.append("\n[抵押选择] 需要").append(paymentType).append(" ").append(formatMoney(amount))
-                    .append("，当前现金 ").append(formatMoney(player.getMoney()))
-                    .append("，还差 ").append(formatMoney(amount - player.getMoney()))
-                    .append("\n可抵押的地块：\n");
-            int index = 1;
-            for (CountryTile t : availableCountryTiles) {
-                PropertyState state = getPropertyState(t.getPosition());
-                int mortgageValue = calculateMortgageValue(t, state);
-                prompt.append("  ").append(index++).append(" = ").append(t.getName())
-                        .append("（抵押价值：").append(formatMoney(mortgageValue)).append("）\n");
-            }
-            for (CompanyTile t : availableCompanyTiles) {
-                int mortgageValue = calculateCompanyMortgageValue(t);
-                prompt.append("  ").append(index++).append(" = ").append(t.getName())
-                        .append("（抵押价值：").append(formatMoney(mortgageValue)).append("）\n");
-            }
-            prompt.append("  0 = 破产（如果无法支付）\n请选择: ");
+            Supplier<String> prompt = () -> {
+                StringBuilder sb = new StringBuilder();
+                String paymentType = recipient != null ? "支付给 " + recipient.getName() : "支付";
+                sb.append("\n[抵押选择] 需要").append(paymentType).append(" ").append(formatMoney(amount))
+                        .append("，当前现金 ").append(formatMoney(player.getMoney()))
+                        .append("，还差 ").append(formatMoney(amount - player.getMoney()))
+                        .append("\n可抵押的地块：\n");
+                int index = 1;
+                for (CountryTile t : availableCountryTiles) {
+                    int mortgageValue = calculateMortgageValue(t);
+                    sb.append("  ").append(index++).append(" = ").append(t.getName())
+                            .append("（抵押价值：").append(formatMoney(mortgageValue)).append("）\n");
+                }
+                for (CompanyTile t : availableCompanyTiles) {
+                    int mortgageValue = calculateCompanyMortgageValue(t);
+                    sb.append("  ").append(index++).append(" = ").append(t.getName())
+                            .append("（抵押价值：").append(formatMoney(mortgageValue)).append("）\n");
+                }
+                sb.append("  0 = 破产（如果无法支付）\n请选择: ");
+                return sb.toString();
+            };
             
-            int choice = decisionPort.requestInt(prompt.toString());
+            int choice = decisionPort.requestDecision(mortgageRequest(DecisionType.MORTGAGE_FOR_PAYMENT, player,
+                    amount, availableCountryTiles, availableCompanyTiles, List.of(), prompt)
+                    .withSettlement(null, recipient, LedgerReason.PAYMENT));
             String message;
             
             int totalOptions = availableCountryTiles.size() + availableCompanyTiles.size();
@@ -1576,34 +1783,24 @@ public class SimpleTurnService implements TurnService {
                 if (choice <= availableCountryTiles.size()) {
                     // 选择了国家地块
                     CountryTile selectedTile = availableCountryTiles.get(choice - 1);
-                    PropertyState state = getPropertyState(selectedTile.getPosition());
-                    int mortgageValue = calculateMortgageValue(selectedTile, state);
+                    int mortgageValue = calculateMortgageValue(selectedTile);
                     
-                    state.setMortgaged(true);
-                    player.setMoney(player.getMoney() + mortgageValue);
-                    player.addMortgagedTile(selectedTile.getPosition());
+                    mortgageTile(player, selectedTile);
+                    receiveMoney(player, mortgageValue, LedgerReason.MORTGAGE, selectedTile.getPosition());
                     message = "玩家 " + player.getName() + " 将 [" + selectedTile.getName() + "] 抵押给银行，获得 " + formatMoney(mortgageValue);
                 } else {
                     // 选择了公司地块
                     CompanyTile selectedTile = availableCompanyTiles.get(choice - availableCountryTiles.size() - 1);
-                    PropertyState state = getPropertyState(selectedTile.getPosition());
                     int mortgageValue = calculateCompanyMortgageValue(selectedTile);
                     
-                    state.setMortgaged(true);
-                    player.setMoney(player.getMoney() + mortgageValue);
-                    player.addMortgagedTile(selectedTile.getPosition());
+                    mortgageTile(player, selectedTile);
+                    receiveMoney(player, mortgageValue, LedgerReason.MORTGAGE, selectedTile.getPosition());
                     message = "玩家 " + player.getName() + " 将 [" + selectedTile.getName() + "] 抵押给银行，获得 " + formatMoney(mortgageValue);
                 }
-                playerRepository.save(player);
                 
                 // 检查现在是否有足够的钱支付
                 if (player.getMoney() >= amount) {
-                    payMoney(player, amount);
-                    if (recipient != null) {
-                        recipient.setMoney(recipient.getMoney() + amount);
-                        playerRepository.save(recipient);
-                    }
-                    playerRepository.save(player);
+                    payPlayer(player, recipient, amount, LedgerReason.PAYMENT, MoneyLedger.NO_TILE);
                     String paymentMsg = recipient != null 
                             ? "已向 " + recipient.getName() + " " + description + " " + formatMoney(amount)
                             : "已" + description + " " + formatMoney(amount);
@@ -1612,7 +1809,7 @@ public class SimpleTurnService implements TurnService {
                     if (recipient != null) {
                         message += "；" + recipient.getName() + " 现金：" + formatMoney(recipient.getMoney());
                     }
-                    String summary = buildResultSummary("支付结果", message, player);
+                    LazyText summary = buildResultSummary("支付结果", message, player);
                     return new TurnSummaryEvent(player, summary);
                 } else {
                     // 还需要继续抵押
@@ -1621,32 +1818,7 @@ public class SimpleTurnService implements TurnService {
                 }
             } else {
                 // 选择破产
-                int paid = player.getMoney();
-                player.setMoney(0);
-                if (recipient != null) {
-                    recipient.setMoney(recipient.getMoney() + paid);
-                    playerRepository.save(recipient);
-                }
-                playerRepository.save(player);
-                
-                // 回收玩家的所有资产
-                for (Integer pos : new HashSet<>(player.getOwnedTilePositions())) {
-                    tileOwners.remove(pos);
-                    propertyStates.remove(pos);
-                }
-                player.getOwnedTilePositions().clear();
-                player.getMortgagedTilePositions().clear();
-                
-                var players = playerRepository.findAll().stream()
-                        .filter(p -> p.getMoney() > 0 || !p.getOwnedTilePositions().isEmpty())
-                        .toList();
-                gameOver = players.size() <= 1;
-                
-                message = "玩家 " + player.getName() + " 选择破产出局。"
-                        + (paid > 0 ? "已支付全部现金 " + formatMoney(paid) + "。" : "");
-                playerRepository.save(player);
-                String summary = buildResultSummary("破产", message, player);
-                return new TurnSummaryEvent(player, summary);
+                return declareBankruptcy(player, recipient, true);
             }
         }
     }
@@ -1659,8 +1831,8 @@ public class SimpleTurnService implements TurnService {
         private final TrainStationTile tile;
         private final int requiredAmount;
 
-        TrainStationMortgageForPurchaseEvent(Player player, TrainStationTile tile, int requiredAmount, String preMessage) {
-            super(String.valueOf(player.getId()), preMessage);
+        TrainStationMortgageForPurchaseEvent(Player player, TrainStationTile tile, int requiredAmount, Supplier<String> preMessage) {
+            super(events, String.valueOf(player.getId()), preMessage);
             this.player = player;
             this.tile = tile;
             this.requiredAmount = requiredAmount;
@@ -1675,36 +1847,39 @@ public class SimpleTurnService implements TurnService {
             
             if (availableCountryTiles.isEmpty() && availableCompanyTiles.isEmpty() && availableTrainStations.isEmpty()) {
                 String message = "没有可抵押的地块，无法购买。";
-                playerRepository.save(player);
-                String summary = buildResultSummary("购买火车站结果", message, player);
+                LazyText summary = buildResultSummary("购买火车站结果", message, player);
                 return new TurnSummaryEvent(player, summary);
             }
             
-            StringBuilder prompt = new StringBuilder();
-            prompt.append("\n[抵押选择] 需要 ").append(formatMoney(requiredAmount))
-                    .append("，当前现金 ").append(formatMoney(player.getMoney()))
-                    .append("，还差 ").append(formatMoney(requiredAmount - player.getMoney()))
-                    .append("\n可抵押的地块：\n");
-            int index = 1;
-            for (CountryTile t : availableCountryTiles) {
-                PropertyState state = getPropertyState(t.getPosition());
-                int mortgageValue = calculateMortgageValue(t, state);
-                prompt.append("  ").append(index++).append(" = ").append(t.getName())
-                        .append("（抵押价值：").append(formatMoney(mortgageValue)).append("）\n");
-            }
-            for (CompanyTile t : availableCompanyTiles) {
-                int mortgageValue = calculateCompanyMortgageValue(t);
-                prompt.append("  ").append(index++).append(" = ").append(t.getName())
-                        .append("（抵押价值：").append(formatMoney(mortgageValue)).append("）\n");
-            }
-            for (TrainStationTile t : availableTrainStations) {
-                int mortgageValue = calculateTrainStationMortgageValue(t);
-                prompt.append("  ").append(index++).append(" = ").append(t.getName())
-                        .append("（抵押价值：").append(formatMoney(mortgageValue)).append("）\n");
-            }
-            prompt.append("  0 = 放弃购买\n请选择: ");
+            Supplier<String> prompt = () -> {
+                StringBuilder sb = new StringBuilder();
+                sb.append("\n[抵押选择] 需要 ").append(formatMoney(requiredAmount))
+                        .append("，当前现金 ").append(formatMoney(player.getMoney()))
+                        .append("，还差 ").append(formatMoney(requiredAmount - player.getMoney()))
+                        .append("\n可抵押的地块：\n");
+                int index = 1;
+                for (CountryTile t : availableCountryTiles) {
+                    int mortgageValue = calculateMortgageValue(t);
+                    sb.append("  ").append(index++).append(" = ").append(t.getName())
+                            .append("（抵押价值：").append(formatMoney(mortgageValue)).append("）\n");
+                }
+                for (CompanyTile t : availableCompanyTiles) {
+                    int mortgageValue = calculateCompanyMortgageValue(t);
+                    sb.append("  ").append(index++).append(" = ").append(t.getName())
+                            .append("（抵押价值：").append(formatMoney(mortgageValue)).append("）\n");
+                }
+                for (TrainStationTile t : availableTrainStations) {
+                    int mortgageValue = calculateTrainStationMortgageValue(t);
+                    sb.append("  ").append(index++).append(" = ").append(t.getName())
+                            .append("（抵押价值：").append(formatMoney(mortgageValue)).append("）\n");
+                }
+                sb.append("  0 = 放弃购买\n请选择: ");
+                return sb.toString();
+            };
             
-            int choice = decisionPort.requestInt(prompt.toString());
+            int choice = decisionPort.requestDecision(mortgageRequest(DecisionType.MORTGAGE_FOR_PURCHASE, player,
+                    requiredAmount, availableCountryTiles, availableCompanyTiles, availableTrainStations, prompt)
+                    .withSettlement(tile, null, LedgerReason.PURCHASE));
             String message;
             
             int totalOptions = availableCountryTiles.size() + availableCompanyTiles.size() + availableTrainStations.size();
@@ -1712,35 +1887,28 @@ public class SimpleTurnService implements TurnService {
                 if (choice <= availableCountryTiles.size()) {
                     // 选择了国家地块
                     CountryTile selectedTile = availableCountryTiles.get(choice - 1);
-                    PropertyState state = getPropertyState(selectedTile.getPosition());
-                    int mortgageValue = calculateMortgageValue(selectedTile, state);
+                    int mortgageValue = calculateMortgageValue(selectedTile);
                     
-                    state.setMortgaged(true);
-                    player.setMoney(player.getMoney() + mortgageValue);
-                    player.addMortgagedTile(selectedTile.getPosition());
+                    mortgageTile(player, selectedTile);
+                    receiveMoney(player, mortgageValue, LedgerReason.MORTGAGE, selectedTile.getPosition());
                     message = "玩家 " + player.getName() + " 将 [" + selectedTile.getName() + "] 抵押给银行，获得 " + formatMoney(mortgageValue);
                 } else if (choice <= availableCountryTiles.size() + availableCompanyTiles.size()) {
                     // 选择了公司地块
                     CompanyTile selectedTile = availableCompanyTiles.get(choice - availableCountryTiles.size() - 1);
-                    PropertyState state = getPropertyState(selectedTile.getPosition());
                     int mortgageValue = calculateCompanyMortgageValue(selectedTile);
                     
-                    state.setMortgaged(true);
-                    player.setMoney(player.getMoney() + mortgageValue);
-                    player.addMortgagedTile(selectedTile.getPosition());
+                    mortgageTile(player, selectedTile);
+                    receiveMoney(player, mortgageValue, LedgerReason.MORTGAGE, selectedTile.getPosition());
                     message = "玩家 " + player.getName() + " 将 [" + selectedTile.getName() + "] 抵押给银行，获得 " + formatMoney(mortgageValue);
                 } else {
                     // 选择了火车站地块
                     TrainStationTile selectedTile = availableTrainStations.get(choice - availableCountryTiles.size() - availableCompanyTiles.size() - 1);
-                    PropertyState state = getPropertyState(selectedTile.getPosition());
                     int mortgageValue = calculateTrainStationMortgageValue(selectedTile);
                     
-                    state.setMortgaged(true);
-                    player.setMoney(player.getMoney() + mortgageValue);
-                    player.addMortgagedTile(selectedTile.getPosition());
+                    mortgageTile(player, selectedTile);
+                    receiveMoney(player, mortgageValue, LedgerReason.MORTGAGE, selectedTile.getPosition());
                     message = "玩家 " + player.getName() + " 将 [" + selectedTile.getName() + "] 抵押给银行，获得 " + formatMoney(mortgageValue);
                 }
-                playerRepository.save(player);
                 
                 // 检查现在是否有足够的钱购买
                 if (player.getMoney() >= requiredAmount) {
@@ -1754,8 +1922,7 @@ public class SimpleTurnService implements TurnService {
                 }
             } else {
                 message = "玩家 " + player.getName() + " 放弃购买。";
-                playerRepository.save(player);
-                String summary = buildResultSummary("购买火车站结果", message, player);
+                LazyText summary = buildResultSummary("购买火车站结果", message, player);
                 return new TurnSummaryEvent(player, summary);
             }
         }
@@ -1770,8 +1937,8 @@ public class SimpleTurnService implements TurnService {
         private final TrainStationTile tile;
         private final int toll;
 
-        TrainStationTollPaymentPromptEvent(Player player, Player owner, TrainStationTile tile, int toll, String preMessage) {
-            super(String.valueOf(player.getId()), preMessage);
+        TrainStationTollPaymentPromptEvent(Player player, Player owner, TrainStationTile tile, int toll, Supplier<String> preMessage) {
+            super(events, String.valueOf(player.getId()), preMessage);
             this.player = player;
             this.owner = owner;
             this.tile = tile;
@@ -1787,56 +1954,38 @@ public class SimpleTurnService implements TurnService {
             
             if (availableCountryTiles.isEmpty() && availableCompanyTiles.isEmpty() && availableTrainStations.isEmpty()) {
                 // 没有可抵押的地块，破产
-                int paid = player.getMoney();
-                player.setMoney(0);
-                owner.setMoney(owner.getMoney() + paid);
-                playerRepository.save(owner);
-                
-                // 回收玩家的所有资产
-                for (Integer pos : new HashSet<>(player.getOwnedTilePositions())) {
-                    tileOwners.remove(pos);
-                    propertyStates.remove(pos);
-                }
-                player.getOwnedTilePositions().clear();
-                player.getMortgagedTilePositions().clear();
-                
-                var players = playerRepository.findAll().stream()
-                        .filter(p -> p.getMoney() > 0 || !p.getOwnedTilePositions().isEmpty())
-                        .toList();
-                gameOver = players.size() <= 1;
-                
-                String message = "资金不足且无可抵押资产，玩家 " + player.getName() + " 破产出局。"
-                        + (paid > 0 ? "已支付全部现金 " + formatMoney(paid) + "。" : "");
-                playerRepository.save(player);
-                String summary = buildResultSummary("破产", message, player);
-                return new TurnSummaryEvent(player, summary);
+                return declareBankruptcy(player, owner, false);
             }
             
-            StringBuilder prompt = new StringBuilder();
-            prompt.append("\n[抵押选择] 需要支付过路费 ").append(formatMoney(toll))
-                    .append("，当前现金 ").append(formatMoney(player.getMoney()))
-                    .append("，还差 ").append(formatMoney(toll - player.getMoney()))
-                    .append("\n可抵押的地块：\n");
-            int index = 1;
-            for (CountryTile t : availableCountryTiles) {
-                PropertyState state = getPropertyState(t.getPosition());
-                int mortgageValue = calculateMortgageValue(t, state);
-                prompt.append("  ").append(index++).append(" = ").append(t.getName())
-                        .append("（抵押价值：").append(formatMoney(mortgageValue)).append("）\n");
-            }
-            for (CompanyTile t : availableCompanyTiles) {
-                int mortgageValue = calculateCompanyMortgageValue(t);
-                prompt.append("  ").append(index++).append(" = ").append(t.getName())
-                        .append("（抵押价值：").append(formatMoney(mortgageValue)).append("）\n");
-            }
-            for (TrainStationTile t : availableTrainStations) {
-                int mortgageValue = calculateTrainStationMortgageValue(t);
-                prompt.append("  ").append(index++).append(" = ").append(t.getName())
-                        .append("（抵押价值：").append(formatMoney(mortgageValue)).append("）\n");
-            }
-            prompt.append("  0 = 破产（如果无法支付）\n请选择: ");
+            Supplier<String> prompt = () -> {
+                StringBuilder sb = new StringBuilder();
+                sb.append("\n[抵押选择] 需要支付过路费 ").append(formatMoney(toll))
+                        .append("，当前现金 ").append(formatMoney(player.getMoney()))
+                        .append("，还差 ").append(formatMoney(toll - player.getMoney()))
+                        .append("\n可抵押的地块：\n");
+                int index = 1;
+                for (CountryTile t : availableCountryTiles) {
+                    int mortgageValue = calculateMortgageValue(t);
+                    sb.append("  ").append(index++).append(" = ").append(t.getName())
+                            .append("（抵押价值：").append(formatMoney(mortgageValue)).append("）\n");
+                }
+                for (CompanyTile t : availableCompanyTiles) {
+                    int mortgageValue = calculateCompanyMortgageValue(t);
+                    sb.append("  ").append(index++).append(" = ").append(t.getName())
+                            .append("（抵押价值：").append(formatMoney(mortgageValue)).append("）\n");
+                }
+                for (TrainStationTile t : availableTrainStations) {
+                    int mortgageValue = calculateTrainStationMortgageValue(t);
+                    sb.append("  ").append(index++).append(" = ").append(t.getName())
+                            .append("（抵押价值：").append(formatMoney(mortgageValue)).append("）\n");
+                }
+                sb.append("  0 = 破产（如果无法支付）\n请选择: ");
+                return sb.toString();
+            };
             
-            int choice = decisionPort.requestInt(prompt.toString());
+            int choice = decisionPort.requestDecision(mortgageRequest(DecisionType.MORTGAGE_FOR_PAYMENT, player,
+                    toll, availableCountryTiles, availableCompanyTiles, availableTrainStations, prompt)
+                    .withSettlement(tile, owner, LedgerReason.TOLL));
             String message;
             
             int totalOptions = availableCountryTiles.size() + availableCompanyTiles.size() + availableTrainStations.size();
@@ -1844,45 +1993,36 @@ public class SimpleTurnService implements TurnService {
                 if (choice <= availableCountryTiles.size()) {
                     // 选择了国家地块
                     CountryTile selectedTile = availableCountryTiles.get(choice - 1);
-                    PropertyState state = getPropertyState(selectedTile.getPosition());
-                    int mortgageValue = calculateMortgageValue(selectedTile, state);
+                    int mortgageValue = calculateMortgageValue(selectedTile);
                     
-                    state.setMortgaged(true);
-                    player.setMoney(player.getMoney() + mortgageValue);
-                    player.addMortgagedTile(selectedTile.getPosition());
+                    mortgageTile(player, selectedTile);
+                    receiveMoney(player, mortgageValue, LedgerReason.MORTGAGE, selectedTile.getPosition());
                     message = "玩家 " + player.getName() + " 将 [" + selectedTile.getName() + "] 抵押给银行，获得 " + formatMoney(mortgageValue);
                 } else if (choice <= availableCountryTiles.size() + availableCompanyTiles.size()) {
                     // 选择了公司地块
                     CompanyTile selectedTile = availableCompanyTiles.get(choice - availableCountryTiles.size() - 1);
-                    PropertyState state = getPropertyState(selectedTile.getPosition());
                     int mortgageValue = calculateCompanyMortgageValue(selectedTile);
                     
-                    state.setMortgaged(true);
-                    player.setMoney(player.getMoney() + mortgageValue);
-                    player.addMortgagedTile(selectedTile.getPosition());
+                    mortgageTile(player, selectedTile);
+                    receiveMoney(player, mortgageValue, LedgerReason.MORTGAGE, selectedTile.getPosition());
                     message = "玩家 " + player.getName() + " 将 [" + selectedTile.getName() + "] 抵押给银行，获得 " + formatMoney(mortgageValue);
                 } else {
                     // 选择了火车站地块
                     TrainStationTile selectedTile = availableTrainStations.get(choice - availableCountryTiles.size() - availableCompanyTiles.size() - 1);
-                    PropertyState state = getPropertyState(selectedTile.getPosition());
                     int mortgageValue = calculateTrainStationMortgageValue(selectedTile);
                     
-                    state.setMortgaged(true);
-                    player.setMoney(player.getMoney() + mortgageValue);
-                    player.addMortgagedTile(selectedTile.getPosition());
+                    mortgageTile(player, selectedTile);
+                    receiveMoney(player, mortgageValue, LedgerReason.MORTGAGE, selectedTile.getPosition());
                     message = "玩家 " + player.getName() + " 将 [" + selectedTile.getName() + "] 抵押给银行，获得 " + formatMoney(mortgageValue);
                 }
-                playerRepository.save(player);
                 
                 // 检查现在是否有足够的钱支付过路费
                 if (player.getMoney() >= toll) {
-                    payMoney(player, toll);
-                    owner.setMoney(owner.getMoney() + toll);
-                    playerRepository.save(owner);
+                    payPlayer(player, owner, toll, LedgerReason.TOLL, tile.getPosition());
                     message += "\n已向 " + owner.getName() + " 支付过路费 " + formatMoney(toll)
                             + "。\n您的现金：" + formatMoney(player.getMoney())
                             + "；" + owner.getName() + " 现金：" + formatMoney(owner.getMoney());
-                    String summary = buildResultSummary("支付过路费", message, player);
+                    LazyText summary = buildResultSummary("支付过路费", message, player);
                     return new TurnSummaryEvent(player, summary);
                 } else {
                     // 还需要继续抵押
@@ -1891,45 +2031,85 @@ public class SimpleTurnService implements TurnService {
                 }
             } else {
                 // 选择破产
-                int paid = player.getMoney();
-                player.setMoney(0);
-                owner.setMoney(owner.getMoney() + paid);
-                playerRepository.save(owner);
-                
-                // 回收玩家的所有资产
-                for (Integer pos : new HashSet<>(player.getOwnedTilePositions())) {
-                    tileOwners.remove(pos);
-                    propertyStates.remove(pos);
-                }
-                player.getOwnedTilePositions().clear();
-                player.getMortgagedTilePositions().clear();
-                
-                var players = playerRepository.findAll().stream()
-                        .filter(p -> p.getMoney() > 0 || !p.getOwnedTilePositions().isEmpty())
-                        .toList();
-                gameOver = players.size() <= 1;
-                
-                message = "玩家 " + player.getName() + " 选择破产出局。"
-                        + (paid > 0 ? "已支付全部现金 " + formatMoney(paid) + "。" : "");
-                playerRepository.save(player);
-                String summary = buildResultSummary("破产", message, player);
-                return new TurnSummaryEvent(player, summary);
+                return declareBankruptcy(player, owner, true);
             }
         }
     }
 
+    /**
+     * 按提示文本中的列出顺序（国家、公司、火车站）构造抵押选择请求。
+     */
+    private DecisionRequest mortgageRequest(DecisionType type, Player player, int amount,
+                                            List<CountryTile> countryTiles, List<CompanyTile> companyTiles,
+                                            List<TrainStationTile> trainStations, Supplier<String> prompt) {
+        List<Tile> options = new ArrayList<>(countryTiles.size() + companyTiles.size() + trainStations.size());
+        int[] values = new int[countryTiles.size() + companyTiles.size() + trainStations.size()];
+        for (CountryTile t : countryTiles) {
+            values[options.size()] = calculateMortgageValue(t);
+            options.add(t);
+        }
+        for (CompanyTile t : companyTiles) {
+            values[options.size()] = calculateCompanyMortgageValue(t);
+            options.add(t);
+        }
+        for (TrainStationTile t : trainStations) {
+            values[options.size()] = calculateTrainStationMortgageValue(t);
+            options.add(t);
+        }
+        return DecisionRequest.choose(type, player, amount, options, values, prompt);
+    }
+
+    /**
+     * 玩家破产出局：剩余现金转给债权人，回收全部地产，并将玩家标记为已淘汰。
+     *
+     * @param player 破产玩家
+     * @param creditor 债权人，null 表示欠款对象为银行
+     * @param voluntary 是否为玩家主动选择破产
+     * @return 破产事件
+     */
+    private GameEvent declareBankruptcy(Player player, Player creditor, boolean voluntary) {
+        int paid = player.getMoney();
+        payPlayer(player, creditor, paid, LedgerReason.BANKRUPTCY, MoneyLedger.NO_TILE);
+
+        // 回收玩家的所有资产
+        for (Integer pos : new HashSet<>(player.getOwnedTilePositions())) {
+            board.clear(pos);
+        }
+        player.clearAssets();
+        DrawCard heldCard = heldCards.remove(player.getId());
+        if (heldCard != null) {
+            decks.get(heldCard.getType()).giveBack(heldCard);
+            player.setHasJailReleasePermit(false);
+        }
+
+        TurnOrder order = turnOrder();
+        order.eliminate(player.getId());
+        gameOver = order.getActiveCount() <= 1;
+
+        String message = (voluntary
+                ? "玩家 " + player.getName() + " 选择破产出局。"
+                : "资金不足且无可抵押资产，玩家 " + player.getName() + " 破产出局。")
+                + (paid > 0 ? "已支付全部现金 " + formatMoney(paid) + "。" : "");
+        markChanged(player);
+        if (gameOver) {
+            // 对局到此结束，不会再有下一回合来结账
+            settleLedger();
+        }
+        LazyText summary = buildResultSummary("破产", message, player);
+        return new BankruptcyEvent(player, summary);
+    }
+
     /**
      * 获取玩家可抵押的地块列表（未抵押的自己拥有的地块）。
      */
     private List<CountryTile> getAvailableTilesForMortgage(Player player) {
         return player.getOwnedTilePositions().stream()
                 .filter(pos -> !player.getMortgagedTilePositions().contains(pos))
-                .map(pos -> tileRepository.findByPosition(pos).orElse(null))
+                .map(pos -> tileRepository.getByPosition(pos))
                 .filter(t -> t instanceof CountryTile)
                 .map(t -> (CountryTile) t)
                 .filter(t -> {
-                    PropertyState state = getPropertyState(t.getPosition());
-                    return !state.isMortgaged();
+                    return !board.isMortgaged(t.getPosition());
                 })
                 .collect(Collectors.toList());
     }
@@ -1938,14 +2118,57 @@ public class SimpleTurnService implements TurnService {
      * 获取玩家已抵押的地块列表（包括国家、公司、火车站）。
      */
     private List<Tile> getMortgagedTilesForPlayer(Player player) {
-        return player.getMortgagedTilePositions().stream()
-                .map(pos -> tileRepository.findByPosition(pos).orElse(null))
-                .filter(t -> t != null && (t instanceof CountryTile || t instanceof CompanyTile || t instanceof TrainStationTile))
-                .filter(t -> {
-                    PropertyState state = getPropertyState(t.getPosition());
-                    return state.isMortgaged();
-                })
-                .collect(Collectors.toList());
+        if (player.getMortgagedTilePositions().isEmpty()) {
+            return Collections.emptyList();
+        }
+        List<Tile> tiles = new ArrayList<>(player.getMortgagedTilePositions().size());
+        for (Integer pos : player.getMortgagedTilePositions()) {
+            if (board.isMortgaged(pos)) {
+                Tile tile = tileRepository.getByPosition(pos);
+                if (tile != null) {
+                    tiles.add(tile);
+                }
+            }
+        }
+        return tiles;
+    }
+
+    /**
+     * 玩家购得地块：记录所有权，并更新未抵押火车站/公司计数。
+     */
+    private void acquireTile(Player player, Tile tile) {
+        board.setOwner(tile.getPosition(), player.getId());
+        player.addOwnedTile(tile.getPosition());
+        markChanged(player);
+        changeActiveCount(player, tile, 1);
+    }
+
+    /**
+     * 玩家抵押地块：记录抵押标记，并更新未抵押火车站/公司计数（不处理抵押所得现金）。
+     */
+    private void mortgageTile(Player player, Tile tile) {
+        board.setMortgaged(tile.getPosition(), true);
+        player.addMortgagedTile(tile.getPosition());
+        markChanged(player);
+        changeActiveCount(player, tile, -1);
+    }
+
+    /**
+     * 玩家赎回地块：清除抵押标记，并更新未抵押火车站/公司计数（不处理赎回费用）。
+     */
+    private void redeemTile(Player player, Tile tile) {
+        board.setMortgaged(tile.getPosition(), false);
+        player.getMortgagedTilePositions().remove(tile.getPosition());
+        markChanged(player);
+        changeActiveCount(player, tile, 1);
+    }
+
+    private static void changeActiveCount(Player player, Tile tile, int delta) {
+        if (tile instanceof TrainStationTile) {
+            player.changeActiveStationCount(delta);
+        } else if (tile instanceof CompanyTile) {
+            player.changeActiveCompanyCount(delta);
+        }
     }
 
     /**
@@ -1954,12 +2177,11 @@ public class SimpleTurnService implements TurnService {
     private List<CompanyTile> getAvailableCompanyTilesForMortgage(Player player) {
         return player.getOwnedTilePositions().stream()
                 .filter(pos -> !player.getMortgagedTilePositions().contains(pos))
-                .map(pos -> tileRepository.findByPosition(pos).orElse(null))
+                .map(pos -> tileRepository.getByPosition(pos))
                 .filter(t -> t instanceof CompanyTile)
                 .map(t -> (CompanyTile) t)
                 .filter(t -> {
-                    PropertyState state = getPropertyState(t.getPosition());
-                    return !state.isMortgaged();
+                    return !board.isMortgaged(t.getPosition());
                 })
                 .collect(Collectors.toList());
     }
@@ -1977,31 +2199,29 @@ public class SimpleTurnService implements TurnService {
     private class CompanyRedeemPromptEvent extends TextEvent implements InteractiveEvent {
         private final Player player;
         private final CompanyTile tile;
-        private final PropertyState state;
 
-        CompanyRedeemPromptEvent(Player player, CompanyTile tile, PropertyState state, String preMessage) {
-            super(String.valueOf(player.getId()), preMessage);
+        CompanyRedeemPromptEvent(Player player, CompanyTile tile, Supplier<String> preMessage) {
+            super(events, String.valueOf(player.getId()), preMessage);
             this.player = player;
             this.tile = tile;
-            this.state = state;
         }
 
         @Override
         public GameEvent interact() {
             int redeemCost = calculateCompanyMortgageValue(tile);
-            String prompt = "\n[赎回选择] " + player.getName() + " 当前现金 " + formatMoney(player.getMoney())
+            Supplier<String> prompt = () -> "\n[赎回选择] " + player.getName() + " 当前现金 " + formatMoney(player.getMoney())
                     + "，公司：" + tile.getName()
                     + "\n  赎回费用：" + formatMoney(redeemCost)
                     + "\n  1 = 赎回，0 = 取消\n请选择: ";
-            int choice = decisionPort.requestInt(prompt);
+            int choice = decisionPort.requestDecision(
+                    DecisionRequest.confirm(DecisionType.REDEEM, player, tile, redeemCost, prompt));
             String message;
             
             if (choice == 1) {
-                if (state.isMortgaged()) {
+                if (board.isMortgaged(tile.getPosition())) {
                     if (player.getMoney() >= redeemCost) {
-                        payMoney(player, redeemCost);
-                        state.setMortgaged(false);
-                        player.getMortgagedTilePositions().remove(tile.getPosition());
+                        payMoney(player, redeemCost, LedgerReason.REDEEM, tile.getPosition());
+                        redeemTile(player, tile);
                         message = "玩家 " + player.getName() + " 以 " + formatMoney(redeemCost) + " 赎回了 [" + tile.getName() + "]";
                     } else {
                         message = "现金不足，无法赎回（需要 " + formatMoney(redeemCost) + "，当前 " + formatMoney(player.getMoney()) + "）。";
@@ -2013,8 +2233,7 @@ public class SimpleTurnService implements TurnService {
                 message = "玩家 " + player.getName() + " 取消赎回。";
             }
             
-            playerRepository.save(player);
-            String summary = buildResultSummary("赎回结果", message, player);
+            LazyText summary = buildResultSummary("赎回结果", message, player);
             return new TurnSummaryEvent(player, summary);
         }
     }
@@ -2026,8 +2245,8 @@ public class SimpleTurnService implements TurnService {
         private final Player player;
         private final TrainStationTile tile;
 
-        TrainStationPurchasePromptEvent(Player player, TrainStationTile tile, String preMessage) {
-            super(String.valueOf(player.getId()), preMessage);
+        TrainStationPurchasePromptEvent(Player player, TrainStationTile tile, Supplier<String> preMessage) {
+            super(events, String.valueOf(player.getId()), preMessage);
             this.player = player;
             this.tile = tile;
         }
@@ -2035,20 +2254,19 @@ public class SimpleTurnService implements TurnService {
         @Override
         public GameEvent interact() {
             int price = tile.getSellPrice();
-            String prompt = "\n[购买火车站] " + player.getName() + " 当前现金 " + formatMoney(player.getMoney())
+            Supplier<String> prompt = () -> "\n[购买火车站] " + player.getName() + " 当前现金 " + formatMoney(player.getMoney())
                     + "，是否以 " + formatMoney(price) + " 购买 [" + tile.getName() + "]？"
                     + "（抵押价格 " + formatMoney(tile.getMortgagePrice()) + "，1=购买，0=放弃）: ";
-            int choice = decisionPort.requestInt(prompt);
+            int choice = decisionPort.requestDecision(
+                    DecisionRequest.confirm(DecisionType.PURCHASE, player, tile, price, prompt));
             String message;
             if (choice == 1) {
                 if (player.getMoney() >= price) {
-                    payMoney(player, price);
-                    tileOwners.put(tile.getPosition(), player.getId());
-                    player.addOwnedTile(tile.getPosition());
+                    payMoney(player, price, LedgerReason.PURCHASE, tile.getPosition());
+                    acquireTile(player, tile);
                     message = "玩家 " + player.getName() + " 以 " + formatMoney(price)
                             + " 购入 [" + tile.getName() + "]。";
-                    playerRepository.save(player);
-                    String summary = buildResultSummary("购买火车站结果", message, player);
+                    LazyText summary = buildResultSummary("购买火车站结果", message, player);
                     return new TurnSummaryEvent(player, summary);
                 } else {
                     // 钱不够，需要抵押
@@ -2059,8 +2277,7 @@ public class SimpleTurnService implements TurnService {
                 }
             } else {
                 message = "玩家 " + player.getName() + " 放弃购买 [" + tile.getName() + "]。";
-                playerRepository.save(player);
-                String summary = buildResultSummary("购买火车站结果", message, player);
+                LazyText summary = buildResultSummary("购买火车站结果", message, player);
                 return new TurnSummaryEvent(player, summary);
             }
         }
@@ -2072,31 +2289,29 @@ public class SimpleTurnService implements TurnService {
     private class TrainStationRedeemPromptEvent extends TextEvent implements InteractiveEvent {
         private final Player player;
         private final TrainStationTile tile;
-        private final PropertyState state;
 
-        TrainStationRedeemPromptEvent(Player player, TrainStationTile tile, PropertyState state, String preMessage) {
-            super(String.valueOf(player.getId()), preMessage);
+        TrainStationRedeemPromptEvent(Player player, TrainStationTile tile, Supplier<String> preMessage) {
+            super(events, String.valueOf(player.getId()), preMessage);
             this.player = player;
             this.tile = tile;
-            this.state = state;
         }
 
         @Override
         public GameEvent interact() {
             int redeemCost = calculateTrainStationMortgageValue(tile);
-            String prompt = "\n[赎回选择] " + player.getName() + " 当前现金 " + formatMoney(player.getMoney())
+            Supplier<String> prompt = () -> "\n[赎回选择] " + player.getName() + " 当前现金 " + formatMoney(player.getMoney())
                     + "，火车站：" + tile.getName()
                     + "\n  赎回费用：" + formatMoney(redeemCost)
                     + "\n  1 = 赎回，0 = 取消\n请选择: ";
-            int choice = decisionPort.requestInt(prompt);
+            int choice = decisionPort.requestDecision(
+                    DecisionRequest.confirm(DecisionType.REDEEM, player, tile, redeemCost, prompt));
             String message;
             
             if (choice == 1) {
-                if (state.isMortgaged()) {
+                if (board.isMortgaged(tile.getPosition())) {
                     if (player.getMoney() >= redeemCost) {
-                        payMoney(player, redeemCost);
-                        state.setMortgaged(false);
-                        player.getMortgagedTilePositions().remove(tile.getPosition());
+                        payMoney(player, redeemCost, LedgerReason.REDEEM, tile.getPosition());
+                        redeemTile(player, tile);
                         message = "玩家 " + player.getName() + " 以 " + formatMoney(redeemCost) + " 赎回了 [" + tile.getName() + "]";
                     } else {
                         message = "现金不足，无法赎回（需要 " + formatMoney(redeemCost) + "，当前 " + formatMoney(player.getMoney()) + "）。";
@@ -2108,8 +2323,7 @@ public class SimpleTurnService implements TurnService {
                 message = "玩家 " + player.getName() + " 取消赎回。";
             }
             
-            playerRepository.save(player);
-            String summary = buildResultSummary("赎回结果", message, player);
+            LazyText summary = buildResultSummary("赎回结果", message, player);
             return new TurnSummaryEvent(player, summary);
         }
     }
@@ -2127,12 +2341,11 @@ public class SimpleTurnService implements TurnService {
     private List<TrainStationTile> getAvailableTrainStationsForMortgage(Player player) {
         return player.getOwnedTilePositions().stream()
                 .filter(pos -> !player.getMortgagedTilePositions().contains(pos))
-                .map(pos -> tileRepository.findByPosition(pos).orElse(null))
+                .map(pos -> tileRepository.getByPosition(pos))
                 .filter(t -> t instanceof TrainStationTile)
                 .map(t -> (TrainStationTile) t)
                 .filter(t -> {
-                    PropertyState state = getPropertyState(t.getPosition());
-                    return !state.isMortgaged();
+                    return !board.isMortgaged(t.getPosition());
                 })
                 .collect(Collectors.toList());
     }
@@ -2145,8 +2358,8 @@ public class SimpleTurnService implements TurnService {
         private final CompanyTile tile;
         private final int requiredAmount;
 
-        CompanyMortgageForPurchaseEvent(Player player, CompanyTile tile, int requiredAmount, String preMessage) {
-            super(String.valueOf(player.getId()), preMessage);
+        CompanyMortgageForPurchaseEvent(Player player, CompanyTile tile, int requiredAmount, Supplier<String> preMessage) {
+            super(events, String.valueOf(player.getId()), preMessage);
             this.player = player;
             this.tile = tile;
             this.requiredAmount = requiredAmount;
@@ -2160,31 +2373,34 @@ public class SimpleTurnService implements TurnService {
             
             if (availableCountryTiles.isEmpty() && availableCompanyTiles.isEmpty()) {
                 String message = "没有可抵押的地块，无法购买。";
-                playerRepository.save(player);
-                String summary = buildResultSummary("购买公司结果", message, player);
+                LazyText summary = buildResultSummary("购买公司结果", message, player);
                 return new TurnSummaryEvent(player, summary);
             }
             
-            StringBuilder prompt = new StringBuilder();
-            prompt.append("\n[抵押选择] 需要 ").append(formatMoney(requiredAmount))
-                    .append("，当前现金 ").append(formatMoney(player.getMoney()))
-                    .append("，还差 ").append(formatMoney(requiredAmount - player.getMoney()))
-                    .append("\n可抵押的地块：\n");
-            int index = 1;
-            for (CountryTile t : availableCountryTiles) {
-                PropertyState state = getPropertyState(t.getPosition());
-                int mortgageValue = calculateMortgageValue(t, state);
-                prompt.append("  ").append(index++).append(" = ").append(t.getName())
-                        .append("（抵押价值：").append(formatMoney(mortgageValue)).append("）\n");
-            }
-            for (CompanyTile t : availableCompanyTiles) {
-                int mortgageValue = calculateCompanyMortgageValue(t);
-                prompt.append("  ").append(index++).append(" = ").append(t.getName())
-                        .append("（抵押价值：").append(formatMoney(mortgageValue)).append("）\n");
-            }
-            prompt.append("  0 = 放弃购买\n请选择: ");
+            Supplier<String> prompt = () -> {
+                StringBuilder sb = new StringBuilder();
+                sb.append("\n[抵押选择] 需要 ").append(formatMoney(requiredAmount))
+                        .append("，当前现金 ").append(formatMoney(player.getMoney()))
+                        .append("，还差 ").append(formatMoney(requiredAmount - player.getMoney()))
+                        .append("\n可抵押的地块：\n");
+                int index = 1;
+                for (CountryTile t : availableCountryTiles) {
+                    int mortgageValue = calculateMortgageValue(t);
+                    sb.append("  ").append(index++).append(" = ").append(t.getName())
+                            .append("（抵押价值：").append(formatMoney(mortgageValue)).append("）\n");
+                }
+                for (CompanyTile t : availableCompanyTiles) {
+                    int mortgageValue = calculateCompanyMortgageValue(t);
+                    sb.append("  ").append(index++).append(" = ").append(t.getName())
+                            .append("（抵押价值：").append(formatMoney(mortgageValue)).append("）\n");
+                }
+                sb.append("  0 = 放弃购买\n请选择: ");
+                return sb.toString();
+            };
             
-            int choice = decisionPort.requestInt(prompt.toString());
+            int choice = decisionPort.requestDecision(mortgageRequest(DecisionType.MORTGAGE_FOR_PURCHASE, player,
+                    requiredAmount, availableCountryTiles, availableCompanyTiles, List.of(), prompt)
+                    .withSettlement(tile, null, LedgerReason.PURCHASE));
             String message;
             
             int totalOptions = availableCountryTiles.size() + availableCompanyTiles.size();
@@ -2192,25 +2408,20 @@ public class SimpleTurnService implements TurnService {
                 if (choice <= availableCountryTiles.size()) {
                     // 选择了国家地块
                     CountryTile selectedTile = availableCountryTiles.get(choice - 1);
-                    PropertyState state = getPropertyState(selectedTile.getPosition());
-                    int mortgageValue = calculateMortgageValue(selectedTile, state);
+                    int mortgageValue = calculateMortgageValue(selectedTile);
                     
-                    state.setMortgaged(true);
-                    player.setMoney(player.getMoney() + mortgageValue);
-                    player.addMortgagedTile(selectedTile.getPosition());
+                    mortgageTile(player, selectedTile);
+                    receiveMoney(player, mortgageValue, LedgerReason.MORTGAGE, selectedTile.getPosition());
                     message = "玩家 " + player.getName() + " 将 [" + selectedTile.getName() + "] 抵押给银行，获得 " + formatMoney(mortgageValue);
                 } else {
                     // 选择了公司地块
                     CompanyTile selectedTile = availableCompanyTiles.get(choice - availableCountryTiles.size() - 1);
-                    PropertyState state = getPropertyState(selectedTile.getPosition());
                     int mortgageValue = calculateCompanyMortgageValue(selectedTile);
                     
-                    state.setMortgaged(true);
-                    player.setMoney(player.getMoney() + mortgageValue);
-                    player.addMortgagedTile(selectedTile.getPosition());
+                    mortgageTile(player, selectedTile);
+                    receiveMoney(player, mortgageValue, LedgerReason.MORTGAGE, selectedTile.getPosition());
                     message = "玩家 " + player.getName() + " 将 [" + selectedTile.getName() + "] 抵押给银行，获得 " + formatMoney(mortgageValue);
                 }
-                playerRepository.save(player);
                 
                 // 检查现在是否有足够的钱购买
                 if (player.getMoney() >= requiredAmount) {
@@ -2224,8 +2435,7 @@ public class SimpleTurnService implements TurnService {
                 }
             } else {
                 message = "玩家 " + player.getName() + " 放弃购买。";
-                playerRepository.save(player);
-                String summary = buildResultSummary("购买公司结果", message, player);
+                LazyText summary = buildResultSummary("购买公司结果", message, player);
                 return new TurnSummaryEvent(player, summary);
             }
         }
@@ -2240,8 +2450,8 @@ public class SimpleTurnService implements TurnService {
         private final CompanyTile tile;
         private final int toll;
 
-        CompanyTollPaymentPromptEvent(Player player, Player owner, CompanyTile tile, int toll, String preMessage) {
-            super(String.valueOf(player.getId()), preMessage);
+        CompanyTollPaymentPromptEvent(Player player, Player owner, CompanyTile tile, int toll, Supplier<String> preMessage) {
+            super(events, String.valueOf(player.getId()), preMessage);
             this.player = player;
             this.owner = owner;
             this.tile = tile;
@@ -2256,51 +2466,33 @@ public class SimpleTurnService implements TurnService {
             
             if (availableCountryTiles.isEmpty() && availableCompanyTiles.isEmpty()) {
                 // 没有可抵押的地块，破产
-                int paid = player.getMoney();
-                player.setMoney(0);
-                owner.setMoney(owner.getMoney() + paid);
-                playerRepository.save(owner);
-                
-                // 回收玩家的所有资产
-                for (Integer pos : new HashSet<>(player.getOwnedTilePositions())) {
-                    tileOwners.remove(pos);
-                    propertyStates.remove(pos);
-                }
-                player.getOwnedTilePositions().clear();
-                player.getMortgagedTilePositions().clear();
-                
-                var players = playerRepository.findAll().stream()
-                        .filter(p -> p.getMoney() > 0 || !p.getOwnedTilePositions().isEmpty())
-                        .toList();
-                gameOver = players.size() <= 1;
-                
-                String message = "资金不足且无可抵押资产，玩家 " + player.getName() + " 破产出局。"
-                        + (paid > 0 ? "已支付全部现金 " + formatMoney(paid) + "。" : "");
-                playerRepository.save(player);
-                String summary = buildResultSummary("破产", message, player);
-                return new TurnSummaryEvent(player, summary);
+                return declareBankruptcy(player, owner, false);
             }
             
-            StringBuilder prompt = new StringBuilder();
-            prompt.append("\n[抵押选择] 需要支付过路费 ").append(formatMoney(toll))
-                    .append("，当前现金 ").append(formatMoney(player.getMoney()))
-                    .append("，还差 ").append(formatMoney(toll - player.getMoney()))
-                    .append("\n可抵押的地块：\n");
-            int index = 1;
-            for (CountryTile t : availableCountryTiles) {
-                PropertyState state = getPropertyState(t.getPosition());
-                int mortgageValue = calculateMortgageValue(t, state);
-                prompt.append("  ").append(index++).append(" = ").append(t.getName())
-                        .append("（抵押价值：").append(formatMoney(mortgageValue)).append("）\n");
-            }
-            for (CompanyTile t : availableCompanyTiles) {
-                int mortgageValue = calculateCompanyMortgageValue(t);
-                prompt.append("  ").append(index++).append(" = ").append(t.getName())
-                        .append("（抵押价值：").append(formatMoney(mortgageValue)).append("）\n");
-            }
-            prompt.append("  0 = 破产（如果无法支付）\n请选择: ");
+            Supplier<String> prompt = () -> {
+                StringBuilder sb = new StringBuilder();
+                sb.append("\n[抵押选择] 需要支付过路费 ").append(formatMoney(toll))
+                        .append("，当前现金 ").append(formatMoney(player.getMoney()))
+                        .append("，还差 ").append(formatMoney(toll - player.getMoney()))
+                        .append("\n可抵押的地块：\n");
+                int index = 1;
+                for (CountryTile t : availableCountryTiles) {
+                    int mortgageValue = calculateMortgageValue(t);
+                    sb.append("  ").append(index++).append(" = ").append(t.getName())
+                            .append("（抵押价值：").append(formatMoney(mortgageValue)).append("）\n");
+                }
+                for (CompanyTile t : availableCompanyTiles) {
+                    int mortgageValue = calculateCompanyMortgageValue(t);
+                    sb.append("  ").append(index++).append(" = ").append(t.getName())
+                            .append("（抵押价值：").append(formatMoney(mortgageValue)).append("）\n");
+                }
+                sb.append("  0 = 破产（如果无法支付）\n请选择: ");
+                return sb.toString();
+            };
             
-            int choice = decisionPort.requestInt(prompt.toString());
+            int choice = decisionPort.requestDecision(mortgageRequest(DecisionType.MORTGAGE_FOR_PAYMENT, player,
+                    toll, availableCountryTiles, availableCompanyTiles, List.of(), prompt)
+                    .withSettlement(tile, owner, LedgerReason.TOLL));
             String message;
             
             int totalOptions = availableCountryTiles.size() + availableCompanyTiles.size();
@@ -2308,35 +2500,28 @@ public class SimpleTurnService implements TurnService {
                 if (choice <= availableCountryTiles.size()) {
                     // 选择了国家地块
                     CountryTile selectedTile = availableCountryTiles.get(choice - 1);
-                    PropertyState state = getPropertyState(selectedTile.getPosition());
-                    int mortgageValue = calculateMortgageValue(selectedTile, state);
+                    int mortgageValue = calculateMortgageValue(selectedTile);
                     
-                    state.setMortgaged(true);
-                    player.setMoney(player.getMoney() + mortgageValue);
-                    player.addMortgagedTile(selectedTile.getPosition());
+                    mortgageTile(player, selectedTile);
+                    receiveMoney(player, mortgageValue, LedgerReason.MORTGAGE, selectedTile.getPosition());
                     message = "玩家 " + player.getName() + " 将 [" + selectedTile.getName() + "] 抵押给银行，获得 " + formatMoney(mortgageValue);
                 } else {
                     // 选择了公司地块
                     CompanyTile selectedTile = availableCompanyTiles.get(choice - availableCountryTiles.size() - 1);
-                    PropertyState state = getPropertyState(selectedTile.getPosition());
                     int mortgageValue = calculateCompanyMortgageValue(selectedTile);
                     
-                    state.setMortgaged(true);
-                    player.setMoney(player.getMoney() + mortgageValue);
-                    player.addMortgagedTile(selectedTile.getPosition());
+                    mortgageTile(player, selectedTile);
+                    receiveMoney(player, mortgageValue, LedgerReason.MORTGAGE, selectedTile.getPosition());
                     message = "玩家 " + player.getName() + " 将 [" + selectedTile.getName() + "] 抵押给银行，获得 " + formatMoney(mortgageValue);
                 }
-                playerRepository.save(player);
                 
                 // 检查现在是否有足够的钱支付过路费
                 if (player.getMoney() >= toll) {
-                    payMoney(player, toll);
-                    owner.setMoney(owner.getMoney() + toll);
-                    playerRepository.save(owner);
+                    payPlayer(player, owner, toll, LedgerReason.TOLL, tile.getPosition());
                     message += "\n已向 " + owner.getName() + " 支付过路费 " + formatMoney(toll)
                             + "。\n您的现金：" + formatMoney(player.getMoney())
                             + "；" + owner.getName() + " 现金：" + formatMoney(owner.getMoney());
-                    String summary = buildResultSummary("支付过路费", message, player);
+                    LazyText summary = buildResultSummary("支付过路费", message, player);
                     return new TurnSummaryEvent(player, summary);
                 } else {
                     // 还需要继续抵押
@@ -2345,29 +2530,7 @@ public class SimpleTurnService implements TurnService {
                 }
             } else {
                 // 选择破产
-                int paid = player.getMoney();
-                player.setMoney(0);
-                owner.setMoney(owner.getMoney() + paid);
-                playerRepository.save(owner);
-                
-                // 回收玩家的所有资产
-                for (Integer pos : new HashSet<>(player.getOwnedTilePositions())) {
-                    tileOwners.remove(pos);
-                    propertyStates.remove(pos);
-                }
-                player.getOwnedTilePositions().clear();
-                player.getMortgagedTilePositions().clear();
-                
-                var players = playerRepository.findAll().stream()
-                        .filter(p -> p.getMoney() > 0 || !p.getOwnedTilePositions().isEmpty())
-                        .toList();
-                gameOver = players.size() <= 1;
-                
-                message = "玩家 " + player.getName() + " 选择破产出局。"
-                        + (paid > 0 ? "已支付全部现金 " + formatMoney(paid) + "。" : "");
-                playerRepository.save(player);
-                String summary = buildResultSummary("破产", message, player);
-                return new TurnSummaryEvent(player, summary);
+                return declareBankruptcy(player, owner, true);
             }
         }
     }
@@ -2375,146 +2538,143 @@ public class SimpleTurnService implements TurnService {
     /**
      * 处理卡牌地块（机会卡或命运卡）。
      */
-    private GameEvent handleCardTile(Player player, CardType cardType, String header, String locationLine, boolean passedGo, int currentPos) {
-        // 随机抽取一张卡牌
-        Collection<DrawCard> cards = cardRepository.findAllByType(cardType);
-        if (cards.isEmpty()) {
+    private GameEvent handleCardTile(Player player, CardType cardType, LazyText header, LazyText locationLine, boolean passedGo, int currentPos) {
+        // 从洗好的牌堆顶部抽一张
+        DrawCard drawnCard = decks.get(cardType).draw();
+        if (drawnCard == null) {
             String body = "卡牌库为空，无效果。";
             return new TurnSummaryEvent(player, buildSummary(header, locationLine, body, player));
         }
         
-        List<DrawCard> cardList = new ArrayList<>(cards);
-        DrawCard drawnCard = cardList.get(random.nextInt(cardList.size()));
-        
-        String cardInfo = "抽取" + (cardType == CardType.CHANCE ? "机会" : "命运") + "卡：" + drawnCard.getTitle() + "\n";
-        if (drawnCard.getFlavorText() != null && !drawnCard.getFlavorText().isEmpty()) {
-            cardInfo += "描述：" + drawnCard.getFlavorText() + "\n";
-        }
-        cardInfo += "效果：" + getEffectDescription(drawnCard.getEffect()) + "\n";
+        LazyText cardLines = LazyText.of(() -> {
+            String cardInfo = "抽取" + (cardType == CardType.CHANCE ? "机会" : "命运") + "卡：" + drawnCard.getTitle() + "\n";
+            if (drawnCard.getFlavorText() != null && !drawnCard.getFlavorText().isEmpty()) {
+                cardInfo += "描述：" + drawnCard.getFlavorText() + "\n";
+            }
+            return locationLine.get() + cardInfo + "效果：" + drawnCard.getDescription() + "\n";
+        });
         
         // 处理卡牌效果
-        GameEvent effectEvent = processCardEffect(player, drawnCard, header, locationLine + cardInfo, passedGo, currentPos);
+        GameEvent effectEvent = processCardEffect(player, drawnCard, header, cardLines, passedGo, currentPos);
         return effectEvent;
     }
 
     /**
      * 处理卡牌效果。
      */
-    private GameEvent processCardEffect(Player player, DrawCard card, String header, String locationLine, boolean passedGo, int currentPos) {
-        String effect = card.getEffect();
-        var players = playerRepository.findAll().stream()
-                .sorted(Comparator.comparingInt(Player::getId))
-                .toList();
+    private GameEvent processCardEffect(Player player, DrawCard card, LazyText header, LazyText locationLine, boolean passedGo, int currentPos) {
+        // 只有在役玩家参与“全体玩家”类效果
+        List<Player> players = turnOrder().activePlayers();
         
-        // 解析效果字符串（可能包含多个效果，用逗号分隔）
-        String[] effects = effect.split(",");
-        List<String> resultMessages = new ArrayList<>();
+        // 按预编译的效果序列依次执行
+        List<CardEffect> effects = card.getEffects();
+        List<Supplier<String>> resultMessages = new ArrayList<>(effects.size());
         
-        for (String eff : effects) {
-            eff = eff.trim();
-            if (eff.startsWith("lose:")) {
+        for (CardEffect eff : effects) {
+            if (eff instanceof CardEffect.Lose lose) {
                 // 失去金钱
-                int amount = Integer.parseInt(eff.substring(5));
-                resultMessages.add(processLoseMoney(player, amount, header, locationLine));
-            } else if (eff.startsWith("gain:")) {
+                resultMessages.add(processLoseMoney(player, lose.amount()));
+            } else if (eff instanceof CardEffect.Gain gain) {
                 // 获得金钱
-                int amount = Integer.parseInt(eff.substring(5));
-                player.setMoney(player.getMoney() + amount);
-                playerRepository.save(player);
-                resultMessages.add("获得 " + formatMoney(amount) + "，当前现金：" + formatMoney(player.getMoney()));
-            } else if (eff.startsWith("pause:")) {
+                int amount = gain.amount();
+                receiveMoney(player, amount, LedgerReason.CARD, currentPos);
+                int cash = player.getMoney();
+                resultMessages.add(() -> "获得 " + formatMoney(amount) + "，当前现金：" + formatMoney(cash));
+            } else if (eff instanceof CardEffect.Pause pause) {
                 // 暂停回合
-                int turns = Integer.parseInt(eff.substring(6));
                 player.setPaused(true);
-                playerRepository.save(player);
-                resultMessages.add("下" + turns + "回合将被暂停");
-            } else if (eff.equals("goToJail")) {
+                markChanged(player);
+                resultMessages.add(() -> "下" + pause.turns() + "回合将被暂停");
+            } else if (eff instanceof CardEffect.GoToJail) {
                 // 进监狱
                 int jailPosition = 11;
                 player.setPosition(jailPosition);
                 player.setJailTurnsRemaining(2);
-                playerRepository.save(player);
-                resultMessages.add("被送入监狱，此回合和下回合无法行动");
-            } else if (eff.equals("jailCard")) {
-                // 获得出狱许可证
+                markChanged(player);
+                resultMessages.add(() -> "被送入监狱，此回合和下回合无法行动");
+            } else if (eff instanceof CardEffect.JailCard) {
+                // 获得出狱许可证，卡牌由玩家持有，不再参与抽牌
+                holdCard(player, card);
                 player.setHasJailReleasePermit(true);
-                playerRepository.save(player);
-                resultMessages.add("获得出狱许可证");
-            } else if (eff.startsWith("go:")) {
+                markChanged(player);
+                resultMessages.add(() -> "获得出狱许可证");
+            } else if (eff instanceof CardEffect.GoTo go) {
                 // 移动到指定位置
-                String[] parts = eff.substring(3).split(",bonus:");
-                int targetPos = Integer.parseInt(parts[0]);
-                int bonus = parts.length > 1 ? Integer.parseInt(parts[1]) : 0;
-                int oldPos = player.getPosition();
+                int targetPos = go.position();
+                int bonus = go.bonus();
                 player.setPosition(targetPos);
-                if (bonus > 0) {
-                    player.setMoney(player.getMoney() + bonus);
-                }
-                playerRepository.save(player);
-                String tileName = getTileName(targetPos);
-                resultMessages.add("移动到 " + tileName + (bonus > 0 ? "，获得奖励 " + formatMoney(bonus) : ""));
-            } else if (eff.startsWith("fine:max:")) {
+                receiveMoney(player, bonus, LedgerReason.CARD, currentPos);
+                markChanged(player);
+                resultMessages.add(() -> "移动到 " + getTileName(targetPos) + (bonus > 0 ? "，获得奖励 " + formatMoney(bonus) : ""));
+            } else if (eff instanceof CardEffect.FineMax fine) {
                 // 现金最多的玩家被罚款
-                int amount = Integer.parseInt(eff.substring(9));
-                resultMessages.add(processFineMax(player, players, amount, header, locationLine));
-            } else if (eff.startsWith("fine:near:")) {
+                resultMessages.add(processFineMax(players, fine.amount()));
+            } else if (eff instanceof CardEffect.FineNear fine) {
                 // 最靠近指定位置的玩家被罚款
-                String[] parts = eff.substring(10).split(":");
-                int targetPos = Integer.parseInt(parts[0]);
-                int amount = Integer.parseInt(parts[1]);
-                resultMessages.add(processFineNear(player, players, targetPos, amount, header, locationLine));
-            } else if (eff.startsWith("dice:max:")) {
+                resultMessages.add(processFineNear(players, fine.position(), fine.amount()));
+            } else if (eff instanceof CardEffect.DiceMax diceMax) {
                 // 所有人掷骰，点数最大的获得奖励
-                int multiplier = Integer.parseInt(eff.substring(9));
-                resultMessages.add(processDiceMax(player, players, multiplier, header, locationLine));
-            } else if (eff.equals("dice:move")) {
+                resultMessages.add(processDiceMax(players, diceMax.multiplier()));
+            } else if (eff instanceof CardEffect.DiceMove) {
                 // 掷骰并移动
                 int dice = rollDice();
-                int oldPos = player.getPosition();
-                boolean passedGoForMove = (oldPos + dice) > 40;
                 int newPos = movePlayer(player, dice);
-                String toName = getTileName(newPos);
-                resultMessages.add("掷骰：" + dice + "，移动到 " + toName);
+                resultMessages.add(() -> "掷骰：" + dice + "，移动到 " + getTileName(newPos));
                 // 需要处理新位置的事件，这里简化处理
-            } else if (eff.equals("buildHouse:min")) {
+            } else if (eff instanceof CardEffect.BuildHouseMin) {
                 // 房子最少的玩家免费盖一栋
-                resultMessages.add(processBuildHouseMin(player, players, header, locationLine));
-            } else if (eff.equals("removeHouse:max")) {
+                resultMessages.add(processBuildHouseMin(players));
+            } else if (eff instanceof CardEffect.RemoveHouseMax) {
                 // 房子最多的玩家拆一栋
-                resultMessages.add(processRemoveHouseMax(player, players, header, locationLine));
+                resultMessages.add(processRemoveHouseMax(players));
             }
         }
         
-        String body = String.join("；", resultMessages);
+        Supplier<String> body = () -> {
+            StringJoiner joiner = new StringJoiner("；");
+            for (Supplier<String> message : resultMessages) {
+                joiner.add(message.get());
+            }
+            return joiner.toString();
+        };
         return new TurnSummaryEvent(player, buildSummary(header, locationLine, body, player));
     }
 
-    private String processLoseMoney(Player player, int amount, String header, String locationLine) {
+    /**
+     * 玩家持有卡牌：移出牌堆，若已持有其他卡则先归还旧卡。
+     */
+    private void holdCard(Player player, DrawCard card) {
+        DrawCard previous = heldCards.put(player.getId(), card);
+        if (previous != null && previous != card) {
+            decks.get(previous.getType()).giveBack(previous);
+        }
+        decks.get(card.getType()).hold(card);
+    }
+
+    private Supplier<String> processLoseMoney(Player player, int amount) {
         if (player.getMoney() >= amount) {
-            payMoney(player, amount);
-            playerRepository.save(player);
-            return "支付 " + formatMoney(amount) + "，当前现金：" + formatMoney(player.getMoney());
+            payMoney(player, amount, LedgerReason.CARD, MoneyLedger.NO_TILE);
+            int cash = player.getMoney();
+            return () -> "支付 " + formatMoney(amount) + "，当前现金：" + formatMoney(cash);
         } else {
             // 钱不够，需要抵押或破产
-            String body = "需支付 " + formatMoney(amount) + "，但您的现金不足(" + formatMoney(player.getMoney()) + ")。";
             // 这里应该触发支付流程，暂时简化处理
-            return "需支付 " + formatMoney(amount) + "，但现金不足";
+            return () -> "需支付 " + formatMoney(amount) + "，但现金不足";
         }
     }
 
-    private String processFineMax(Player player, List<Player> players, int amount, String header, String locationLine) {
+    private Supplier<String> processFineMax(List<Player> players, int amount) {
         Player maxPlayer = players.stream()
                 .max(Comparator.comparingInt(Player::getMoney))
                 .orElse(null);
         if (maxPlayer != null && maxPlayer.getMoney() >= amount) {
-            payMoney(maxPlayer, amount);
-            playerRepository.save(maxPlayer);
-            return maxPlayer.getName() + "（现金最多）被罚款 " + formatMoney(amount);
+            payMoney(maxPlayer, amount, LedgerReason.CARD, MoneyLedger.NO_TILE);
+            return () -> maxPlayer.getName() + "（现金最多）被罚款 " + formatMoney(amount);
         }
-        return "无人被罚款";
+        return () -> "无人被罚款";
     }
 
-    private String processFineNear(Player player, List<Player> players, int targetPos, int amount, String header, String locationLine) {
+    private Supplier<String> processFineNear(List<Player> players, int targetPos, int amount) {
         // 找到最靠近目标位置的玩家
         int minDistance = Integer.MAX_VALUE;
         List<Player> nearestPlayers = new ArrayList<>();
@@ -2533,21 +2693,19 @@ public class SimpleTurnService implements TurnService {
         // 所有最靠近的玩家都被罚款
         for (Player p : nearestPlayers) {
             if (p.getMoney() >= amount) {
-                payMoney(p, amount);
-                playerRepository.save(p);
+                payMoney(p, amount, LedgerReason.CARD, MoneyLedger.NO_TILE);
             }
         }
         
         if (!nearestPlayers.isEmpty()) {
-            String names = nearestPlayers.stream()
+            return () -> nearestPlayers.stream()
                     .map(Player::getName)
-                    .collect(Collectors.joining("、"));
-            return names + "（最靠近目标位置）被罚款 " + formatMoney(amount);
+                    .collect(Collectors.joining("、")) + "（最靠近目标位置）被罚款 " + formatMoney(amount);
         }
-        return "无人被罚款";
+        return () -> "无人被罚款";
     }
 
-    private String processDiceMax(Player player, List<Player> players, int multiplier, String header, String locationLine) {
+    private Supplier<String> processDiceMax(List<Player> players, int multiplier) {
         int maxDice = 0;
         Player winner = null;
         Map<Player, Integer> diceResults = new HashMap<>();
@@ -2563,17 +2721,16 @@ public class SimpleTurnService implements TurnService {
         
         if (winner != null) {
             int reward = maxDice * multiplier;
-            winner.setMoney(winner.getMoney() + reward);
-            playerRepository.save(winner);
-            String diceInfo = players.stream()
+            receiveMoney(winner, reward, LedgerReason.CARD, MoneyLedger.NO_TILE);
+            Player best = winner;
+            return () -> "所有人掷骰（" + players.stream()
                     .map(p -> p.getName() + "：" + diceResults.get(p))
-                    .collect(Collectors.joining("，"));
-            return "所有人掷骰（" + diceInfo + "），" + winner.getName() + " 获胜，获得 " + formatMoney(reward);
+                    .collect(Collectors.joining("，")) + "），" + best.getName() + " 获胜，获得 " + formatMoney(reward);
         }
-        return "无人获胜";
+        return () -> "无人获胜";
     }
 
-    private String processBuildHouseMin(Player player, List<Player> players, String header, String locationLine) {
+    private Supplier<String> processBuildHouseMin(List<Player> players) {
         // 找到房子最少的玩家
         int minHouses = Integer.MAX_VALUE;
         List<Player> minPlayers = new ArrayList<>();
@@ -2593,27 +2750,25 @@ public class SimpleTurnService implements TurnService {
         for (Player p : minPlayers) {
             CountryTile tile = findMostExpensiveCountryTile(p);
             if (tile != null) {
-                PropertyState state = getPropertyState(tile.getPosition());
-                if (state.getHouseCount() < 4) {
-                    state.setHouseCount(state.getHouseCount() + 1);
+                if (board.getHouseCount(tile.getPosition()) < 4) {
+                    board.setHouseCount(tile.getPosition(), board.getHouseCount(tile.getPosition()) + 1);
                 } else {
                     // 4栋房子变成1个旅馆
-                    state.setHouseCount(0);
-                    state.setHotelCount(state.getHotelCount() + 1);
+                    board.setHouseCount(tile.getPosition(), 0);
+                    board.setHotelCount(tile.getPosition(), board.getHotelCount(tile.getPosition()) + 1);
                 }
             }
         }
         
         if (!minPlayers.isEmpty()) {
-            String names = minPlayers.stream()
+            return () -> minPlayers.stream()
                     .map(Player::getName)
-                    .collect(Collectors.joining("、"));
-            return names + "（房子最少）免费盖一栋房子";
+                    .collect(Collectors.joining("、")) + "（房子最少）免费盖一栋房子";
         }
-        return "无人盖房";
+        return () -> "无人盖房";
     }
 
-    private String processRemoveHouseMax(Player player, List<Player> players, String header, String locationLine) {
+    private Supplier<String> processRemoveHouseMax(List<Player> players) {
         // 找到房子最多的玩家
         int maxHouses = 0;
         List<Player> maxPlayers = new ArrayList<>();
@@ -2630,36 +2785,33 @@ public class SimpleTurnService implements TurnService {
         }
         
         if (maxHouses == 0) {
-            return "无人有房屋，无事发生";
+            return () -> "无人有房屋，无事发生";
         }
         
         // 为所有房子最多的玩家拆一栋房子
         for (Player p : maxPlayers) {
             CountryTile tile = findCheapestCountryTile(p);
             if (tile != null) {
-                PropertyState state = getPropertyState(tile.getPosition());
-                if (state.getHotelCount() > 0) {
-                    state.setHotelCount(state.getHotelCount() - 1);
-                    state.setHouseCount(4);
-                } else if (state.getHouseCount() > 0) {
-                    state.setHouseCount(state.getHouseCount() - 1);
+                if (board.getHotelCount(tile.getPosition()) > 0) {
+                    board.setHotelCount(tile.getPosition(), board.getHotelCount(tile.getPosition()) - 1);
+                    board.setHouseCount(tile.getPosition(), 4);
+                } else if (board.getHouseCount(tile.getPosition()) > 0) {
+                    board.setHouseCount(tile.getPosition(), board.getHouseCount(tile.getPosition()) - 1);
                 }
             }
         }
         
-        String names = maxPlayers.stream()
+        return () -> maxPlayers.stream()
                 .map(Player::getName)
-                .collect(Collectors.joining("、"));
-        return names + "（房子最多）拆一栋房子";
+                .collect(Collectors.joining("、")) + "（房子最多）拆一栋房子";
     }
 
     private int countTotalHouses(Player player) {
         int total = 0;
         for (Integer pos : player.getOwnedTilePositions()) {
-            Tile tile = tileRepository.findByPosition(pos).orElse(null);
+            Tile tile = tileRepository.getByPosition(pos);
             if (tile instanceof CountryTile) {
-                PropertyState state = getPropertyState(pos);
-                total += state.getHouseCount() + state.getHotelCount() * 5; // 旅馆算5栋房子
+                total += board.getHouseCount(pos) + board.getHotelCount(pos) * 5; // 旅馆算5栋房子
             }
         }
         return total;
@@ -2669,11 +2821,10 @@ public class SimpleTurnService implements TurnService {
         CountryTile best = null;
         int maxPrice = 0;
         for (Integer pos : player.getOwnedTilePositions()) {
-            Tile tile = tileRepository.findByPosition(pos).orElse(null);
+            Tile tile = tileRepository.getByPosition(pos);
             if (tile instanceof CountryTile) {
                 CountryTile countryTile = (CountryTile) tile;
-                PropertyState state = getPropertyState(pos);
-                if (!state.isMortgaged() && state.canBuild()) {
+                if (!board.isMortgaged(pos) && board.canBuild(pos)) {
                     int price = countryTile.getBuildHouseCost();
                     if (price > maxPrice) {
                         maxPrice = price;
@@ -2689,11 +2840,10 @@ public class SimpleTurnService implements TurnService {
         CountryTile best = null;
         int minPrice = Integer.MAX_VALUE;
         for (Integer pos : player.getOwnedTilePositions()) {
-            Tile tile = tileRepository.findByPosition(pos).orElse(null);
+            Tile tile = tileRepository.getByPosition(pos);
             if (tile instanceof CountryTile) {
                 CountryTile countryTile = (CountryTile) tile;
-                PropertyState state = getPropertyState(pos);
-                if (!state.isMortgaged() && (state.getHouseCount() > 0 || state.getHotelCount() > 0)) {
+                if (!board.isMortgaged(pos) && (board.getHouseCount(pos) > 0 || board.getHotelCount(pos) > 0)) {
                     int price = countryTile.getBuildHouseCost();
                     if (price < minPrice) {
                         minPrice = price;
@@ -2705,64 +2855,5 @@ public class SimpleTurnService implements TurnService {
         return best;
     }
 
-    /**
-     * 将技术性的效果字符串转换为用户友好的中文描述。
-     */
-    private String getEffectDescription(String effect) {
-        // 解析效果字符串（可能包含多个效果，用逗号分隔）
-        String[] effects = effect.split(",");
-        List<String> descriptions = new ArrayList<>();
-        
-        for (String eff : effects) {
-            eff = eff.trim();
-            if (eff.startsWith("lose:")) {
-                int amount = Integer.parseInt(eff.substring(5));
-                descriptions.add("花费 " + formatMoney(amount));
-            } else if (eff.startsWith("gain:")) {
-                int amount = Integer.parseInt(eff.substring(5));
-                descriptions.add("获得 " + formatMoney(amount));
-            } else if (eff.startsWith("pause:")) {
-                int turns = Integer.parseInt(eff.substring(6));
-                descriptions.add("下" + turns + "回合暂停行动");
-            } else if (eff.equals("goToJail")) {
-                descriptions.add("立刻坐牢");
-            } else if (eff.equals("jailCard")) {
-                descriptions.add("获得出狱许可证（可以保留或出售）");
-            } else if (eff.startsWith("go:")) {
-                String[] parts = eff.substring(3).split(",bonus:");
-                int targetPos = Integer.parseInt(parts[0]);
-                int bonus = parts.length > 1 ? Integer.parseInt(parts[1]) : 0;
-                String tileName = getTileName(targetPos);
-                if (bonus > 0) {
-                    descriptions.add("马上回到" + tileName + "并领取 " + formatMoney(bonus));
-                } else {
-                    descriptions.add("移动到 " + tileName);
-                }
-            } else if (eff.startsWith("fine:max:")) {
-                int amount = Integer.parseInt(eff.substring(9));
-                descriptions.add("现金最多的玩家罚 " + formatMoney(amount));
-            } else if (eff.startsWith("fine:near:")) {
-                String[] parts = eff.substring(10).split(":");
-                int targetPos = Integer.parseInt(parts[0]);
-                int amount = Integer.parseInt(parts[1]);
-                String tileName = getTileName(targetPos);
-                descriptions.add("最靠近" + tileName + "的玩家付 " + formatMoney(amount));
-            } else if (eff.startsWith("dice:max:")) {
-                int multiplier = Integer.parseInt(eff.substring(9));
-                descriptions.add("大家转转盘，点数最大的人拿取点数 × " + multiplier + " 的金额");
-            } else if (eff.equals("dice:move")) {
-                descriptions.add("捐 200 元再转转盘行动一次");
-            } else if (eff.equals("buildHouse:min")) {
-                descriptions.add("房子最少的玩家免费盖一栋");
-            } else if (eff.equals("removeHouse:max")) {
-                descriptions.add("房子最多的人拆一栋房子");
-            } else {
-                // 未知效果，显示原字符串
-                descriptions.add(eff);
-            }
-        }
-        
-        return String.join("，", descriptions);
-    }
 }
 
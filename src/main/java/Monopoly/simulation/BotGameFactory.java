@@ -0,0 +1,115 @@
+package Monopoly.simulation;
+
+import Monopoly.config.ConfigLoader;
+import Monopoly.core.domain.entity.player.Player;
+import Monopoly.core.event.GameClock;
+import Monopoly.core.metrics.TurnMetrics;
+import Monopoly.core.ports.DecisionPort;
+import Monopoly.core.repo.CardRepository;
+import Monopoly.core.repo.PlayerRepository;
+import Monopoly.core.repo.TileRepository;
+import Monopoly.core.repo.indexed.IndexedTileRepository;
+import Monopoly.core.repo.json.JsonCardRepository;
+import Monopoly.core.repo.json.JsonTileRepository;
+import Monopoly.core.repo.legacy.InMemoryPlayerRepository;
+import Monopoly.core.service.impl.SimpleTurnService;
+
+import java.io.IOException;
+import java.util.Objects;
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
+
+/**
+ * 实现功能【批量创建机器人对局：地图与卡牌仓库只加载一次，在所有对局间共享】。
+ * <p>
+ *
+ * <p>
+ *
+ * @author
+ * @date 2025-11-13
+ */
+public class BotGameFactory {
+
+    private final IndexedTileRepository tileRepository;
+    private final CardRepository cardRepository;
+    private final TurnMetrics metrics;
+
+    /**
+     * 构造函数。
+     *
+     * @param tileRepository 地块仓库，转换为不可变索引仓库后在各局间共享
+     * @param cardRepository 卡牌仓库（只读共享）
+     */
+    public BotGameFactory(TileRepository tileRepository, CardRepository cardRepository) {
+        this(tileRepository, cardRepository, TurnMetrics.disabled());
+    }
+
+    /**
+     * 构造函数。
+     *
+     * @param tileRepository 地块仓库，转换为不可变索引仓库后在各局间共享
+     * @param cardRepository 卡牌仓库（只读共享）
+     * @param metrics 所有对局共用的回合延迟统计
+     */
+    public BotGameFactory(TileRepository tileRepository, CardRepository cardRepository, TurnMetrics metrics) {
+        this.tileRepository = IndexedTileRepository.copyOf(tileRepository);
+        this.cardRepository = Objects.requireNonNull(cardRepository, "卡牌仓库不能为空。");
+        this.metrics = Objects.requireNonNull(metrics, "延迟统计不能为空。");
+    }
+
+    /**
+     * 从 resources/config 下的 JSON 配置构建工厂。
+     *
+     * @return 对局工厂
+     * @throws IOException 配置读取失败时抛出
+     */
+    public static BotGameFactory fromDefaultConfig() throws IOException {
+        return fromDefaultConfig(TurnMetrics.disabled());
+    }
+
+    /**
+     * 从 resources/config 下的 JSON 配置构建工厂，所有对局记录到同一份延迟统计。
+     *
+     * @param metrics 回合延迟统计
+     * @return 对局工厂
+     * @throws IOException 配置读取失败时抛出
+     */
+    public static BotGameFactory fromDefaultConfig(TurnMetrics metrics) throws IOException {
+        ConfigLoader loader = new ConfigLoader();
+        return new BotGameFactory(new JsonTileRepository(loader), new JsonCardRepository(loader), metrics);
+    }
+
+    /**
+     * 创建一局新的机器人对局，玩家编号从 1 开始。
+     *
+     * @param playerCount 玩家人数
+     * @param initialMoney 每位玩家初始资金
+     * @param decisionPort 所有座位共用的决策端口
+     * @return 装配好的对局
+     */
+    public HeadlessGame newGame(int playerCount, int initialMoney, DecisionPort decisionPort) {
+        return newGame(playerCount, initialMoney, decisionPort, new SplittableRandom());
+    }
+
+    /**
+     * 使用指定随机数发生器创建一局新的机器人对局，相同种子可复现整局对局（事件时间戳使用逻辑回合时钟）。
+     *
+     * @param playerCount 玩家人数
+     * @param initialMoney 每位玩家初始资金
+     * @param decisionPort 所有座位共用的决策端口
+     * @param random 本局专用的随机数发生器
+     * @return 装配好的对局
+     */
+    public HeadlessGame newGame(int playerCount, int initialMoney, DecisionPort decisionPort, RandomGenerator random) {
+        if (playerCount < 2) {
+            throw new IllegalArgumentException("对局至少需要两名玩家。");
+        }
+        PlayerRepository playerRepo = new InMemoryPlayerRepository();
+        for (int i = 1; i <= playerCount; i++) {
+            playerRepo.save(new Player(i, "机器人" + i, initialMoney));
+        }
+        SimpleTurnService turnService = new SimpleTurnService(playerRepo, tileRepository, cardRepository, decisionPort, random,
+                GameClock.turns(), metrics);
+        return new HeadlessGame(turnService, playerRepo);
+    }
+}
@@ -0,0 +1,175 @@
+package Monopoly.simulation;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * 实现功能【多人对局的 Elo 评分表：每局结束后按名次两两比较增量更新】。
+ * <p>
+ * 一局 n 人的对局视为 n(n-1)/2 场两两比赛：名次靠前记 1 分，并列记 0.5 分，与按双方赛前评分算出的期望得分比较；
+ * 每位参赛者的变化量为 {@code K × Σ(实得 − 期望) / (n − 1)}，全部按赛前评分计算后同时生效。
+ * 同一参赛者占据多个座位时，这些座位之间不比较。所有方法线程安全，可在锦标赛进行中随时读取。
+ * <p>
+ *
+ * @author
+ * @date 2025-11-13
+ */
+public final class EloRatingTable {
+
+    /**
+     * 新参赛者的初始评分。
+     */
+    public static final double INITIAL_RATING = 1500;
+
+    /**
+     * 一名参赛者的当前成绩。
+     *
+     * @param name 名称
+     * @param rating 评分
+     * @param games 参赛局数（同一局占多个座位只计一次）
+     * @param wins 获得第一名的局数
+     * @param averagePlace 平均名次
+     */
+    public record Standing(String name, double rating, long games, long wins, double averagePlace) {
+    }
+
+    /**
+     * 可变的累计成绩。
+     */
+    private static final class Entry {
+        double rating = INITIAL_RATING;
+        long games;
+        long wins;
+        long placeSum;
+        long seats;
+    }
+
+    private final double kFactor;
+    private final Map<String, Entry> entries = new LinkedHashMap<>();
+    private long updates;
+
+    /**
+     * 构造函数。
+     *
+     * @param kFactor 更新系数，必须大于 0
+     */
+    public EloRatingTable(double kFactor) {
+        if (!(kFactor > 0)) {
+            throw new IllegalArgumentException("Elo 更新系数必须大于 0。");
+        }
+        this.kFactor = kFactor;
+    }
+
+    /**
+     * 登记参赛者（已登记时忽略）。
+     *
+     * @param name 名称
+     */
+    public synchronized void register(String name) {
+        entries.computeIfAbsent(Objects.requireNonNull(name, "参赛者名称不能为空。"), n -> new Entry());
+    }
+
+    /**
+     * 按一局的名次更新评分。
+     *
+     * @param seats 各座位的参赛者名称
+     * @param places 各座位的名次（1 为第一，并列名次相同），与 seats 一一对应
+     */
+    public synchronized void update(List<String> seats, int[] places) {
+        int n = seats.size();
+        if (places.length != n || n < 2) {
+            throw new IllegalArgumentException("座位与名次数量不一致，或少于两人。");
+        }
+        Entry[] players = new Entry[n];
+        for (int i = 0; i < n; i++) {
+            players[i] = entries.computeIfAbsent(seats.get(i), name -> new Entry());
+        }
+        double[] deltas = new double[n];
+        for (int i = 0; i < n; i++) {
+            for (int j = i + 1; j < n; j++) {
+                if (players[i] == players[j]) {
+                    continue;
+                }
+                double expected = 1 / (1 + Math.pow(10, (players[j].rating - players[i].rating) / 400));
+                double actual = places[i] < places[j] ? 1 : places[i] == places[j] ? 0.5 : 0;
+                deltas[i] += actual - expected;
+                deltas[j] -= actual - expected;
+            }
+        }
+        double scale = kFactor / (n - 1);
+        boolean[] counted = new boolean[n];
+        for (int i = 0; i < n; i++) {
+            Entry player = players[i];
+            player.rating += deltas[i] * scale;
+            player.placeSum += places[i];
+            player.seats++;
+            if (!counted[i]) {
+                boolean won = false;
+                for (int j = i; j < n; j++) {
+                    if (players[j] == player) {
+                        counted[j] = true;
+                        won |= places[j] == 1;
+                    }
+                }
+                player.games++;
+                if (won) {
+                    player.wins++;
+                }
+            }
+        }
+        updates++;
+    }
+
+    /**
+     * 当前评分。
+     *
+     * @param name 参赛者名称
+     * @return 评分；未登记时为初始评分
+     */
+    public synchronized double getRating(String name) {
+        Entry entry = entries.get(name);
+        return entry == null ? INITIAL_RATING : entry.rating;
+    }
+
+    /**
+     * 已计入的对局数。
+     *
+     * @return 对局数
+     */
+    public synchronized long getUpdateCount() {
+        return updates;
+    }
+
+    /**
+     * 按评分从高到低排列的成绩表快照。
+     *
+     * @return 成绩表
+     */
+    public synchronized List<Standing> standings() {
+        List<Standing> list = new ArrayList<>(entries.size());
+        for (Map.Entry<String, Entry> e : entries.entrySet()) {
+            Entry entry = e.getValue();
+            list.add(new Standing(e.getKey(), entry.rating, entry.games, entry.wins,
+                    entry.seats == 0 ? 0 : (double) entry.placeSum / entry.seats));
+        }
+        list.sort(Comparator.comparingDouble(Standing::rating).reversed());
+        return list;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append("已计入对局：").append(getUpdateCount()).append("\n");
+        int rank = 1;
+        for (Standing s : standings()) {
+            sb.append(String.format("%d. %s：评分 %.1f，%d 局，第一名 %d 次（%.2f%%），平均名次 %.2f%n",
+                    rank++, s.name(), s.rating(), s.games(), s.wins(),
+                    s.games() == 0 ? 0 : s.wins() * 100.0 / s.games(), s.averagePlace()));
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,78 @@
+package Monopoly.simulation;
+
+import lombok.Getter;
+
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * 实现功能【一局无界面对局的结果：胜者、回合数、破产回合、最终现金与最终净资产】。
+ * <p>
+ *
+ * <p>
+ *
+ * @author
+ * @date 2025-11-13
+ */
+@Getter
+public class GameResult {
+
+    /**
+     * 胜者编号；对局未分出胜负时为净资产最多的存活玩家（不能估值时按现金），无存活玩家时为 -1。
+     */
+    private final int winnerId;
+    /**
+     * 实际推进的回合数。
+     */
+    private final int turns;
+    /**
+     * 是否在回合上限内正常结束（只剩一名存活玩家）。
+     */
+    private final boolean finished;
+    /**
+     * 破产玩家编号到破产所在回合的映射。
+     */
+    private final Map<Integer, Integer> bankruptcyTurns;
+    /**
+     * 各玩家最终现金。
+     */
+    private final Map<Integer, Integer> finalMoney;
+    /**
+     * 各玩家最终净资产（现金加地产与建筑价值，破产玩家为 0）。
+     */
+    private final Map<Integer, Integer> finalNetWorth;
+
+    /**
+     * 构造函数，净资产按最终现金计。
+     *
+     * @param winnerId 胜者编号
+     * @param turns 回合数
+     * @param finished 是否正常结束
+     * @param bankruptcyTurns 破产回合
+     * @param finalMoney 最终现金
+     */
+    public GameResult(int winnerId, int turns, boolean finished,
+                      Map<Integer, Integer> bankruptcyTurns, Map<Integer, Integer> finalMoney) {
+        this(winnerId, turns, finished, bankruptcyTurns, finalMoney, finalMoney);
+    }
+
+    /**
+     * 构造函数。
+     *
+     * @param winnerId 胜者编号
+     * @param turns 回合数
+     * @param finished 是否正常结束
+     * @param bankruptcyTurns 破产回合
+     * @param finalMoney 最终现金
+     * @param finalNetWorth 最终净资产
+     */
+    public GameResult(int winnerId, int turns, boolean finished, Map<Integer, Integer> bankruptcyTurns,
+                      Map<Integer, Integer> finalMoney, Map<Integer, Integer> finalNetWorth) {
+        this.winnerId = winnerId;
+        this.turns = turns;
+        this.finished = finished;
+        this.bankruptcyTurns = Collections.unmodifiableMap(bankruptcyTurns);
+        this.finalMoney = Collections.unmodifiableMap(finalMoney);
+        this.finalNetWorth = Collections.unmodifiableMap(finalNetWorth);
+    }
+}
@@ -0,0 +1,32 @@
+package Monopoly.simulation;
+
+import Monopoly.core.repo.PlayerRepository;
+import Monopoly.core.service.TurnService;
+import lombok.Getter;
+
+/**
+ * 实现功能【一局已装配好的无界面对局：回合服务及其玩家仓库】。
+ */
+@Getter
+public class HeadlessGame {
+
+    /**
+     * 回合服务。
+     */
+    private final TurnService turnService;
+    /**
+     * 本局玩家仓库，用于对局结束后读取结果。
+     */
+    private final PlayerRepository playerRepository;
+
+    /**
+     * 构造函数。
+     *
+     * @param turnService 回合服务
+     * @param playerRepository 玩家仓库
+     */
+    public HeadlessGame(TurnService turnService, PlayerRepository playerRepository) {
+        this.turnService = turnService;
+        this.playerRepository = playerRepository;
+    }
+}
@@ -0,0 +1,112 @@
+package Monopoly.simulation;
+
+import Monopoly.core.domain.entity.player.Player;
+import Monopoly.core.event.GameEvent;
+import Monopoly.core.event.InteractiveEvent;
+import Monopoly.core.message.GameMessage;
+import Monopoly.core.metrics.TurnMetrics;
+import Monopoly.core.metrics.TurnPhase;
+import Monopoly.core.ports.OutputPort;
+import Monopoly.core.service.ForkableTurnService;
+import Monopoly.core.service.TurnService;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 实现功能【无界面的对局驱动循环：即时解析整条交互事件链，直到游戏结束或达到回合上限】。
+ * <p>
+ * 与 {@link Monopoly.app.GameApp#start()} 的推进方式相同，但不要求人工输入，
+ * 且在未配置输出端口时完全跳过消息构建。
+ * <p>
+ *
+ * @author
+ * @date 2025-11-13
+ */
+public class HeadlessGameRunner {
+
+    /**
+     * 默认回合上限，防止双方都无法破产的对局无限进行。
+     */
+    public static final int DEFAULT_MAX_TURNS = 2000;
+
+    /**
+     * 破产事件类型。
+     */
+    private static final String BANKRUPTCY_TYPE = "BANKRUPTCY";
+
+    private final OutputPort outputPort;
+    private final int maxTurns;
+
+    /**
+     * 构造一个不输出任何消息、使用默认回合上限的驱动器。
+     */
+    public HeadlessGameRunner() {
+        this(null, DEFAULT_MAX_TURNS);
+    }
+
+    /**
+     * 构造函数。
+     *
+     * @param outputPort 输出端口，null 表示不输出
+     * @param maxTurns 回合上限，必须大于 0
+     */
+    public HeadlessGameRunner(OutputPort outputPort, int maxTurns) {
+        if (maxTurns <= 0) {
+            throw new IllegalArgumentException("回合上限必须大于 0。");
+        }
+        this.outputPort = outputPort;
+        this.maxTurns = maxTurns;
+    }
+
+    /**
+     * 运行一局对局直至结束。
+     *
+     * @param game 装配好的对局
+     * @return 对局结果
+     */
+    public GameResult run(HeadlessGame game) {
+        TurnService turnService = game.getTurnService();
+        TurnMetrics metrics = turnService.getMetrics();
+        Map<Integer, Integer> bankruptcyTurns = new HashMap<>();
+        int turns = 0;
+        while (!turnService.isGameOver() && turns < maxTurns) {
+            GameEvent current = turnService.advanceTurn();
+            turns++;
+            while (current != null) {
+                if (outputPort != null) {
+                    long mark = metrics.mark();
+                    outputPort.publish(new GameMessage(current.getType(), current::toString, current));
+                    metrics.record(TurnPhase.RENDER, mark);
+                }
+                if (BANKRUPTCY_TYPE.equals(current.getType()) && current.getPlayerId() != null) {
+                    bankruptcyTurns.putIfAbsent(Integer.parseInt(current.getPlayerId()), turns);
+                }
+                if (current instanceof InteractiveEvent interactive) {
+                    long mark = metrics.mark();
+                    current = interactive.interact();
+                    metrics.recordInteraction(interactive.getClass(), mark);
+                } else {
+                    current = null;
+                }
+            }
+        }
+
+        Map<Integer, Integer> finalMoney = new HashMap<>();
+        Map<Integer, Integer> finalNetWorth = new HashMap<>();
+        ForkableTurnService valuer = turnService instanceof ForkableTurnService forkable ? forkable : null;
+        int winnerId = -1;
+        int winnerWorth = Integer.MIN_VALUE;
+        for (Player player : game.getPlayerRepository().findAll()) {
+            // 回合上限截断的对局按净资产（现金加地产与建筑）判定胜者，不能估值时才只看现金
+            int worth = valuer != null ? valuer.getNetWorth(player.getId()) : player.getMoney();
+            finalMoney.put(player.getId(), player.getMoney());
+            finalNetWorth.put(player.getId(), worth);
+            if (!bankruptcyTurns.containsKey(player.getId()) && worth > winnerWorth) {
+                winnerId = player.getId();
+                winnerWorth = worth;
+            }
+        }
+        return new GameResult(winnerId, turns, turnService.isGameOver(), bankruptcyTurns, finalMoney, finalNetWorth);
+    }
+}
@@ -0,0 +1,215 @@
+package Monopoly.simulation;
+
+import java.util.Arrays;
+
+/**
+ * 实现功能【可合并的分位数草图：以对数分桶计数近似分位数，内存与样本数量无关】。
+ * <p>
+ * 绝对值为 v 的样本落入第 {@code ceil(log(v) / log(γ))} 号桶，{@code γ = (1 + α) / (1 − α)}，
+ * 桶代表值与桶内任意样本的相对误差不超过 α；正数、负数分别分桶，0 单独计数。
+ * 桶数只取决于数值范围（整型范围内 α=1% 时每侧至多约一千个桶），与记录了多少样本无关。
+ * <p>
+ * 合并即逐桶相加，与合并顺序无关，因此多线程分别累加后合并的结果与单线程完全一致。
+ * 非线程安全：每个工作线程持有自己的草图，合并后再共享。
+ * <p>
+ *
+ * @author
+ * @date 2025-11-13
+ */
+public final class QuantileSketch {
+
+    /**
+     * 默认相对误差。
+     */
+    public static final double DEFAULT_RELATIVE_ACCURACY = 0.01;
+
+    private final double relativeAccuracy;
+    private final double gamma;
+    private final double logGamma;
+    private final Buckets positive = new Buckets();
+    private final Buckets negative = new Buckets();
+    private long zeroCount;
+    private long count;
+    private long sum;
+    private long min = Long.MAX_VALUE;
+    private long max = Long.MIN_VALUE;
+
+    /**
+     * 使用默认相对误差构造。
+     */
+    public QuantileSketch() {
+        this(DEFAULT_RELATIVE_ACCURACY);
+    }
+
+    /**
+     * 构造函数。
+     *
+     * @param relativeAccuracy 相对误差，取值 (0, 1)
+     */
+    public QuantileSketch(double relativeAccuracy) {
+        if (!(relativeAccuracy > 0 && relativeAccuracy < 1)) {
+            throw new IllegalArgumentException("相对误差必须在 0 与 1 之间。");
+        }
+        this.relativeAccuracy = relativeAccuracy;
+        this.gamma = (1 + relativeAccuracy) / (1 - relativeAccuracy);
+        this.logGamma = Math.log(gamma);
+    }
+
+    /**
+     * 记录一个样本。
+     *
+     * @param value 样本值
+     */
+    public void add(long value) {
+        if (value > 0) {
+            positive.add(index(value), 1);
+        } else if (value < 0) {
+            negative.add(index(-value), 1);
+        } else {
+            zeroCount++;
+        }
+        count++;
+        sum += value;
+        min = Math.min(min, value);
+        max = Math.max(max, value);
+    }
+
+    /**
+     * 合并另一份草图。
+     *
+     * @param other 相对误差相同的草图
+     */
+    public void merge(QuantileSketch other) {
+        if (other.relativeAccuracy != relativeAccuracy) {
+            throw new IllegalArgumentException("只能合并相对误差相同的草图。");
+        }
+        positive.merge(other.positive);
+        negative.merge(other.negative);
+        zeroCount += other.zeroCount;
+        count += other.count;
+        sum += other.sum;
+        min = Math.min(min, other.min);
+        max = Math.max(max, other.max);
+    }
+
+    /**
+     * 复制一份独立的草图。
+     *
+     * @return 副本
+     */
+    public QuantileSketch copy() {
+        QuantileSketch copy = new QuantileSketch(relativeAccuracy);
+        copy.merge(this);
+        return copy;
+    }
+
+    /**
+     * 估算分位数。
+     *
+     * @param quantile 分位，取值 [0, 1]
+     * @return 估计值，相对误差不超过构造时的设定；无样本时为 0
+     */
+    public double getQuantile(double quantile) {
+        if (!(quantile >= 0 && quantile <= 1)) {
+            throw new IllegalArgumentException("分位必须在 0 与 1 之间。");
+        }
+        if (count == 0) {
+            return 0;
+        }
+        long rank = (long) Math.floor(quantile * (count - 1));
+        double estimate;
+        if (rank < negative.total) {
+            estimate = -value(negative.indexFromTop(rank));
+        } else if (rank < negative.total + zeroCount) {
+            estimate = 0;
+        } else {
+            estimate = value(positive.indexFromBottom(rank - negative.total - zeroCount));
+        }
+        return Math.max(min, Math.min(max, estimate));
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public long getMin() {
+        return count == 0 ? 0 : min;
+    }
+
+    public long getMax() {
+        return count == 0 ? 0 : max;
+    }
+
+    /**
+     * 平均值（精确）。
+     *
+     * @return 平均值，无样本时为 0
+     */
+    public double getMean() {
+        return count == 0 ? 0 : (double) sum / count;
+    }
+
+    private int index(long magnitude) {
+        return (int) Math.ceil(Math.log(magnitude) / logGamma);
+    }
+
+    private double value(int index) {
+        return 2 * Math.pow(gamma, index) / (gamma + 1);
+    }
+
+    /**
+     * 一侧的桶计数，按出现过的最小、最大桶号连续存放。
+     */
+    private static final class Buckets {
+        private long[] counts = new long[0];
+        private int offset;
+        private long total;
+
+        void add(int index, long n) {
+            if (counts.length == 0) {
+                counts = new long[16];
+                offset = index;
+            } else if (index < offset) {
+                int grow = Math.max(offset - index, counts.length >> 1);
+                long[] grown = new long[counts.length + grow];
+                System.arraycopy(counts, 0, grown, grow, counts.length);
+                counts = grown;
+                offset -= grow;
+            } else if (index - offset >= counts.length) {
+                counts = Arrays.copyOf(counts, Math.max(index - offset + 1, counts.length + (counts.length >> 1)));
+            }
+            counts[index - offset] += n;
+            total += n;
+        }
+
+        void merge(Buckets other) {
+            for (int i = 0; i < other.counts.length; i++) {
+                if (other.counts[i] != 0) {
+                    add(other.offset + i, other.counts[i]);
+                }
+            }
+        }
+
+        int indexFromBottom(long rank) {
+            long seen = 0;
+            for (int i = 0; i < counts.length; i++) {
+                seen += counts[i];
+                if (seen > rank) {
+                    return offset + i;
+                }
+            }
+            return offset + counts.length - 1;
+        }
+
+        int indexFromTop(long rank) {
+            long seen = 0;
+            for (int i = counts.length - 1; i >= 0; i--) {
+                seen += counts[i];
+                if (seen > rank) {
+                    return offset + i;
+                }
+            }
+            return offset;
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package Monopoly.simulation;
+
+import Monopoly.core.ports.DecisionPort;
+import Monopoly.core.ports.DecisionRequest;
+import Monopoly.core.ports.ForkingDecisionPort;
+import Monopoly.core.service.ForkableTurnService;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * 实现功能【按座位分派的决策端口：让不同机器人在同一局中各自为自己的座位作答】。
+ * <p>
+ * 结构化决策按 {@code request.getPlayer().getId()} 交给对应座位的端口；不带玩家信息的
+ * {@link #requestInt(String)}、{@link #requestLine(String)}（如“按回车继续”）交给 1 号座位。
+ * 绑定对局时转发给所有需要读取局面的座位端口，关闭时关闭所有可关闭的座位端口（不抛出受检异常）。
+ * <p>
+ *
+ * @author
+ * @date 2025-11-13
+ */
+public final class SeatDecisionPort implements ForkingDecisionPort, AutoCloseable {
+
+    /**
+     * 座位号 n 对应下标 n-1。
+     */
+    private final DecisionPort[] seats;
+
+    /**
+     * 构造函数。
+     *
+     * @param seats 各座位的决策端口，第 i 个对应玩家编号 i+1
+     */
+    public SeatDecisionPort(List<? extends DecisionPort> seats) {
+        Objects.requireNonNull(seats, "座位端口不能为空。");
+        if (seats.isEmpty()) {
+            throw new IllegalArgumentException("至少需要一个座位。");
+        }
+        this.seats = seats.toArray(new DecisionPort[0]);
+        for (DecisionPort seat : this.seats) {
+            Objects.requireNonNull(seat, "座位端口不能为空。");
+        }
+    }
+
+    /**
+     * 某座位的决策端口。
+     *
+     * @param playerId 玩家编号（从 1 开始）
+     * @return 决策端口
+     */
+    public DecisionPort seat(int playerId) {
+        if (playerId < 1 || playerId > seats.length) {
+            throw new IllegalArgumentException("座位号超出范围：" + playerId);
+        }
+        return seats[playerId - 1];
+    }
+
+    @Override
+    public int requestInt(String prompt) {
+        return seats[0].requestInt(prompt);
+    }
+
+    @Override
+    public String requestLine(String prompt) {
+        return seats[0].requestLine(prompt);
+    }
+
+    @Override
+    public int requestDecision(DecisionRequest request) {
+        return seat(request.getPlayer().getId()).requestDecision(request);
+    }
+
+    @Override
+    public void attach(ForkableTurnService game) {
+        for (DecisionPort seat : seats) {
+            if (seat instanceof ForkingDecisionPort forking) {
+                forking.attach(game);
+            }
+        }
+    }
+
+    /**
+     * 关闭所有可关闭的座位端口；个别端口关闭失败不影响其余端口，失败汇总后以非受检异常抛出。
+     *
+     * @throws IllegalStateException 有座位端口关闭失败
+     */
+    @Override
+    public void close() {
+        IllegalStateException failure = null;
+        for (DecisionPort seat : seats) {
+            if (seat instanceof AutoCloseable closeable) {
+                try {
+                    closeable.close();
+                } catch (Exception e) {
+                    if (e instanceof InterruptedException) {
+                        Thread.currentThread().interrupt();
+                    }
+                    if (failure == null) {
+                        failure = new IllegalStateException("关闭座位端口失败: " + e.getMessage(), e);
+                    } else {
+                        failure.addSuppressed(e);
+                    }
+                }
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+}
@@ -0,0 +1,167 @@
+package Monopoly.simulation;
+
+import Monopoly.core.ports.DecisionPort;
+import Monopoly.core.ports.OutputPort;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+/**
+ * 实现功能【并行蒙特卡洛对局执行器：把独立对局分摊到固定大小的线程池并汇总统计】。
+ * <p>
+ * 第 i 局的随机种子只由批次种子与 i 决定，每局持有独立的 {@link SplittableRandom}，
+ * 因此同一批次无论用多少线程运行，结果都完全一致。
+ * <p>
+ * 每个工作线程只写自己的 {@link SimulationStats}，每完成 {@value #PUBLISH_INTERVAL} 局或一个任务块时，
+ * 以 CAS 把这段增量合并进共享的不可变快照（写时复制，不加锁）；批次结束时的汇总即最后一份快照，
+ * 运行中也可随时用 {@link #snapshot()} 读取已完成部分的统计。同一执行器不应并发运行多个批次。
+ * <p>
+ *
+ * @author
+ * @date 2025-11-13
+ */
+public class SimulationRunner {
+
+    /**
+     * 每个线程分到的任务块数，块越多负载越均衡。
+     */
+    private static final int CHUNKS_PER_THREAD = 4;
+    /**
+     * 工作线程向共享快照发布增量的间隔局数。
+     */
+    private static final int PUBLISH_INTERVAL = 256;
+
+    private final BotGameFactory factory;
+    private final Supplier<DecisionPort> decisionPortSupplier;
+    private final int threads;
+    private final int maxTurns;
+    /**
+     * 已完成对局的汇总快照；发布后不再修改，只整体替换。
+     */
+    private final AtomicReference<SimulationStats> progress = new AtomicReference<>(new SimulationStats());
+
+    /**
+     * 构造函数。
+     *
+     * @param factory 对局工厂
+     * @param decisionPortSupplier 为每局提供决策端口
+     * @param threads 工作线程数，必须大于 0
+     * @param maxTurns 单局回合上限
+     */
+    public SimulationRunner(BotGameFactory factory, Supplier<DecisionPort> decisionPortSupplier, int threads, int maxTurns) {
+        if (threads <= 0) {
+            throw new IllegalArgumentException("线程数必须大于 0。");
+        }
+        this.factory = Objects.requireNonNull(factory, "对局工厂不能为空。");
+        this.decisionPortSupplier = Objects.requireNonNull(decisionPortSupplier, "决策端口提供者不能为空。");
+        this.threads = threads;
+        this.maxTurns = maxTurns;
+    }
+
+    /**
+     * 运行一批对局。
+     *
+     * @param games 对局数量
+     * @param playerCount 每局人数
+     * @param initialMoney 初始资金
+     * @param seed 批次种子
+     * @return 汇总统计
+     */
+    public SimulationStats run(int games, int playerCount, int initialMoney, long seed) {
+        int chunks = Math.max(1, Math.min(games, threads * CHUNKS_PER_THREAD));
+        progress.set(new SimulationStats());
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> futures = new ArrayList<>(chunks);
+            for (int c = 0; c < chunks; c++) {
+                int from = (int) ((long) games * c / chunks);
+                int to = (int) ((long) games * (c + 1) / chunks);
+                futures.add(pool.submit(() -> runRange(from, to, playerCount, initialMoney, seed)));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+            return snapshot();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("模拟被中断。", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("模拟对局执行失败: " + e.getCause().getMessage(), e.getCause());
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    /**
+     * 在当前线程重放批次中的一局，并把全部消息发布到输出端口（与 {@link #run} 中同一序号的对局完全一致）。
+     *
+     * @param gameIndex 对局序号
+     * @param playerCount 每局人数
+     * @param initialMoney 初始资金
+     * @param seed 批次种子
+     * @param outputPort 输出端口
+     * @return 对局结果
+     */
+    public GameResult replay(int gameIndex, int playerCount, int initialMoney, long seed, OutputPort outputPort) {
+        Objects.requireNonNull(outputPort, "输出端口不能为空。");
+        HeadlessGame game = factory.newGame(playerCount, initialMoney, decisionPortSupplier.get(),
+                new SplittableRandom(gameSeed(seed, gameIndex)));
+        return new HeadlessGameRunner(outputPort, maxTurns).run(game);
+    }
+
+    /**
+     * 当前批次已完成对局的统计快照，可在运行中调用。
+     *
+     * @return 独立的统计副本
+     */
+    public SimulationStats snapshot() {
+        return progress.get().copy();
+    }
+
+    private void runRange(int from, int to, int playerCount, int initialMoney, long seed) {
+        HeadlessGameRunner runner = new HeadlessGameRunner(null, maxTurns);
+        SimulationStats stats = new SimulationStats();
+        for (int i = from; i < to; i++) {
+            SplittableRandom random = new SplittableRandom(gameSeed(seed, i));
+            HeadlessGame game = factory.newGame(playerCount, initialMoney, decisionPortSupplier.get(), random);
+            stats.record(runner.run(game));
+            if (stats.getGames() == PUBLISH_INTERVAL) {
+                publish(stats);
+                stats = new SimulationStats();
+            }
+        }
+        if (stats.getGames() > 0) {
+            publish(stats);
+        }
+    }
+
+    private void publish(SimulationStats delta) {
+        progress.accumulateAndGet(delta, (current, update) -> {
+            SimulationStats next = current.copy();
+            next.merge(update);
+            return next;
+        });
+    }
+
+    /**
+     * 由批次种子与对局序号推导单局种子（SplitMix64 混合），相邻序号的种子互不相关。
+     *
+     * @param batchSeed 批次种子
+     * @param gameIndex 对局序号
+     * @return 单局种子
+     */
+    public static long gameSeed(long batchSeed, long gameIndex) {
+        long z = batchSeed + (gameIndex + 1) * 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
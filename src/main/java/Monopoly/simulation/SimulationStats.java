@@ -0,0 +1,252 @@
+package Monopoly.simulation;
+
+import java.util.Objects;
+
+/**
+ * 实现功能【批量模拟的汇总统计：胜率、对局长度、最终净资产与破产情况】。
+ * <p>
+ * 只保存计数、累加值与固定大小的草图，不保留单局结果：对局长度与最终净资产用 {@link QuantileSketch} 估算分位数，
+ * 破产回合按固定宽度分桶计数，因此无论模拟一万局还是十亿局，占用内存都不变。
+ * 各工作线程各自累加后再 {@link #merge(SimulationStats)}，所有累加均与合并顺序无关，
+ * 因此同一批次的统计结果与线程数无关。非线程安全，跨线程共享时使用 {@link #copy()} 得到的快照。
+ * <p>
+ *
+ * @author
+ * @date 2025-11-13
+ */
+public class SimulationStats {
+
+    /**
+     * 座位数上限（玩家编号 1~6）。
+     */
+    private static final int MAX_SEATS = 6;
+    /**
+     * 破产回合分布的桶宽（回合）与桶数，最后一个桶收纳更晚的破产。
+     */
+    public static final int BANKRUPTCY_BUCKET_TURNS = 50;
+    public static final int BANKRUPTCY_BUCKETS = 40;
+
+    private long games;
+    private long finishedGames;
+    private long totalTurns;
+    private int minTurns = Integer.MAX_VALUE;
+    private int maxTurns;
+    private long bankruptcies;
+    private long totalBankruptcyTurn;
+    /**
+     * 下标为玩家编号，0 号位记录无人获胜的对局。
+     */
+    private final long[] winsBySeat = new long[MAX_SEATS + 1];
+    private final long[] bankruptciesBySeat = new long[MAX_SEATS + 1];
+    /**
+     * 下标为玩家编号，记录该座位有人参赛的对局数。
+     */
+    private final long[] gamesBySeat = new long[MAX_SEATS + 1];
+    private final long[] bankruptcyHistogram = new long[BANKRUPTCY_BUCKETS];
+    private final QuantileSketch turnSketch = new QuantileSketch();
+    private final QuantileSketch netWorthSketch = new QuantileSketch();
+
+    /**
+     * 记录一局结果。
+     *
+     * @param result 对局结果
+     */
+    public void record(GameResult result) {
+        games++;
+        if (result.isFinished()) {
+            finishedGames++;
+        }
+        totalTurns += result.getTurns();
+        minTurns = Math.min(minTurns, result.getTurns());
+        maxTurns = Math.max(maxTurns, result.getTurns());
+        turnSketch.add(result.getTurns());
+        winsBySeat[seat(result.getWinnerId())]++;
+        for (var entry : result.getFinalNetWorth().entrySet()) {
+            gamesBySeat[seat(entry.getKey())]++;
+            netWorthSketch.add(entry.getValue());
+        }
+        for (var entry : result.getBankruptcyTurns().entrySet()) {
+            bankruptcies++;
+            bankruptciesBySeat[seat(entry.getKey())]++;
+            totalBankruptcyTurn += entry.getValue();
+            bankruptcyHistogram[Math.min(entry.getValue() / BANKRUPTCY_BUCKET_TURNS, BANKRUPTCY_BUCKETS - 1)]++;
+        }
+    }
+
+    /**
+     * 合并另一份统计。
+     *
+     * @param other 另一份统计
+     */
+    public void merge(SimulationStats other) {
+        games += other.games;
+        finishedGames += other.finishedGames;
+        totalTurns += other.totalTurns;
+        minTurns = Math.min(minTurns, other.minTurns);
+        maxTurns = Math.max(maxTurns, other.maxTurns);
+        bankruptcies += other.bankruptcies;
+        totalBankruptcyTurn += other.totalBankruptcyTurn;
+        for (int i = 0; i <= MAX_SEATS; i++) {
+            winsBySeat[i] += other.winsBySeat[i];
+            bankruptciesBySeat[i] += other.bankruptciesBySeat[i];
+            gamesBySeat[i] += other.gamesBySeat[i];
+        }
+        for (int i = 0; i < BANKRUPTCY_BUCKETS; i++) {
+            bankruptcyHistogram[i] += other.bankruptcyHistogram[i];
+        }
+        turnSketch.merge(other.turnSketch);
+        netWorthSketch.merge(other.netWorthSketch);
+    }
+
+    /**
+     * 复制一份独立的统计。
+     *
+     * @return 副本
+     */
+    public SimulationStats copy() {
+        SimulationStats copy = new SimulationStats();
+        copy.merge(this);
+        return copy;
+    }
+
+    private int seat(int playerId) {
+        return playerId >= 1 && playerId <= MAX_SEATS ? playerId : 0;
+    }
+
+    public long getGames() {
+        return games;
+    }
+
+    public long getFinishedGames() {
+        return finishedGames;
+    }
+
+    public long getBankruptcies() {
+        return bankruptcies;
+    }
+
+    public int getMinTurns() {
+        return games == 0 ? 0 : minTurns;
+    }
+
+    public int getMaxTurns() {
+        return maxTurns;
+    }
+
+    /**
+     * 获取平均对局回合数。
+     *
+     * @return 平均回合数，无对局时为 0
+     */
+    public double getAverageTurns() {
+        return games == 0 ? 0 : (double) totalTurns / games;
+    }
+
+    /**
+     * 获取平均破产发生回合。
+     *
+     * @return 平均破产回合，无破产时为 0
+     */
+    public double getAverageBankruptcyTurn() {
+        return bankruptcies == 0 ? 0 : (double) totalBankruptcyTurn / bankruptcies;
+    }
+
+    /**
+     * 获取指定座位的获胜局数。
+     *
+     * @param playerId 玩家编号
+     * @return 获胜局数
+     */
+    public long getWins(int playerId) {
+        return winsBySeat[seat(playerId)];
+    }
+
+    /**
+     * 获取指定座位的胜率（按该座位参赛的局数计）。
+     *
+     * @param playerId 玩家编号
+     * @return 胜率，该座位无对局时为 0
+     */
+    public double getWinRate(int playerId) {
+        long seated = gamesBySeat[seat(playerId)];
+        return seated == 0 ? 0 : (double) getWins(playerId) / seated;
+    }
+
+    /**
+     * 估算对局回合数的分位数。
+     *
+     * @param quantile 分位，取值 [0, 1]
+     * @return 回合数估计值
+     */
+    public double getTurnsQuantile(double quantile) {
+        return turnSketch.getQuantile(quantile);
+    }
+
+    /**
+     * 估算玩家最终净资产的分位数（每局每位玩家一个样本）。
+     *
+     * @param quantile 分位，取值 [0, 1]
+     * @return 净资产估计值
+     */
+    public double getNetWorthQuantile(double quantile) {
+        return netWorthSketch.getQuantile(quantile);
+    }
+
+    /**
+     * 获取某个破产回合区间内的破产次数。
+     *
+     * @param bucket 桶序号，覆盖 [bucket × 桶宽, (bucket + 1) × 桶宽)，最后一个桶不设上界
+     * @return 破产次数
+     */
+    public long getBankruptcyHistogram(int bucket) {
+        return bankruptcyHistogram[Objects.checkIndex(bucket, BANKRUPTCY_BUCKETS)];
+    }
+
+    /**
+     * 获取指定座位的破产次数。
+     *
+     * @param playerId 玩家编号
+     * @return 破产次数
+     */
+    public long getBankruptcies(int playerId) {
+        return bankruptciesBySeat[seat(playerId)];
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append("对局数：").append(games).append("，正常结束：").append(finishedGames).append("\n");
+        sb.append(String.format("回合数：平均 %.1f，最少 %d，最多 %d%n", getAverageTurns(), getMinTurns(), maxTurns));
+        sb.append(String.format("回合数分位：P50 %.0f，P90 %.0f，P99 %.0f%n",
+                getTurnsQuantile(0.5), getTurnsQuantile(0.9), getTurnsQuantile(0.99)));
+        sb.append(String.format("最终净资产分位：P10 %.0f，P50 %.0f，P90 %.0f%n",
+                getNetWorthQuantile(0.1), getNetWorthQuantile(0.5), getNetWorthQuantile(0.9)));
+        sb.append(String.format("破产：共 %d 次，平均发生在第 %.1f 回合%n", bankruptcies, getAverageBankruptcyTurn()));
+        if (bankruptcies > 0) {
+            sb.append("破产回合分布：");
+            String separator = "";
+            for (int i = 0; i < BANKRUPTCY_BUCKETS; i++) {
+                if (bankruptcyHistogram[i] == 0) {
+                    continue;
+                }
+                int from = i * BANKRUPTCY_BUCKET_TURNS;
+                sb.append(separator).append(i == BANKRUPTCY_BUCKETS - 1
+                        ? from + "+" : from + "-" + (from + BANKRUPTCY_BUCKET_TURNS - 1))
+                        .append(" ").append(bankruptcyHistogram[i]);
+                separator = "，";
+            }
+            sb.append("\n");
+        }
+        for (int seat = 1; seat <= MAX_SEATS; seat++) {
+            if (winsBySeat[seat] == 0 && bankruptciesBySeat[seat] == 0) {
+                continue;
+            }
+            sb.append(String.format("座位 %d：胜率 %.2f%%，破产 %d 次%n",
+                    seat, getWinRate(seat) * 100, bankruptciesBySeat[seat]));
+        }
+        if (winsBySeat[0] > 0) {
+            sb.append("无胜者对局：").append(winsBySeat[0]).append("\n");
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,259 @@
+package Monopoly.simulation;
+
+import Monopoly.core.ports.DecisionPort;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Supplier;
+
+/**
+ * 实现功能【机器人锦标赛：在登记的决策策略之间编排带种子的对局，并行执行并增量更新 Elo 评分】。
+ * <p>
+ * 赛程按轮生成：第 r 轮的人数在设置的上下限之间轮换，阵容由第 r 轮的种子从参赛者中抽取
+ * （参赛者不足时允许重复出场）；一轮内用同一骰子种子把阵容依次轮转到每个座位各下一局，
+ * 使每位参赛者在相同的骰点序列下坐遍所有座位。
+ * <p>
+ * 对局分摊到固定大小的线程池，每局结束即提交结果；结果按对局序号顺序计入 {@link EloRatingTable}
+ * （先完成的后序对局暂存等待），因此评分在运行中即可读取，最终结果与线程数无关。
+ * 执行失败的对局记为跳过，不计入评分，也不阻塞其后对局的计分；其余对局照常进行，{@link #run()} 结束时报告失败。
+ * <p>
+ *
+ * @author
+ * @date 2025-11-13
+ */
+public class Tournament {
+
+    /**
+     * 阵容抽取种子与对局种子的区分盐值。
+     */
+    private static final long LINEUP_SALT = 0x5DEECE66DL;
+    /**
+     * 执行失败、跳过计分的对局在暂存表中的占位。
+     */
+    private static final int[] SKIPPED = new int[0];
+
+    /**
+     * 一局赛程。
+     *
+     * @param index 对局序号
+     * @param seed 对局骰子种子
+     * @param seats 各座位的参赛者名称，第 i 个对应玩家编号 i+1
+     */
+    public record Fixture(int index, long seed, List<String> seats) {
+    }
+
+    private final BotGameFactory factory;
+    private final TournamentSettings settings;
+    private final Map<String, Supplier<DecisionPort>> entrants = new LinkedHashMap<>();
+    private final EloRatingTable ratings;
+
+    /**
+     * 乱序完成、尚未计入评分的对局结果。
+     */
+    private final Map<Integer, int[]> pending = new HashMap<>();
+    private List<Fixture> fixtures = List.of();
+    private int nextToRate;
+    private int skippedGames;
+
+    /**
+     * 构造函数。
+     *
+     * @param factory 对局工厂
+     * @param settings 赛程与评分参数
+     */
+    public Tournament(BotGameFactory factory, TournamentSettings settings) {
+        this.factory = Objects.requireNonNull(factory, "对局工厂不能为空。");
+        this.settings = Objects.requireNonNull(settings, "锦标赛参数不能为空。");
+        this.ratings = new EloRatingTable(settings.kFactor());
+    }
+
+    /**
+     * 登记参赛策略。每局为其占据的每个座位各取一个新的决策端口。
+     *
+     * @param name 参赛者名称，不可重复
+     * @param bot 决策端口提供者
+     * @return 当前锦标赛，便于链式登记
+     */
+    public Tournament register(String name, Supplier<DecisionPort> bot) {
+        Objects.requireNonNull(name, "参赛者名称不能为空。");
+        Objects.requireNonNull(bot, "决策端口提供者不能为空。");
+        if (entrants.putIfAbsent(name, bot) != null) {
+            throw new IllegalArgumentException("参赛者名称重复：" + name);
+        }
+        ratings.register(name);
+        return this;
+    }
+
+    /**
+     * 按设置生成完整赛程（只由参赛者登记顺序与种子决定）。
+     *
+     * @return 赛程
+     */
+    public List<Fixture> schedule() {
+        if (entrants.size() < 2) {
+            throw new IllegalStateException("至少需要登记两名参赛者。");
+        }
+        List<String> names = new ArrayList<>(entrants.keySet());
+        int span = settings.maxPlayers() - settings.minPlayers() + 1;
+        List<Fixture> list = new ArrayList<>(settings.games());
+        for (int round = 0; list.size() < settings.games(); round++) {
+            int players = settings.minPlayers() + round % span;
+            String[] lineup = drawLineup(names, players, new SplittableRandom(
+                    SimulationRunner.gameSeed(settings.seed() ^ LINEUP_SALT, round)));
+            long seed = SimulationRunner.gameSeed(settings.seed(), round);
+            for (int shift = 0; shift < players && list.size() < settings.games(); shift++) {
+                String[] seats = new String[players];
+                for (int s = 0; s < players; s++) {
+                    seats[s] = lineup[(s + shift) % players];
+                }
+                list.add(new Fixture(list.size(), seed, List.of(seats)));
+            }
+        }
+        return list;
+    }
+
+    /**
+     * 运行全部赛程，阻塞至所有对局结束。
+     *
+     * @return 评分表
+     */
+    public EloRatingTable run() {
+        List<Fixture> plan = schedule();
+        synchronized (this) {
+            fixtures = plan;
+            pending.clear();
+            nextToRate = 0;
+            skippedGames = 0;
+        }
+        ExecutorService pool = Executors.newFixedThreadPool(settings.threads());
+        try {
+            List<Future<?>> futures = new ArrayList<>(plan.size());
+            for (Fixture fixture : plan) {
+                futures.add(pool.submit(() -> play(fixture)));
+            }
+            ExecutionException failure = null;
+            for (Future<?> future : futures) {
+                try {
+                    future.get();
+                } catch (ExecutionException e) {
+                    if (failure == null) {
+                        failure = e;
+                    }
+                }
+            }
+            if (failure != null) {
+                throw new IllegalStateException("锦标赛对局执行失败（共跳过 " + getSkippedGames() + " 局）: "
+                        + failure.getCause().getMessage(), failure.getCause());
+            }
+            return ratings;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("锦标赛被中断。", e);
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    /**
+     * 评分表，运行中可随时读取已计入的结果。
+     *
+     * @return 评分表
+     */
+    public EloRatingTable getRatings() {
+        return ratings;
+    }
+
+    /**
+     * 已跳过（执行失败）的对局数。
+     *
+     * @return 对局数
+     */
+    public synchronized int getSkippedGames() {
+        return skippedGames;
+    }
+
+    private void play(Fixture fixture) {
+        int[] places = SKIPPED;
+        try {
+            List<DecisionPort> ports = new ArrayList<>(fixture.seats().size());
+            for (String name : fixture.seats()) {
+                ports.add(entrants.get(name).get());
+            }
+            GameResult result;
+            try (SeatDecisionPort port = new SeatDecisionPort(ports)) {
+                HeadlessGame game = factory.newGame(ports.size(), settings.initialMoney(), port,
+                        new SplittableRandom(fixture.seed()));
+                result = new HeadlessGameRunner(null, settings.maxTurns()).run(game);
+            }
+            places = places(result, ports.size());
+        } finally {
+            complete(fixture.index(), places);
+        }
+    }
+
+    private synchronized void complete(int index, int[] places) {
+        pending.put(index, places);
+        int[] next;
+        while ((next = pending.remove(nextToRate)) != null) {
+            if (next == SKIPPED) {
+                skippedGames++;
+            } else {
+                ratings.update(fixtures.get(nextToRate).seats(), next);
+            }
+            nextToRate++;
+        }
+    }
+
+    /**
+     * 由对局结果计算各座位名次：存活者按最终净资产从多到少（与决出胜者的口径一致），
+     * 破产者按破产回合从晚到早排在存活者之后，相同者并列。
+     */
+    static int[] places(GameResult result, int players) {
+        long[] keys = new long[players];
+        for (int i = 0; i < players; i++) {
+            int id = i + 1;
+            Integer bankruptAt = result.getBankruptcyTurns().get(id);
+            keys[i] = bankruptAt == null
+                    ? (1L << 40) + result.getFinalNetWorth().getOrDefault(id, 0)
+                    : bankruptAt;
+        }
+        int[] places = new int[players];
+        for (int i = 0; i < players; i++) {
+            int better = 0;
+            for (int j = 0; j < players; j++) {
+                if (keys[j] > keys[i]) {
+                    better++;
+                }
+            }
+            places[i] = better + 1;
+        }
+        return places;
+    }
+
+    private static String[] drawLineup(List<String> names, int players, SplittableRandom random) {
+        String[] pool = names.toArray(new String[0]);
+        String[] lineup = new String[players];
+        for (int s = 0; s < players; s++) {
+            int k = s % pool.length;
+            if (k == 0) {
+                for (int i = pool.length - 1; i > 0; i--) {
+                    int j = random.nextInt(i + 1);
+                    String t = pool[i];
+                    pool[i] = pool[j];
+                    pool[j] = t;
+                }
+            }
+            lineup[s] = pool[k];
+        }
+        return lineup;
+    }
+}
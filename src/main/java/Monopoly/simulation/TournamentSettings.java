@@ -0,0 +1,57 @@
+package Monopoly.simulation;
+
+/**
+ * 实现功能【机器人锦标赛的赛程与评分参数】。
+ * <p>
+ * 赛程按轮编排：第 r 轮的人数在 {@code minPlayers ~ maxPlayers} 之间轮换，参赛者由种子抽取，
+ * 同一轮内以相同骰子种子把阵容轮流换到每个座位各下一局，抵消座位先后与运气的影响。
+ * <p>
+ *
+ * @param games 对局总数
+ * @param minPlayers 每局最少人数（至少 2）
+ * @param maxPlayers 每局最多人数（至多 6）
+ * @param initialMoney 每位玩家初始资金
+ * @param threads 并行对局的线程数
+ * @param maxTurns 单局回合上限
+ * @param kFactor Elo 更新系数，按对手数平摊
+ * @param seed 赛程与对局种子
+ * @author
+ * @date 2025-11-13
+ */
+public record TournamentSettings(int games, int minPlayers, int maxPlayers, int initialMoney, int threads,
+                                 int maxTurns, double kFactor, long seed) {
+
+    /**
+     * 参数校验。
+     */
+    public TournamentSettings {
+        if (games <= 0) {
+            throw new IllegalArgumentException("对局数必须大于 0。");
+        }
+        if (minPlayers < 2 || maxPlayers > 6 || minPlayers > maxPlayers) {
+            throw new IllegalArgumentException("每局人数必须在 2 ~ 6 之间，且下限不大于上限。");
+        }
+        if (initialMoney <= 0) {
+            throw new IllegalArgumentException("初始资金必须大于 0。");
+        }
+        if (threads <= 0) {
+            throw new IllegalArgumentException("线程数必须大于 0。");
+        }
+        if (maxTurns <= 0) {
+            throw new IllegalArgumentException("回合上限必须大于 0。");
+        }
+        if (!(kFactor > 0)) {
+            throw new IllegalArgumentException("Elo 更新系数必须大于 0。");
+        }
+    }
+
+    /**
+     * 默认参数：10000 局、每局 2~4 人、初始资金 8000、全部 CPU 核、默认回合上限、K=16、种子 42。
+     *
+     * @return 默认参数
+     */
+    public static TournamentSettings defaults() {
+        return new TournamentSettings(10000, 2, 4, 8000, Runtime.getRuntime().availableProcessors(),
+                HeadlessGameRunner.DEFAULT_MAX_TURNS, 16, 42L);
+    }
+}